@@ -0,0 +1,13 @@
+package com.peluware.springframework.crud.benchmarks;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration;
+import org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration;
+
+/**
+ * Application used by the JPA benchmarks and the HTTP load harness, backed by an in-memory H2 database.
+ * Mongo benchmarks only build queries and do not need a running server, so Mongo auto-configuration is excluded.
+ */
+@SpringBootApplication(exclude = {MongoAutoConfiguration.class, MongoDataAutoConfiguration.class})
+public class BenchmarkApplication {
+}
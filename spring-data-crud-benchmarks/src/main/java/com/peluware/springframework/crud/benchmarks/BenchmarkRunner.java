@@ -0,0 +1,28 @@
+package com.peluware.springframework.crud.benchmarks;
+
+import org.openjdk.jmh.Main;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entry point of {@code benchmarks.jar}.
+ * <p>
+ * Delegates to the JMH command line, writing machine-readable JSON results to {@code jmh-result.json} unless
+ * another result format or file is given, so that runs of different releases can be compared, e.g.
+ * {@code java -jar target/benchmarks.jar JpaReadBenchmark -rff jmh-1.0.8.json}.
+ * </p>
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        var arguments = new ArrayList<>(List.of(args));
+        if (!arguments.contains("-rf")) {
+            arguments.addAll(List.of("-rf", "json"));
+        }
+        if (!arguments.contains("-rff")) {
+            arguments.addAll(List.of("-rff", "jmh-result.json"));
+        }
+        Main.main(arguments.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,54 @@
+package com.peluware.springframework.crud.benchmarks;
+
+import com.peluware.springframework.crud.benchmarks.fixtures.CsvExporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures exporting every row to CSV, either by loading an unpaged result or by streaming chunks through
+ * {@code JpaSpecificationReadService.forEachChunk}. Reported as exports per second for {@code rows} rows.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExportBenchmark {
+
+    private static final Sort SORT = Sort.by("id");
+
+    @State(Scope.Benchmark)
+    public static class ExportState extends JpaState {
+
+        @Param({"500"})
+        public int chunkSize;
+
+        final CsvExporter exporter = new CsvExporter();
+    }
+
+    @Benchmark
+    public int unpaged(ExportState state) {
+        var items = state.service.page(null, Pageable.unpaged(SORT), null).getContent();
+        return state.exporter.export(items, null).getByteArray().length;
+    }
+
+    @Benchmark
+    public int chunked(ExportState state) {
+        var bytes = new int[1];
+        state.service.forEachChunk(null, null, SORT, state.chunkSize, chunk ->
+                bytes[0] += state.exporter.export(chunk, null).getByteArray().length);
+        return bytes[0];
+    }
+}
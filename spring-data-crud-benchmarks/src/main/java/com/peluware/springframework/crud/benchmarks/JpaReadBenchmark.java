@@ -0,0 +1,94 @@
+package com.peluware.springframework.crud.benchmarks;
+
+import cz.jirutka.rsql.parser.RSQLParser;
+import cz.jirutka.rsql.parser.ast.Node;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code JpaSpecificationReadService} page, count and find on H2, with and without read-optimized query hints.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JpaReadBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ReadState extends JpaState {
+
+        /**
+         * {@code default} runs reads without hints, {@code readOptimized} with {@code JpaQueryHints.readOptimized}.
+         */
+        @Param({"default", "readOptimized"})
+        public String hints;
+
+        @Param({"20", "100"})
+        public int pageSize;
+
+        Node query;
+        Pageable pageable;
+
+        @Setup
+        public void prepare() {
+            query = new RSQLParser().parse("category==books;quantity=gt=10");
+            pageable = PageRequest.of(3, pageSize, Sort.by("createdDate", "id"));
+        }
+
+        @Override
+        protected boolean isReadOptimized() {
+            return "readOptimized".equals(hints);
+        }
+
+        Long randomId() {
+            return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        }
+    }
+
+    @Benchmark
+    public Object page(ReadState state) {
+        return state.service.page(null, state.pageable, null);
+    }
+
+    @Benchmark
+    public Object pageRsql(ReadState state) {
+        return state.service.page(null, state.pageable, state.query);
+    }
+
+    @Benchmark
+    public Object pageSearch(ReadState state) {
+        return state.service.page("item-12", state.pageable, null);
+    }
+
+    @Benchmark
+    public long count(ReadState state) {
+        return state.service.count(null, state.query);
+    }
+
+    @Benchmark
+    public Object find(ReadState state) {
+        return state.service.find(state.randomId());
+    }
+
+    @Benchmark
+    public Object findMany(ReadState state) {
+        return state.service.find(List.of(state.randomId(), state.randomId(), state.randomId(), state.randomId()));
+    }
+}
@@ -0,0 +1,50 @@
+package com.peluware.springframework.crud.benchmarks;
+
+import com.peluware.springframework.crud.benchmarks.fixtures.ItemFixtures;
+import com.peluware.springframework.crud.benchmarks.fixtures.ItemRepository;
+import com.peluware.springframework.crud.benchmarks.fixtures.ItemService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+
+/**
+ * Shared JPA benchmark state: boots {@link BenchmarkApplication} on H2 and seeds {@code rows} items
+ * spread over a few categories, once per trial.
+ */
+@State(Scope.Benchmark)
+public class JpaState {
+
+    @Param({"10000"})
+    public int rows;
+
+    ConfigurableApplicationContext context;
+    ItemService service;
+    List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var application = new SpringApplication(BenchmarkApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run();
+        service = context.getBean(ItemService.class);
+        service.setReadOptimized(isReadOptimized());
+        ids = ItemFixtures.seed(context.getBean(ItemRepository.class), rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    protected boolean isReadOptimized() {
+        return false;
+    }
+}
@@ -0,0 +1,52 @@
+package com.peluware.springframework.crud.benchmarks;
+
+import com.peluware.springframework.crud.benchmarks.fixtures.ItemDto;
+import com.peluware.springframework.crud.benchmarks.fixtures.ItemFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code WriteService.create} and {@code WriteService.update} through a JPA service on H2,
+ * including mapping, hooks and the transaction.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JpaWriteBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class WriteState extends JpaState {
+    }
+
+    @State(Scope.Thread)
+    public static class Payload {
+        int counter;
+
+        ItemDto next() {
+            return ItemFixtures.newDto(counter++);
+        }
+    }
+
+    @Benchmark
+    public Object create(WriteState state, Payload payload) {
+        return state.service.create(payload.next());
+    }
+
+    @Benchmark
+    public Object update(WriteState state, Payload payload) {
+        var id = state.ids.get(ThreadLocalRandom.current().nextInt(state.ids.size()));
+        return state.service.update(id, payload.next());
+    }
+}
@@ -0,0 +1,69 @@
+package com.peluware.springframework.crud.benchmarks;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.peluware.omnisearch.core.OmniSearchOptions;
+import com.peluware.springframework.crud.benchmarks.fixtures.Item;
+import com.peluware.springframework.crud.core.OmniSearchOptionsFactory;
+import com.peluware.springframework.crud.mongo.MongoTemplateOmniSearch;
+import cz.jirutka.rsql.parser.RSQLParser;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link MongoTemplateOmniSearch#buildQuery} filter encoding. Queries are only built, never executed,
+ * so no MongoDB server is required: the client connects lazily and is never used.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MongoQueryBenchmark {
+
+    @Param({
+            "name==foo",
+            "category==books;quantity=gt=10;createdDate=ge=2024-01-01",
+            "(category=in=(books,games,music),quantity=lt=5);name==item*;email=out=(a@b.c,d@e.f)"
+    })
+    public String rsql;
+
+    private MongoClient client;
+    private MongoTemplateOmniSearch omniSearch;
+    private OmniSearchOptions options;
+
+    @Setup
+    public void setUp() {
+        client = MongoClients.create("mongodb://localhost:27017");
+        omniSearch = new MongoTemplateOmniSearch(new MongoTemplate(client, "benchmarks"));
+        var pageable = PageRequest.of(2, 50, Sort.by(Sort.Order.desc("createdDate"), Sort.Order.asc("id")));
+        options = OmniSearchOptionsFactory.create("item", pageable, new RSQLParser().parse(rsql));
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public Document buildQuery() {
+        return omniSearch.buildQuery(Item.class, options).getQueryObject();
+    }
+}
@@ -0,0 +1,77 @@
+package com.peluware.springframework.crud.benchmarks;
+
+import com.peluware.springframework.crud.benchmarks.fixtures.Item;
+import com.peluware.springframework.crud.jpa.query.JpqlTranslator;
+import com.peluware.springframework.crud.jpa.query.QueryTranslation;
+import cz.jirutka.rsql.parser.RSQLParser;
+import cz.jirutka.rsql.parser.ast.Node;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-request cost of criteria and JPQL query translation. {@code count} on a small table is dominated
+ * by building and translating the query, so it approximates the translation CPU per request; {@code translate}
+ * measures the RSQL to JPQL step alone.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryTranslationBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class TranslationState extends JpaState {
+
+        @Param({"CRITERIA", "JPQL"})
+        public QueryTranslation translation;
+
+        @Param({
+                "category==books;quantity=gt=10",
+                "(category=in=(books,games,music),quantity=lt=5);name==item*;email=out=(a@b.c,d@e.f)"
+        })
+        public String rsql;
+
+        Node query;
+        Pageable pageable;
+        JpqlTranslator translator;
+
+        @Setup
+        public void prepare() {
+            service.setQueryTranslation(translation);
+            query = new RSQLParser().parse(rsql);
+            pageable = PageRequest.of(0, 20, Sort.by("createdDate", "id"));
+            translator = new JpqlTranslator(context.getBean(EntityManager.class).getMetamodel());
+        }
+    }
+
+    @Benchmark
+    public long count(TranslationState state) {
+        return state.service.count(null, state.query);
+    }
+
+    @Benchmark
+    public Object page(TranslationState state) {
+        return state.service.page("item", state.pageable, state.query);
+    }
+
+    @Benchmark
+    public Object translate(TranslationState state) {
+        return state.translator.translate(Item.class, "item", state.query);
+    }
+}
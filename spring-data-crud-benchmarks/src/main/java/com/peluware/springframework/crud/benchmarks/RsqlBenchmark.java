@@ -0,0 +1,65 @@
+package com.peluware.springframework.crud.benchmarks;
+
+import com.peluware.springframework.crud.core.OmniSearchOptionsFactory;
+import cz.jirutka.rsql.parser.RSQLParser;
+import cz.jirutka.rsql.parser.ast.Node;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures RSQL parsing and the conversion of request parameters into OmniSearch options.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RsqlBenchmark {
+
+    @Param({
+            "name==foo",
+            "category==books;quantity=gt=10;createdDate=ge=2024-01-01",
+            "(category=in=(books,games,music),quantity=lt=5);name==item*;email=out=(a@b.c,d@e.f)"
+    })
+    public String rsql;
+
+    private final RSQLParser parser = new RSQLParser();
+    private Node query;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        query = parser.parse(rsql);
+        pageable = PageRequest.of(2, 50, Sort.by(Sort.Order.desc("createdDate"), Sort.Order.asc("id")));
+    }
+
+    @Benchmark
+    public Node parse() {
+        return parser.parse(rsql);
+    }
+
+    @Benchmark
+    public Object createOptions() {
+        return OmniSearchOptionsFactory.create("item", pageable, query);
+    }
+
+    @Benchmark
+    public Object parseAndCreateOptions() {
+        return OmniSearchOptionsFactory.create("item", pageable, parser.parse(rsql));
+    }
+}
@@ -0,0 +1,29 @@
+package com.peluware.springframework.crud.benchmarks.fixtures;
+
+import com.peluware.springframework.crud.core.web.export.Exporter;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Minimal CSV exporter used to measure export throughput without a third-party format library.
+ */
+public class CsvExporter implements Exporter<Void> {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    @Override
+    public ExportResource export(Iterable<?> elements, Void options) {
+        var builder = new StringBuilder("id,name,email,category,quantity,createdDate\n");
+        for (var element : elements) {
+            var item = (Item) element;
+            builder.append(item.getId()).append(',')
+                    .append(item.getName()).append(',')
+                    .append(item.getEmail()).append(',')
+                    .append(item.getCategory()).append(',')
+                    .append(item.getQuantity()).append(',')
+                    .append(item.getCreatedDate()).append('\n');
+        }
+        return new ExportResource(builder.toString().getBytes(StandardCharsets.UTF_8), "items.csv", TEXT_CSV);
+    }
+}
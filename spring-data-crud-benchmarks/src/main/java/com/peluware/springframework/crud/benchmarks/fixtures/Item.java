@@ -0,0 +1,37 @@
+package com.peluware.springframework.crud.benchmarks.fixtures;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDate;
+
+@Data
+@Entity
+@Table(indexes = @Index(columnList = "category, createdDate"))
+public class Item implements Persistable<Long> {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    private String description;
+
+    private String email;
+
+    @Column(nullable = false)
+    private String category;
+
+    private int quantity;
+
+    @Column(nullable = false)
+    private LocalDate createdDate;
+
+    @Override
+    public boolean isNew() {
+        return id == null;
+    }
+}
@@ -0,0 +1,25 @@
+package com.peluware.springframework.crud.benchmarks.fixtures;
+
+import com.peluware.springframework.crud.core.web.controllers.CrudController;
+import com.peluware.springframework.crud.core.web.controllers.ExportController;
+import com.peluware.springframework.crud.core.web.export.Exporter;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Getter
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/items")
+public class ItemController implements CrudController<Item, ItemDto, Long>, ExportController<Long, Void> {
+
+    private final ItemService service;
+    private final Exporter<Void> exporter = new CsvExporter();
+
+    @Override
+    public Void getExportOptions(MultiValueMap<String, String> params) {
+        return null;
+    }
+}
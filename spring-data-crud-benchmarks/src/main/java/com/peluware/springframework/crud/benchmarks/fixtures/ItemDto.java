@@ -0,0 +1,15 @@
+package com.peluware.springframework.crud.benchmarks.fixtures;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+public class ItemDto {
+    private String name;
+    private String description;
+    private String email;
+    private String category;
+    private int quantity;
+    private LocalDate createdDate;
+}
@@ -0,0 +1,62 @@
+package com.peluware.springframework.crud.benchmarks.fixtures;
+
+import lombok.experimental.UtilityClass;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic test data shared by the JMH suites and the HTTP load harness.
+ */
+@UtilityClass
+public class ItemFixtures {
+
+    public static final String[] CATEGORIES = {"books", "games", "music", "tools", "toys"};
+
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    /**
+     * Inserts {@code rows} items and returns their ids.
+     *
+     * @param repository the item repository
+     * @param rows       the number of items to insert
+     * @return the ids of the inserted items
+     */
+    public static List<Long> seed(ItemRepository repository, int rows) {
+        var ids = new ArrayList<Long>(rows);
+        var batch = new ArrayList<Item>(SEED_BATCH_SIZE);
+        for (var i = 0; i < rows; i++) {
+            var item = new Item();
+            item.setName("item-" + i);
+            item.setDescription("Item number " + i);
+            item.setEmail("item" + i + "@example.com");
+            item.setCategory(CATEGORIES[i % CATEGORIES.length]);
+            item.setQuantity(i % 100);
+            item.setCreatedDate(LocalDate.of(2024, 1, 1).plusDays(i % 365));
+            batch.add(item);
+            if (batch.size() == SEED_BATCH_SIZE || i == rows - 1) {
+                repository.saveAll(batch).forEach(saved -> ids.add(saved.getId()));
+                batch.clear();
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Creates the DTO of the {@code i}-th item.
+     *
+     * @param i the item number
+     * @return a new DTO
+     */
+    public static ItemDto newDto(int i) {
+        var dto = new ItemDto();
+        dto.setName("item-" + i);
+        dto.setDescription("Item number " + i);
+        dto.setEmail("item" + i + "@example.com");
+        dto.setCategory(CATEGORIES[i % CATEGORIES.length]);
+        dto.setQuantity(i % 100);
+        dto.setCreatedDate(LocalDate.of(2024, 1, 1).plusDays(i % 365));
+        return dto;
+    }
+}
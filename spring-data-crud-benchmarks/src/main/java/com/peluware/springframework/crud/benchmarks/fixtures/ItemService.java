@@ -0,0 +1,62 @@
+package com.peluware.springframework.crud.benchmarks.fixtures;
+
+import com.peluware.springframework.crud.core.CrudOperation;
+import com.peluware.springframework.crud.jpa.JpaSpecificationCrudService;
+import com.peluware.springframework.crud.jpa.query.JpaQueryHints;
+import com.peluware.springframework.crud.jpa.query.QueryTranslation;
+import jakarta.persistence.EntityManager;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Map;
+
+/**
+ * Service under benchmark. Read operations use the query hints selected by {@link #setReadOptimized(boolean)},
+ * so the same data can be measured with and without {@link JpaQueryHints#readOptimized(int)}, and searches use the
+ * query translation selected by {@link #setQueryTranslation(QueryTranslation)}.
+ */
+@Service
+@Getter
+@RequiredArgsConstructor
+public class ItemService implements JpaSpecificationCrudService<Item, ItemDto, Long, ItemRepository> {
+
+    private static final Map<String, Object> READ_OPTIMIZED = JpaQueryHints.readOptimized(100);
+
+    private final ItemRepository repository;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    @Setter
+    private volatile boolean readOptimized;
+
+    @Setter
+    private volatile QueryTranslation queryTranslation = QueryTranslation.CRITERIA;
+
+    @Override
+    public Map<String, Object> getQueryHints(CrudOperation operation) {
+        return readOptimized && operation.isReadOnly() ? READ_OPTIMIZED : Map.of();
+    }
+
+    @Override
+    public QueryTranslation getQueryTranslation() {
+        return queryTranslation;
+    }
+
+    @Override
+    public void mapModel(ItemDto dto, Item model) {
+        model.setName(dto.getName());
+        model.setDescription(dto.getDescription());
+        model.setEmail(dto.getEmail());
+        model.setCategory(dto.getCategory());
+        model.setQuantity(dto.getQuantity());
+        model.setCreatedDate(dto.getCreatedDate());
+    }
+
+    @Override
+    public Class<Item> getEntityClass() {
+        return Item.class;
+    }
+}
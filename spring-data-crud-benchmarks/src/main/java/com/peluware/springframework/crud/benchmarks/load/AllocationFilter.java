@@ -0,0 +1,59 @@
+package com.peluware.springframework.crud.benchmarks.load;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures the bytes allocated by the request thread while serving each request, per endpoint.
+ * <p>
+ * The endpoint is identified by the {@value #ENDPOINT_HEADER} header sent by {@link LoadHarness}. This covers the
+ * whole controller layer (argument resolution, service call, serialization) but not the allocations of other threads
+ * such as the connector's poller.
+ * </p>
+ */
+class AllocationFilter extends OncePerRequestFilter {
+
+    static final String ENDPOINT_HEADER = "X-Load-Endpoint";
+
+    private final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final Map<String, LongAdder> allocatedBytes = new ConcurrentHashMap<>();
+
+    private volatile boolean recording;
+
+    AllocationFilter() {
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+        var endpoint = request.getHeader(ENDPOINT_HEADER);
+        if (endpoint == null || !recording) {
+            chain.doFilter(request, response);
+            return;
+        }
+        var start = threads.getCurrentThreadAllocatedBytes();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            allocatedBytes.computeIfAbsent(endpoint, key -> new LongAdder()).add(threads.getCurrentThreadAllocatedBytes() - start);
+        }
+    }
+
+    void setRecording(boolean recording) {
+        this.recording = recording;
+    }
+
+    long getAllocatedBytes(String endpoint) {
+        var adder = allocatedBytes.get(endpoint);
+        return adder == null ? 0 : adder.sum();
+    }
+}
@@ -0,0 +1,137 @@
+package com.peluware.springframework.crud.benchmarks.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.peluware.springframework.crud.benchmarks.fixtures.ItemFixtures;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * An endpoint of the workload, with its weight in the mix and the latencies observed for it.
+ */
+final class Endpoint {
+
+    private final String name;
+    private final int weight;
+    private final Supplier<HttpRequest> requests;
+    private final Recorder latencies = new Recorder(3);
+    private final LongAdder errors = new LongAdder();
+
+    private Endpoint(String name, int weight, Supplier<HttpRequest> requests) {
+        this.name = name;
+        this.weight = weight;
+        this.requests = requests;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    int getWeight() {
+        return weight;
+    }
+
+    HttpRequest nextRequest() {
+        return requests.get();
+    }
+
+    void record(long nanos, boolean failed) {
+        latencies.recordValue(nanos);
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * Discards everything recorded so far, e.g. during the warmup.
+     */
+    void reset() {
+        latencies.reset();
+        errors.reset();
+    }
+
+    Histogram snapshot() {
+        return latencies.getIntervalHistogram();
+    }
+
+    long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * Creates the endpoints of the {@code /items} controller selected by the given mix.
+     *
+     * @param baseUri      the URI of the controller
+     * @param ids          the ids of the seeded items
+     * @param objectMapper the mapper used to serialize request bodies
+     * @param mix          the weight of each endpoint, by name
+     * @return the selected endpoints
+     * @throws IllegalArgumentException if the mix names an unknown endpoint
+     */
+    static List<Endpoint> create(URI baseUri, List<Long> ids, ObjectMapper objectMapper, Map<String, Integer> mix) {
+        var counter = new AtomicInteger(ids.size());
+        var rsql = encode("category==books;quantity=gt=10");
+        Supplier<Long> randomId = () -> ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        Supplier<Integer> randomPage = () -> ThreadLocalRandom.current().nextInt(50);
+
+        var endpoints = new ArrayList<Endpoint>(mix.size());
+        mix.forEach((name, weight) -> {
+            Supplier<HttpRequest> requests = switch (name) {
+                case "page" -> () -> get(baseUri, "?page=" + randomPage.get() + "&size=20&sort=createdDate,id", name);
+                case "pageRsql" -> () -> get(baseUri, "?query=" + rsql + "&page=" + randomPage.get() + "&size=20&sort=id", name);
+                case "pageSearch" -> () -> get(baseUri, "?search=item-1&size=20", name);
+                case "find" -> () -> get(baseUri, "/" + randomId.get(), name);
+                case "findIds" -> () -> get(baseUri, "/ids?ids=" + randomId.get() + "," + randomId.get() + "," + randomId.get(), name);
+                case "count" -> () -> get(baseUri, "/count?query=" + rsql, name);
+                case "exists" -> () -> get(baseUri, "/exists?id=" + randomId.get(), name);
+                case "export" -> () -> get(baseUri, "/export?page=" + randomPage.get() + "&size=100&sort=id", name);
+                case "create" -> () -> send(baseUri, "", "POST", body(objectMapper, counter.incrementAndGet()), name);
+                case "update" -> () -> send(baseUri, "/" + randomId.get(), "PUT", body(objectMapper, counter.incrementAndGet()), name);
+                default -> throw new IllegalArgumentException("Unknown endpoint: " + name);
+            };
+            endpoints.add(new Endpoint(name, weight, requests));
+        });
+        return endpoints;
+    }
+
+    private static HttpRequest get(URI baseUri, String path, String name) {
+        return request(baseUri, path, name).GET().build();
+    }
+
+    private static HttpRequest send(URI baseUri, String path, String method, String body, String name) {
+        return request(baseUri, path, name)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static HttpRequest.Builder request(URI baseUri, String path, String name) {
+        return HttpRequest.newBuilder(URI.create(baseUri + path))
+                .header(AllocationFilter.ENDPOINT_HEADER, name);
+    }
+
+    private static String body(ObjectMapper objectMapper, int i) {
+        try {
+            return objectMapper.writeValueAsString(ItemFixtures.newDto(i));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,192 @@
+package com.peluware.springframework.crud.benchmarks.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.peluware.springframework.crud.benchmarks.BenchmarkApplication;
+import com.peluware.springframework.crud.benchmarks.fixtures.ItemFixtures;
+import com.peluware.springframework.crud.benchmarks.fixtures.ItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end HTTP load harness for the CRUD controllers.
+ * <p>
+ * Boots {@link BenchmarkApplication} with a servlet container on a random local port and an H2 database seeded with
+ * {@code rows} items, then drives a weighted mix of read, write and export requests against {@code /items} from
+ * {@code concurrency} clients. After the warmup, it measures throughput, p50/p99/p999 latency and the bytes allocated
+ * per request for each endpoint, prints a table and writes the {@link LoadReport} as JSON.
+ * </p>
+ * <p>
+ * Requests follow an open-loop schedule of {@code rate} requests per second spread over the clients, and latency is
+ * measured from the scheduled start of each request, not from when it was sent. When the server stalls, the requests
+ * that should have been sent meanwhile are sent late and their waiting time is counted, so the percentiles do not
+ * suffer from coordinated omission. A throughput below the rate means the server could not keep up. With
+ * {@code --rate=0} clients issue requests back to back, which measures service time only.
+ * </p>
+ * <p>
+ * Client and server share the JVM, so absolute numbers include the client's own cost; compare runs on the same
+ * machine with the same options, e.g.
+ * {@code java -cp target/benchmarks.jar com.peluware.springframework.crud.benchmarks.load.LoadHarness --concurrency=32 --duration=60s}.
+ * </p>
+ */
+@Slf4j
+public class LoadHarness {
+
+    private final LoadOptions options;
+    private final AllocationFilter allocationFilter;
+    private final List<Endpoint> endpoints;
+    private final int[] cumulativeWeights;
+    private final HttpClient client;
+
+    private volatile boolean measuring;
+    private volatile boolean stopped;
+
+    LoadHarness(LoadOptions options, AllocationFilter allocationFilter, List<Endpoint> endpoints) {
+        this.options = options;
+        this.allocationFilter = allocationFilter;
+        this.endpoints = endpoints;
+        this.cumulativeWeights = new int[endpoints.size()];
+        var total = 0;
+        for (var i = 0; i < endpoints.size(); i++) {
+            total += endpoints.get(i).getWeight();
+            cumulativeWeights[i] = total;
+        }
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        var options = LoadOptions.parse(args);
+        var allocationFilter = new AllocationFilter();
+
+        var application = new SpringApplication(BenchmarkApplication.class);
+        application.setWebApplicationType(WebApplicationType.SERVLET);
+        application.setDefaultProperties(Map.of("server.port", "0"));
+        application.addInitializers(context -> context.getBeanFactory().registerSingleton("allocationFilter", allocationFilter));
+
+        try (var context = application.run()) {
+            var port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            var objectMapper = context.getBean(ObjectMapper.class);
+            var ids = ItemFixtures.seed(context.getBean(ItemRepository.class), options.rows());
+            var endpoints = Endpoint.create(URI.create("http://localhost:" + port + "/items"), ids, objectMapper, options.mix());
+
+            var report = new LoadHarness(options, allocationFilter, endpoints).run();
+
+            System.out.print(report.toTable());
+            objectMapper.copy()
+                    .enable(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(options.output().toFile(), report);
+            log.info("Load report written to {}", options.output().toAbsolutePath());
+        }
+    }
+
+    LoadReport run() throws InterruptedException {
+        var workers = new ArrayList<Thread>(options.concurrency());
+        for (var i = 0; i < options.concurrency(); i++) {
+            var index = i;
+            workers.add(Thread.ofPlatform().name("load-client-" + i).daemon(true).start(() -> work(index)));
+        }
+
+        Thread.sleep(options.warmup().toMillis());
+        endpoints.forEach(Endpoint::reset);
+        allocationFilter.setRecording(true);
+        measuring = true;
+        var start = System.nanoTime();
+
+        Thread.sleep(options.duration().toMillis());
+        measuring = false;
+        allocationFilter.setRecording(false);
+        var seconds = (System.nanoTime() - start) / 1e9;
+
+        stopped = true;
+        for (var worker : workers) {
+            worker.join();
+        }
+        return report(seconds);
+    }
+
+    private void work(int index) {
+        // each client sends every `interval`, staggered so that the clients together follow the rate
+        var interval = options.rate() > 0 ? (long) (options.concurrency() * 1e9 / options.rate()) : 0;
+        var scheduled = System.nanoTime() + interval * index / options.concurrency();
+        while (!stopped) {
+            var endpoint = pick();
+            var request = endpoint.nextRequest();
+            long start;
+            if (interval > 0) {
+                for (var delay = scheduled - System.nanoTime(); delay > 0 && !stopped; delay = scheduled - System.nanoTime()) {
+                    LockSupport.parkNanos(delay);
+                }
+                start = scheduled;
+                scheduled += interval;
+            } else {
+                start = System.nanoTime();
+            }
+            boolean failed;
+            try {
+                var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                failed = response.statusCode() >= 400;
+            } catch (IOException e) {
+                failed = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (measuring) {
+                endpoint.record(System.nanoTime() - start, failed);
+            }
+        }
+    }
+
+    private Endpoint pick() {
+        var value = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (var i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return endpoints.get(i);
+            }
+        }
+        throw new IllegalStateException("Weights are not cumulative");
+    }
+
+    private LoadReport report(double seconds) {
+        var results = new ArrayList<LoadReport.EndpointResult>(endpoints.size());
+        var total = 0L;
+        for (var endpoint : endpoints) {
+            var histogram = endpoint.snapshot();
+            var requests = histogram.getTotalCount();
+            var allocated = allocationFilter.getAllocatedBytes(endpoint.getName());
+            total += requests;
+            results.add(new LoadReport.EndpointResult(
+                    endpoint.getName(),
+                    requests,
+                    endpoint.getErrors(),
+                    requests / seconds,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()),
+                    requests == 0 ? 0 : allocated / requests,
+                    allocated / seconds / (1024 * 1024)
+            ));
+        }
+        return new LoadReport(options.concurrency(), options.rate(), seconds, total / seconds, results);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -0,0 +1,80 @@
+package com.peluware.springframework.crud.benchmarks.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Options of a load run, parsed from {@code --name=value} arguments.
+ *
+ * @param concurrency number of concurrent client connections
+ * @param rate        total requests per second the clients are scheduled to issue, or {@code 0} to issue requests
+ *                    back to back
+ * @param warmup      time spent issuing requests before measuring
+ * @param duration    measured time
+ * @param rows        number of seeded items
+ * @param mix         relative weight of each endpoint of the workload
+ * @param output      file receiving the JSON report
+ */
+public record LoadOptions(int concurrency, double rate, Duration warmup, Duration duration, int rows, Map<String, Integer> mix, Path output) {
+
+    /**
+     * Default workload: mostly reads, with some writes and exports.
+     */
+    public static final String DEFAULT_MIX = "page=30,pageRsql=15,find=20,findIds=5,count=10,exists=5,create=5,update=5,export=5";
+
+    public LoadOptions {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be greater than zero");
+        }
+        if (rate < 0) {
+            throw new IllegalArgumentException("Rate cannot be negative");
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("Mix cannot be empty");
+        }
+    }
+
+    /**
+     * Parses the command line arguments, e.g. {@code --concurrency=32 --rate=2000 --duration=60s --mix=page=1,find=1}.
+     *
+     * @param args the command line arguments
+     * @return the parsed options
+     */
+    public static LoadOptions parse(String[] args) {
+        var values = new LinkedHashMap<String, String>();
+        for (var arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Invalid argument: " + arg + ", expected --name=value");
+            }
+            var separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new LoadOptions(
+                Integer.parseInt(values.getOrDefault("concurrency", "16")),
+                Double.parseDouble(values.getOrDefault("rate", "1000")),
+                parseDuration(values.getOrDefault("warmup", "10s")),
+                parseDuration(values.getOrDefault("duration", "30s")),
+                Integer.parseInt(values.getOrDefault("rows", "10000")),
+                parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+                Path.of(values.getOrDefault("output", "load-result.json"))
+        );
+    }
+
+    private static Duration parseDuration(String value) {
+        return Duration.parse("PT" + value.toUpperCase());
+    }
+
+    private static Map<String, Integer> parseMix(String value) {
+        var mix = new LinkedHashMap<String, Integer>();
+        for (var entry : value.split(",")) {
+            var parts = entry.split("=", 2);
+            var weight = parts.length == 2 ? Integer.parseInt(parts[1].trim()) : 1;
+            if (weight > 0) {
+                mix.put(parts[0].trim(), weight);
+            }
+        }
+        return mix;
+    }
+}
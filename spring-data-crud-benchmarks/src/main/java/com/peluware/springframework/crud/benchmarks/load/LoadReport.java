@@ -0,0 +1,67 @@
+package com.peluware.springframework.crud.benchmarks.load;
+
+import java.util.List;
+
+/**
+ * Result of a load run, serialized as JSON so that runs of different releases can be compared.
+ *
+ * @param concurrency     number of concurrent clients
+ * @param rate            scheduled requests per second, or {@code 0} if requests were issued back to back
+ * @param durationSeconds measured time in seconds
+ * @param throughput      total requests per second
+ * @param endpoints       the results per endpoint
+ */
+public record LoadReport(int concurrency, double rate, double durationSeconds, double throughput, List<EndpointResult> endpoints) {
+
+    /**
+     * Result of a single endpoint.
+     *
+     * @param name                      the endpoint name
+     * @param requests                  completed requests
+     * @param errors                    requests that failed or answered with an error status
+     * @param throughput                requests per second
+     * @param p50Millis                 median latency
+     * @param p99Millis                 99th percentile latency
+     * @param p999Millis                99.9th percentile latency
+     * @param maxMillis                 maximum latency
+     * @param allocatedBytesPerRequest  bytes allocated by the request thread per request
+     * @param allocationRateMbPerSecond megabytes allocated per second by this endpoint
+     */
+    public record EndpointResult(
+            String name,
+            long requests,
+            long errors,
+            double throughput,
+            double p50Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis,
+            long allocatedBytesPerRequest,
+            double allocationRateMbPerSecond
+    ) {
+    }
+
+    /**
+     * Formats the report as a plain text table.
+     *
+     * @return the formatted report
+     */
+    public String toTable() {
+        var builder = new StringBuilder();
+        builder.append("%-12s %10s %8s %10s %9s %9s %9s %9s %12s %10s%n".formatted(
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "alloc B/req", "alloc MB/s"));
+        for (var endpoint : endpoints) {
+            builder.append("%-12s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %12d %10.1f%n".formatted(
+                    endpoint.name(), endpoint.requests(), endpoint.errors(), endpoint.throughput(),
+                    endpoint.p50Millis(), endpoint.p99Millis(), endpoint.p999Millis(), endpoint.maxMillis(),
+                    endpoint.allocatedBytesPerRequest(), endpoint.allocationRateMbPerSecond()));
+        }
+        builder.append("total %.1f req/s with %d clients over %.1f s%n".formatted(throughput, concurrency, durationSeconds));
+        if (rate > 0) {
+            builder.append("scheduled %.1f req/s, latencies measured from the scheduled start%n".formatted(rate));
+        } else {
+            builder.append("requests issued back to back, latencies exclude the time requests waited to be sent%n");
+        }
+        return builder.toString();
+    }
+}
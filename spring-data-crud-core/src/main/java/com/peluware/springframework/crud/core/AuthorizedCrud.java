@@ -1,5 +1,6 @@
 package com.peluware.springframework.crud.core;
 
+import com.peluware.springframework.crud.core.authorization.AuthorizationDecisionCache;
 import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -12,9 +13,25 @@ public interface AuthorizedCrud {
 
     AuthorizationManager<CrudOperation> getAuthorizationManager();
 
+    /**
+     * Returns the cache used to reuse authorization decisions across calls.
+     * Caching is opt-in: the default implementation returns {@code null}, so every call is decided
+     * by the authorization manager.
+     *
+     * @return the decision cache, or {@code null} if decisions are not cached
+     */
+    default AuthorizationDecisionCache getAuthorizationDecisionCache() {
+        return null;
+    }
+
     static void verifyAccess(AuthorizedCrud authorizedCrud, final CrudOperation operation) {
         var authorizationManager = authorizedCrud.getAuthorizationManager();
         var context = SecurityContextHolder.getContext();
+        var decisionCache = authorizedCrud.getAuthorizationDecisionCache();
+        if (decisionCache != null) {
+            decisionCache.verify(authorizationManager, context.getAuthentication(), operation);
+            return;
+        }
         authorizationManager.verify(context::getAuthentication, operation);
     }
 }
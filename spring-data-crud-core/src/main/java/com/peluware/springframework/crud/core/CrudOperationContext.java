@@ -0,0 +1,66 @@
+package com.peluware.springframework.crud.core;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.function.Supplier;
+
+/**
+ * Holds the {@link CrudOperation} currently being executed by a CRUD service on the current thread.
+ * <p>
+ * The default methods of {@link ReadService} and {@link WriteService} run their data access inside
+ * {@link #execute(CrudOperation, Supplier)}, so infrastructure components that are not aware of the
+ * service (routing data sources, read preferences, instrumentation) can find out whether the
+ * current work belongs to a read-only or a write operation.
+ * </p>
+ */
+@UtilityClass
+public class CrudOperationContext {
+
+    private static final ThreadLocal<CrudOperation> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Returns the operation being executed on the current thread.
+     *
+     * @return the current operation, or {@code null} if no CRUD operation is in progress
+     */
+    public static CrudOperation current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Executes the given action with {@code operation} bound as the current operation, restoring the
+     * previously bound operation afterwards.
+     *
+     * @param operation the operation to bind
+     * @param action    the action to execute
+     * @param <T>       the result type
+     * @return the result of the action
+     */
+    public static <T> T execute(CrudOperation operation, Supplier<T> action) {
+        var previous = CURRENT.get();
+        CURRENT.set(operation);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Runs the given action with {@code operation} bound as the current operation, restoring the
+     * previously bound operation afterwards.
+     *
+     * @param operation the operation to bind
+     * @param action    the action to run
+     */
+    public static void run(CrudOperation operation, Runnable action) {
+        execute(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
@@ -13,6 +13,12 @@ import org.springframework.data.domain.Pageable;
 /**
  * Utility class for creating {@link OmniSearchOptions} and {@link OmniSearchBaseOptions}
  * from Spring Data {@link Pageable} and RSQL query nodes.
+ * <p>
+ * OmniSearch options carry no field metadata: services of entities declaring
+ * {@link com.peluware.springframework.crud.core.search.Searchable searchable fields} pass the
+ * {@link com.peluware.springframework.crud.core.search.SearchableFields#delegatedSearch(String) delegated search}
+ * here and build the search condition themselves.
+ * </p>
  */
 @UtilityClass
 public class OmniSearchOptionsFactory {
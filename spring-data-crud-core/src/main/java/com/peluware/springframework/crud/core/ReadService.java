@@ -2,7 +2,14 @@ package com.peluware.springframework.crud.core;
 
 import cz.jirutka.rsql.parser.ast.Node;
 import com.peluware.springframework.crud.core.exceptions.NotFoundEntityException;
+import com.peluware.springframework.crud.core.async.AsyncCrudExecutor;
 import com.peluware.springframework.crud.core.hooks.ReadHooks;
+import com.peluware.springframework.crud.core.metrics.CrudMetrics;
+import com.peluware.springframework.crud.core.metrics.CrudPhase;
+import com.peluware.springframework.crud.core.providers.AsyncExecutorProvider;
+import com.peluware.springframework.crud.core.providers.QueryShapeCollectorProvider;
+import com.peluware.springframework.crud.core.providers.SlowQueryLogProvider;
+import com.peluware.springframework.crud.core.providers.TransactionOperationsProvider;
 import com.peluware.springframework.crud.core.utils.StringUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,6 +17,7 @@ import org.springframework.data.domain.Persistable;
 import org.springframework.validation.annotation.Validated;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Defines a generic read-only service for CRUD operations.
@@ -17,12 +25,25 @@ import java.util.List;
  * Provides default implementations for common read operations such as pagination,
  * finding entities by ID, checking existence, and counting records.
  * Also allows hook interception via {@link ReadHooks} for event-based extensions.
+ * Every operation runs in a read-only transaction when a transaction manager is provided
+ * through {@link TransactionOperationsProvider}.
+ * <p>
+ * Each operation also has an asynchronous variant (e.g. {@link #pageAsync(String, Pageable, Node)}) that runs it
+ * on the {@link AsyncCrudExecutor} of {@link AsyncExecutorProvider}, with the caller's security context and MDC.
+ * <p>
+ * Operations, queries and hooks are timed through {@link CrudMetrics}. Implementations that issue the content and
+ * count queries of a page separately time them as {@link CrudPhase#CONTENT_QUERY} and {@link CrudPhase#COUNT_QUERY}.
  *
  * @param <E>  the entity type, must implement {@link Persistable}
  * @param <ID> the ID type of the entity
  */
 @Validated
-public non-sealed interface ReadService<E extends Persistable<ID>, ID> extends Crud {
+public non-sealed interface ReadService<E extends Persistable<ID>, ID> extends
+        Crud,
+        TransactionOperationsProvider,
+        AsyncExecutorProvider,
+        SlowQueryLogProvider,
+        QueryShapeCollectorProvider {
 
     /**
      * Returns the hooks associated with this read service. Can be overridden to customize hook behavior.
@@ -42,14 +63,29 @@ public non-sealed interface ReadService<E extends Persistable<ID>, ID> extends C
      * @return a page of entities matching the criteria
      */
     default Page<E> page(String search, Pageable pageable, Node query) {
-        Crud.preProccess(this, CrudOperation.PAGE);
-
-        var normalized = StringUtils.normalize(search);
-        var page = resolvePage(normalized, pageable, query);
-        var hooks = getHooks();
-
-        hooks.onPage(page);
-        return page;
+        return CrudMetrics.observe(this, CrudOperation.PAGE, () -> {
+            Crud.preProccess(this, CrudOperation.PAGE);
+
+            var normalized = StringUtils.normalize(search);
+            CrudMetrics.describeQuery(normalized, query);
+            var hooks = getHooks();
+            var queryShapeCollector = getQueryShapeCollector();
+            var transactionOperations = getTransactionOperations(CrudOperation.PAGE);
+
+            return CrudOperationContext.execute(CrudOperation.PAGE, () -> transactionOperations.execute(status -> {
+                var start = System.nanoTime();
+                var page = resolvePage(normalized, pageable, query);
+                if (queryShapeCollector != null) {
+                    queryShapeCollector.record(this, normalized, query, pageable.getSort(), System.nanoTime() - start);
+                }
+                if (pageable.isPaged()) {
+                    CrudMetrics.recordPageSize(pageable.getPageSize());
+                }
+                CrudMetrics.recordResultCount(page.getNumberOfElements());
+                CrudMetrics.phase(CrudPhase.HOOKS, () -> hooks.onPage(page));
+                return page;
+            }));
+        });
     }
 
     /**
@@ -60,13 +96,18 @@ public non-sealed interface ReadService<E extends Persistable<ID>, ID> extends C
      * @throws NotFoundEntityException if the entity does not exist
      */
     default E find(ID id) {
-        Crud.preProccess(this, CrudOperation.FIND);
-
-        var model = internalFind(id);
-        var hooks = getHooks();
-
-        hooks.onFind(model);
-        return model;
+        return CrudMetrics.observe(this, CrudOperation.FIND, () -> {
+            Crud.preProccess(this, CrudOperation.FIND);
+
+            var hooks = getHooks();
+            var transactionOperations = getTransactionOperations(CrudOperation.FIND);
+
+            return CrudOperationContext.execute(CrudOperation.FIND, () -> transactionOperations.execute(status -> {
+                var model = CrudMetrics.phase(CrudPhase.CONTENT_QUERY, () -> internalFind(id));
+                CrudMetrics.phase(CrudPhase.HOOKS, () -> hooks.onFind(model));
+                return model;
+            }));
+        });
     }
 
     /**
@@ -76,13 +117,19 @@ public non-sealed interface ReadService<E extends Persistable<ID>, ID> extends C
      * @return a list of entities found
      */
     default List<E> find(List<ID> ids) {
-        Crud.preProccess(this, CrudOperation.FIND);
-
-        var list = internalFind(ids);
-        var hooks = getHooks();
-
-        hooks.onFind(list, ids);
-        return list;
+        return CrudMetrics.observe(this, CrudOperation.FIND, () -> {
+            Crud.preProccess(this, CrudOperation.FIND);
+
+            var hooks = getHooks();
+            var transactionOperations = getTransactionOperations(CrudOperation.FIND);
+
+            return CrudOperationContext.execute(CrudOperation.FIND, () -> transactionOperations.execute(status -> {
+                var list = CrudMetrics.phase(CrudPhase.CONTENT_QUERY, () -> internalFind(ids));
+                CrudMetrics.recordResultCount(list.size());
+                CrudMetrics.phase(CrudPhase.HOOKS, () -> hooks.onFind(list, ids));
+                return list;
+            }));
+        });
     }
 
     /**
@@ -93,13 +140,19 @@ public non-sealed interface ReadService<E extends Persistable<ID>, ID> extends C
      * @return the total count of matching entities
      */
     default long count(String search, Node query) {
-        Crud.preProccess(this, CrudOperation.COUNT);
-
-        var count = resolveCount(search, query);
-        var hooks = getHooks();
-
-        hooks.onCount(count);
-        return count;
+        return CrudMetrics.observe(this, CrudOperation.COUNT, () -> {
+            Crud.preProccess(this, CrudOperation.COUNT);
+            CrudMetrics.describeQuery(search, query);
+
+            var hooks = getHooks();
+            var transactionOperations = getTransactionOperations(CrudOperation.COUNT);
+
+            return CrudOperationContext.execute(CrudOperation.COUNT, () -> transactionOperations.execute(status -> {
+                var count = CrudMetrics.phase(CrudPhase.COUNT_QUERY, () -> resolveCount(search, query));
+                CrudMetrics.phase(CrudPhase.HOOKS, () -> hooks.onCount(count));
+                return count;
+            }));
+        });
     }
 
     /**
@@ -109,13 +162,74 @@ public non-sealed interface ReadService<E extends Persistable<ID>, ID> extends C
      * @return true if the entity exists, false otherwise
      */
     default boolean exists(ID id) {
-        Crud.preProccess(this, CrudOperation.EXISTS);
+        return CrudMetrics.observe(this, CrudOperation.EXISTS, () -> {
+            Crud.preProccess(this, CrudOperation.EXISTS);
+
+            var hooks = getHooks();
+            var transactionOperations = getTransactionOperations(CrudOperation.EXISTS);
+
+            return CrudOperationContext.execute(CrudOperation.EXISTS, () -> transactionOperations.execute(status -> {
+                var exists = CrudMetrics.phase(CrudPhase.CONTENT_QUERY, () -> internalExists(id));
+                CrudMetrics.phase(CrudPhase.HOOKS, () -> hooks.onExists(exists, id));
+                return exists;
+            }));
+        });
+    }
 
-        var exists = internalExists(id);
-        var hooks = getHooks();
+    /**
+     * Asynchronous variant of {@link #page(String, Pageable, Node)}.
+     * <p>
+     * Runs in its own read-only transaction; it never joins a transaction active on the calling thread.
+     * </p>
+     *
+     * @param search   optional search text to filter results
+     * @param pageable pagination configuration
+     * @param query    optional parsed RSQL query node
+     * @return a future completed with the page of entities matching the criteria
+     */
+    default CompletableFuture<Page<E>> pageAsync(String search, Pageable pageable, Node query) {
+        return getAsyncExecutor().supply(() -> page(search, pageable, query));
+    }
 
-        hooks.onExists(exists, id);
-        return exists;
+    /**
+     * Asynchronous variant of {@link #find(Object)}.
+     *
+     * @param id the ID of the entity to retrieve
+     * @return a future completed with the entity, or failed with {@link NotFoundEntityException}
+     */
+    default CompletableFuture<E> findAsync(ID id) {
+        return getAsyncExecutor().supply(() -> find(id));
+    }
+
+    /**
+     * Asynchronous variant of {@link #find(List)}.
+     *
+     * @param ids the list of IDs to look up
+     * @return a future completed with the entities found
+     */
+    default CompletableFuture<List<E>> findAsync(List<ID> ids) {
+        return getAsyncExecutor().supply(() -> find(ids));
+    }
+
+    /**
+     * Asynchronous variant of {@link #count(String, Node)}.
+     *
+     * @param search optional search string
+     * @param query  optional RSQL query node
+     * @return a future completed with the total count of matching entities
+     */
+    default CompletableFuture<Long> countAsync(String search, Node query) {
+        return getAsyncExecutor().supply(() -> count(search, query));
+    }
+
+    /**
+     * Asynchronous variant of {@link #exists(Object)}.
+     *
+     * @param id the ID to check for existence
+     * @return a future completed with {@code true} if the entity exists, {@code false} otherwise
+     */
+    default CompletableFuture<Boolean> existsAsync(ID id) {
+        return getAsyncExecutor().supply(() -> exists(id));
     }
 
     // ----- Abstract/internal methods (must be implemented by concrete service) -----
@@ -4,6 +4,8 @@ import com.peluware.omnisearch.core.OmniSearch;
 import com.peluware.omnisearch.core.OmniSearchBaseOptions;
 import com.peluware.omnisearch.core.OmniSearchOptions;
 import com.peluware.springframework.crud.core.exceptions.NotFoundEntityException;
+import com.peluware.springframework.crud.core.metrics.CrudMetrics;
+import com.peluware.springframework.crud.core.metrics.CrudPhase;
 import com.peluware.springframework.crud.core.providers.EntityClassProvider;
 import com.peluware.springframework.crud.core.providers.RepositoryProvider;
 import cz.jirutka.rsql.parser.ast.Node;
@@ -94,9 +96,9 @@ public interface StandardReadService<
         var entityClass = getEntityClass();
         var omniSearch = getOmniSearch();
         return PageableExecutionUtils.getPage(
-                omniSearch.search(entityClass, options),
+                CrudMetrics.phase(CrudPhase.CONTENT_QUERY, () -> omniSearch.search(entityClass, options)),
                 pageable,
-                () -> omniSearch.count(entityClass, options)
+                () -> CrudMetrics.phase(CrudPhase.COUNT_QUERY, () -> omniSearch.count(entityClass, options))
         );
     }
 
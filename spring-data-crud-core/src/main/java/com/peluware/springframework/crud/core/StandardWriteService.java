@@ -5,6 +5,8 @@ import org.springframework.data.domain.Persistable;
 import org.springframework.data.repository.ListCrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
+import java.util.List;
+
 /**
  * Standard implementation of a write service for CRUD operations,
  * leveraging Spring Data repositories.
@@ -34,6 +36,14 @@ public interface StandardWriteService<
         getRepository().save(entity);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default void internalCreateAll(List<E> entities) {
+        getRepository().saveAll(entities);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -42,6 +52,14 @@ public interface StandardWriteService<
         getRepository().save(entity);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default void internalUpdateAll(List<E> entities) {
+        getRepository().saveAll(entities);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1,6 +1,11 @@
 package com.peluware.springframework.crud.core;
 
+import com.peluware.springframework.crud.core.batching.GroupCommitter;
+import com.peluware.springframework.crud.core.batching.WriteBehindBuffer;
 import com.peluware.springframework.crud.core.exceptions.NotFoundEntityException;
+import com.peluware.springframework.crud.core.hooks.AsyncHookDispatcher;
+import com.peluware.springframework.crud.core.metrics.CrudMetrics;
+import com.peluware.springframework.crud.core.metrics.CrudPhase;
 import com.peluware.springframework.crud.core.providers.EntityClassProvider;
 import com.peluware.springframework.crud.core.providers.TransactionOperationsProvider;
 import com.peluware.springframework.crud.core.hooks.WriteHooks;
@@ -10,11 +15,14 @@ import lombok.SneakyThrows;
 import org.springframework.data.domain.Persistable;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.List;
+
 /**
  * Defines a generic interface for write operations in a CRUD service.
  * <p>
  * Supports creation, update, and deletion of entities, using hooks for interception
  * and transaction handling via {@link TransactionOperationsProvider}.
+ * Operations, {@code mapModel} and hooks are timed through {@link CrudMetrics}.
  *
  * @param <E>  the entity type, must implement {@link Persistable}
  * @param <D>  the DTO type used to map data to the entity
@@ -36,37 +44,83 @@ public non-sealed interface WriteService<E extends Persistable<ID>, D, ID> exten
         return WriteHooks.getDefault();
     }
 
+    /**
+     * Gets the group committer used to coalesce concurrent creates into batched transactions.
+     * Group commit is opt-in: the default implementation returns {@code null}, so every create
+     * runs in its own transaction.
+     *
+     * @return the group committer, or {@code null} if group commit is disabled
+     */
+    default GroupCommitter<E, D, ID> getGroupCommitter() {
+        return null;
+    }
+
+    /**
+     * Gets the write-behind buffer used to coalesce high-frequency updates per id.
+     * Write-behind is opt-in: the default implementation returns {@code null}, so every update
+     * is written synchronously.
+     *
+     * @return the write-behind buffer, or {@code null} if write-behind is disabled
+     */
+    default WriteBehindBuffer<E, D, ID> getWriteBehindBuffer() {
+        return null;
+    }
+
+    /**
+     * Gets the dispatcher used to run after-write hooks asynchronously once the transaction commits.
+     * Async hooks are opt-in: the default implementation returns {@code null}, so {@code onAfterCreate},
+     * {@code onAfterUpdate} and {@code onAfterDelete} run inside the transaction and their failures roll it back.
+     * With a dispatcher, hook failures are reported to the dispatcher and no longer affect the write.
+     *
+     * @return the async hook dispatcher, or {@code null} if after-write hooks run synchronously
+     */
+    default AsyncHookDispatcher getAsyncHookDispatcher() {
+        return null;
+    }
+
     /**
      * Creates a new entity instance from the provided DTO.
      * Executes before/after hooks and wraps the operation in a transaction.
+     * If a {@link GroupCommitter} is configured, the operation is committed together with other
+     * concurrent creates.
      *
      * @param dto the data transfer object used to populate the new entity
      * @return the persisted entity
      */
     default E create(@Valid @NotNull D dto) {
-        Crud.preProccess(this, CrudOperation.CREATE);
-
-        var entity = newEntity();
-        var hooks = getHooks();
-        var transactionOperations = getTransactionOperations();
-
-        return transactionOperations.execute(status -> {
-            try {
-                mapModel(dto, entity);
-                hooks.onBeforeCreate(dto, entity);
-                internalCreate(entity);
-                hooks.onAfterCreate(dto, entity);
-                return entity;
-            } catch (Exception e) {
-                status.setRollbackOnly();
-                throw e;
+        return CrudMetrics.observe(this, CrudOperation.CREATE, () -> {
+            Crud.preProccess(this, CrudOperation.CREATE);
+
+            var groupCommitter = getGroupCommitter();
+            if (groupCommitter != null) {
+                return groupCommitter.submit(dto);
             }
+
+            var entity = newEntity();
+            var hooks = getHooks();
+            var hookDispatcher = getAsyncHookDispatcher();
+            var transactionOperations = getTransactionOperations(CrudOperation.CREATE);
+
+            return CrudOperationContext.execute(CrudOperation.CREATE, () -> transactionOperations.execute(status -> {
+                try {
+                    CrudMetrics.phase(CrudPhase.MAP_MODEL, () -> mapModel(dto, entity));
+                    CrudMetrics.phase(CrudPhase.HOOKS, () -> hooks.onBeforeCreate(dto, entity));
+                    internalCreate(entity);
+                    CrudMetrics.phase(CrudPhase.HOOKS, () -> AsyncHookDispatcher.invoke(hookDispatcher, entity.getId(), () -> hooks.onAfterCreate(dto, entity)));
+                    return entity;
+                } catch (Exception e) {
+                    status.setRollbackOnly();
+                    throw e;
+                }
+            }));
         });
     }
 
     /**
      * Updates an existing entity by ID using the given DTO.
      * Executes before/after hooks and wraps the operation in a transaction.
+     * If a {@link WriteBehindBuffer} is configured, the update is merged with other pending updates of the
+     * same id and the call blocks until they are written together.
      *
      * @param id  the ID of the entity to update
      * @param dto the DTO containing updated data
@@ -74,42 +128,63 @@ public non-sealed interface WriteService<E extends Persistable<ID>, D, ID> exten
      * @throws NotFoundEntityException if the entity is not found
      */
     default E update(@NotNull ID id, @Valid @NotNull D dto) throws NotFoundEntityException {
-        Crud.preProccess(this, CrudOperation.UPDATE);
-
-        var entity = internalFind(id);
-        var hooks = getHooks();
-        var transactionOperations = getTransactionOperations();
-
-        return transactionOperations.execute(status -> {
-            try {
-                mapModel(dto, entity);
-                hooks.onBeforeUpdate(dto, entity);
-                internalUpdate(entity);
-                hooks.onAfterUpdate(dto, entity);
-                return entity;
-            } catch (Exception e) {
-                status.setRollbackOnly();
-                throw e;
+        return CrudMetrics.observe(this, CrudOperation.UPDATE, () -> {
+            Crud.preProccess(this, CrudOperation.UPDATE);
+
+            var writeBehindBuffer = getWriteBehindBuffer();
+            if (writeBehindBuffer != null) {
+                return writeBehindBuffer.update(id, dto);
             }
+
+            var hooks = getHooks();
+            var hookDispatcher = getAsyncHookDispatcher();
+            var transactionOperations = getTransactionOperations(CrudOperation.UPDATE);
+
+            return CrudOperationContext.execute(CrudOperation.UPDATE, () -> {
+                var entity = CrudMetrics.phase(CrudPhase.CONTENT_QUERY, () -> internalFind(id));
+                return transactionOperations.execute(status -> {
+                    try {
+                        CrudMetrics.phase(CrudPhase.MAP_MODEL, () -> mapModel(dto, entity));
+                        CrudMetrics.phase(CrudPhase.HOOKS, () -> hooks.onBeforeUpdate(dto, entity));
+                        internalUpdate(entity);
+                        CrudMetrics.phase(CrudPhase.HOOKS, () -> AsyncHookDispatcher.invoke(hookDispatcher, id, () -> hooks.onAfterUpdate(dto, entity)));
+                        return entity;
+                    } catch (Exception e) {
+                        status.setRollbackOnly();
+                        throw e;
+                    }
+                });
+            });
         });
     }
 
     /**
      * Deletes an entity by ID.
-     * Executes before/after hooks and does not require an explicit transaction boundary (unless added internally).
+     * Executes before/after hooks and wraps the operation in a transaction.
      *
      * @param id the ID of the entity to delete
      * @throws NotFoundEntityException if the entity is not found
      */
     default void delete(@NotNull ID id) throws NotFoundEntityException {
-        Crud.preProccess(this, CrudOperation.DELETE);
+        CrudMetrics.observe(this, CrudOperation.DELETE, () -> {
+            Crud.preProccess(this, CrudOperation.DELETE);
 
-        var entity = internalFind(id);
-        var hooks = getHooks();
+            var hooks = getHooks();
+            var hookDispatcher = getAsyncHookDispatcher();
+            var transactionOperations = getTransactionOperations(CrudOperation.DELETE);
 
-        hooks.onBeforeDelete(entity);
-        internalDelete(entity);
-        hooks.onAfterDelete(entity);
+            CrudOperationContext.run(CrudOperation.DELETE, () -> transactionOperations.executeWithoutResult(status -> {
+                try {
+                    var entity = CrudMetrics.phase(CrudPhase.CONTENT_QUERY, () -> internalFind(id));
+                    CrudMetrics.phase(CrudPhase.HOOKS, () -> hooks.onBeforeDelete(entity));
+                    internalDelete(entity);
+                    CrudMetrics.phase(CrudPhase.HOOKS, () -> AsyncHookDispatcher.invoke(hookDispatcher, id, () -> hooks.onAfterDelete(entity)));
+                } catch (Exception e) {
+                    status.setRollbackOnly();
+                    throw e;
+                }
+            }));
+        });
     }
 
     /**
@@ -150,6 +225,17 @@ public non-sealed interface WriteService<E extends Persistable<ID>, D, ID> exten
      */
     void internalCreate(E entity);
 
+    /**
+     * Persists a batch of new entities in the data store.
+     * The default implementation delegates to {@link #internalCreate(Persistable)} for each entity;
+     * implementations should override it with a bulk insert when the data store supports it.
+     *
+     * @param entities the entities to create
+     */
+    default void internalCreateAll(List<E> entities) {
+        entities.forEach(this::internalCreate);
+    }
+
     /**
      * Updates an existing entity in the data store.
      *
@@ -157,6 +243,17 @@ public non-sealed interface WriteService<E extends Persistable<ID>, D, ID> exten
      */
     void internalUpdate(E entity);
 
+    /**
+     * Updates a batch of existing entities in the data store.
+     * The default implementation delegates to {@link #internalUpdate(Persistable)} for each entity;
+     * implementations should override it with a bulk write when the data store supports it.
+     *
+     * @param entities the entities to update
+     */
+    default void internalUpdateAll(List<E> entities) {
+        entities.forEach(this::internalUpdate);
+    }
+
     /**
      * Deletes an existing entity from the data store.
      *
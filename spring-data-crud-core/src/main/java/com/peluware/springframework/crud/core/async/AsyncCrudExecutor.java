@@ -0,0 +1,300 @@
+package com.peluware.springframework.crud.core.async;
+
+import org.slf4j.MDC;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.ClassUtils;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Executor used by the asynchronous variants of the CRUD service operations (e.g. {@code pageAsync}).
+ * <p>
+ * Tasks run on a delegate executor (a virtual-thread-per-task executor by default) and carry the caller's
+ * Spring Security {@code SecurityContext} and SLF4J {@link MDC}, so authorization performed by
+ * {@code Crud.preProccess} and logging behave exactly as on the calling thread. Async tasks never join the
+ * caller's transaction: each operation runs in its own transaction, as configured by its policy.
+ * </p>
+ * <p>
+ * At most {@code maxConcurrency} tasks touch the data store at the same time. Create one executor per
+ * data source with a limit not greater than its connection pool size, so that cheap virtual threads queue
+ * on the executor instead of exhausting the pool.
+ * </p>
+ */
+public class AsyncCrudExecutor implements Executor, AutoCloseable {
+
+    private static final boolean SECURITY_PRESENT = ClassUtils.isPresent(
+            "org.springframework.security.core.context.SecurityContextHolder",
+            AsyncCrudExecutor.class.getClassLoader()
+    );
+
+    /**
+     * Concurrency limit of the default executor, matching the default HikariCP pool size.
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 10;
+
+    private static final class DefaultHolder {
+        private static final AsyncCrudExecutor INSTANCE = virtualThreads(DEFAULT_MAX_CONCURRENCY);
+    }
+
+    private final Executor delegate;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final boolean ownsDelegate;
+
+    /**
+     * Creates an executor running tasks on the given delegate.
+     *
+     * @param delegate       the executor running the tasks
+     * @param maxConcurrency maximum number of tasks executing at the same time
+     */
+    public AsyncCrudExecutor(Executor delegate, int maxConcurrency) {
+        this(delegate, maxConcurrency, false);
+    }
+
+    private AsyncCrudExecutor(Executor delegate, int maxConcurrency, boolean ownsDelegate) {
+        Objects.requireNonNull(delegate, "Delegate executor cannot be null");
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Max concurrency must be greater than zero");
+        }
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.ownsDelegate = ownsDelegate;
+    }
+
+    /**
+     * Creates an executor running every task on its own virtual thread.
+     *
+     * @param maxConcurrency maximum number of tasks executing at the same time, typically the pool size
+     * @return a new executor, to be closed by the caller
+     */
+    public static AsyncCrudExecutor virtualThreads(int maxConcurrency) {
+        var factory = Thread.ofVirtual().name("crud-async-", 0).factory();
+        return new AsyncCrudExecutor(Executors.newThreadPerTaskExecutor(factory), maxConcurrency, true);
+    }
+
+    /**
+     * Returns the shared default executor: virtual threads limited to {@link #DEFAULT_MAX_CONCURRENCY}
+     * concurrent tasks.
+     *
+     * @return the default executor
+     */
+    public static AsyncCrudExecutor getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Returns the maximum number of tasks executing at the same time.
+     *
+     * @return the concurrency limit
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Returns the number of tasks currently executing.
+     *
+     * @return the number of tasks holding a permit
+     */
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * Returns an estimate of the number of tasks waiting for a permit.
+     *
+     * @return the number of waiting tasks
+     */
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Runs the given supplier asynchronously with the caller's context.
+     * <p>
+     * Cancelling the returned future releases the task's concurrency permit: a task still waiting for a permit
+     * is skipped, and a running task is interrupted.
+     * </p>
+     *
+     * @param supplier the action to run
+     * @param <T>      the result type
+     * @return a future completed with the result of the supplier, or with its failure
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> supplier) {
+        Objects.requireNonNull(supplier, "Supplier cannot be null");
+        var task = new Task<>(supplier, ContextSnapshot.capture());
+        task.future.whenComplete((result, error) -> {
+            if (task.future.isCancelled()) {
+                task.interrupt();
+            }
+        });
+        delegate.execute(task);
+        return task.future;
+    }
+
+    /**
+     * Runs the given action asynchronously with the caller's context.
+     *
+     * @param action the action to run
+     * @return a future completed when the action has run, or with its failure
+     * @see #supply(Supplier)
+     */
+    public CompletableFuture<Void> run(Runnable action) {
+        Objects.requireNonNull(action, "Action cannot be null");
+        return supply(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The task runs with the caller's security context and MDC, once a concurrency permit is available. Use
+     * {@link #run(Runnable)} to observe its outcome.
+     * </p>
+     */
+    @Override
+    public void execute(Runnable command) {
+        Objects.requireNonNull(command, "Command cannot be null");
+        run(command);
+    }
+
+    /**
+     * Shuts down the delegate if it was created by this class and waits for running tasks to complete.
+     * Executors wrapping a caller-supplied delegate leave its lifecycle to the caller.
+     */
+    @Override
+    public void close() {
+        if (ownsDelegate && delegate instanceof ExecutorService executorService) {
+            executorService.close();
+        }
+    }
+
+    /**
+     * Task completing its own future, so that the future also completes when the permit cannot be acquired.
+     */
+    private final class Task<T> implements Runnable {
+
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final Supplier<T> supplier;
+        private final ContextSnapshot snapshot;
+        private Thread runner;
+
+        private Task(Supplier<T> supplier, ContextSnapshot snapshot) {
+            this.supplier = supplier;
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public void run() {
+            if (!start()) {
+                return;
+            }
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                finish();
+                if (!future.isCancelled()) {
+                    Thread.currentThread().interrupt();
+                }
+                future.completeExceptionally(e);
+                return;
+            }
+            try {
+                if (!future.isDone()) {
+                    future.complete(snapshot.call(supplier));
+                }
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                permits.release();
+                finish();
+            }
+        }
+
+        private synchronized boolean start() {
+            if (future.isDone()) {
+                return false;
+            }
+            runner = Thread.currentThread();
+            return true;
+        }
+
+        private void finish() {
+            synchronized (this) {
+                runner = null;
+            }
+            if (future.isCancelled()) {
+                // clears an interrupt delivered by cancel, so it does not leak into the next task of the thread
+                Thread.interrupted();
+            }
+        }
+
+        private synchronized void interrupt() {
+            if (runner != null) {
+                runner.interrupt();
+            }
+        }
+    }
+
+    private record ContextSnapshot(Map<String, String> mdc, Object securityContext) {
+
+        private static ContextSnapshot capture() {
+            return new ContextSnapshot(
+                    MDC.getCopyOfContextMap(),
+                    SECURITY_PRESENT ? SecurityContextSupport.capture() : null
+            );
+        }
+
+        private <T> T call(Supplier<T> supplier) {
+            var previousMdc = MDC.getCopyOfContextMap();
+            var previousSecurityContext = SECURITY_PRESENT ? SecurityContextSupport.capture() : null;
+            restore(mdc, securityContext);
+            try {
+                return supplier.get();
+            } finally {
+                restore(previousMdc, previousSecurityContext);
+            }
+        }
+
+        private static void restore(Map<String, String> mdc, Object securityContext) {
+            if (mdc == null) {
+                MDC.clear();
+            } else {
+                MDC.setContextMap(mdc);
+            }
+            if (SECURITY_PRESENT) {
+                SecurityContextSupport.restore(securityContext);
+            }
+        }
+    }
+
+    /**
+     * Isolates the Spring Security types, which are optional at runtime.
+     */
+    private static final class SecurityContextSupport {
+
+        private static Object capture() {
+            var context = SecurityContextHolder.getContext();
+            return context.getAuthentication() == null ? null : context;
+        }
+
+        private static void restore(Object context) {
+            if (context == null) {
+                SecurityContextHolder.clearContext();
+            } else {
+                SecurityContextHolder.setContext((SecurityContext) context);
+            }
+        }
+    }
+}
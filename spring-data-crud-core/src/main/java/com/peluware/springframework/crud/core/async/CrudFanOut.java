@@ -0,0 +1,102 @@
+package com.peluware.springframework.crud.core.async;
+
+import lombok.experimental.UtilityClass;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Helper to fan out independent CRUD calls and wait for all of them.
+ * <p>
+ * Typical usage in an aggregator endpoint:
+ * </p>
+ * <pre>{@code
+ * var users = userService.pageAsync(search, pageable, null);
+ * var orders = orderService.countAsync(null, query);
+ * CrudFanOut.awaitAll(users, orders);
+ * return new Dashboard(users.join(), orders.join());
+ * }</pre>
+ * <p>
+ * The wait fails fast: as soon as one call fails, the remaining ones are cancelled and the original
+ * exception (e.g. {@code AccessDeniedException} or {@code NotFoundEntityException}) is rethrown unwrapped,
+ * just as the synchronous call would have thrown it. Cancelled calls of an {@link AsyncCrudExecutor} give their
+ * concurrency permit back: calls still waiting for a permit are skipped and running calls are interrupted.
+ * </p>
+ */
+@UtilityClass
+public class CrudFanOut {
+
+    /**
+     * Waits until every future has completed.
+     *
+     * @param futures the futures to wait for
+     * @throws RuntimeException the failure of the first future that failed
+     */
+    public static void awaitAll(CompletableFuture<?>... futures) {
+        await(all(futures), futures);
+    }
+
+    /**
+     * Waits until every future has completed, or until the timeout expires.
+     *
+     * @param timeout maximum time to wait
+     * @param futures the futures to wait for
+     * @throws CompletionException wrapping a {@link TimeoutException} if the timeout expires
+     * @throws RuntimeException    the failure of the first future that failed
+     */
+    public static void awaitAll(Duration timeout, CompletableFuture<?>... futures) {
+        Objects.requireNonNull(timeout, "Timeout cannot be null");
+        await(all(futures).orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS), futures);
+    }
+
+    private static CompletableFuture<Void> all(CompletableFuture<?>... futures) {
+        Objects.requireNonNull(futures, "Futures cannot be null");
+        var all = CompletableFuture.allOf(futures);
+        for (var future : futures) {
+            future.whenComplete((result, error) -> {
+                if (error != null) {
+                    all.completeExceptionally(error);
+                }
+            });
+        }
+        return all;
+    }
+
+    private static void await(CompletableFuture<Void> all, CompletableFuture<?>... futures) {
+        try {
+            all.get();
+        } catch (InterruptedException e) {
+            cancel(futures);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for fan-out");
+        } catch (ExecutionException e) {
+            cancel(futures);
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static void cancel(CompletableFuture<?>... futures) {
+        for (var future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable error) {
+        while (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        if (error instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (error instanceof Error e) {
+            throw e;
+        }
+        return new CompletionException(error);
+    }
+}
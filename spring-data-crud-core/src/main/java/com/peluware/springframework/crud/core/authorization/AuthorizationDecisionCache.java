@@ -0,0 +1,196 @@
+package com.peluware.springframework.crud.core.authorization;
+
+import com.peluware.springframework.crud.core.CrudOperation;
+import org.springframework.context.ApplicationListener;
+import org.springframework.security.authentication.event.LogoutSuccessEvent;
+import org.springframework.security.authorization.AuthorizationDeniedException;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Short-lived cache of authorization decisions for {@link com.peluware.springframework.crud.core.AuthorizedCrud}.
+ * <p>
+ * Decisions are keyed by authorization manager, authentication name, the set of granted authority names and the
+ * {@link CrudOperation}, so a role change produces a new key and is picked up immediately. Other changes the
+ * manager depends on (ACL entries, role hierarchy) are picked up once the entry expires, or right away after
+ * {@link #evict(String)} / {@link #evictAll()}. Registered as a bean, the cache also evicts the entries of a
+ * user on logout.
+ * </p>
+ * <p>
+ * Unauthenticated requests and abstaining managers ({@code null} results) are never cached. The cache is bounded:
+ * once {@code maximumSize} entries are reached, expired entries are purged and, if it is still full, arbitrary
+ * entries are dropped.
+ * </p>
+ */
+public class AuthorizationDecisionCache implements ApplicationListener<LogoutSuccessEvent> {
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maximumSize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a new decision cache.
+     *
+     * @param ttl         how long a decision is reused
+     * @param maximumSize maximum number of cached decisions
+     */
+    public AuthorizationDecisionCache(Duration ttl, int maximumSize) {
+        Objects.requireNonNull(ttl, "TTL cannot be null");
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("TTL must be positive");
+        }
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be greater than zero");
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Verifies that the given authentication may perform the operation, reusing a cached decision if possible.
+     *
+     * @param authorizationManager the manager taking the decision on a cache miss
+     * @param authentication       the current authentication, may be {@code null}
+     * @param operation            the CRUD operation
+     * @throws AuthorizationDeniedException if access is denied
+     */
+    public void verify(AuthorizationManager<CrudOperation> authorizationManager, Authentication authentication, CrudOperation operation) {
+        var result = authorize(authorizationManager, authentication, operation);
+        if (result != null && !result.isGranted()) {
+            throw new AuthorizationDeniedException("Access Denied", result);
+        }
+    }
+
+    /**
+     * Returns the decision for the given authentication and operation, reusing a cached decision if possible.
+     *
+     * @param authorizationManager the manager taking the decision on a cache miss
+     * @param authentication       the current authentication, may be {@code null}
+     * @param operation            the CRUD operation
+     * @return the decision, or {@code null} if the manager abstains
+     */
+    public AuthorizationResult authorize(AuthorizationManager<CrudOperation> authorizationManager, Authentication authentication, CrudOperation operation) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return authorizationManager.authorize(() -> authentication, operation);
+        }
+
+        var key = new Key(authorizationManager, authentication.getName(), authorities(authentication), operation);
+        var now = System.nanoTime();
+        var entry = entries.get(key);
+        if (entry != null && now - entry.createdAt() < ttlNanos) {
+            hits.increment();
+            return entry.result();
+        }
+
+        misses.increment();
+        var result = authorizationManager.authorize(() -> authentication, operation);
+        if (result != null) {
+            if (entries.size() >= maximumSize) {
+                shrink(now);
+            }
+            entries.put(key, new Entry(result, now));
+        }
+        return result;
+    }
+
+    /**
+     * Evicts every decision cached for the given authentication name, e.g. after an ACL change.
+     *
+     * @param name the authentication name
+     */
+    public void evict(String name) {
+        entries.keySet().removeIf(key -> key.name().equals(name));
+    }
+
+    /**
+     * Evicts every cached decision.
+     */
+    public void evictAll() {
+        entries.clear();
+    }
+
+    /**
+     * Evicts the decisions of the user that logged out.
+     *
+     * @param event the logout event
+     */
+    @Override
+    public void onApplicationEvent(LogoutSuccessEvent event) {
+        evict(event.getAuthentication().getName());
+    }
+
+    /**
+     * Returns the number of cached decisions.
+     *
+     * @return the cache size
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups delegated to the authorization manager.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the ratio of lookups answered from the cache.
+     *
+     * @return the hit rate between {@code 0} and {@code 1}
+     */
+    public double getHitRate() {
+        var hitCount = hits.sum();
+        var total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    private void shrink(long now) {
+        entries.values().removeIf(entry -> now - entry.createdAt() >= ttlNanos);
+        var iterator = entries.keySet().iterator();
+        while (entries.size() >= maximumSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static Set<String> authorities(Authentication authentication) {
+        var authorities = new HashSet<String>();
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            authorities.add(authority.getAuthority());
+        }
+        return Collections.unmodifiableSet(authorities);
+    }
+
+    private record Key(AuthorizationManager<CrudOperation> manager, String name, Set<String> authorities, CrudOperation operation) {
+    }
+
+    private record Entry(AuthorizationResult result, long createdAt) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.peluware.springframework.crud.core.autoconfigurations;
+
+import com.peluware.springframework.crud.core.hooks.AsyncHookDispatcher;
+import com.peluware.springframework.crud.core.metrics.CrudMetrics;
+import com.peluware.springframework.crud.core.metrics.CrudMetricsRecorder;
+import com.peluware.springframework.crud.core.metrics.micrometer.AsyncHookDispatcherMetrics;
+import com.peluware.springframework.crud.core.metrics.micrometer.MicrometerCrudMetricsRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Autoconfiguration publishing CRUD operation metrics to Micrometer.
+ * <p>
+ * Active when Micrometer is on the classpath and a {@link MeterRegistry} bean exists, unless
+ * {@code spring.data.crud.metrics.enabled} is {@code false}. The {@link CrudMetricsRecorder} bean, the Micrometer one
+ * unless another is defined, is installed in {@link CrudMetrics} until the context is closed. Without this
+ * configuration no recorder is installed and the CRUD services run uninstrumented. The counters of every
+ * {@link AsyncHookDispatcher} bean are bound as well, see {@link AsyncHookDispatcherMetrics}.
+ * </p>
+ */
+@AutoConfiguration(afterName = {
+        "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration"
+})
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnBean(MeterRegistry.class)
+@ConditionalOnProperty(prefix = "spring.data.crud.metrics", name = "enabled", matchIfMissing = true)
+public class CrudMetricsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public MicrometerCrudMetricsRecorder micrometerCrudMetricsRecorder(MeterRegistry meterRegistry) {
+        return new MicrometerCrudMetricsRecorder(meterRegistry);
+    }
+
+    @Bean
+    DefaultInstanceRegistration<CrudMetricsRecorder> crudMetricsRecorderRegistration(ObjectProvider<CrudMetricsRecorder> recorder) {
+        return new DefaultInstanceRegistration<>(recorder, CrudMetrics::install, CrudMetrics::uninstall);
+    }
+
+    @Bean
+    SmartInitializingSingleton asyncHookDispatcherMetricsBinder(MeterRegistry meterRegistry, ListableBeanFactory beanFactory) {
+        return () -> beanFactory.getBeansOfType(AsyncHookDispatcher.class, false, false)
+                .forEach((name, dispatcher) -> new AsyncHookDispatcherMetrics(dispatcher, name).bindTo(meterRegistry));
+    }
+}
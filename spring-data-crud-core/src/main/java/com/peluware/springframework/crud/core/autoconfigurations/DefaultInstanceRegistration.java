@@ -0,0 +1,48 @@
+package com.peluware.springframework.crud.core.autoconfigurations;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.function.Consumer;
+
+/**
+ * Publishes the bean of a type as the static default used by CRUD services that do not provide their own (e.g.
+ * {@link com.peluware.springframework.crud.core.slowqueries.SlowQueryLog#setDefault}), and withdraws it when the
+ * context is closed.
+ * <p>
+ * The bean is resolved from the context, so a user-defined bean replacing the autoconfigured one is published as
+ * well. Nothing is published when there is no unique bean of the type.
+ * </p>
+ *
+ * @param <T> the type of the published bean
+ */
+final class DefaultInstanceRegistration<T> implements InitializingBean, DisposableBean {
+
+    private final ObjectProvider<T> provider;
+    private final Consumer<T> install;
+    private final Consumer<T> uninstall;
+    private T instance;
+
+    DefaultInstanceRegistration(ObjectProvider<T> provider, Consumer<T> install, Consumer<T> uninstall) {
+        this.provider = provider;
+        this.install = install;
+        this.uninstall = uninstall;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        instance = provider.getIfUnique();
+        if (instance != null) {
+            install.accept(instance);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (instance != null) {
+            uninstall.accept(instance);
+            instance = null;
+        }
+    }
+}
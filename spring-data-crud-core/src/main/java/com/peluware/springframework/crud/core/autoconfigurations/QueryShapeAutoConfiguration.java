@@ -0,0 +1,60 @@
+package com.peluware.springframework.crud.core.autoconfigurations;
+
+import com.peluware.springframework.crud.core.queryshapes.IndexAdvisor;
+import com.peluware.springframework.crud.core.queryshapes.IndexCatalog;
+import com.peluware.springframework.crud.core.queryshapes.QueryShapeCollector;
+import com.peluware.springframework.crud.core.queryshapes.QueryShapeEndpoint;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Autoconfiguration of the query shape statistics, enabled by {@code spring.data.crud.query-shapes.enabled}.
+ * <p>
+ * Registers a {@link QueryShapeCollector}, unless one is already defined, and publishes the {@link QueryShapeCollector}
+ * bean as the {@link QueryShapeCollector#getDefault() default collector} of the CRUD services until the context is
+ * closed. Also registers an {@link IndexAdvisor} checking the shapes against every {@link IndexCatalog} bean and, when
+ * Spring Boot Actuator is present, the {@code crudqueryshapes} endpoint exposing both.
+ * </p>
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(SpringDataCrudProperties.class)
+@ConditionalOnProperty(prefix = "spring.data.crud.query-shapes", name = "enabled", havingValue = "true")
+public class QueryShapeAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public QueryShapeCollector queryShapeCollector(SpringDataCrudProperties properties) {
+        return new QueryShapeCollector(properties.getQueryShapes().getMaxShapes());
+    }
+
+    @Bean
+    DefaultInstanceRegistration<QueryShapeCollector> queryShapeCollectorRegistration(ObjectProvider<QueryShapeCollector> collector) {
+        return new DefaultInstanceRegistration<>(collector, QueryShapeCollector::setDefault, QueryShapeCollector::clearDefault);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public IndexAdvisor indexAdvisor(QueryShapeCollector collector, ObjectProvider<IndexCatalog> catalogs) {
+        return new IndexAdvisor(collector, catalogs.orderedStream().toList());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(Endpoint.class)
+    static class QueryShapeEndpointConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnAvailableEndpoint
+        public QueryShapeEndpoint queryShapeEndpoint(QueryShapeCollector collector, IndexAdvisor advisor) {
+            return new QueryShapeEndpoint(collector, advisor);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.peluware.springframework.crud.core.autoconfigurations;
+
+import com.peluware.springframework.crud.core.slowqueries.SlowQueryEndpoint;
+import com.peluware.springframework.crud.core.slowqueries.SlowQueryLog;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Autoconfiguration of the slow query log, enabled by {@code spring.data.crud.slow-queries.enabled}.
+ * <p>
+ * Registers a {@link SlowQueryLog}, unless one is already defined, and publishes the {@link SlowQueryLog} bean as the
+ * {@link SlowQueryLog#getDefault() default log} of the CRUD services until the context is closed. When Spring Boot
+ * Actuator is present, the {@code crudslowqueries} endpoint exposes it.
+ * </p>
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(SpringDataCrudProperties.class)
+@ConditionalOnProperty(prefix = "spring.data.crud.slow-queries", name = "enabled", havingValue = "true")
+public class SlowQueryAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public SlowQueryLog slowQueryLog(SpringDataCrudProperties properties) {
+        var settings = properties.getSlowQueries();
+        var slowQueryLog = new SlowQueryLog(settings.getThreshold(), settings.getCapacity());
+        if (settings.getExplain().isEnabled()) {
+            slowQueryLog.explain(settings.getExplain().getMinInterval());
+        }
+        return slowQueryLog;
+    }
+
+    @Bean
+    DefaultInstanceRegistration<SlowQueryLog> slowQueryLogRegistration(ObjectProvider<SlowQueryLog> slowQueryLog) {
+        return new DefaultInstanceRegistration<>(slowQueryLog, SlowQueryLog::setDefault, SlowQueryLog::clearDefault);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(Endpoint.class)
+    static class SlowQueryEndpointConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnAvailableEndpoint
+        public SlowQueryEndpoint slowQueryEndpoint(SlowQueryLog slowQueryLog) {
+            return new SlowQueryEndpoint(slowQueryLog);
+        }
+    }
+}
@@ -1,15 +1,21 @@
 package com.peluware.springframework.crud.core.autoconfigurations;
 
+import com.peluware.springframework.crud.core.hooks.HookRegistry;
+import com.peluware.springframework.crud.core.hooks.ReadHooks;
+import com.peluware.springframework.crud.core.hooks.WriteHooks;
 import cz.jirutka.rsql.parser.RSQLParser;
 import cz.jirutka.rsql.parser.ast.Node;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.convert.converter.Converter;
 
 @Slf4j
 @AutoConfiguration
+@EnableConfigurationProperties(SpringDataCrudProperties.class)
 public class SpringDataCrudAutoConfiguration {
 
     @Bean
@@ -27,4 +33,14 @@ public class SpringDataCrudAutoConfiguration {
             }
         };
     }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public HookRegistry hookRegistry(
+            ObjectProvider<ReadHooks<?, ?>> readHooks,
+            ObjectProvider<WriteHooks<?, ?, ?>> writeHooks,
+            SpringDataCrudProperties properties
+    ) {
+        return new HookRegistry(readHooks, writeHooks, properties.getHooks().isProfiling());
+    }
 }
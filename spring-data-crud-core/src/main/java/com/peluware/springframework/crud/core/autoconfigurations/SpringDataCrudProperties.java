@@ -0,0 +1,106 @@
+package com.peluware.springframework.crud.core.autoconfigurations;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties of Spring Data CRUD, bound under the {@code spring.data.crud} prefix.
+ */
+@Data
+@ConfigurationProperties(prefix = "spring.data.crud")
+public class SpringDataCrudProperties {
+
+    /**
+     * Hook registry settings.
+     */
+    private final Hooks hooks = new Hooks();
+
+    /**
+     * CRUD metrics settings.
+     */
+    private final Metrics metrics = new Metrics();
+
+    /**
+     * Slow query log settings.
+     */
+    private final SlowQueries slowQueries = new SlowQueries();
+
+    /**
+     * Query shape statistics settings.
+     */
+    private final QueryShapes queryShapes = new QueryShapes();
+
+    @Data
+    public static class Hooks {
+
+        /**
+         * Whether every hook invocation is timed, see {@code HookRegistry#getTimings()}.
+         */
+        private boolean profiling = false;
+    }
+
+    @Data
+    public static class Metrics {
+
+        /**
+         * Whether CRUD operations are timed with Micrometer when a {@code MeterRegistry} is available.
+         */
+        private boolean enabled = true;
+    }
+
+    @Data
+    public static class SlowQueries {
+
+        /**
+         * Whether page queries slower than the threshold are recorded and exposed by the {@code crudslowqueries}
+         * actuator endpoint.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Minimum execution time of the recorded queries.
+         */
+        private Duration threshold = Duration.ofMillis(500);
+
+        /**
+         * Maximum number of recorded queries kept in memory.
+         */
+        private int capacity = 100;
+
+        /**
+         * Execution plan capture settings.
+         */
+        private final Explain explain = new Explain();
+
+        @Data
+        public static class Explain {
+
+            /**
+             * Whether the execution plan of slow queries is captured asynchronously.
+             */
+            private boolean enabled = false;
+
+            /**
+             * Minimum time between two captured plans.
+             */
+            private Duration minInterval = Duration.ofSeconds(10);
+        }
+    }
+
+    @Data
+    public static class QueryShapes {
+
+        /**
+         * Whether the shapes of page requests are collected and exposed, together with index recommendations, by
+         * the {@code crudqueryshapes} actuator endpoint.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of tracked query shapes.
+         */
+        private int maxShapes = 1000;
+    }
+}
@@ -0,0 +1,293 @@
+package com.peluware.springframework.crud.core.batching;
+
+import com.peluware.springframework.crud.core.CrudOperation;
+import com.peluware.springframework.crud.core.CrudOperationContext;
+import com.peluware.springframework.crud.core.WriteService;
+import com.peluware.springframework.crud.core.hooks.AsyncHookDispatcher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Persistable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces concurrent {@link WriteService#create(Object)} calls into batched transactions (group commit).
+ * <p>
+ * Creates submitted within a short {@code window}, or until {@code maxBatchSize} requests are collected,
+ * are persisted in a single transaction through {@link WriteService#internalCreateAll(List)}, so the
+ * data store pays one commit for the whole group instead of one per request.
+ * </p>
+ * <p>
+ * Each caller still blocks until its own entity is committed and receives either that entity or its own
+ * failure. Mapping and hooks run per entity; a failure in {@code mapModel} or {@code onBeforeCreate} only
+ * fails that caller. If the batch itself cannot be committed (including when its transaction cannot be
+ * started), every request of the batch that has not failed yet is retried on its own, in its own transaction,
+ * so a single bad row never fails its neighbours.
+ * </p>
+ * <p>
+ * A retried request runs {@code mapModel}, {@code onBeforeCreate} and {@code onAfterCreate} again on a new
+ * entity, after the batch transaction has been rolled back. Synchronous after-hooks with side effects outside
+ * the transaction (messages, caches, remote calls) may therefore observe the same create twice; hooks dispatched
+ * through an {@link AsyncHookDispatcher} only run once the transaction commits and are never duplicated.
+ * </p>
+ * <p>
+ * Batches are written on a dedicated committer thread, so hooks do not see thread-bound state of the
+ * calling request (authorization is still verified on the caller thread by {@code Crud.preProccess}).
+ * Calls made while a transaction is already active are executed inline to keep participating in it.
+ * Owners should invoke {@link #close()} on shutdown (e.g. from a {@code @PreDestroy} method) to drain
+ * pending requests.
+ * </p>
+ *
+ * @param <E>  the entity type, must implement {@link Persistable}
+ * @param <D>  the DTO type used to map data to the entity
+ * @param <ID> the identifier type of the entity
+ */
+@Slf4j
+public class GroupCommitter<E extends Persistable<ID>, D, ID> implements AutoCloseable {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final WriteService<E, D, ID> service;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final BlockingQueue<PendingCreate<E, D>> queue = new LinkedBlockingQueue<>();
+
+    private Thread committer;
+    private volatile boolean closed;
+
+    /**
+     * Creates a new group committer for the given service.
+     *
+     * @param service      the write service whose creates will be coalesced
+     * @param window       maximum time to wait for more requests after the first one of a batch arrives
+     * @param maxBatchSize maximum number of entities persisted in a single transaction
+     */
+    public GroupCommitter(WriteService<E, D, ID> service, Duration window, int maxBatchSize) {
+        Objects.requireNonNull(service, "Service cannot be null");
+        Objects.requireNonNull(window, "Window cannot be null");
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("Window cannot be negative");
+        }
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size must be greater than zero");
+        }
+        this.service = service;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Submits a create request and blocks until the batch containing it has been committed.
+     *
+     * @param dto the data transfer object used to populate the new entity
+     * @return the persisted entity
+     */
+    public E submit(D dto) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return CrudOperationContext.execute(CrudOperation.CREATE, () -> createInTransaction(dto));
+        }
+
+        var pending = new PendingCreate<E, D>(dto);
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Group committer is closed");
+            }
+            ensureStarted();
+            queue.add(pending);
+        }
+        return pending.await();
+    }
+
+    /**
+     * Stops accepting new requests and waits until all pending requests have been committed.
+     */
+    @Override
+    public void close() {
+        Thread thread;
+        synchronized (this) {
+            closed = true;
+            thread = committer;
+        }
+        if (thread == null) {
+            return;
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void ensureStarted() {
+        if (committer == null) {
+            committer = Thread.ofPlatform()
+                    .name("group-commit-" + service.getEntityClass().getSimpleName())
+                    .daemon(true)
+                    .start(this::run);
+        }
+    }
+
+    private void run() {
+        var batch = new ArrayList<PendingCreate<E, D>>(maxBatchSize);
+        try {
+            while (!closed || !queue.isEmpty()) {
+                try {
+                    var first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    collect(batch);
+                } catch (InterruptedException e) {
+                    log.warn("Group committer for {} interrupted, flushing pending requests", service.getEntityClass().getSimpleName());
+                    closed = true;
+                    queue.drainTo(batch);
+                }
+                try {
+                    CrudOperationContext.run(CrudOperation.CREATE, () -> flush(batch));
+                } catch (Throwable e) {
+                    log.error("Group commit of {} {} entities failed", batch.size(), service.getEntityClass().getSimpleName(), e);
+                    fail(batch, e);
+                }
+                batch.clear();
+            }
+        } finally {
+            synchronized (this) {
+                committer = null;
+                queue.drainTo(batch);
+            }
+            fail(batch, new IllegalStateException("Group committer is closed"));
+        }
+    }
+
+    private static <E, D> void fail(List<PendingCreate<E, D>> batch, Throwable cause) {
+        for (var pending : batch) {
+            pending.future.completeExceptionally(cause);
+        }
+    }
+
+    private void collect(List<PendingCreate<E, D>> batch) throws InterruptedException {
+        var deadline = System.nanoTime() + windowNanos;
+        while (batch.size() < maxBatchSize) {
+            var remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                queue.drainTo(batch, maxBatchSize - batch.size());
+                return;
+            }
+            var next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingCreate<E, D>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        var hooks = service.getHooks();
+        var hookDispatcher = service.getAsyncHookDispatcher();
+        var transactionOperations = service.getTransactionOperations(CrudOperation.CREATE);
+        var prepared = new ArrayList<PendingCreate<E, D>>(batch.size());
+
+        try {
+            transactionOperations.executeWithoutResult(status -> {
+                prepared.clear();
+                for (var pending : batch) {
+                    try {
+                        var entity = service.newEntity();
+                        service.mapModel(pending.dto, entity);
+                        hooks.onBeforeCreate(pending.dto, entity);
+                        pending.entity = entity;
+                        prepared.add(pending);
+                    } catch (RuntimeException e) {
+                        pending.future.completeExceptionally(e);
+                    }
+                }
+                try {
+                    service.internalCreateAll(prepared.stream().map(pending -> pending.entity).toList());
+                    for (var pending : prepared) {
+                        AsyncHookDispatcher.invoke(hookDispatcher, pending.entity.getId(), () -> hooks.onAfterCreate(pending.dto, pending.entity));
+                    }
+                } catch (RuntimeException e) {
+                    status.setRollbackOnly();
+                    throw e;
+                }
+            });
+        } catch (RuntimeException e) {
+            log.debug("Group commit of {} {} entities failed, retrying individually",
+                    batch.size(), service.getEntityClass().getSimpleName(), e);
+            for (var pending : batch) {
+                if (pending.future.isDone()) {
+                    continue;
+                }
+                try {
+                    pending.future.complete(createInTransaction(pending.dto));
+                } catch (RuntimeException ex) {
+                    pending.future.completeExceptionally(ex);
+                }
+            }
+            return;
+        }
+
+        for (var pending : prepared) {
+            pending.future.complete(pending.entity);
+        }
+    }
+
+    private E createInTransaction(D dto) {
+        var entity = service.newEntity();
+        var hooks = service.getHooks();
+        var hookDispatcher = service.getAsyncHookDispatcher();
+        var transactionOperations = service.getTransactionOperations(CrudOperation.CREATE);
+
+        return transactionOperations.execute(status -> {
+            try {
+                service.mapModel(dto, entity);
+                hooks.onBeforeCreate(dto, entity);
+                service.internalCreate(entity);
+                AsyncHookDispatcher.invoke(hookDispatcher, entity.getId(), () -> hooks.onAfterCreate(dto, entity));
+                return entity;
+            } catch (Exception e) {
+                status.setRollbackOnly();
+                throw e;
+            }
+        });
+    }
+
+    private static final class PendingCreate<E, D> {
+
+        private final D dto;
+        private final CompletableFuture<E> future = new CompletableFuture<>();
+        private E entity;
+
+        private PendingCreate(D dto) {
+            this.dto = dto;
+        }
+
+        private E await() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                var cause = e.getCause();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,504 @@
+package com.peluware.springframework.crud.core.batching;
+
+import com.peluware.springframework.crud.core.CrudOperation;
+import com.peluware.springframework.crud.core.CrudOperationContext;
+import com.peluware.springframework.crud.core.WriteService;
+import com.peluware.springframework.crud.core.exceptions.NotFoundEntityException;
+import com.peluware.springframework.crud.core.hooks.AsyncHookDispatcher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.domain.Persistable;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BinaryOperator;
+import java.util.function.Predicate;
+
+/**
+ * Write-behind buffer that coalesces high-frequency {@link WriteService#update(Object, Object)} calls per id.
+ * <p>
+ * Updates are not written immediately: pending DTOs are kept in memory, merged per id with a configurable
+ * merge function (last-write-wins by default), and flushed in batched transactions either periodically or
+ * as soon as {@code maxBatchSize} distinct ids are pending. This turns dozens of row updates per second on the
+ * same id (counters, status rows) into a single update per flush, removing row-lock contention and optimistic
+ * lock failures.
+ * </p>
+ * <p>
+ * The buffer is bounded: once {@code capacity} ids are pending or being written, new ids block the caller
+ * for up to the configured offer timeout and are rejected with a {@link RejectedExecutionException} afterwards.
+ * Updates of ids that are already pending are always merged.
+ * </p>
+ * <p>
+ * Every submitted update returns a future completed once the merged update of its id is committed, with the
+ * written entity, or exceptionally with the failure; callers merged into the same pending update share its
+ * outcome. Updates of missing ids fail with a {@link NotFoundEntityException}. Transient failures (lock conflicts,
+ * connection errors, see {@link #retryable(Predicate)}) are not dropped: the update is queued again, merged before
+ * any newer update of the same id, and retried on the next flush, up to {@code maxAttempts} times. A retried update
+ * keeps the capacity slot of its id, so retries never grow the buffer beyond {@code capacity}. Updates failing with
+ * a non-transient error (validation, constraint violations), or still failing after every attempt, are handed to
+ * the {@link DeadLetterHandler} (logged by default) together with their DTO, and their future fails.
+ * </p>
+ * <p>
+ * Use {@link #flush()} to write all pending updates synchronously, and {@link #close()} on shutdown
+ * (e.g. from a {@code @PreDestroy} method) so that no pending writes are lost.
+ * </p>
+ *
+ * @param <E>  the entity type, must implement {@link Persistable}
+ * @param <D>  the DTO type used to map data to the entity
+ * @param <ID> the identifier type of the entity
+ */
+@Slf4j
+public class WriteBehindBuffer<E extends Persistable<ID>, D, ID> implements AutoCloseable {
+
+    private final WriteService<E, D, ID> service;
+    private final Duration flushInterval;
+    private final int maxBatchSize;
+    private final int capacity;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private LinkedHashMap<ID, PendingUpdate<E, D>> pending = new LinkedHashMap<>();
+    private int inFlight;
+    private boolean flushRequested;
+    private boolean closed;
+    private ScheduledExecutorService scheduler;
+
+    private volatile BinaryOperator<D> mergeFunction = (previous, next) -> next;
+    private volatile DeadLetterHandler<ID, D> deadLetterHandler = (id, dto, e) -> log.error("Write-behind update of id {} failed, dropping {}", id, dto, e);
+    private volatile Duration offerTimeout = Duration.ofSeconds(1);
+    private volatile int maxAttempts = 3;
+    private volatile Predicate<RuntimeException> retryable = WriteBehindBuffer::isTransient;
+
+    /**
+     * Receives buffered updates that failed with a non-retryable error or could not be written after every attempt.
+     *
+     * @param <ID> the identifier type of the entity
+     * @param <D>  the DTO type
+     */
+    @FunctionalInterface
+    public interface DeadLetterHandler<ID, D> {
+
+        /**
+         * Handles an update that could not be written.
+         *
+         * @param id      the ID of the entity
+         * @param dto     the merged DTO that could not be written
+         * @param failure the failure of the last attempt
+         */
+        void accept(ID id, D dto, RuntimeException failure);
+    }
+
+    /**
+     * Creates a new write-behind buffer for the given service.
+     *
+     * @param service       the write service whose updates will be coalesced
+     * @param flushInterval interval between periodic flushes
+     * @param maxBatchSize  number of pending ids that triggers a flush, and maximum ids per transaction
+     * @param capacity      maximum number of ids pending or being written at the same time
+     */
+    public WriteBehindBuffer(WriteService<E, D, ID> service, Duration flushInterval, int maxBatchSize, int capacity) {
+        Objects.requireNonNull(service, "Service cannot be null");
+        Objects.requireNonNull(flushInterval, "Flush interval cannot be null");
+        if (flushInterval.isNegative() || flushInterval.isZero()) {
+            throw new IllegalArgumentException("Flush interval must be positive");
+        }
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size must be greater than zero");
+        }
+        if (capacity < maxBatchSize) {
+            throw new IllegalArgumentException("Capacity cannot be lower than max batch size");
+        }
+        this.service = service;
+        this.flushInterval = flushInterval;
+        this.maxBatchSize = maxBatchSize;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Sets the function used to merge a pending DTO with a newer one for the same id.
+     * Defaults to last-write-wins.
+     *
+     * @param mergeFunction function receiving the pending and the newer DTO, returning the merged DTO
+     * @return this buffer
+     */
+    public WriteBehindBuffer<E, D, ID> mergeFunction(BinaryOperator<D> mergeFunction) {
+        this.mergeFunction = Objects.requireNonNull(mergeFunction, "Merge function cannot be null");
+        return this;
+    }
+
+    /**
+     * Sets the handler receiving updates that failed with a non-retryable error or could not be written after
+     * {@code maxAttempts} attempts, e.g. to store them in a dead-letter table. Defaults to logging the update and the
+     * error.
+     *
+     * @param deadLetterHandler handler receiving the id, the merged DTO and the last failure
+     * @return this buffer
+     */
+    public WriteBehindBuffer<E, D, ID> deadLetterHandler(DeadLetterHandler<ID, D> deadLetterHandler) {
+        this.deadLetterHandler = Objects.requireNonNull(deadLetterHandler, "Dead letter handler cannot be null");
+        return this;
+    }
+
+    /**
+     * Sets how many times an update is written before it is handed to the dead-letter handler. Defaults to 3.
+     *
+     * @param maxAttempts maximum number of attempts per update
+     * @return this buffer
+     */
+    public WriteBehindBuffer<E, D, ID> maxAttempts(int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts must be greater than zero");
+        }
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    /**
+     * Sets which failures are retried on the next flush; others are handed to the dead-letter handler right away.
+     * Defaults to transient data access failures ({@link TransientDataAccessException},
+     * {@link RecoverableDataAccessException}) and transactions that could not be started.
+     *
+     * @param retryable predicate receiving the failure of an update
+     * @return this buffer
+     */
+    public WriteBehindBuffer<E, D, ID> retryable(Predicate<RuntimeException> retryable) {
+        this.retryable = Objects.requireNonNull(retryable, "Retryable cannot be null");
+        return this;
+    }
+
+    /**
+     * Sets how long a caller waits for free capacity before its update is rejected.
+     *
+     * @param offerTimeout maximum time to block when the buffer is full
+     * @return this buffer
+     */
+    public WriteBehindBuffer<E, D, ID> offerTimeout(Duration offerTimeout) {
+        this.offerTimeout = Objects.requireNonNull(offerTimeout, "Offer timeout cannot be null");
+        return this;
+    }
+
+    /**
+     * Buffers an update for the given id, merging it with any pending update of the same id.
+     *
+     * @param id  the ID of the entity to update
+     * @param dto the DTO containing updated data
+     * @return a future completed with the updated entity once the update is committed, or with its failure
+     * @throws RejectedExecutionException if the buffer stays full for longer than the offer timeout
+     */
+    public CompletableFuture<E> submit(ID id, D dto) {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Write-behind buffer is closed");
+            }
+            ensureStarted();
+
+            var nanos = offerTimeout.toNanos();
+            while (!pending.containsKey(id) && pending.size() + inFlight >= capacity) {
+                if (nanos <= 0) {
+                    throw new RejectedExecutionException("Write-behind buffer for " + service.getEntityClass().getSimpleName() + " is full");
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+
+            var update = pending.get(id);
+            if (update == null) {
+                update = new PendingUpdate<>(dto);
+                pending.put(id, update);
+            } else {
+                update.dto = mergeFunction.apply(update.dto, dto);
+            }
+
+            if (pending.size() >= maxBatchSize && !flushRequested) {
+                flushRequested = true;
+                scheduler.execute(this::flushQuietly);
+            }
+            return update.future;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for write-behind capacity", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Buffers an update and blocks until the merged update of its id has been committed. Concurrent updates of the
+     * same id are still written once per flush. Calls made while a transaction is already active are executed
+     * inline to keep participating in it.
+     *
+     * @param id  the ID of the entity to update
+     * @param dto the DTO containing updated data
+     * @return the updated entity
+     * @throws NotFoundEntityException    if the entity is not found
+     * @throws RejectedExecutionException if the buffer stays full for longer than the offer timeout
+     */
+    public E update(ID id, D dto) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return CrudOperationContext.execute(CrudOperation.UPDATE, () -> updateInTransaction(id, dto));
+        }
+        try {
+            return submit(id, dto).join();
+        } catch (CompletionException e) {
+            var cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Synchronously writes all updates pending at the time of the call. Updates failing with a transient error
+     * are queued again for the next flush.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<ID, PendingUpdate<E, D>> drained;
+            lock.lock();
+            try {
+                drained = pending;
+                drained.values().forEach(update -> update.requeued = false);
+                pending = new LinkedHashMap<>();
+                inFlight += drained.size();
+                flushRequested = false;
+            } finally {
+                lock.unlock();
+            }
+
+            var entries = new ArrayList<>(drained.entrySet());
+            for (var from = 0; from < entries.size(); from += maxBatchSize) {
+                var chunk = entries.subList(from, Math.min(from + maxBatchSize, entries.size()));
+                try {
+                    CrudOperationContext.run(CrudOperation.UPDATE, () -> write(chunk));
+                } catch (RuntimeException | Error e) {
+                    var unwritten = entries.subList(from, entries.size());
+                    unwritten.stream()
+                            .filter(entry -> !entry.getValue().requeued)
+                            .forEach(entry -> entry.getValue().future.completeExceptionally(e));
+                    release(unwritten.size() - chunk.size());
+                    throw e;
+                } finally {
+                    release((int) chunk.stream().filter(entry -> !entry.getValue().requeued).count());
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Stops periodic flushing, rejects new updates and writes every pending update, retrying failed updates until
+     * they are written or handed to the dead-letter handler.
+     */
+    @Override
+    public void close() {
+        ScheduledExecutorService executor;
+        lock.lock();
+        try {
+            closed = true;
+            executor = scheduler;
+        } finally {
+            lock.unlock();
+        }
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(flushInterval.toMillis() + 30_000, TimeUnit.MILLISECONDS)) {
+                    log.warn("Write-behind flusher for {} did not terminate in time", service.getEntityClass().getSimpleName());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        do {
+            flush();
+        } while (hasPending());
+    }
+
+    private boolean hasPending() {
+        lock.lock();
+        try {
+            return !pending.isEmpty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void ensureStarted() {
+        if (scheduler == null) {
+            var name = "write-behind-" + service.getEntityClass().getSimpleName();
+            scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name(name).daemon(true).factory());
+            var interval = flushInterval.toNanos();
+            scheduler.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Write-behind flush for {} failed", service.getEntityClass().getSimpleName(), e);
+        }
+    }
+
+    private void release(int count) {
+        lock.lock();
+        try {
+            inFlight -= count;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void write(List<Map.Entry<ID, PendingUpdate<E, D>>> chunk) {
+        var hooks = service.getHooks();
+        var hookDispatcher = service.getAsyncHookDispatcher();
+        var transactionOperations = service.getTransactionOperations(CrudOperation.UPDATE);
+
+        List<E> written;
+        try {
+            written = transactionOperations.execute(status -> {
+                try {
+                    var entities = new ArrayList<E>(chunk.size());
+                    for (var entry : chunk) {
+                        var dto = entry.getValue().dto;
+                        var entity = service.internalFind(entry.getKey());
+                        service.mapModel(dto, entity);
+                        hooks.onBeforeUpdate(dto, entity);
+                        entities.add(entity);
+                    }
+                    service.internalUpdateAll(entities);
+                    for (var i = 0; i < chunk.size(); i++) {
+                        var entry = chunk.get(i);
+                        var dto = entry.getValue().dto;
+                        var entity = entities.get(i);
+                        AsyncHookDispatcher.invoke(hookDispatcher, entry.getKey(), () -> hooks.onAfterUpdate(dto, entity));
+                    }
+                    return entities;
+                } catch (RuntimeException e) {
+                    status.setRollbackOnly();
+                    throw e;
+                }
+            });
+        } catch (RuntimeException e) {
+            log.debug("Write-behind batch of {} {} updates failed, retrying individually",
+                    chunk.size(), service.getEntityClass().getSimpleName(), e);
+            for (var entry : chunk) {
+                var update = entry.getValue();
+                try {
+                    update.future.complete(updateInTransaction(entry.getKey(), update.dto));
+                } catch (NotFoundEntityException ex) {
+                    update.future.completeExceptionally(ex);
+                } catch (RuntimeException ex) {
+                    retryOrDeadLetter(entry.getKey(), update, ex);
+                }
+            }
+            return;
+        }
+
+        for (var i = 0; i < chunk.size(); i++) {
+            chunk.get(i).getValue().future.complete(written.get(i));
+        }
+    }
+
+    private E updateInTransaction(ID id, D dto) {
+        var hooks = service.getHooks();
+        var hookDispatcher = service.getAsyncHookDispatcher();
+        var transactionOperations = service.getTransactionOperations(CrudOperation.UPDATE);
+
+        return transactionOperations.execute(status -> {
+            try {
+                var entity = service.internalFind(id);
+                service.mapModel(dto, entity);
+                hooks.onBeforeUpdate(dto, entity);
+                service.internalUpdate(entity);
+                AsyncHookDispatcher.invoke(hookDispatcher, id, () -> hooks.onAfterUpdate(dto, entity));
+                return entity;
+            } catch (RuntimeException e) {
+                status.setRollbackOnly();
+                throw e;
+            }
+        });
+    }
+
+    private void retryOrDeadLetter(ID id, PendingUpdate<E, D> update, RuntimeException failure) {
+        if (!retryable.test(failure) || ++update.attempts >= maxAttempts) {
+            try {
+                deadLetterHandler.accept(id, update.dto, failure);
+            } catch (RuntimeException e) {
+                log.error("Dead letter handler failed for write-behind update of id {}", id, e);
+            } finally {
+                update.future.completeExceptionally(failure);
+            }
+            return;
+        }
+
+        log.debug("Write-behind update of id {} failed, retrying on next flush (attempt {} of {})",
+                id, update.attempts, maxAttempts, failure);
+        lock.lock();
+        try {
+            // the capacity slot of the id moves from the running flush back to the pending updates
+            update.requeued = true;
+            inFlight--;
+            var newer = pending.get(id);
+            if (newer == null) {
+                pending.put(id, update);
+                return;
+            }
+            notFull.signalAll();
+            update.dto = mergeFunction.apply(update.dto, newer.dto);
+            newer.future.whenComplete((entity, e) -> {
+                if (e == null) {
+                    update.future.complete(entity);
+                } else {
+                    update.future.completeExceptionally(e);
+                }
+            });
+            newer.dto = update.dto;
+            newer.attempts = Math.max(newer.attempts, update.attempts);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    private static final class PendingUpdate<E, D> {
+
+        private final CompletableFuture<E> future = new CompletableFuture<>();
+        private D dto;
+        private int attempts;
+        private boolean requeued;
+
+        private PendingUpdate(D dto) {
+            this.dto = dto;
+        }
+    }
+}
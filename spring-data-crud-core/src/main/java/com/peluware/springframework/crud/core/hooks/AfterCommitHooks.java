@@ -0,0 +1,119 @@
+package com.peluware.springframework.crud.core.hooks;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+import org.springframework.data.domain.Persistable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Objects;
+
+/**
+ * Base class of write hooks keeping a copy of the written entities (a snapshot, a search index) in sync once the
+ * surrounding transaction commits.
+ * <p>
+ * Actions scheduled with {@link #afterCommit(Runnable)} run on the committing thread after the transaction commits
+ * and are dropped if it rolls back; without active transaction synchronization they run immediately. A failing
+ * action is passed to {@link #onFailure(RuntimeException)} and never affects the write.
+ * </p>
+ * <p>
+ * The entity type is exposed through {@link #getResolvableType()}, so the hooks can be registered as a hook bean,
+ * which a {@link HookRegistry} applies to that entity only, or returned from {@code getHooks()}.
+ * </p>
+ *
+ * @param <E>  the entity type
+ * @param <D>  the DTO type
+ * @param <ID> the identifier type
+ */
+public abstract class AfterCommitHooks<E extends Persistable<ID>, D, ID> implements WriteHooks<E, D, ID>, ResolvableTypeProvider {
+
+    private final Class<E> entityClass;
+
+    /**
+     * Creates hooks for the given entity class.
+     *
+     * @param entityClass the entity class
+     */
+    protected AfterCommitHooks(Class<E> entityClass) {
+        this.entityClass = Objects.requireNonNull(entityClass, "Entity class cannot be null");
+    }
+
+    /**
+     * Returns the entity class.
+     *
+     * @return the entity class
+     */
+    public Class<E> getEntityClass() {
+        return entityClass;
+    }
+
+    /**
+     * Exposes the entity type, so that a {@link HookRegistry} applies these hooks to that entity only.
+     *
+     * @return the type of these hooks
+     */
+    @Override
+    public ResolvableType getResolvableType() {
+        var object = ResolvableType.forClass(Object.class);
+        return ResolvableType.forClassWithGenerics(AfterCommitHooks.class, ResolvableType.forClass(entityClass), object, object);
+    }
+
+    /**
+     * Runs the action once the current transaction commits, or immediately if no transaction synchronization is
+     * active.
+     *
+     * @param action the action
+     */
+    protected void afterCommit(Runnable action) {
+        afterCommit(null, action);
+    }
+
+    /**
+     * Runs the action once the current transaction commits, or immediately if no transaction synchronization is
+     * active. Actions scheduled with the same key in a transaction run only once.
+     *
+     * @param key    identifies the action within the transaction, or {@code null} to always schedule it
+     * @param action the action
+     */
+    protected void afterCommit(Object key, Runnable action) {
+        Objects.requireNonNull(action, "Action cannot be null");
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            run(action);
+            return;
+        }
+        if (key != null) {
+            if (TransactionSynchronizationManager.hasResource(key)) {
+                return;
+            }
+            TransactionSynchronizationManager.bindResource(key, Boolean.TRUE);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                run(action);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (key != null) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(key);
+                }
+            }
+        });
+    }
+
+    /**
+     * Handles an action that failed after the commit, e.g. by logging it.
+     *
+     * @param e the failure
+     */
+    protected abstract void onFailure(RuntimeException e);
+
+    private void run(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            onFailure(e);
+        }
+    }
+}
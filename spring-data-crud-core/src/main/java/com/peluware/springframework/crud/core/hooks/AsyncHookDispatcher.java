@@ -0,0 +1,304 @@
+package com.peluware.springframework.crud.core.hooks;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.function.BiConsumer;
+
+/**
+ * Dispatches after-write hooks asynchronously, once the surrounding transaction has committed.
+ * <p>
+ * When a {@link com.peluware.springframework.crud.core.WriteService} returns a dispatcher from
+ * {@code getAsyncHookDispatcher()}, its {@code onAfterCreate}, {@code onAfterUpdate} and {@code onAfterDelete}
+ * hooks are no longer executed on the request thread inside the transaction: they are registered through
+ * {@link TransactionSynchronization#afterCommit()} and executed on this dispatcher, so slow side effects
+ * (search indexing, notifications) neither delay the write nor hold a database connection. Hooks of
+ * rolled-back transactions are never executed. Without an active transaction, hooks are queued immediately.
+ * </p>
+ * <p>
+ * Hooks are spread over {@code lanes} single-threaded lanes by entity id, so hooks of the same entity always run
+ * in submission order. Each lane has a bounded queue; when it is full the {@link OverflowPolicy} decides what
+ * happens. Counters for dispatch latency, queue depth, failures and discarded hooks are available through
+ * {@link #getStats()} and published to Micrometer by
+ * {@link com.peluware.springframework.crud.core.metrics.micrometer.AsyncHookDispatcherMetrics}. {@link #close()}
+ * stops accepting hooks and drains the queued ones.
+ * </p>
+ * <p>
+ * Hooks run on the lane threads, not on the caller's: the Spring Security {@code SecurityContext}, the SLF4J MDC and
+ * any other thread-bound state of the request are not available, so hooks needing the caller must capture it in the
+ * entity or DTO. Hooks also run after the transaction has completed, so the entity they receive is detached from
+ * the session that wrote it: lazy associations that were not loaded cannot be initialized, and changes made to the
+ * entity are not persisted unless the hook writes them in a transaction of its own.
+ * </p>
+ */
+@Slf4j
+public class AsyncHookDispatcher implements AutoCloseable {
+
+    /**
+     * What to do with a hook when the queue of its lane is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Wait until the lane has room for the hook. Preserves every hook and its ordering, except for hooks still
+         * waiting when the dispatcher is closed, which are discarded.
+         */
+        BLOCK,
+        /**
+         * Run the hook on the committing thread. Preserves every hook, but not its ordering.
+         */
+        CALLER_RUNS,
+        /**
+         * Drop the hook and count it as discarded.
+         */
+        DISCARD
+    }
+
+    /**
+     * Snapshot of the dispatcher counters.
+     *
+     * @param queueDepth          number of hooks currently queued
+     * @param dispatched          number of hooks handed over to the dispatcher
+     * @param completed           number of hooks completed successfully
+     * @param failed              number of hooks that threw an exception
+     * @param discarded           number of hooks dropped by {@link OverflowPolicy#DISCARD} or after close
+     * @param totalLatencyNanos   accumulated time between commit and hook start
+     * @param maxLatencyNanos     highest time between commit and hook start
+     */
+    public record Stats(
+            int queueDepth,
+            long dispatched,
+            long completed,
+            long failed,
+            long discarded,
+            long totalLatencyNanos,
+            long maxLatencyNanos
+    ) {
+
+        /**
+         * Returns the mean time between commit and hook start.
+         *
+         * @return the mean dispatch latency
+         */
+        public Duration meanLatency() {
+            var started = completed + failed;
+            return Duration.ofNanos(started == 0 ? 0 : totalLatencyNanos / started);
+        }
+    }
+
+    private final ThreadPoolExecutor[] lanes;
+    private final OverflowPolicy overflowPolicy;
+
+    private final AtomicLong dispatched = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong discarded = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+
+    private volatile BiConsumer<Object, RuntimeException> errorHandler = (id, e) -> log.error("Async hook for id {} failed", id, e);
+    private volatile Duration drainTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Creates a new dispatcher.
+     *
+     * @param lanes          number of single-threaded lanes, i.e. maximum hooks executing concurrently
+     * @param queueCapacity  maximum number of hooks queued per lane
+     * @param overflowPolicy what to do with a hook when its lane queue is full
+     */
+    public AsyncHookDispatcher(int lanes, int queueCapacity, OverflowPolicy overflowPolicy) {
+        if (lanes < 1) {
+            throw new IllegalArgumentException("Lanes must be greater than zero");
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be greater than zero");
+        }
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy, "Overflow policy cannot be null");
+        this.lanes = new ThreadPoolExecutor[lanes];
+        for (var i = 0; i < lanes; i++) {
+            var lane = new ThreadPoolExecutor(
+                    1, 1, 0, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    Thread.ofPlatform().name("crud-hooks-" + i).daemon(true).factory()
+            );
+            lane.setRejectedExecutionHandler(this::rejected);
+            this.lanes[i] = lane;
+        }
+    }
+
+    /**
+     * Runs the given hook through the dispatcher if one is configured, or immediately otherwise.
+     *
+     * @param dispatcher the dispatcher, may be {@code null}
+     * @param id         the entity id, used to order hooks of the same entity
+     * @param hook       the hook invocation
+     */
+    public static void invoke(AsyncHookDispatcher dispatcher, Object id, Runnable hook) {
+        if (dispatcher == null) {
+            hook.run();
+        } else {
+            dispatcher.dispatchAfterCommit(id, hook);
+        }
+    }
+
+    /**
+     * Sets the handler notified when a hook throws. Defaults to logging the error.
+     *
+     * @param errorHandler handler receiving the entity id and the failure
+     * @return this dispatcher
+     */
+    public AsyncHookDispatcher errorHandler(BiConsumer<Object, RuntimeException> errorHandler) {
+        this.errorHandler = Objects.requireNonNull(errorHandler, "Error handler cannot be null");
+        return this;
+    }
+
+    /**
+     * Sets how long {@link #close()} waits for queued hooks to complete.
+     *
+     * @param drainTimeout maximum time to drain on close
+     * @return this dispatcher
+     */
+    public AsyncHookDispatcher drainTimeout(Duration drainTimeout) {
+        this.drainTimeout = Objects.requireNonNull(drainTimeout, "Drain timeout cannot be null");
+        return this;
+    }
+
+    /**
+     * Queues the hook once the current transaction commits, or immediately if no transaction
+     * synchronization is active. Hooks of a transaction that rolls back are dropped.
+     *
+     * @param id   the entity id, used to order hooks of the same entity
+     * @param hook the hook invocation
+     */
+    public void dispatchAfterCommit(Object id, Runnable hook) {
+        Objects.requireNonNull(hook, "Hook cannot be null");
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(id, hook);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(id, hook);
+            }
+        });
+    }
+
+    /**
+     * Queues the hook immediately on the lane of the given id.
+     *
+     * @param id   the entity id, used to order hooks of the same entity
+     * @param hook the hook invocation
+     */
+    public void dispatch(Object id, Runnable hook) {
+        Objects.requireNonNull(hook, "Hook cannot be null");
+        dispatched.incrementAndGet();
+        var lane = lanes[Math.floorMod(Objects.hashCode(id), lanes.length)];
+        lane.execute(new HookTask(id, hook, System.nanoTime()));
+    }
+
+    /**
+     * Returns a snapshot of the dispatcher counters.
+     *
+     * @return the current statistics
+     */
+    public Stats getStats() {
+        var queueDepth = 0;
+        for (var lane : lanes) {
+            queueDepth += lane.getQueue().size();
+        }
+        return new Stats(
+                queueDepth,
+                dispatched.get(),
+                completed.get(),
+                failed.get(),
+                discarded.get(),
+                totalLatencyNanos.get(),
+                maxLatencyNanos.get()
+        );
+    }
+
+    /**
+     * Stops accepting hooks and waits, up to the drain timeout, until every queued hook has been executed.
+     * Hooks dispatched after close are discarded.
+     */
+    @Override
+    public void close() {
+        for (var lane : lanes) {
+            lane.shutdown();
+        }
+        var deadline = System.nanoTime() + drainTimeout.toNanos();
+        try {
+            for (var lane : lanes) {
+                if (!lane.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    log.warn("Async hook dispatcher did not drain in time, {} hooks pending", lane.getQueue().size());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void rejected(Runnable task, ThreadPoolExecutor lane) {
+        if (lane.isShutdown()) {
+            discarded.incrementAndGet();
+            log.warn("Async hook dispatcher is closed, discarding hook");
+            return;
+        }
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    lane.getQueue().put(task);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RejectedExecutionException("Interrupted while waiting for hook queue capacity", e);
+                }
+                // the lane may have been closed while waiting, and its thread may have exited after draining
+                if (lane.isShutdown() && lane.getQueue().remove(task)) {
+                    discarded.incrementAndGet();
+                    log.warn("Async hook dispatcher is closed, discarding hook");
+                }
+            }
+            case CALLER_RUNS -> task.run();
+            case DISCARD -> {
+                discarded.incrementAndGet();
+                log.warn("Async hook queue is full, discarding hook");
+            }
+        }
+    }
+
+    private final class HookTask implements Runnable {
+
+        private final Object id;
+        private final Runnable hook;
+        private final long queuedAt;
+
+        private HookTask(Object id, Runnable hook, long queuedAt) {
+            this.id = id;
+            this.hook = hook;
+            this.queuedAt = queuedAt;
+        }
+
+        @Override
+        public void run() {
+            var latency = System.nanoTime() - queuedAt;
+            totalLatencyNanos.addAndGet(latency);
+            maxLatencyNanos.accumulate(latency);
+            try {
+                hook.run();
+                completed.incrementAndGet();
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                errorHandler.accept(id, e);
+            }
+        }
+    }
+}
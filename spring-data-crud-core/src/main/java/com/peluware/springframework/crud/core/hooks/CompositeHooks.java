@@ -0,0 +1,112 @@
+package com.peluware.springframework.crud.core.hooks;
+
+import com.peluware.springframework.crud.core.metrics.jfr.CrudHookEvent;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Persistable;
+import org.springframework.util.ClassUtils;
+
+import java.util.function.Consumer;
+
+/**
+ * Flat, ordered chain of hooks compiled by {@link HookRegistry}.
+ * <p>
+ * Each callback iterates over a plain array. The registry creates a chain whenever hooks apply, so that every hook
+ * invocation emits its own {@link CrudHookEvent} while a Flight Recorder recording enables it, and is timed when
+ * profiling is enabled. Otherwise the hooks are invoked directly.
+ * </p>
+ */
+final class CompositeHooks<E extends Persistable<ID>, D, ID> implements CrudHooks<E, D, ID> {
+
+    private final ReadHooks<E, ID>[] readHooks;
+    private final WriteHooks<E, D, ID>[] writeHooks;
+    private final String entity;
+    private final HookTimings timings;
+
+    CompositeHooks(Class<?> entityClass, ReadHooks<E, ID>[] readHooks, WriteHooks<E, D, ID>[] writeHooks, HookTimings timings) {
+        this.entity = entityClass.getSimpleName();
+        this.readHooks = readHooks;
+        this.writeHooks = writeHooks;
+        this.timings = timings;
+    }
+
+    @Override
+    public void onFind(E entity) {
+        each(readHooks, "onFind", hook -> hook.onFind(entity));
+    }
+
+    @Override
+    public void onFind(Iterable<E> entities, Iterable<ID> ids) {
+        each(readHooks, "onFind", hook -> hook.onFind(entities, ids));
+    }
+
+    @Override
+    public void onCount(long count) {
+        each(readHooks, "onCount", hook -> hook.onCount(count));
+    }
+
+    @Override
+    public void onExists(boolean exists, ID id) {
+        each(readHooks, "onExists", hook -> hook.onExists(exists, id));
+    }
+
+    @Override
+    public void onPage(Page<E> page) {
+        each(readHooks, "onPage", hook -> hook.onPage(page));
+    }
+
+    @Override
+    public void onBeforeCreate(D dto, E entity) {
+        each(writeHooks, "onBeforeCreate", hook -> hook.onBeforeCreate(dto, entity));
+    }
+
+    @Override
+    public void onBeforeUpdate(D dto, E entity) {
+        each(writeHooks, "onBeforeUpdate", hook -> hook.onBeforeUpdate(dto, entity));
+    }
+
+    @Override
+    public void onBeforeDelete(E entity) {
+        each(writeHooks, "onBeforeDelete", hook -> hook.onBeforeDelete(entity));
+    }
+
+    @Override
+    public void onAfterCreate(D dto, E entity) {
+        each(writeHooks, "onAfterCreate", hook -> hook.onAfterCreate(dto, entity));
+    }
+
+    @Override
+    public void onAfterUpdate(D dto, E entity) {
+        each(writeHooks, "onAfterUpdate", hook -> hook.onAfterUpdate(dto, entity));
+    }
+
+    @Override
+    public void onAfterDelete(E entity) {
+        each(writeHooks, "onAfterDelete", hook -> hook.onAfterDelete(entity));
+    }
+
+    private <H> void each(H[] hooks, String method, Consumer<H> invocation) {
+        for (var hook : hooks) {
+            var event = new CrudHookEvent();
+            if (timings == null && !event.isEnabled()) {
+                invocation.accept(hook);
+                continue;
+            }
+            event.begin();
+            var start = System.nanoTime();
+            try {
+                invocation.accept(hook);
+            } finally {
+                if (timings != null) {
+                    timings.record(hook, method, System.nanoTime() - start);
+                }
+                event.end();
+                if (event.shouldCommit()) {
+                    event.entity = entity;
+                    event.hook = ClassUtils.getUserClass(hook).getName();
+                    event.method = method;
+                    event.commit();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.peluware.springframework.crud.core.hooks;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.Persistable;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+/**
+ * Registry of hook beans, compiled into flat per-entity chains.
+ * <p>
+ * Every {@link ReadHooks}, {@link WriteHooks} and {@link CrudHooks} bean in the context is discovered once all
+ * singletons are instantiated, ordered by {@link org.springframework.core.annotation.Order @Order} /
+ * {@link org.springframework.core.Ordered}, and matched to entity types through its generic signature: a hook
+ * declared for {@code ReadHooks<Customer, Long>} applies to {@code Customer} (and its subclasses). A hook whose
+ * entity type cannot be resolved (a raw type, a lambda, or a type variable left open, which only resolves to
+ * {@link Persistable}) is skipped with a warning; a hook shared by several entities must declare their common base
+ * class. Generic hooks bound to an entity at runtime can expose it through
+ * {@link org.springframework.core.ResolvableTypeProvider}.
+ * </p>
+ * <p>
+ * Services use it from {@code getHooks()}, e.g. {@code return hookRegistry.getCrudHooks(getEntityClass());}.
+ * Chains are compiled once per entity type: without listeners the shared no-op hooks are returned, otherwise the
+ * listeners are combined into one array-backed chain, which emits a
+ * {@link com.peluware.springframework.crud.core.metrics.jfr.CrudHookEvent} per hook invocation. When profiling is
+ * enabled, every hook invocation is also timed into {@link #getTimings()}.
+ * </p>
+ */
+@Slf4j
+public class HookRegistry implements SmartInitializingSingleton {
+
+    private final ObjectProvider<ReadHooks<?, ?>> readHooksProvider;
+    private final ObjectProvider<WriteHooks<?, ?, ?>> writeHooksProvider;
+    private final HookTimings timings;
+
+    private final Map<Class<?>, Chain> chains = new ConcurrentHashMap<>();
+    private volatile List<Registration<ReadHooks<?, ?>>> readHooks = List.of();
+    private volatile List<Registration<WriteHooks<?, ?, ?>>> writeHooks = List.of();
+
+    /**
+     * Creates a new registry.
+     *
+     * @param readHooksProvider  provider of the read (and CRUD) hook beans
+     * @param writeHooksProvider provider of the write (and CRUD) hook beans
+     * @param profiling          whether hook invocations should be timed
+     */
+    public HookRegistry(
+            ObjectProvider<ReadHooks<?, ?>> readHooksProvider,
+            ObjectProvider<WriteHooks<?, ?, ?>> writeHooksProvider,
+            boolean profiling
+    ) {
+        this.readHooksProvider = readHooksProvider;
+        this.writeHooksProvider = writeHooksProvider;
+        this.timings = profiling ? new HookTimings() : null;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        readHooks = register(readHooksProvider, ReadHooks.class);
+        writeHooks = register(writeHooksProvider, WriteHooks.class);
+        chains.clear();
+    }
+
+    /**
+     * Returns the read hooks registered for the given entity type.
+     *
+     * @param entityClass the entity class
+     * @param <E>         the entity type
+     * @param <ID>        the identifier type
+     * @return the compiled read hooks, never {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public <E extends Persistable<ID>, ID> ReadHooks<E, ID> getReadHooks(Class<E> entityClass) {
+        return (ReadHooks<E, ID>) chain(entityClass).read();
+    }
+
+    /**
+     * Returns the write hooks registered for the given entity type.
+     *
+     * @param entityClass the entity class
+     * @param <E>         the entity type
+     * @param <D>         the DTO type
+     * @param <ID>        the identifier type
+     * @return the compiled write hooks, never {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public <E extends Persistable<ID>, D, ID> WriteHooks<E, D, ID> getWriteHooks(Class<E> entityClass) {
+        return (WriteHooks<E, D, ID>) chain(entityClass).write();
+    }
+
+    /**
+     * Returns the read and write hooks registered for the given entity type, as a single {@link CrudHooks}.
+     *
+     * @param entityClass the entity class
+     * @param <E>         the entity type
+     * @param <D>         the DTO type
+     * @param <ID>        the identifier type
+     * @return the compiled CRUD hooks, never {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public <E extends Persistable<ID>, D, ID> CrudHooks<E, D, ID> getCrudHooks(Class<E> entityClass) {
+        return (CrudHooks<E, D, ID>) chain(entityClass).crud();
+    }
+
+    /**
+     * Returns the collected hook timings.
+     *
+     * @return the timings per hook method, empty if profiling is disabled
+     */
+    public Map<String, HookTimings.Timing> getTimings() {
+        return timings == null ? Map.of() : timings.getTimings();
+    }
+
+    private Chain chain(Class<?> entityClass) {
+        return chains.computeIfAbsent(entityClass, this::compile);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Chain compile(Class<?> entityClass) {
+        var read = matching(readHooks, entityClass, ReadHooks[]::new);
+        var write = matching(writeHooks, entityClass, WriteHooks[]::new);
+        if (read.length == 0 && write.length == 0) {
+            return new Chain(ReadHooks.getDefault(), WriteHooks.getDefault(), CrudHooks.getDefault());
+        }
+
+        var composite = new CompositeHooks(entityClass, read, write, timings);
+        return new Chain(
+                read.length == 0 ? ReadHooks.getDefault() : composite,
+                write.length == 0 ? WriteHooks.getDefault() : composite,
+                composite
+        );
+    }
+
+    private static <H> H[] matching(List<Registration<H>> registrations, Class<?> entityClass, IntFunction<H[]> generator) {
+        return registrations.stream()
+                .filter(registration -> registration.entityType().isAssignableFrom(entityClass))
+                .map(Registration::hook)
+                .toArray(generator);
+    }
+
+    private static <H> List<Registration<H>> register(ObjectProvider<H> provider, Class<?> hookType) {
+        return provider.orderedStream()
+                .map(hook -> {
+                    var entityType = ResolvableType.forInstance(hook).as(hookType).getGeneric(0).resolve();
+                    if (entityType == null || entityType == Persistable.class) {
+                        log.warn("Skipping {} {}: its entity type cannot be resolved, declare it in the {} type arguments",
+                                hookType.getSimpleName(), ClassUtils.getUserClass(hook).getName(), hookType.getSimpleName());
+                        return null;
+                    }
+                    return new Registration<>(hook, entityType);
+                })
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private record Registration<H>(H hook, Class<?> entityType) {
+    }
+
+    private record Chain(ReadHooks<?, ?> read, WriteHooks<?, ?, ?> write, CrudHooks<?, ?, ?> crud) {
+    }
+}
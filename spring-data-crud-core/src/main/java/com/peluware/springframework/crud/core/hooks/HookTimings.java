@@ -0,0 +1,86 @@
+package com.peluware.springframework.crud.core.hooks;
+
+import org.springframework.util.ClassUtils;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-hook execution timings collected by the chains compiled by {@link HookRegistry} when profiling is enabled.
+ * <p>
+ * Timings are keyed by {@code <hook class>#<hook method>}, with the fully qualified name of the user class (not of a
+ * proxy), e.g. {@code com.example.AuditHooks#onAfterUpdate}.
+ * </p>
+ */
+public class HookTimings {
+
+    /**
+     * Aggregated timing of a single hook method.
+     *
+     * @param invocations number of invocations
+     * @param totalNanos  accumulated execution time
+     * @param maxNanos    highest execution time
+     */
+    public record Timing(long invocations, long totalNanos, long maxNanos) {
+
+        /**
+         * Returns the mean execution time in nanoseconds.
+         *
+         * @return the mean execution time, or {@code 0} if the hook was never invoked
+         */
+        public long meanNanos() {
+            return invocations == 0 ? 0 : totalNanos / invocations;
+        }
+    }
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Records one execution of a hook method.
+     *
+     * @param hook   the hook instance
+     * @param method the hook method name
+     * @param nanos  the execution time
+     */
+    public void record(Object hook, String method, long nanos) {
+        counters.computeIfAbsent(ClassUtils.getUserClass(hook).getName() + "#" + method, key -> new Counter()).add(nanos);
+    }
+
+    /**
+     * Returns a snapshot of the collected timings, sorted by key.
+     *
+     * @return the timings per hook method
+     */
+    public Map<String, Timing> getTimings() {
+        var snapshot = new TreeMap<String, Timing>();
+        counters.forEach((key, counter) -> snapshot.put(key, counter.toTiming()));
+        return snapshot;
+    }
+
+    /**
+     * Clears every collected timing.
+     */
+    public void reset() {
+        counters.clear();
+    }
+
+    private static final class Counter {
+
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private void add(long nanos) {
+            invocations.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        private Timing toTiming() {
+            return new Timing(invocations.sum(), totalNanos.sum(), maxNanos.get());
+        }
+    }
+}
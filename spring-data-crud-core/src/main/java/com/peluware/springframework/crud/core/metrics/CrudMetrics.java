@@ -0,0 +1,333 @@
+package com.peluware.springframework.crud.core.metrics;
+
+import com.peluware.springframework.crud.core.CrudOperation;
+import com.peluware.springframework.crud.core.metrics.jfr.CrudExportChunkEvent;
+import com.peluware.springframework.crud.core.metrics.jfr.CrudOperationEvent;
+import com.peluware.springframework.crud.core.metrics.jfr.CrudQueryEvent;
+import com.peluware.springframework.crud.core.providers.EntityClassProvider;
+import cz.jirutka.rsql.parser.ast.Node;
+import jdk.jfr.Event;
+import lombok.experimental.UtilityClass;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collection;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Entry point of the CRUD instrumentation.
+ * <p>
+ * The default methods of the CRUD services wrap each operation in {@link #observe(Object, CrudOperation, Supplier)}
+ * and its phases (content and count queries, {@code mapModel}, hooks) in {@link #phase(CrudPhase, Supplier)}.
+ * Measurements are forwarded to the installed {@link CrudMetricsRecorder}, which is auto-configured when
+ * Micrometer is present, and emitted as JDK Flight Recorder events (see the {@code jfr} package) while a recording
+ * enables them. Events only above their threshold are recorded by default. Without a recorder and a recording every
+ * method simply runs the given action.
+ * </p>
+ * <p>
+ * Phases are attributed to the operation observed on the current thread, so implementations can time their own
+ * queries without knowing the entity or operation; phases outside an observed operation are not recorded.
+ * </p>
+ */
+@UtilityClass
+public class CrudMetrics {
+
+    private static final int MAX_QUERY_LENGTH = 256;
+
+    private static final ThreadLocal<Observation> CURRENT = new ThreadLocal<>();
+
+    private static final ClassValue<String> BACKENDS = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            for (var candidate : ClassUtils.getAllInterfacesForClassAsSet(type)) {
+                var name = candidate.getName();
+                if (name.startsWith("com.peluware.springframework.crud.jpa.")) {
+                    return "jpa";
+                }
+                if (name.startsWith("com.peluware.springframework.crud.mongo.")) {
+                    return "mongo";
+                }
+            }
+            return "other";
+        }
+    };
+
+    private static volatile CrudMetricsRecorder recorder;
+
+    /**
+     * Installs the recorder receiving every measurement.
+     *
+     * @param metricsRecorder the recorder
+     */
+    public static void install(CrudMetricsRecorder metricsRecorder) {
+        recorder = metricsRecorder;
+    }
+
+    /**
+     * Uninstalls the given recorder, if it is the installed one.
+     *
+     * @param metricsRecorder the recorder
+     */
+    public static void uninstall(CrudMetricsRecorder metricsRecorder) {
+        if (recorder == metricsRecorder) {
+            recorder = null;
+        }
+    }
+
+    /**
+     * Returns whether a recorder is installed.
+     *
+     * @return {@code true} if measurements are recorded
+     */
+    public static boolean isEnabled() {
+        return recorder != null;
+    }
+
+    /**
+     * Runs a whole CRUD operation of the given service and records its duration and outcome.
+     *
+     * @param service   the CRUD service executing the operation
+     * @param operation the CRUD operation
+     * @param action    the operation
+     * @param <T>       the result type
+     * @return the result of the action
+     */
+    public static <T> T observe(Object service, CrudOperation operation, Supplier<T> action) {
+        var metricsRecorder = recorder;
+        var event = new CrudOperationEvent();
+        if (metricsRecorder == null && !event.isEnabled()) {
+            return action.get();
+        }
+
+        var observation = new Observation(new CrudMetricsTags(entity(service), BACKENDS.get(service.getClass()), operation));
+        var previous = CURRENT.get();
+        CURRENT.set(observation);
+        event.begin();
+        var start = System.nanoTime();
+        Throwable error = null;
+        try {
+            return action.get();
+        } catch (RuntimeException | Error e) {
+            error = e;
+            throw e;
+        } finally {
+            var nanos = System.nanoTime() - start;
+            event.end();
+            if (metricsRecorder != null) {
+                metricsRecorder.recordOperation(observation.tags, nanos, error);
+            }
+            if (event.shouldCommit()) {
+                event.entity = observation.tags.entity();
+                event.operation = operation.name();
+                event.backend = observation.tags.backend();
+                event.query = observation.query;
+                event.rowCount = observation.rowCount;
+                event.outcome = error == null ? "success" : error.getClass().getSimpleName();
+                event.commit();
+            }
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Runs a whole CRUD operation of the given service and records its duration and outcome.
+     *
+     * @param service   the CRUD service executing the operation
+     * @param operation the CRUD operation
+     * @param action    the operation
+     */
+    public static void observe(Object service, CrudOperation operation, Runnable action) {
+        observe(service, operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs a phase of the operation observed on the current thread and records its duration.
+     *
+     * @param phase  the phase
+     * @param action the phase
+     * @param <T>    the result type
+     * @return the result of the action
+     */
+    public static <T> T phase(CrudPhase phase, Supplier<T> action) {
+        var observation = CURRENT.get();
+        if (observation == null) {
+            return action.get();
+        }
+
+        var metricsRecorder = recorder;
+        var event = newEvent(phase);
+        if (metricsRecorder == null && (event == null || !event.isEnabled())) {
+            return action.get();
+        }
+
+        if (event != null) {
+            event.begin();
+        }
+        var start = System.nanoTime();
+        Throwable error = null;
+        T result = null;
+        try {
+            result = action.get();
+            return result;
+        } catch (RuntimeException | Error e) {
+            error = e;
+            throw e;
+        } finally {
+            var nanos = System.nanoTime() - start;
+            if (metricsRecorder != null) {
+                metricsRecorder.recordPhase(observation.tags, phase, nanos, error);
+            }
+            if (event != null) {
+                event.end();
+                if (event.shouldCommit()) {
+                    commit(event, observation, phase, result);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs a phase of the operation observed on the current thread and records its duration.
+     *
+     * @param phase  the phase
+     * @param action the phase
+     */
+    public static void phase(CrudPhase phase, Runnable action) {
+        phase(phase, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs the loading and consumption of a chunk of a streamed export, emitting a {@link CrudExportChunkEvent}.
+     *
+     * @param offset the index of the first row of the chunk
+     * @param action loads and consumes the chunk, returning its number of rows
+     * @return the number of rows of the chunk
+     */
+    public static int exportChunk(long offset, IntSupplier action) {
+        var event = new CrudExportChunkEvent();
+        if (!event.isEnabled()) {
+            return action.getAsInt();
+        }
+
+        event.begin();
+        var rows = action.getAsInt();
+        event.end();
+        if (event.shouldCommit()) {
+            var observation = CURRENT.get();
+            event.entity = observation == null ? null : observation.tags.entity();
+            event.query = observation == null ? null : observation.query;
+            event.offset = offset;
+            event.rowCount = rows;
+            event.commit();
+        }
+        return rows;
+    }
+
+    /**
+     * Attaches the search text and RSQL query to the operation observed on the current thread,
+     * so that they are reported by the Flight Recorder events.
+     *
+     * @param search the search text, may be {@code null}
+     * @param query  the RSQL query, may be {@code null}
+     */
+    public static void describeQuery(String search, Node query) {
+        var observation = CURRENT.get();
+        if (observation == null || (search == null && query == null)) {
+            return;
+        }
+        var description = query == null
+                ? "search=" + search
+                : search == null ? "query=" + query : "search=" + search + ", query=" + query;
+        observation.query = description.length() > MAX_QUERY_LENGTH
+                ? description.substring(0, MAX_QUERY_LENGTH - 3) + "..."
+                : description;
+    }
+
+    /**
+     * Records the requested page size of the operation observed on the current thread.
+     *
+     * @param size the requested page size
+     */
+    public static void recordPageSize(int size) {
+        var metricsRecorder = recorder;
+        var observation = metricsRecorder == null ? null : CURRENT.get();
+        if (observation != null) {
+            metricsRecorder.recordPageSize(observation.tags, size);
+        }
+    }
+
+    /**
+     * Records the number of entities returned by the operation observed on the current thread.
+     *
+     * @param count the number of entities
+     */
+    public static void recordResultCount(long count) {
+        var observation = CURRENT.get();
+        if (observation == null) {
+            return;
+        }
+        observation.rowCount = count;
+        var metricsRecorder = recorder;
+        if (metricsRecorder != null) {
+            metricsRecorder.recordResultCount(observation.tags, count);
+        }
+    }
+
+    private static Event newEvent(CrudPhase phase) {
+        return switch (phase) {
+            case CONTENT_QUERY, COUNT_QUERY -> new CrudQueryEvent();
+            // hook events are emitted per hook by the hook chains
+            case HOOKS, MAP_MODEL -> null;
+        };
+    }
+
+    private static void commit(Event event, Observation observation, CrudPhase phase, Object result) {
+        var tags = observation.tags;
+        if (event instanceof CrudQueryEvent queryEvent) {
+            queryEvent.entity = tags.entity();
+            queryEvent.operation = tags.operation().name();
+            queryEvent.phase = phase.getTagValue();
+            queryEvent.query = observation.query;
+            queryEvent.rowCount = rowCount(result);
+        }
+        event.commit();
+    }
+
+    private static long rowCount(Object result) {
+        return switch (result) {
+            case Collection<?> collection -> collection.size();
+            case Number number -> number.longValue();
+            case Boolean exists -> exists ? 1 : 0;
+            case null -> -1;
+            default -> 1;
+        };
+    }
+
+    private static String entity(Object service) {
+        if (service instanceof EntityClassProvider<?> entityClassProvider) {
+            return entityClassProvider.getEntityClass().getSimpleName();
+        }
+        return ClassUtils.getUserClass(service).getSimpleName();
+    }
+
+    private static final class Observation {
+
+        private final CrudMetricsTags tags;
+        private String query;
+        private long rowCount = -1;
+
+        private Observation(CrudMetricsTags tags) {
+            this.tags = tags;
+        }
+    }
+}
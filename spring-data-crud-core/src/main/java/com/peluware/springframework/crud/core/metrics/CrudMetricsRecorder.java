@@ -0,0 +1,46 @@
+package com.peluware.springframework.crud.core.metrics;
+
+/**
+ * Receives the measurements taken by {@link CrudMetrics}.
+ * <p>
+ * Implementations bridge to a metrics library, e.g.
+ * {@link com.peluware.springframework.crud.core.metrics.micrometer.MicrometerCrudMetricsRecorder}.
+ * </p>
+ */
+public interface CrudMetricsRecorder {
+
+    /**
+     * Records the execution of a whole CRUD operation.
+     *
+     * @param tags  the operation dimensions
+     * @param nanos the execution time
+     * @param error the failure, or {@code null} if the operation succeeded
+     */
+    void recordOperation(CrudMetricsTags tags, long nanos, Throwable error);
+
+    /**
+     * Records the execution of a phase of a CRUD operation.
+     *
+     * @param tags  the operation dimensions
+     * @param phase the phase
+     * @param nanos the execution time
+     * @param error the failure, or {@code null} if the phase succeeded
+     */
+    void recordPhase(CrudMetricsTags tags, CrudPhase phase, long nanos, Throwable error);
+
+    /**
+     * Records the requested page size of a page operation.
+     *
+     * @param tags the operation dimensions
+     * @param size the requested page size
+     */
+    void recordPageSize(CrudMetricsTags tags, int size);
+
+    /**
+     * Records the number of entities returned by an operation.
+     *
+     * @param tags  the operation dimensions
+     * @param count the number of entities
+     */
+    void recordResultCount(CrudMetricsTags tags, long count);
+}
@@ -0,0 +1,13 @@
+package com.peluware.springframework.crud.core.metrics;
+
+import com.peluware.springframework.crud.core.CrudOperation;
+
+/**
+ * Dimensions of a CRUD operation being observed.
+ *
+ * @param entity    simple name of the entity class
+ * @param backend   the persistence backend ({@code jpa}, {@code mongo} or {@code other})
+ * @param operation the CRUD operation
+ */
+public record CrudMetricsTags(String entity, String backend, CrudOperation operation) {
+}
@@ -0,0 +1,42 @@
+package com.peluware.springframework.crud.core.metrics;
+
+/**
+ * Phases of a CRUD operation that are timed separately by {@link CrudMetrics}.
+ */
+public enum CrudPhase {
+
+    /**
+     * Query loading the entities (page content, find by id or ids, exists).
+     */
+    CONTENT_QUERY("content_query"),
+
+    /**
+     * Query counting the entities (page total, count).
+     */
+    COUNT_QUERY("count_query"),
+
+    /**
+     * Mapping of a DTO onto an entity.
+     */
+    MAP_MODEL("map_model"),
+
+    /**
+     * Execution of the service hooks.
+     */
+    HOOKS("hooks");
+
+    private final String tagValue;
+
+    CrudPhase(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    /**
+     * Returns the value used to tag metrics of this phase.
+     *
+     * @return the tag value
+     */
+    public String getTagValue() {
+        return tagValue;
+    }
+}
@@ -0,0 +1,35 @@
+package com.peluware.springframework.crud.core.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event emitted for each exported chunk slower than the threshold (50 ms by default),
+ * covering both the chunk query and its consumption.
+ */
+@Name("com.peluware.crud.ExportChunk")
+@Label("CRUD Export Chunk")
+@Category("Spring Data CRUD")
+@Description("Loading and consumption of a chunk of a streamed export")
+@Threshold("50 ms")
+@StackTrace(false)
+public class CrudExportChunkEvent extends Event {
+
+    @Label("Entity")
+    public String entity;
+
+    @Label("Query")
+    @Description("Search text and RSQL query, truncated")
+    public String query;
+
+    @Label("Offset")
+    public long offset;
+
+    @Label("Row Count")
+    public long rowCount;
+}
@@ -0,0 +1,38 @@
+package com.peluware.springframework.crud.core.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event emitted for each hook invocation slower than the threshold (5 ms by default).
+ * <p>
+ * Events are emitted by the hook chains of {@link com.peluware.springframework.crud.core.hooks.HookRegistry}, one per
+ * hook and callback, on the thread running the hook: hooks dispatched by an
+ * {@link com.peluware.springframework.crud.core.hooks.AsyncHookDispatcher} are timed when they run on its lanes, not
+ * when they are queued.
+ * </p>
+ */
+@Name("com.peluware.crud.Hook")
+@Label("CRUD Hook")
+@Category("Spring Data CRUD")
+@Description("Invocation of a hook of a CRUD operation")
+@Threshold("5 ms")
+@StackTrace(false)
+public class CrudHookEvent extends Event {
+
+    @Label("Entity")
+    public String entity;
+
+    @Label("Hook")
+    @Description("Class of the hook")
+    public String hook;
+
+    @Label("Method")
+    @Description("Hook callback, e.g. onAfterUpdate")
+    public String method;
+}
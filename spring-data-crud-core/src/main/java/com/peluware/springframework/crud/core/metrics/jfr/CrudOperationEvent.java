@@ -0,0 +1,41 @@
+package com.peluware.springframework.crud.core.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event emitted for each CRUD service operation slower than the threshold (20 ms by default).
+ */
+@Name("com.peluware.crud.Operation")
+@Label("CRUD Operation")
+@Category("Spring Data CRUD")
+@Description("Execution of a CRUD service operation")
+@Threshold("20 ms")
+@StackTrace(false)
+public class CrudOperationEvent extends Event {
+
+    @Label("Entity")
+    public String entity;
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Backend")
+    public String backend;
+
+    @Label("Query")
+    @Description("Search text and RSQL query, truncated")
+    public String query;
+
+    @Label("Row Count")
+    @Description("Number of entities returned, or -1 if unknown")
+    public long rowCount;
+
+    @Label("Outcome")
+    public String outcome;
+}
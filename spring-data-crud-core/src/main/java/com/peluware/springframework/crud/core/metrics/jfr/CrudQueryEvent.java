@@ -0,0 +1,38 @@
+package com.peluware.springframework.crud.core.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event emitted for each content or count query slower than the threshold (10 ms by default).
+ */
+@Name("com.peluware.crud.Query")
+@Label("CRUD Query")
+@Category("Spring Data CRUD")
+@Description("Execution of a content or count query of a CRUD operation")
+@Threshold("10 ms")
+@StackTrace(false)
+public class CrudQueryEvent extends Event {
+
+    @Label("Entity")
+    public String entity;
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Phase")
+    public String phase;
+
+    @Label("Query")
+    @Description("Search text and RSQL query, truncated")
+    public String query;
+
+    @Label("Row Count")
+    @Description("Number of entities loaded or counted, or -1 if unknown")
+    public long rowCount;
+}
@@ -0,0 +1,82 @@
+package com.peluware.springframework.crud.core.metrics.micrometer;
+
+import com.peluware.springframework.crud.core.hooks.AsyncHookDispatcher;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * {@link MeterBinder} publishing the counters of an {@link AsyncHookDispatcher} to a Micrometer {@link MeterRegistry}.
+ * <p>
+ * Meters are tagged with {@code dispatcher}, the name given to the binder:
+ * </p>
+ * <ul>
+ *     <li>{@code crud.hooks.queue.depth}: gauge of the hooks currently queued</li>
+ *     <li>{@code crud.hooks.latency}: timer of the time between commit and hook start</li>
+ *     <li>{@code crud.hooks.latency.max}: gauge of the highest time between commit and hook start</li>
+ *     <li>{@code crud.hooks}: counter of finished hooks, tagged with {@code outcome} ({@code success},
+ *     {@code error} or {@code discarded})</li>
+ * </ul>
+ * <p>
+ * Meters read {@link AsyncHookDispatcher#getStats()} when published, so dispatching hooks does not touch the
+ * registry. {@code CrudMetricsAutoConfiguration} binds every {@link AsyncHookDispatcher} bean under its bean name;
+ * dispatchers that are not beans can be bound with {@link #bindTo(MeterRegistry)}.
+ * </p>
+ */
+public class AsyncHookDispatcherMetrics implements MeterBinder {
+
+    public static final String QUEUE_DEPTH_GAUGE = "crud.hooks.queue.depth";
+    public static final String LATENCY_TIMER = "crud.hooks.latency";
+    public static final String MAX_LATENCY_GAUGE = "crud.hooks.latency.max";
+    public static final String HOOKS_COUNTER = "crud.hooks";
+
+    private final AsyncHookDispatcher dispatcher;
+    private final Tags tags;
+
+    public AsyncHookDispatcherMetrics(AsyncHookDispatcher dispatcher, String name) {
+        this.dispatcher = Objects.requireNonNull(dispatcher, "Dispatcher cannot be null");
+        this.tags = Tags.of("dispatcher", Objects.requireNonNull(name, "Name cannot be null"));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(QUEUE_DEPTH_GAUGE, dispatcher, d -> d.getStats().queueDepth())
+                .description("Number of async hooks waiting in the dispatcher queues")
+                .tags(tags)
+                .register(registry);
+        FunctionTimer.builder(LATENCY_TIMER, dispatcher,
+                        d -> started(d.getStats()),
+                        d -> d.getStats().totalLatencyNanos(),
+                        TimeUnit.NANOSECONDS)
+                .description("Time between commit and async hook start")
+                .tags(tags)
+                .register(registry);
+        TimeGauge.builder(MAX_LATENCY_GAUGE, dispatcher, TimeUnit.NANOSECONDS, d -> d.getStats().maxLatencyNanos())
+                .description("Highest time between commit and async hook start")
+                .tags(tags)
+                .register(registry);
+        counter(registry, "success", d -> d.getStats().completed());
+        counter(registry, "error", d -> d.getStats().failed());
+        counter(registry, "discarded", d -> d.getStats().discarded());
+    }
+
+    private void counter(MeterRegistry registry, String outcome, ToDoubleFunction<AsyncHookDispatcher> count) {
+        FunctionCounter.builder(HOOKS_COUNTER, dispatcher, count)
+                .description("Number of finished async hooks")
+                .tags(tags)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private static long started(AsyncHookDispatcher.Stats stats) {
+        return stats.completed() + stats.failed();
+    }
+}
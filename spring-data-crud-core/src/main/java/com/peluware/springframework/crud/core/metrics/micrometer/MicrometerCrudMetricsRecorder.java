@@ -0,0 +1,120 @@
+package com.peluware.springframework.crud.core.metrics.micrometer;
+
+import com.peluware.springframework.crud.core.metrics.CrudMetrics;
+import com.peluware.springframework.crud.core.metrics.CrudMetricsRecorder;
+import com.peluware.springframework.crud.core.metrics.CrudMetricsTags;
+import com.peluware.springframework.crud.core.metrics.CrudPhase;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CrudMetricsRecorder} publishing CRUD measurements to a Micrometer {@link MeterRegistry}.
+ * <p>
+ * Meters are tagged with {@code entity}, {@code operation} and {@code backend}; timers additionally with
+ * {@code outcome} ({@code success} or {@code error}) and {@code exception}:
+ * </p>
+ * <ul>
+ *     <li>{@code crud.operation}: timer of whole operations, including authorization and transaction handling</li>
+ *     <li>{@code crud.phase}: timer of operation phases, tagged with {@code phase}</li>
+ *     <li>{@code crud.page.size}: distribution summary of requested page sizes</li>
+ *     <li>{@code crud.result.count}: distribution summary of returned entities</li>
+ * </ul>
+ * <p>
+ * Meters are cached per tag combination, so recording does not rebuild them. Closing the recorder uninstalls it
+ * from {@link CrudMetrics}.
+ * </p>
+ */
+public class MicrometerCrudMetricsRecorder implements CrudMetricsRecorder, AutoCloseable {
+
+    public static final String OPERATION_TIMER = "crud.operation";
+    public static final String PHASE_TIMER = "crud.phase";
+    public static final String PAGE_SIZE_SUMMARY = "crud.page.size";
+    public static final String RESULT_COUNT_SUMMARY = "crud.result.count";
+
+    private final MeterRegistry registry;
+
+    private final Map<TimerKey, Timer> operationTimers = new ConcurrentHashMap<>();
+    private final Map<TimerKey, Timer> phaseTimers = new ConcurrentHashMap<>();
+    private final Map<CrudMetricsTags, DistributionSummary> pageSizes = new ConcurrentHashMap<>();
+    private final Map<CrudMetricsTags, DistributionSummary> resultCounts = new ConcurrentHashMap<>();
+
+    public MicrometerCrudMetricsRecorder(MeterRegistry registry) {
+        this.registry = Objects.requireNonNull(registry, "Meter registry cannot be null");
+    }
+
+    @Override
+    public void recordOperation(CrudMetricsTags tags, long nanos, Throwable error) {
+        var key = new TimerKey(tags, null, exception(error));
+        operationTimers.computeIfAbsent(key, k -> Timer.builder(OPERATION_TIMER)
+                .description("Duration of CRUD service operations")
+                .tags(timerTags(k))
+                .register(registry)
+        ).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordPhase(CrudMetricsTags tags, CrudPhase phase, long nanos, Throwable error) {
+        var key = new TimerKey(tags, phase, exception(error));
+        phaseTimers.computeIfAbsent(key, k -> Timer.builder(PHASE_TIMER)
+                .description("Duration of CRUD operation phases")
+                .tags(timerTags(k))
+                .tag("phase", phase.getTagValue())
+                .register(registry)
+        ).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordPageSize(CrudMetricsTags tags, int size) {
+        pageSizes.computeIfAbsent(tags, t -> DistributionSummary.builder(PAGE_SIZE_SUMMARY)
+                .description("Requested page size of CRUD page operations")
+                .tags(tags(t))
+                .register(registry)
+        ).record(size);
+    }
+
+    @Override
+    public void recordResultCount(CrudMetricsTags tags, long count) {
+        resultCounts.computeIfAbsent(tags, t -> DistributionSummary.builder(RESULT_COUNT_SUMMARY)
+                .description("Number of entities returned by CRUD operations")
+                .tags(tags(t))
+                .register(registry)
+        ).record(count);
+    }
+
+    /**
+     * Uninstalls this recorder from {@link CrudMetrics}.
+     */
+    @Override
+    public void close() {
+        CrudMetrics.uninstall(this);
+    }
+
+    private static Tags tags(CrudMetricsTags tags) {
+        return Tags.of(
+                "entity", tags.entity(),
+                "operation", tags.operation().name().toLowerCase(),
+                "backend", tags.backend()
+        );
+    }
+
+    private static Tags timerTags(TimerKey key) {
+        return tags(key.tags()).and(
+                "outcome", key.exception() == null ? "success" : "error",
+                "exception", key.exception() == null ? "none" : key.exception()
+        );
+    }
+
+    private static String exception(Throwable error) {
+        return error == null ? null : error.getClass().getSimpleName();
+    }
+
+    private record TimerKey(CrudMetricsTags tags, CrudPhase phase, String exception) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.peluware.springframework.crud.core.providers;
+
+import com.peluware.springframework.crud.core.async.AsyncCrudExecutor;
+
+/**
+ * Provides the executor used by the asynchronous variants of the CRUD service operations.
+ * <p>
+ * The default implementation returns the shared {@link AsyncCrudExecutor#getDefault() default executor}.
+ * Services backed by different data sources should override it to return an executor bounded by the
+ * connection pool of their own data source.
+ * </p>
+ */
+public interface AsyncExecutorProvider {
+
+    /**
+     * Returns the executor running asynchronous operations.
+     *
+     * @return the async executor, never {@code null}
+     */
+    default AsyncCrudExecutor getAsyncExecutor() {
+        return AsyncCrudExecutor.getDefault();
+    }
+}
@@ -0,0 +1,22 @@
+package com.peluware.springframework.crud.core.providers;
+
+import com.peluware.springframework.crud.core.queryshapes.QueryShapeCollector;
+
+/**
+ * Provides the collector recording the query shapes of a service.
+ * <p>
+ * The default implementation returns the shared {@link QueryShapeCollector#getDefault() default collector}, which
+ * is only set when {@code spring.data.crud.query-shapes.enabled} is {@code true}.
+ * </p>
+ */
+public interface QueryShapeCollectorProvider {
+
+    /**
+     * Returns the collector recording query shapes.
+     *
+     * @return the query shape collector, or {@code null} if query shapes are not collected
+     */
+    default QueryShapeCollector getQueryShapeCollector() {
+        return QueryShapeCollector.getDefault();
+    }
+}
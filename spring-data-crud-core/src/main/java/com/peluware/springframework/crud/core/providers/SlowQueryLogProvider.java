@@ -0,0 +1,22 @@
+package com.peluware.springframework.crud.core.providers;
+
+import com.peluware.springframework.crud.core.slowqueries.SlowQueryLog;
+
+/**
+ * Provides the log recording the slow queries of a service.
+ * <p>
+ * The default implementation returns the shared {@link SlowQueryLog#getDefault() default log}, which is only set
+ * when {@code spring.data.crud.slow-queries.enabled} is {@code true}.
+ * </p>
+ */
+public interface SlowQueryLogProvider {
+
+    /**
+     * Returns the log recording slow queries.
+     *
+     * @return the slow query log, or {@code null} if slow queries are not logged
+     */
+    default SlowQueryLog getSlowQueryLog() {
+        return SlowQueryLog.getDefault();
+    }
+}
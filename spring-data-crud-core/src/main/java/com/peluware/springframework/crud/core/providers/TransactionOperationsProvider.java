@@ -1,5 +1,8 @@
 package com.peluware.springframework.crud.core.providers;
 
+import com.peluware.springframework.crud.core.CrudOperation;
+import com.peluware.springframework.crud.core.transactions.TransactionPolicy;
+import com.peluware.springframework.crud.core.transactions.TransactionTemplateCache;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.transaction.support.TransactionTemplate;
@@ -11,6 +14,11 @@ import org.springframework.transaction.support.TransactionTemplate;
  * will be used to create {@link TransactionOperations}. If no transaction manager
  * is provided, a no-transaction operations instance is returned.
  * </p>
+ * <p>
+ * Each {@link CrudOperation} runs according to a {@link TransactionPolicy} that can be customized
+ * by overriding {@link #getTransactionPolicy(CrudOperation)}. The resulting templates are cached in the
+ * {@link TransactionTemplateCache} of the service and shared, so no template is created per operation.
+ * </p>
  */
 public interface TransactionOperationsProvider {
 
@@ -27,12 +35,63 @@ public interface TransactionOperationsProvider {
         return null;
     }
 
+    /**
+     * Returns the cache of the transaction templates of this service.
+     * <p>
+     * The default implementation returns the cache shared by every instance of the service class, see
+     * {@link TransactionTemplateCache#of(Class)}. Override to return {@code null} to create a template for
+     * every operation.
+     * </p>
+     *
+     * @return the transaction template cache, or {@code null} if templates are not cached
+     */
+    default TransactionTemplateCache getTransactionTemplateCache() {
+        return TransactionTemplateCache.of(getClass());
+    }
+
+    /**
+     * Returns the transaction policy (propagation, isolation, timeout and read-only flag) for the given operation.
+     * <p>
+     * The default implementation returns a read-only policy for read operations and a read-write policy
+     * for write operations. Override to configure isolation, timeout or propagation per operation.
+     * </p>
+     *
+     * @param operation the CRUD operation about to be executed
+     * @return the transaction policy, never {@code null}
+     */
+    default TransactionPolicy getTransactionPolicy(CrudOperation operation) {
+        return TransactionPolicy.of(operation);
+    }
+
+    /**
+     * Returns an instance of {@link TransactionOperations} that can be used
+     * to execute the given operation transactionally.
+     * <p>
+     * If a transaction manager is available (i.e., {@link #getTransactionManager()} returns non-null),
+     * this method returns a {@link TransactionTemplate} bound to that manager and configured with
+     * {@link #getTransactionPolicy(CrudOperation)}, taken from {@link #getTransactionTemplateCache()} if any.
+     * Otherwise, it returns a {@link TransactionOperations} instance that performs
+     * operations without actual transactions.
+     * </p>
+     *
+     * @param operation the CRUD operation about to be executed
+     * @return a transaction operations instance, never {@code null}
+     */
+    default TransactionOperations getTransactionOperations(CrudOperation operation) {
+        var transactionManager = getTransactionManager();
+        if (transactionManager == null) {
+            return TransactionOperations.withoutTransaction();
+        }
+        return getTransactionTemplate(transactionManager, getTransactionPolicy(operation));
+    }
+
     /**
      * Returns an instance of {@link TransactionOperations} that can be used
      * to execute transactional code.
      * <p>
      * If a transaction manager is available (i.e., {@link #getTransactionManager()} returns non-null),
-     * this method returns a {@link TransactionTemplate} bound to that manager.
+     * this method returns a {@link TransactionTemplate} bound to that manager with the default
+     * {@link TransactionPolicy#READ_WRITE} policy, taken from {@link #getTransactionTemplateCache()} if any.
      * Otherwise, it returns a {@link TransactionOperations} instance that performs
      * operations without actual transactions.
      * </p>
@@ -44,6 +103,11 @@ public interface TransactionOperationsProvider {
         if (transactionManager == null) {
             return TransactionOperations.withoutTransaction();
         }
-        return new TransactionTemplate(transactionManager);
+        return getTransactionTemplate(transactionManager, TransactionPolicy.READ_WRITE);
+    }
+
+    private TransactionTemplate getTransactionTemplate(PlatformTransactionManager transactionManager, TransactionPolicy policy) {
+        var cache = getTransactionTemplateCache();
+        return cache != null ? cache.get(transactionManager, policy) : TransactionTemplateCache.create(transactionManager, policy);
     }
 }
@@ -0,0 +1,180 @@
+package com.peluware.springframework.crud.core.queryshapes;
+
+import cz.jirutka.rsql.parser.ast.AndNode;
+import cz.jirutka.rsql.parser.ast.ComparisonNode;
+import cz.jirutka.rsql.parser.ast.Node;
+import cz.jirutka.rsql.parser.ast.OrNode;
+import cz.jirutka.rsql.parser.ast.RSQLOperators;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Derives index recommendations from the shapes collected by a {@link QueryShapeCollector}.
+ * <p>
+ * For every shape, the advisor builds the index that would serve it following the equality, sort, range rule:
+ * fields compared with {@code ==} or {@code =in=} first, then the sort fields, then the remaining filtered fields.
+ * Each operand of a top-level {@code or} gets its own candidate. A candidate is considered served when a known
+ * index, from the first {@link IndexCatalog} supporting the entity, has the candidate's equality fields as its
+ * leading columns (in any order among themselves), or, for candidates without equality fields, starts with the
+ * candidate's first field. Unserved
+ * candidates are merged per entity and ranked by the estimated time spent in their shapes
+ * ({@code executions * p95}).
+ * </p>
+ * <p>
+ * Field names are compared case-insensitively and ignoring underscores, so that {@code created_at} matches
+ * {@code createdAt}. Recommendations are hints for a human: selectivity is unknown to the advisor.
+ * </p>
+ */
+public class IndexAdvisor {
+
+    private static final Set<String> EQUALITY_OPERATORS = Set.of(
+            RSQLOperators.EQUAL.getSymbol(),
+            RSQLOperators.IN.getSymbol()
+    );
+
+    private final QueryShapeCollector collector;
+    private final List<IndexCatalog> catalogs;
+
+    /**
+     * Creates a new advisor.
+     *
+     * @param collector the collector whose shapes are analyzed
+     * @param catalogs  the catalogs of known indexes
+     */
+    public IndexAdvisor(QueryShapeCollector collector, List<IndexCatalog> catalogs) {
+        this.collector = Objects.requireNonNull(collector, "Collector cannot be null");
+        this.catalogs = List.copyOf(catalogs);
+    }
+
+    /**
+     * Returns the recommended indexes, highest score first.
+     *
+     * @return the recommendations
+     */
+    public List<IndexRecommendation> recommend() {
+        var indexesByEntity = new HashMap<Class<?>, List<List<String>>>();
+        var accumulators = new HashMap<Key, Accumulator>();
+
+        collector.getShapes().forEach((shape, stats) -> {
+            if (stats.candidates.isEmpty()) {
+                return;
+            }
+            var indexes = indexesByEntity.computeIfAbsent(shape.entityClass(), this::findIndexes);
+            var statistics = QueryShapeCollector.toStatistics(shape, stats);
+            for (var candidate : stats.candidates) {
+                if (indexes != null && isServed(candidate, indexes)) {
+                    continue;
+                }
+                accumulators
+                        .computeIfAbsent(new Key(shape.entityClass(), candidate.fields()), k -> new Accumulator(indexes != null))
+                        .add(statistics);
+            }
+        });
+
+        return accumulators.entrySet().stream()
+                .map(entry -> entry.getValue().toRecommendation(entry.getKey()))
+                .sorted(Comparator.comparingDouble(IndexRecommendation::score).reversed())
+                .toList();
+    }
+
+    static List<Candidate> candidates(Node query, Sort sort) {
+        var sortFields = sort == null ? List.<String>of() : sort.stream().map(Sort.Order::getProperty).toList();
+        var conjunctions = query instanceof OrNode or ? or.getChildren() : query == null ? List.<Node>of() : List.of(query);
+
+        var candidates = new ArrayList<Candidate>();
+        if (conjunctions.isEmpty() && !sortFields.isEmpty()) {
+            candidates.add(new Candidate(sortFields, 0));
+        }
+        for (var conjunction : conjunctions) {
+            var comparisons = conjunction instanceof AndNode and
+                    ? and.getChildren().stream().filter(ComparisonNode.class::isInstance).map(ComparisonNode.class::cast).toList()
+                    : conjunction instanceof ComparisonNode comparison ? List.of(comparison) : List.<ComparisonNode>of();
+
+            var fields = new LinkedHashSet<String>();
+            comparisons.stream()
+                    .filter(c -> EQUALITY_OPERATORS.contains(c.getOperator().getSymbol()))
+                    .forEach(c -> fields.add(c.getSelector()));
+            var equalityFields = fields.size();
+            fields.addAll(sortFields);
+            comparisons.forEach(c -> fields.add(c.getSelector()));
+            if (!fields.isEmpty()) {
+                candidates.add(new Candidate(List.copyOf(fields), equalityFields));
+            }
+        }
+        return List.copyOf(candidates);
+    }
+
+    private List<List<String>> findIndexes(Class<?> entityClass) {
+        for (var catalog : catalogs) {
+            if (catalog.supports(entityClass)) {
+                return catalog.getIndexes(entityClass);
+            }
+        }
+        return null;
+    }
+
+    private static boolean isServed(Candidate candidate, List<List<String>> indexes) {
+        var prefixLength = Math.max(candidate.equalityFields(), 1);
+        var prefix = candidate.fields().subList(0, prefixLength).stream().map(IndexAdvisor::normalize).collect(Collectors.toSet());
+        return indexes.stream().anyMatch(index -> index.size() >= prefixLength
+                && index.subList(0, prefixLength).stream().map(IndexAdvisor::normalize).collect(Collectors.toSet()).equals(prefix));
+    }
+
+    private static String normalize(String field) {
+        return field.replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Fields of the index that would serve a query, following the equality, sort, range rule.
+     *
+     * @param fields         the index fields, equality fields first
+     * @param equalityFields the number of leading fields compared with {@code ==} or {@code =in=}
+     */
+    record Candidate(List<String> fields, int equalityFields) {
+    }
+
+    private record Key(Class<?> entityClass, List<String> fields) {
+    }
+
+    private static final class Accumulator {
+
+        private final boolean indexesKnown;
+        private int shapes;
+        private long executions;
+        private double p95Millis;
+        private double score;
+
+        private Accumulator(boolean indexesKnown) {
+            this.indexesKnown = indexesKnown;
+        }
+
+        private void add(QueryShapeStatistics statistics) {
+            shapes++;
+            executions += statistics.count();
+            p95Millis = Math.max(p95Millis, statistics.p95Millis());
+            score += statistics.count() * statistics.p95Millis();
+        }
+
+        private IndexRecommendation toRecommendation(Key key) {
+            return new IndexRecommendation(
+                    key.entityClass().getSimpleName(),
+                    key.fields(),
+                    shapes,
+                    executions,
+                    p95Millis,
+                    score,
+                    indexesKnown ? "No known index starts with the equality fields" : "Indexes of the entity are unknown"
+            );
+        }
+    }
+}
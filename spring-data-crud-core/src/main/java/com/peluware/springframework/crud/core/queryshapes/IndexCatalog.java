@@ -0,0 +1,28 @@
+package com.peluware.springframework.crud.core.queryshapes;
+
+import java.util.List;
+
+/**
+ * Source of the indexes known for an entity, used by {@link IndexAdvisor} to tell which query shapes lack one.
+ * <p>
+ * Backends provide their own catalog, e.g. from JPA {@code @Index} metadata or Mongo {@code IndexOperations}.
+ * </p>
+ */
+public interface IndexCatalog {
+
+    /**
+     * Returns whether this catalog knows the indexes of the given entity.
+     *
+     * @param entityClass the entity class
+     * @return {@code true} if {@link #getIndexes(Class)} can be called for the entity
+     */
+    boolean supports(Class<?> entityClass);
+
+    /**
+     * Returns the indexes of the given entity, each one as the ordered list of its property names.
+     *
+     * @param entityClass the entity class
+     * @return the indexes, never {@code null}
+     */
+    List<List<String>> getIndexes(Class<?> entityClass);
+}
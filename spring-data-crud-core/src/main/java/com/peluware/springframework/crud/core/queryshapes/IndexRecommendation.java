@@ -0,0 +1,25 @@
+package com.peluware.springframework.crud.core.queryshapes;
+
+import java.util.List;
+
+/**
+ * An index suggested by {@link IndexAdvisor}.
+ *
+ * @param entity     simple name of the entity class
+ * @param fields     the index fields, in order (equality, sort, then range fields)
+ * @param shapes     number of query shapes that would use the index
+ * @param executions number of executions of those shapes
+ * @param p95Millis  highest 95th percentile of the execution time of those shapes, in milliseconds
+ * @param score      ranking score, the estimated total time spent in those shapes
+ * @param reason     why the index is recommended
+ */
+public record IndexRecommendation(
+        String entity,
+        List<String> fields,
+        int shapes,
+        long executions,
+        double p95Millis,
+        double score,
+        String reason
+) {
+}
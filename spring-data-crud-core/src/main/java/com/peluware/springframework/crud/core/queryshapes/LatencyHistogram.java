@@ -0,0 +1,57 @@
+package com.peluware.springframework.crud.core.queryshapes;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with logarithmic buckets (four per power of two, about 25% precision).
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKETS = 4;
+    private static final int SUB_BUCKET_BITS = 2;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(64 * SUB_BUCKETS);
+
+    void record(long nanos) {
+        buckets.incrementAndGet(index(Math.max(nanos, 1)));
+    }
+
+    long percentile(double quantile) {
+        var total = 0L;
+        var counts = new long[buckets.length()];
+        for (var i = 0; i < counts.length; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        var rank = (long) Math.ceil(quantile * total);
+        var seen = 0L;
+        for (var i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(counts.length - 1);
+    }
+
+    private static int index(long nanos) {
+        var magnitude = 63 - Long.numberOfLeadingZeros(nanos);
+        if (magnitude < SUB_BUCKET_BITS) {
+            return (int) nanos;
+        }
+        var sub = (int) (nanos >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return magnitude * SUB_BUCKETS + sub;
+    }
+
+    private static long upperBound(int index) {
+        var magnitude = index / SUB_BUCKETS;
+        if (magnitude < SUB_BUCKET_BITS) {
+            return index + 1L;
+        }
+        var sub = index % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + sub + 1) << (magnitude - SUB_BUCKET_BITS);
+    }
+}
@@ -0,0 +1,57 @@
+package com.peluware.springframework.crud.core.queryshapes;
+
+import cz.jirutka.rsql.parser.ast.AndNode;
+import cz.jirutka.rsql.parser.ast.ComparisonNode;
+import cz.jirutka.rsql.parser.ast.LogicalNode;
+import cz.jirutka.rsql.parser.ast.Node;
+import org.springframework.data.domain.Sort;
+
+import java.util.stream.Collectors;
+
+/**
+ * Normalized form of a read request: the filtered fields and operators and the sort, without values.
+ * <p>
+ * Requests that only differ in their values, or in the order of the operands of a logical operator, share the
+ * same shape, e.g. {@code status==ACTIVE;age>18} and {@code age>30;status==BLOCKED} are both
+ * {@code and(age>?,status==?)}.
+ * </p>
+ *
+ * @param entityClass the entity class
+ * @param search      whether a free-text search was requested
+ * @param filter      the normalized RSQL filter, or {@code null} if none
+ * @param sort        the normalized sort, or {@code null} if unsorted
+ */
+public record QueryShape(Class<?> entityClass, boolean search, String filter, String sort) {
+
+    /**
+     * Returns the shape of a read request.
+     *
+     * @param entityClass the entity class
+     * @param search      the search text, may be {@code null}
+     * @param query       the RSQL query, may be {@code null}
+     * @param sort        the sort, may be {@code null}
+     * @return the query shape
+     */
+    public static QueryShape of(Class<?> entityClass, String search, Node query, Sort sort) {
+        return new QueryShape(
+                entityClass,
+                search != null && !search.isBlank(),
+                query == null ? null : normalize(query),
+                sort == null || sort.isUnsorted() ? null : sort.stream()
+                        .map(order -> order.getProperty() + ":" + order.getDirection().name().toLowerCase())
+                        .collect(Collectors.joining(","))
+        );
+    }
+
+    private static String normalize(Node node) {
+        if (node instanceof ComparisonNode comparison) {
+            return comparison.getSelector() + comparison.getOperator().getSymbol() + "?";
+        }
+        if (node instanceof LogicalNode logical) {
+            return (logical instanceof AndNode ? "and(" : "or(")
+                    + logical.getChildren().stream().map(QueryShape::normalize).sorted().collect(Collectors.joining(","))
+                    + ")";
+        }
+        return node.toString();
+    }
+}
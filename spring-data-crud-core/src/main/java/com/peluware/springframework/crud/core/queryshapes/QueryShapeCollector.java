@@ -0,0 +1,163 @@
+package com.peluware.springframework.crud.core.queryshapes;
+
+import com.peluware.springframework.crud.core.providers.EntityClassProvider;
+import cz.jirutka.rsql.parser.ast.Node;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.ClassUtils;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the frequency and latency of the {@link QueryShape}s of page requests.
+ * <p>
+ * The number of tracked shapes is bounded: once {@code maxShapes} shapes are known, executions of new shapes are
+ * only counted as {@link #getOverflowCount() overflow}. Statistics and the derived index recommendations of
+ * {@link IndexAdvisor} are exposed by the {@code crudqueryshapes} actuator endpoint.
+ * </p>
+ */
+public class QueryShapeCollector {
+
+    private static volatile QueryShapeCollector defaultCollector;
+
+    private final int maxShapes;
+    private final Map<QueryShape, Stats> shapes = new ConcurrentHashMap<>();
+    private final LongAdder overflow = new LongAdder();
+
+    /**
+     * Creates a new collector.
+     *
+     * @param maxShapes maximum number of tracked shapes
+     */
+    public QueryShapeCollector(int maxShapes) {
+        if (maxShapes < 1) {
+            throw new IllegalArgumentException("Max shapes must be greater than zero");
+        }
+        this.maxShapes = maxShapes;
+    }
+
+    /**
+     * Returns the collector used by services that do not provide their own, see
+     * {@link com.peluware.springframework.crud.core.providers.QueryShapeCollectorProvider}.
+     *
+     * @return the default collector, or {@code null} if query shapes are not collected
+     */
+    public static QueryShapeCollector getDefault() {
+        return defaultCollector;
+    }
+
+    /**
+     * Sets the collector used by services that do not provide their own.
+     *
+     * @param collector the default collector, or {@code null} to disable it
+     */
+    public static void setDefault(QueryShapeCollector collector) {
+        defaultCollector = collector;
+    }
+
+    /**
+     * Clears the default collector, if it is the given one.
+     *
+     * @param collector the collector to clear
+     */
+    public static void clearDefault(QueryShapeCollector collector) {
+        if (defaultCollector == collector) {
+            defaultCollector = null;
+        }
+    }
+
+    /**
+     * Records the execution of a page request of the given service.
+     *
+     * @param service the read service
+     * @param search  the search text, may be {@code null}
+     * @param query   the RSQL query, may be {@code null}
+     * @param sort    the sort, may be {@code null}
+     * @param nanos   the execution time in nanoseconds
+     */
+    public void record(Object service, String search, Node query, Sort sort, long nanos) {
+        var entityClass = service instanceof EntityClassProvider<?> entityClassProvider
+                ? entityClassProvider.getEntityClass()
+                : ClassUtils.getUserClass(service);
+        var shape = QueryShape.of(entityClass, search, query, sort);
+
+        var stats = shapes.get(shape);
+        if (stats == null) {
+            if (shapes.size() >= maxShapes) {
+                overflow.increment();
+                return;
+            }
+            stats = shapes.computeIfAbsent(shape, s -> new Stats(IndexAdvisor.candidates(query, sort)));
+        }
+        stats.count.increment();
+        stats.max.accumulate(nanos);
+        stats.histogram.record(nanos);
+    }
+
+    /**
+     * Returns the statistics of every tracked shape, most frequent first.
+     *
+     * @return the statistics
+     */
+    public List<QueryShapeStatistics> getStatistics() {
+        return shapes.entrySet().stream()
+                .map(entry -> toStatistics(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(QueryShapeStatistics::count).reversed())
+                .toList();
+    }
+
+    /**
+     * Returns the number of executions not tracked because {@code maxShapes} was reached.
+     *
+     * @return the overflow count
+     */
+    public long getOverflowCount() {
+        return overflow.sum();
+    }
+
+    /**
+     * Removes every tracked shape.
+     */
+    public void reset() {
+        shapes.clear();
+        overflow.reset();
+    }
+
+    Map<QueryShape, Stats> getShapes() {
+        return shapes;
+    }
+
+    static QueryShapeStatistics toStatistics(QueryShape shape, Stats stats) {
+        return new QueryShapeStatistics(
+                shape.entityClass().getSimpleName(),
+                shape.search(),
+                shape.filter(),
+                shape.sort(),
+                stats.count.sum(),
+                millis(stats.histogram.percentile(0.50)),
+                millis(stats.histogram.percentile(0.95)),
+                millis(stats.histogram.percentile(0.99)),
+                millis(stats.max.get())
+        );
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    static final class Stats {
+
+        final List<IndexAdvisor.Candidate> candidates;
+        final LongAdder count = new LongAdder();
+        final LongAccumulator max = new LongAccumulator(Math::max, 0);
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        private Stats(List<IndexAdvisor.Candidate> candidates) {
+            this.candidates = candidates;
+        }
+    }
+}
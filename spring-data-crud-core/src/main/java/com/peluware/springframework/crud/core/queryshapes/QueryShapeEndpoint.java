@@ -0,0 +1,43 @@
+package com.peluware.springframework.crud.core.queryshapes;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Actuator endpoint exposing the collected query shapes and the index recommendations derived from them.
+ */
+@Endpoint(id = "crudqueryshapes")
+public class QueryShapeEndpoint {
+
+    private final QueryShapeCollector collector;
+    private final IndexAdvisor advisor;
+
+    public QueryShapeEndpoint(QueryShapeCollector collector, IndexAdvisor advisor) {
+        this.collector = Objects.requireNonNull(collector, "Collector cannot be null");
+        this.advisor = Objects.requireNonNull(advisor, "Advisor cannot be null");
+    }
+
+    @ReadOperation
+    public Report queryShapes() {
+        return new Report(collector.getStatistics(), collector.getOverflowCount(), advisor.recommend());
+    }
+
+    @DeleteOperation
+    public void reset() {
+        collector.reset();
+    }
+
+    /**
+     * Content of the endpoint.
+     *
+     * @param shapes          the statistics of every tracked shape, most frequent first
+     * @param overflow        number of executions not tracked because the shape limit was reached
+     * @param recommendations the recommended indexes, highest score first
+     */
+    public record Report(List<QueryShapeStatistics> shapes, long overflow, List<IndexRecommendation> recommendations) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.peluware.springframework.crud.core.queryshapes;
+
+/**
+ * Frequency and latency of a {@link QueryShape}.
+ *
+ * @param entity     simple name of the entity class
+ * @param search     whether a free-text search was requested
+ * @param filter     the normalized RSQL filter, or {@code null} if none
+ * @param sort       the normalized sort, or {@code null} if unsorted
+ * @param count      number of executions
+ * @param p50Millis  median execution time in milliseconds
+ * @param p95Millis  95th percentile of the execution time in milliseconds
+ * @param p99Millis  99th percentile of the execution time in milliseconds
+ * @param maxMillis  maximum execution time in milliseconds
+ */
+public record QueryShapeStatistics(
+        String entity,
+        boolean search,
+        String filter,
+        String sort,
+        long count,
+        double p50Millis,
+        double p95Millis,
+        double p99Millis,
+        double maxMillis
+) {
+}
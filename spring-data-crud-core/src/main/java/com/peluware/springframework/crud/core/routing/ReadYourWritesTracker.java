@@ -0,0 +1,194 @@
+package com.peluware.springframework.crud.core.routing;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Tracks recent writes so that reads issued shortly after a write can be pinned to the primary.
+ * <p>
+ * Replicas apply changes asynchronously, so a client reading from a replica right after writing may not see
+ * its own changes. Every write is recorded under a stickiness key, and {@link #isWithinWindow()} reports whether
+ * the current key wrote within the configured window. By default the key is the current caller (see
+ * {@link #currentCaller()}), so a write only pins the reads of the user, session or thread that made it; provide a
+ * key resolver to use another key, e.g. a tenant.
+ * </p>
+ * <p>
+ * Writes made in a transaction should be recorded with {@link #recordWriteAfterCommit()}, so the window starts
+ * when the changes become visible to the replicas rather than when the write starts.
+ * </p>
+ */
+public class ReadYourWritesTracker {
+
+    private static final boolean SECURITY_PRESENT = ClassUtils.isPresent(
+            "org.springframework.security.core.context.SecurityContextHolder",
+            ReadYourWritesTracker.class.getClassLoader()
+    );
+
+    private static final boolean SERVLET_PRESENT = ClassUtils.isPresent(
+            "org.springframework.web.context.request.ServletRequestAttributes",
+            ReadYourWritesTracker.class.getClassLoader()
+    );
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final long windowNanos;
+    private final Supplier<Object> keyResolver;
+    private final Map<Object, Long> lastWrites = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a tracker keyed by the {@link #currentCaller() current caller}.
+     *
+     * @param window time after a write during which reads must go to the primary
+     */
+    public ReadYourWritesTracker(Duration window) {
+        this(window, ReadYourWritesTracker::currentCaller);
+    }
+
+    /**
+     * Creates a tracker using the given stickiness key resolver.
+     *
+     * @param window      time after a write during which reads must go to the primary
+     * @param keyResolver resolves the key of the current caller; a {@code null} key falls back to the
+     *                    {@link #currentCaller() current caller}
+     */
+    public ReadYourWritesTracker(Duration window, Supplier<Object> keyResolver) {
+        Objects.requireNonNull(window, "Window cannot be null");
+        Objects.requireNonNull(keyResolver, "Key resolver cannot be null");
+        this.windowNanos = window.toNanos();
+        this.keyResolver = keyResolver;
+    }
+
+    /**
+     * Returns the key of the current caller: the authenticated (non-anonymous) principal if Spring Security is
+     * present, otherwise the existing HTTP session of the current request, otherwise the current thread.
+     *
+     * @return the stickiness key of the current caller, never {@code null}
+     */
+    public static Object currentCaller() {
+        if (SECURITY_PRESENT) {
+            var principal = SecuritySupport.principal();
+            if (principal != null) {
+                return new CallerKey("principal", principal);
+            }
+        }
+        if (SERVLET_PRESENT) {
+            var session = ServletSupport.sessionId();
+            if (session != null) {
+                return new CallerKey("session", session);
+            }
+        }
+        return new CallerKey("thread", Thread.currentThread().threadId());
+    }
+
+    /**
+     * Records a write for the current caller.
+     */
+    public void recordWrite() {
+        if (windowNanos <= 0) {
+            return;
+        }
+        record(resolveKey());
+    }
+
+    /**
+     * Records a write for the current caller once the current transaction commits.
+     * <p>
+     * The caller key is resolved now, and the write is recorded at most once per transaction from
+     * {@link TransactionSynchronization#afterCommit()}; nothing is recorded if the transaction rolls back.
+     * Without transaction synchronization the write is recorded immediately.
+     * </p>
+     */
+    public void recordWriteAfterCommit() {
+        if (windowNanos <= 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recordWrite();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        var key = resolveKey();
+        TransactionSynchronizationManager.bindResource(this, key);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(key);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ReadYourWritesTracker.this);
+            }
+        });
+    }
+
+    /**
+     * Returns whether the current caller wrote within the read-your-writes window.
+     *
+     * @return {@code true} if reads of the current caller must go to the primary
+     */
+    public boolean isWithinWindow() {
+        if (windowNanos <= 0) {
+            return false;
+        }
+        var writtenAt = lastWrites.get(resolveKey());
+        return writtenAt != null && System.nanoTime() - writtenAt <= windowNanos;
+    }
+
+    private void record(Object key) {
+        var now = System.nanoTime();
+        lastWrites.put(key, now);
+        if (lastWrites.size() > PURGE_THRESHOLD) {
+            lastWrites.values().removeIf(writtenAt -> now - writtenAt > windowNanos);
+        }
+    }
+
+    private Object resolveKey() {
+        var key = keyResolver.get();
+        return key == null ? currentCaller() : key;
+    }
+
+    private record CallerKey(String kind, Object value) {
+    }
+
+    /**
+     * Isolates the Spring Security types, which are optional at runtime.
+     */
+    private static final class SecuritySupport {
+
+        private static String principal() {
+            var authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+                return null;
+            }
+            return authentication.getName();
+        }
+    }
+
+    /**
+     * Isolates the Servlet types, which are optional at runtime.
+     */
+    private static final class ServletSupport {
+
+        private static String sessionId() {
+            if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+                return null;
+            }
+            var session = attributes.getRequest().getSession(false);
+            return session != null ? session.getId() : null;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.peluware.springframework.crud.core.search;
+
+import java.util.Locale;
+
+/**
+ * How the search text is matched against a {@link Searchable} field.
+ * <p>
+ * Only {@link #EXACT}, {@link #PREFIX} and {@link #CASE_FOLDED} can be served by a regular index;
+ * {@link #CONTAINS} always scans the rows of the entity.
+ * </p>
+ */
+public enum MatchMode {
+
+    /**
+     * The field equals the search text. Non-string fields are matched when the text converts to their type.
+     */
+    EXACT,
+
+    /**
+     * The field starts with the search text, case-sensitively.
+     */
+    PREFIX,
+
+    /**
+     * The field contains the search text, case-insensitively.
+     */
+    CONTAINS,
+
+    /**
+     * The field stores lower-cased values and starts with the lower-cased search text. The field itself is not
+     * lower-cased by the query, so an index on it is still used.
+     */
+    CASE_FOLDED;
+
+    /**
+     * Prepares the search text for this mode, lower-casing it for {@link #CONTAINS} and {@link #CASE_FOLDED}.
+     *
+     * @param search the trimmed search text
+     * @return the text to match
+     */
+    public String term(String search) {
+        return this == CONTAINS || this == CASE_FOLDED ? search.toLowerCase(Locale.ROOT) : search;
+    }
+}
@@ -0,0 +1,33 @@
+package com.peluware.springframework.crud.core.search;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.format.datetime.standard.DateTimeFormatterRegistrar;
+import org.springframework.format.support.DefaultFormattingConversionService;
+
+/**
+ * Conversion of RSQL arguments to attribute types, shared by the query translators so that every backend accepts
+ * the same argument formats.
+ */
+@UtilityClass
+public final class QueryArguments {
+
+    private static final ConversionService CONVERSION_SERVICE = createConversionService();
+
+    /**
+     * Returns the shared conversion service, with the default Spring converters and ISO date-time formats.
+     *
+     * @return the conversion service
+     */
+    public static ConversionService conversionService() {
+        return CONVERSION_SERVICE;
+    }
+
+    private static ConversionService createConversionService() {
+        var conversionService = new DefaultFormattingConversionService(false);
+        var registrar = new DateTimeFormatterRegistrar();
+        registrar.setUseIsoFormat(true);
+        registrar.registerFormatters(conversionService);
+        return conversionService;
+    }
+}
@@ -0,0 +1,30 @@
+package com.peluware.springframework.crud.core.search;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an entity field as matched by the free-text {@code search} of read services.
+ * <p>
+ * Once an entity declares a searchable field (or a {@link SearchableId}), only the annotated fields are searched,
+ * each with its own {@link MatchMode}, instead of every string field with a case-insensitive {@code contains}.
+ * A field matches if any of them does.
+ * </p>
+ *
+ * @see SearchableFields
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Searchable {
+
+    /**
+     * The match mode of the field. Non-string fields only support {@link MatchMode#EXACT}.
+     *
+     * @return the match mode
+     */
+    MatchMode match() default MatchMode.CONTAINS;
+}
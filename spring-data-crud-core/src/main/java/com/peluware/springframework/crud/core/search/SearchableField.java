@@ -0,0 +1,51 @@
+package com.peluware.springframework.crud.core.search;
+
+import org.springframework.core.convert.support.DefaultConversionService;
+
+import java.util.Objects;
+
+/**
+ * A field matched by the free-text search, as declared with {@link Searchable} or {@link SearchableId}.
+ *
+ * @param name  the name of the field
+ * @param type  the type of the field
+ * @param match the match mode
+ */
+public record SearchableField(String name, Class<?> type, MatchMode match) {
+
+    public SearchableField {
+        Objects.requireNonNull(name, "Name cannot be null");
+        Objects.requireNonNull(type, "Type cannot be null");
+        Objects.requireNonNull(match, "Match mode cannot be null");
+        if (type != String.class && match != MatchMode.EXACT) {
+            throw new IllegalArgumentException("Field " + name + " of type " + type.getSimpleName() + " only supports " + MatchMode.EXACT + " matching");
+        }
+    }
+
+    /**
+     * Returns whether the field holds strings.
+     *
+     * @return {@code true} for string fields
+     */
+    public boolean isText() {
+        return type == String.class;
+    }
+
+    /**
+     * Converts the search text to the value compared with the field: the text prepared by the
+     * {@link MatchMode#term(String) match mode} for string fields, or the text converted to the field type otherwise.
+     *
+     * @param search the trimmed search text
+     * @return the value to match, or {@code null} if the text cannot be converted to the field type
+     */
+    public Object value(String search) {
+        if (isText()) {
+            return match.term(search);
+        }
+        try {
+            return DefaultConversionService.getSharedInstance().convert(search, type);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
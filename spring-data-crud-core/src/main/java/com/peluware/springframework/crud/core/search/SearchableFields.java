@@ -0,0 +1,111 @@
+package com.peluware.springframework.crud.core.search;
+
+import com.peluware.springframework.crud.core.utils.StringUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Search metadata of an entity, read from its {@link Searchable} and {@link SearchableId} fields.
+ * <p>
+ * Entities without annotations are {@link #isDeclared() undeclared} and keep the default OmniSearch behavior,
+ * where the search text matches any string field case-insensitively. Read services of declared entities keep the
+ * search text out of the OmniSearch options and build the search condition from this metadata instead, see
+ * {@link #delegatedSearch(String)}.
+ * </p>
+ *
+ * @param fields    the searchable fields, in declaration order
+ * @param id        the identifier field used as fast path, or {@code null}
+ * @param idPattern the pattern search texts must match to be looked up by id, or {@code null} to accept any text
+ *                  convertible to the identifier type
+ */
+public record SearchableFields(List<SearchableField> fields, SearchableField id, Pattern idPattern) {
+
+    private static final ClassValue<SearchableFields> CACHE = new ClassValue<>() {
+        @Override
+        protected SearchableFields computeValue(Class<?> type) {
+            return read(type);
+        }
+    };
+
+    public SearchableFields {
+        fields = List.copyOf(Objects.requireNonNull(fields, "Fields cannot be null"));
+    }
+
+    /**
+     * Returns the search metadata of the given entity class, read once and cached.
+     *
+     * @param entityClass the entity class
+     * @return the search metadata
+     * @throws IllegalArgumentException if a non-string field is not matched {@link MatchMode#EXACT exactly}
+     */
+    public static SearchableFields of(Class<?> entityClass) {
+        return CACHE.get(entityClass);
+    }
+
+    /**
+     * Returns whether the entity declares searchable fields or a searchable identifier.
+     *
+     * @return {@code true} if the search is built from this metadata
+     */
+    public boolean isDeclared() {
+        return !fields.isEmpty() || id != null;
+    }
+
+    /**
+     * Returns the search text to hand over to OmniSearch: the text itself for undeclared entities, {@code null}
+     * otherwise, since the search condition is then built from this metadata.
+     *
+     * @param search the search text
+     * @return the search text for OmniSearch
+     */
+    public String delegatedSearch(String search) {
+        return isDeclared() ? null : search;
+    }
+
+    /**
+     * Returns the identifier the search text refers to, if the fast path applies.
+     *
+     * @param search the trimmed search text
+     * @return the identifier converted to the identifier type, or {@code null} if the text does not look like an id
+     */
+    public Object toId(String search) {
+        if (id == null || idPattern != null && !idPattern.matcher(search).matches()) {
+            return null;
+        }
+        return id.value(search);
+    }
+
+    /**
+     * Returns the normalized search text this metadata applies to.
+     *
+     * @param search the search text
+     * @return the trimmed search text, or {@code null} if the entity is undeclared or the text is blank
+     */
+    public String term(String search) {
+        return isDeclared() ? StringUtils.normalize(search) : null;
+    }
+
+    private static SearchableFields read(Class<?> entityClass) {
+        var fields = new ArrayList<SearchableField>();
+        var id = new SearchableField[1];
+        var idPattern = new Pattern[1];
+        ReflectionUtils.doWithFields(entityClass, field -> {
+            var type = ClassUtils.resolvePrimitiveIfNecessary(field.getType());
+            var searchable = field.getAnnotation(Searchable.class);
+            if (searchable != null) {
+                fields.add(new SearchableField(field.getName(), type, searchable.match()));
+            }
+            var searchableId = field.getAnnotation(SearchableId.class);
+            if (searchableId != null) {
+                id[0] = new SearchableField(field.getName(), type, MatchMode.EXACT);
+                idPattern[0] = searchableId.pattern().isEmpty() ? null : Pattern.compile(searchableId.pattern());
+            }
+        });
+        return new SearchableFields(fields, id[0], idPattern[0]);
+    }
+}
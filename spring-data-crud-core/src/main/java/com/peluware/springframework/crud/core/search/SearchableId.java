@@ -0,0 +1,29 @@
+package com.peluware.springframework.crud.core.search;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the identifier field of an entity as a search fast path: when the search text converts to the identifier
+ * type (and matches {@link #pattern()}, if set), the search becomes a primary-key lookup and the
+ * {@link Searchable} fields are not evaluated.
+ *
+ * @see SearchableFields
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SearchableId {
+
+    /**
+     * Regular expression the search text must match to be treated as an identifier, e.g. to tell UUIDs or numeric
+     * codes apart from names when the identifier is a string. Empty to accept any text convertible to the
+     * identifier type.
+     *
+     * @return the identifier pattern
+     */
+    String pattern() default "";
+}
@@ -0,0 +1,20 @@
+package com.peluware.springframework.crud.core.slowqueries;
+
+/**
+ * Captures the execution plan of a slow query, e.g. by running {@code EXPLAIN} on the translated SQL.
+ * <p>
+ * Explainers are invoked asynchronously by {@link SlowQueryLog}, after the query completed, so they must not
+ * depend on the transaction or thread-bound resources of the original operation.
+ * </p>
+ */
+@FunctionalInterface
+public interface QueryExplainer {
+
+    /**
+     * Returns the execution plan of the query.
+     *
+     * @return the plan as text
+     * @throws Exception if the plan cannot be captured
+     */
+    String explain() throws Exception;
+}
@@ -0,0 +1,90 @@
+package com.peluware.springframework.crud.core.slowqueries;
+
+import com.peluware.springframework.crud.core.CrudOperation;
+import cz.jirutka.rsql.parser.ast.Node;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * A query that exceeded the threshold of a {@link SlowQueryLog}.
+ *
+ * @param timestamp      when the query completed
+ * @param entity         simple name of the entity class
+ * @param backend        the persistence backend ({@code jpa} or {@code mongo})
+ * @param operation      the CRUD operation
+ * @param search         the original search text, if any
+ * @param query          the original RSQL query, if any
+ * @param translated     the SQL statements or BSON filter sent to the database, if captured
+ * @param sort           the requested sort, if any
+ * @param page           the requested page number, or {@code null} if unpaged
+ * @param size           the requested page size, or {@code null} if unpaged
+ * @param durationMillis the execution time in milliseconds
+ * @param plan           the execution plan, or {@code null} if not (yet) captured
+ */
+public record SlowQuery(
+        Instant timestamp,
+        String entity,
+        String backend,
+        CrudOperation operation,
+        String search,
+        String query,
+        String translated,
+        String sort,
+        Integer page,
+        Integer size,
+        long durationMillis,
+        String plan
+) {
+
+    /**
+     * Creates a slow query entry for a page or list query.
+     *
+     * @param entityClass the entity class
+     * @param backend     the persistence backend
+     * @param operation   the CRUD operation
+     * @param search      the original search text, may be {@code null}
+     * @param query       the original RSQL query, may be {@code null}
+     * @param translated  the SQL statements or BSON filter sent to the database, may be {@code null}
+     * @param pageable    the requested pagination and sort
+     * @param duration    the execution time
+     * @return the slow query entry
+     */
+    public static SlowQuery of(
+            Class<?> entityClass,
+            String backend,
+            CrudOperation operation,
+            String search,
+            Node query,
+            String translated,
+            Pageable pageable,
+            Duration duration
+    ) {
+        var sort = pageable.getSort();
+        return new SlowQuery(
+                Instant.now(),
+                entityClass.getSimpleName(),
+                backend,
+                operation,
+                search,
+                query == null ? null : query.toString(),
+                translated,
+                sort.isSorted() ? sort.toString() : null,
+                pageable.isPaged() ? pageable.getPageNumber() : null,
+                pageable.isPaged() ? pageable.getPageSize() : null,
+                duration.toMillis(),
+                null
+        );
+    }
+
+    /**
+     * Returns a copy of this entry with the given execution plan.
+     *
+     * @param plan the execution plan
+     * @return the updated entry
+     */
+    public SlowQuery withPlan(String plan) {
+        return new SlowQuery(timestamp, entity, backend, operation, search, query, translated, sort, page, size, durationMillis, plan);
+    }
+}
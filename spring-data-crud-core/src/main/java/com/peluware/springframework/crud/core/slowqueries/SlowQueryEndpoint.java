@@ -0,0 +1,31 @@
+package com.peluware.springframework.crud.core.slowqueries;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Actuator endpoint exposing the entries of a {@link SlowQueryLog}, newest first.
+ */
+@Endpoint(id = "crudslowqueries")
+public class SlowQueryEndpoint {
+
+    private final SlowQueryLog slowQueryLog;
+
+    public SlowQueryEndpoint(SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = Objects.requireNonNull(slowQueryLog, "Slow query log cannot be null");
+    }
+
+    @ReadOperation
+    public List<SlowQuery> slowQueries() {
+        return slowQueryLog.getEntries();
+    }
+
+    @DeleteOperation
+    public void clear() {
+        slowQueryLog.clear();
+    }
+}
@@ -0,0 +1,205 @@
+package com.peluware.springframework.crud.core.slowqueries;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded in-memory log of the queries slower than a threshold.
+ * <p>
+ * Backends time their page queries and {@link #record(SlowQuery, QueryExplainer) record} the slow ones together
+ * with the original search and RSQL query and the SQL statements or BSON filter they were translated to. The log
+ * keeps the latest {@code capacity} entries in a ring buffer, exposed by the {@code crudslowqueries} actuator
+ * endpoint.
+ * </p>
+ * <p>
+ * Execution plans are captured only when {@link #explain(Duration)} is enabled. Explainers run on a single
+ * background thread, at most once per configured interval; plans requested while another one is pending or
+ * within the interval are skipped, so a burst of slow queries never turns into a burst of {@code EXPLAIN}s.
+ * </p>
+ */
+@Slf4j
+public class SlowQueryLog implements AutoCloseable {
+
+    private static volatile SlowQueryLog defaultLog;
+
+    private final long thresholdNanos;
+    private final SlowQuery[] entries;
+    private int next;
+    private int size;
+
+    private final AtomicLong nextExplainNanos = new AtomicLong(System.nanoTime());
+    private volatile long explainIntervalNanos = -1;
+    private ThreadPoolExecutor explainExecutor;
+
+    /**
+     * Creates a new slow query log.
+     *
+     * @param threshold minimum execution time of the recorded queries
+     * @param capacity  maximum number of entries kept
+     */
+    public SlowQueryLog(Duration threshold, int capacity) {
+        Objects.requireNonNull(threshold, "Threshold cannot be null");
+        if (threshold.isNegative()) {
+            throw new IllegalArgumentException("Threshold cannot be negative");
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be greater than zero");
+        }
+        this.thresholdNanos = threshold.toNanos();
+        this.entries = new SlowQuery[capacity];
+    }
+
+    /**
+     * Returns the log used by services that do not provide their own, see
+     * {@link com.peluware.springframework.crud.core.providers.SlowQueryLogProvider}.
+     *
+     * @return the default log, or {@code null} if slow queries are not logged
+     */
+    public static SlowQueryLog getDefault() {
+        return defaultLog;
+    }
+
+    /**
+     * Sets the log used by services that do not provide their own.
+     *
+     * @param slowQueryLog the default log, or {@code null} to disable it
+     */
+    public static void setDefault(SlowQueryLog slowQueryLog) {
+        defaultLog = slowQueryLog;
+    }
+
+    /**
+     * Clears the default log, if it is the given one.
+     *
+     * @param slowQueryLog the log to clear
+     */
+    public static void clearDefault(SlowQueryLog slowQueryLog) {
+        if (defaultLog == slowQueryLog) {
+            defaultLog = null;
+        }
+    }
+
+    /**
+     * Enables the capture of execution plans, at most one every {@code minInterval}.
+     *
+     * @param minInterval minimum time between two captured plans
+     * @return this log
+     */
+    public synchronized SlowQueryLog explain(Duration minInterval) {
+        Objects.requireNonNull(minInterval, "Min interval cannot be null");
+        if (explainExecutor == null) {
+            explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1),
+                    Thread.ofPlatform().name("crud-slow-query-explain").daemon(true).factory(),
+                    new ThreadPoolExecutor.DiscardPolicy());
+        }
+        explainIntervalNanos = minInterval.toNanos();
+        return this;
+    }
+
+    /**
+     * Returns whether a query with the given execution time must be recorded.
+     *
+     * @param nanos the execution time in nanoseconds
+     * @return {@code true} if the query is slow
+     */
+    public boolean isSlow(long nanos) {
+        return nanos >= thresholdNanos;
+    }
+
+    /**
+     * Records a slow query, capturing its execution plan asynchronously if enabled.
+     *
+     * @param slowQuery the slow query
+     * @param explainer captures the execution plan, may be {@code null} if the backend cannot explain the query
+     */
+    public void record(SlowQuery slowQuery, QueryExplainer explainer) {
+        Objects.requireNonNull(slowQuery, "Slow query cannot be null");
+        synchronized (entries) {
+            entries[next] = slowQuery;
+            next = (next + 1) % entries.length;
+            size = Math.min(size + 1, entries.length);
+        }
+        log.debug("Slow {} query on {} took {} ms: {}", slowQuery.backend(), slowQuery.entity(), slowQuery.durationMillis(), slowQuery.translated());
+
+        if (explainer != null && acquireExplain()) {
+            explainExecutor.execute(() -> replace(slowQuery, slowQuery.withPlan(explainQuietly(explainer))));
+        }
+    }
+
+    /**
+     * Returns the recorded entries, newest first.
+     *
+     * @return a snapshot of the entries
+     */
+    public List<SlowQuery> getEntries() {
+        synchronized (entries) {
+            var snapshot = new ArrayList<SlowQuery>(size);
+            for (var i = 1; i <= size; i++) {
+                snapshot.add(entries[Math.floorMod(next - i, entries.length)]);
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * Removes every recorded entry.
+     */
+    public void clear() {
+        synchronized (entries) {
+            Arrays.fill(entries, null);
+            next = 0;
+            size = 0;
+        }
+    }
+
+    /**
+     * Stops capturing execution plans and unsets this log as default.
+     */
+    @Override
+    public synchronized void close() {
+        clearDefault(this);
+        explainIntervalNanos = -1;
+        if (explainExecutor != null) {
+            explainExecutor.shutdownNow();
+        }
+    }
+
+    private boolean acquireExplain() {
+        var interval = explainIntervalNanos;
+        if (interval < 0) {
+            return false;
+        }
+        var now = System.nanoTime();
+        var allowed = nextExplainNanos.get();
+        return now - allowed >= 0 && nextExplainNanos.compareAndSet(allowed, now + interval);
+    }
+
+    private void replace(SlowQuery previous, SlowQuery updated) {
+        synchronized (entries) {
+            for (var i = 0; i < entries.length; i++) {
+                if (entries[i] == previous) {
+                    entries[i] = updated;
+                    return;
+                }
+            }
+        }
+    }
+
+    private static String explainQuietly(QueryExplainer explainer) {
+        try {
+            return explainer.explain();
+        } catch (Exception e) {
+            log.debug("Could not capture the execution plan of a slow query", e);
+            return "Plan not available: " + e.getMessage();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.peluware.springframework.crud.core.snapshot;
+
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Holder of the current {@link Snapshot} of an entity type, rebuilt copy-on-write.
+ * <p>
+ * Readers always see a complete, immutable snapshot: {@link #refresh()} loads every entity into a new snapshot and
+ * swaps it in once built. Concurrent refresh requests are coalesced: a request is skipped when a reload that started
+ * after it has completed. The first snapshot is loaded on first access, or eagerly by calling {@link #refresh()}
+ * on startup.
+ * </p>
+ *
+ * @param <E>  the entity type
+ * @param <ID> the identifier type
+ */
+public class EntitySnapshot<E extends Persistable<ID>, ID> {
+
+    private final Class<E> entityClass;
+    private final Supplier<? extends Collection<E>> loader;
+    private final AtomicLong requests = new AtomicLong();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long loaded;
+    private volatile Snapshot<E, ID> current;
+
+    /**
+     * Creates a holder loading the entities with the given loader.
+     *
+     * @param entityClass the entity class
+     * @param loader      returns every entity of the type, fully loaded
+     */
+    public EntitySnapshot(Class<E> entityClass, Supplier<? extends Collection<E>> loader) {
+        this.entityClass = Objects.requireNonNull(entityClass, "Entity class cannot be null");
+        this.loader = Objects.requireNonNull(loader, "Loader cannot be null");
+    }
+
+    /**
+     * Creates a holder loading the entities from the given repository, in a new read-only transaction so that
+     * refreshes triggered after a commit never read through the persistence context of the committed transaction.
+     *
+     * @param entityClass        the entity class
+     * @param repository         the repository
+     * @param transactionManager the transaction manager
+     * @param <E>                the entity type
+     * @param <ID>               the identifier type
+     * @return the holder
+     */
+    public static <E extends Persistable<ID>, ID> EntitySnapshot<E, ID> of(Class<E> entityClass, ListCrudRepository<E, ID> repository, PlatformTransactionManager transactionManager) {
+        Objects.requireNonNull(repository, "Repository cannot be null");
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.setReadOnly(true);
+        return new EntitySnapshot<>(entityClass, () -> transactionTemplate.execute(status -> repository.findAll()));
+    }
+
+    /**
+     * Returns the entity class.
+     *
+     * @return the entity class
+     */
+    public Class<E> getEntityClass() {
+        return entityClass;
+    }
+
+    /**
+     * Returns the current snapshot, loading it if needed.
+     *
+     * @return the current snapshot
+     */
+    public Snapshot<E, ID> current() {
+        var snapshot = current;
+        if (snapshot == null) {
+            refresh();
+            snapshot = current;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Reloads every entity into a new snapshot and makes it current, unless a reload started after this call has
+     * already completed.
+     */
+    public void refresh() {
+        var request = requests.incrementAndGet();
+        lock.lock();
+        try {
+            if (loaded >= request) {
+                return;
+            }
+            var covered = requests.get();
+            current = Snapshot.of(entityClass, loader.get());
+            loaded = covered;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
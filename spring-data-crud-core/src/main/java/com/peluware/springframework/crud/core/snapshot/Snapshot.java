@@ -0,0 +1,382 @@
+package com.peluware.springframework.crud.core.snapshot;
+
+import com.peluware.springframework.crud.core.search.SearchableField;
+import com.peluware.springframework.crud.core.search.SearchableFields;
+import com.peluware.springframework.crud.core.utils.FieldUtils;
+import com.peluware.springframework.crud.core.utils.StringUtils;
+import cz.jirutka.rsql.parser.ast.Node;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Immutable, column-indexed in-memory copy of every entity of a type.
+ * <p>
+ * Rows are kept in identifier order, which is also the order of unsorted pages. The values of every persistent field
+ * are extracted into one array per field when the snapshot is built; nested paths ({@code country.code}), hash indexes
+ * used by equality and {@code =in=} filters and lower-cased columns used by case-insensitive searches are built on
+ * first use. Filters are compiled by {@link SnapshotFilterCompiler} and evaluated into row sets, then sorted and
+ * paginated in memory.
+ * </p>
+ * <p>
+ * Results follow the semantics of the database-backed services: comparisons never match {@code null} values, the
+ * search text matches the {@link SearchableFields searchable fields} of the entity with their match modes (or every
+ * persistent string field, case-insensitively, when none are declared), and unspecified null ordering places
+ * {@code null} values last in ascending order. Strings are compared by code point, which only matches databases using a binary
+ * collation. Static, {@code transient} and {@code @Transient} fields are not persistent: they cannot be filtered or
+ * sorted by and are not searched. Entities must be fully loaded, since lazy associations are read through their
+ * fields.
+ * </p>
+ *
+ * @param <E>  the entity type
+ * @param <ID> the identifier type
+ */
+public final class Snapshot<E extends Persistable<ID>, ID> {
+
+    private final Class<E> entityClass;
+    private final List<E> rows;
+    private final Map<ID, Integer> positions;
+    private final Map<String, Column> columns = new ConcurrentHashMap<>();
+    private final Map<String, Map<Object, int[]>> indexes = new ConcurrentHashMap<>();
+    private final Map<String, String[]> foldedColumns = new ConcurrentHashMap<>();
+
+    private Snapshot(Class<E> entityClass, List<E> rows) {
+        this.entityClass = entityClass;
+        this.rows = rows;
+        this.positions = HashMap.newHashMap(rows.size());
+        for (var i = 0; i < rows.size(); i++) {
+            positions.put(rows.get(i).getId(), i);
+        }
+        ReflectionUtils.doWithFields(entityClass,
+                field -> column(field.getName()),
+                field -> FieldUtils.isPersistent(field) && !isMultiValued(field.getType()));
+    }
+
+    /**
+     * Builds a snapshot of the given entities.
+     *
+     * @param entityClass the entity class
+     * @param entities    every entity of the type
+     * @param <E>         the entity type
+     * @param <ID>        the identifier type
+     * @return the snapshot
+     */
+    public static <E extends Persistable<ID>, ID> Snapshot<E, ID> of(Class<E> entityClass, Collection<E> entities) {
+        Objects.requireNonNull(entityClass, "Entity class cannot be null");
+        Objects.requireNonNull(entities, "Entities cannot be null");
+        var rows = new ArrayList<>(entities);
+        if (!rows.isEmpty() && rows.getFirst().getId() instanceof Comparable<?>) {
+            rows.sort(Comparator.comparing(Persistable::getId, Snapshot::compare));
+        }
+        return new Snapshot<>(entityClass, List.copyOf(rows));
+    }
+
+    /**
+     * Returns the entity class.
+     *
+     * @return the entity class
+     */
+    public Class<E> getEntityClass() {
+        return entityClass;
+    }
+
+    /**
+     * Returns the number of entities.
+     *
+     * @return the number of entities
+     */
+    public int size() {
+        return rows.size();
+    }
+
+    /**
+     * Returns the entity with the given id.
+     *
+     * @param id the id
+     * @return the entity, if present
+     */
+    public Optional<E> find(ID id) {
+        var position = positions.get(id);
+        return position != null ? Optional.of(rows.get(position)) : Optional.empty();
+    }
+
+    /**
+     * Returns the entities with the given ids, skipping missing ones.
+     *
+     * @param ids the ids
+     * @return the entities found
+     */
+    public List<E> find(List<ID> ids) {
+        var entities = new ArrayList<E>(ids.size());
+        for (var id : ids) {
+            find(id).ifPresent(entities::add);
+        }
+        return entities;
+    }
+
+    /**
+     * Checks whether an entity with the given id exists.
+     *
+     * @param id the id
+     * @return {@code true} if it exists
+     */
+    public boolean exists(ID id) {
+        return positions.containsKey(id);
+    }
+
+    /**
+     * Counts the entities matching the search text and query.
+     *
+     * @param search optional search text
+     * @param query  optional parsed RSQL query
+     * @return the number of matching entities
+     * @throws IllegalArgumentException if a selector is invalid or an argument cannot be converted
+     */
+    public long count(String search, Node query) {
+        return filter(search, query).cardinality();
+    }
+
+    /**
+     * Returns a page of the entities matching the search text and query.
+     *
+     * @param search   optional search text
+     * @param query    optional parsed RSQL query
+     * @param pageable the pagination and sort
+     * @return the page of matching entities
+     * @throws IllegalArgumentException if a selector or sort property is invalid, or an argument cannot be converted
+     */
+    public Page<E> page(String search, Node query, Pageable pageable) {
+        var matches = filter(search, query).stream().toArray();
+        var sort = pageable.getSort();
+        if (sort.isSorted()) {
+            matches = sort(matches, sort);
+        }
+        var from = pageable.isUnpaged() ? 0 : (int) Math.min(pageable.getOffset(), matches.length);
+        var to = pageable.isUnpaged() ? matches.length : Math.min(from + pageable.getPageSize(), matches.length);
+        var content = new ArrayList<E>(to - from);
+        for (var i = from; i < to; i++) {
+            content.add(rows.get(matches[i]));
+        }
+        var total = matches.length;
+        return PageableExecutionUtils.getPage(content, pageable, () -> total);
+    }
+
+    BitSet filter(String search, Node query) {
+        var matches = search(StringUtils.normalize(search));
+        if (query != null) {
+            matches.and(new SnapshotFilterCompiler(this).compile(query).evaluate());
+        }
+        return matches;
+    }
+
+    BitSet all() {
+        var all = new BitSet(rows.size());
+        all.set(0, rows.size());
+        return all;
+    }
+
+    BitSet scan(Object[] values, Predicate<Object> predicate) {
+        var matches = new BitSet(values.length);
+        for (var i = 0; i < values.length; i++) {
+            var value = values[i];
+            if (value != null && predicate.test(value)) {
+                matches.set(i);
+            }
+        }
+        return matches;
+    }
+
+    BitSet lookup(String path, Collection<?> values) {
+        var index = index(path);
+        var matches = new BitSet(rows.size());
+        for (var value : values) {
+            var found = index.get(key(value));
+            if (found != null) {
+                for (var position : found) {
+                    matches.set(position);
+                }
+            }
+        }
+        return matches;
+    }
+
+    Column column(String path) {
+        return columns.computeIfAbsent(path, this::extract);
+    }
+
+    private Map<Object, int[]> index(String path) {
+        return indexes.computeIfAbsent(path, p -> {
+            var values = column(p).values();
+            var lists = new HashMap<Object, List<Integer>>();
+            for (var i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    lists.computeIfAbsent(key(values[i]), k -> new ArrayList<>(1)).add(i);
+                }
+            }
+            var index = HashMap.<Object, int[]>newHashMap(lists.size());
+            lists.forEach((key, list) -> index.put(key, list.stream().mapToInt(Integer::intValue).toArray()));
+            return index;
+        });
+    }
+
+    private String[] foldedColumn(String path) {
+        return foldedColumns.computeIfAbsent(path, p -> {
+            var values = column(p).values();
+            var folded = new String[values.length];
+            for (var i = 0; i < values.length; i++) {
+                folded[i] = values[i] != null ? values[i].toString().toLowerCase(Locale.ROOT) : null;
+            }
+            return folded;
+        });
+    }
+
+    private BitSet search(String term) {
+        if (term == null) {
+            return all();
+        }
+        var searchable = SearchableFields.of(entityClass);
+        if (!searchable.isDeclared()) {
+            var folded = term.toLowerCase(Locale.ROOT);
+            var matches = new BitSet(rows.size());
+            columns.forEach((path, column) -> {
+                if (column.type() == String.class && path.indexOf('.') < 0) {
+                    matches.or(scan(foldedColumn(path), value -> ((String) value).contains(folded)));
+                }
+            });
+            return matches;
+        }
+
+        var id = searchable.toId(term);
+        if (id != null) {
+            var matches = new BitSet(rows.size());
+            var position = positions.get(id);
+            if (position != null) {
+                matches.set(position);
+            }
+            return matches;
+        }
+
+        var matches = new BitSet(rows.size());
+        for (var field : searchable.fields()) {
+            var value = field.value(term);
+            if (value != null) {
+                matches.or(search(field, value));
+            }
+        }
+        return matches;
+    }
+
+    private BitSet search(SearchableField field, Object value) {
+        return switch (field.match()) {
+            case EXACT -> lookup(field.name(), List.of(value));
+            case PREFIX, CASE_FOLDED -> scan(column(field.name()).values(), candidate -> ((String) candidate).startsWith((String) value));
+            case CONTAINS -> scan(foldedColumn(field.name()), candidate -> ((String) candidate).contains((String) value));
+        };
+    }
+
+    private int[] sort(int[] matches, Sort sort) {
+        Comparator<Integer> comparator = null;
+        for (var order : sort) {
+            var values = column(order.getProperty()).values();
+            Comparator<Integer> next = (left, right) -> compare(values[left], values[right], order);
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        var boxed = Arrays.stream(matches).boxed().toArray(Integer[]::new);
+        Arrays.sort(boxed, comparator);
+        return Arrays.stream(boxed).mapToInt(Integer::intValue).toArray();
+    }
+
+    private Column extract(String path) {
+        var chain = new ArrayList<Field>();
+        Class<?> type = entityClass;
+        for (var segment : path.split("\\.", -1)) {
+            var field = ReflectionUtils.findField(type, segment);
+            if (field == null || !FieldUtils.isPersistent(field)) {
+                throw new IllegalArgumentException("Invalid selector: " + path);
+            }
+            if (isMultiValued(field.getType())) {
+                throw new IllegalArgumentException("Cannot filter or sort by collection attribute: " + path);
+            }
+            ReflectionUtils.makeAccessible(field);
+            chain.add(field);
+            type = field.getType();
+        }
+        var values = new Object[rows.size()];
+        for (var i = 0; i < values.length; i++) {
+            Object value = rows.get(i);
+            for (var field : chain) {
+                value = ReflectionUtils.getField(field, value);
+                if (value == null) {
+                    break;
+                }
+            }
+            values[i] = value;
+        }
+        return new Column(ClassUtils.resolvePrimitiveIfNecessary(type), values);
+    }
+
+    private static int compare(Object left, Object right, Sort.Order order) {
+        if (left == null || right == null) {
+            if (left == right) {
+                return 0;
+            }
+            var nullsFirst = switch (order.getNullHandling()) {
+                case NULLS_FIRST -> true;
+                case NULLS_LAST -> false;
+                case NATIVE -> order.isDescending();
+            };
+            return (left == null) == nullsFirst ? -1 : 1;
+        }
+        if (order.isIgnoreCase() && left instanceof String leftText && right instanceof String rightText) {
+            left = leftText.toLowerCase(Locale.ROOT);
+            right = rightText.toLowerCase(Locale.ROOT);
+        }
+        var result = compare(left, right);
+        return order.isAscending() ? result : -result;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static int compare(Object left, Object right) {
+        if (left instanceof Comparable comparable) {
+            return comparable.compareTo(right);
+        }
+        throw new IllegalArgumentException("Values of type " + left.getClass().getSimpleName() + " cannot be compared");
+    }
+
+    static Object key(Object value) {
+        return value instanceof BigDecimal decimal ? decimal.stripTrailingZeros() : value;
+    }
+
+    private static boolean isMultiValued(Class<?> type) {
+        return Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type) || type.isArray() && type != byte[].class;
+    }
+
+    /**
+     * Values of one field, or nested path, for every row.
+     *
+     * @param type   the type of the values
+     * @param values the values, indexed by row
+     */
+    record Column(Class<?> type, Object[] values) {
+    }
+}
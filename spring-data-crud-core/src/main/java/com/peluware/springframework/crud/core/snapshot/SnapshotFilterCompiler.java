@@ -0,0 +1,177 @@
+package com.peluware.springframework.crud.core.snapshot;
+
+import com.peluware.springframework.crud.core.search.QueryArguments;
+import cz.jirutka.rsql.parser.ast.ComparisonNode;
+import cz.jirutka.rsql.parser.ast.LogicalNode;
+import cz.jirutka.rsql.parser.ast.LogicalOperator;
+import cz.jirutka.rsql.parser.ast.Node;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles RSQL queries into filters evaluated on the columns of a {@link Snapshot}.
+ * <p>
+ * Compilation resolves selectors to columns, converts arguments to the column types (like the database-backed
+ * translators, through {@link QueryArguments#conversionService()}) and compiles wildcard patterns once, so evaluation
+ * only walks column arrays. Equality and {@code =in=} are answered from hash indexes, other operators scan the column.
+ * Supported operators are {@code ==}, {@code !=} (with {@code *} wildcards on string attributes), {@code =gt=},
+ * {@code =ge=}, {@code =lt=}, {@code =le=}, {@code =in=} and {@code =out=}; like in SQL, none of them matches
+ * {@code null} values.
+ * </p>
+ */
+final class SnapshotFilterCompiler {
+
+    private final Snapshot<?, ?> snapshot;
+
+    SnapshotFilterCompiler(Snapshot<?, ?> snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * A compiled filter.
+     */
+    @FunctionalInterface
+    interface CompiledFilter {
+
+        /**
+         * Evaluates the filter.
+         *
+         * @return the positions of the matching rows
+         */
+        BitSet evaluate();
+    }
+
+    /**
+     * Compiles the given query.
+     *
+     * @param node the parsed RSQL query
+     * @return the compiled filter
+     * @throws IllegalArgumentException if a selector or operator is invalid or an argument cannot be converted
+     */
+    CompiledFilter compile(Node node) {
+        if (node instanceof LogicalNode logical) {
+            var children = new ArrayList<CompiledFilter>(logical.getChildren().size());
+            for (var child : logical.getChildren()) {
+                children.add(compile(child));
+            }
+            return logical.getOperator() == LogicalOperator.AND ? and(children) : or(children);
+        }
+        if (node instanceof ComparisonNode comparison) {
+            return comparison(comparison);
+        }
+        throw new IllegalArgumentException("Unsupported query node: " + node);
+    }
+
+    private CompiledFilter and(List<CompiledFilter> children) {
+        return () -> {
+            var matches = snapshot.all();
+            for (var child : children) {
+                if (matches.isEmpty()) {
+                    break;
+                }
+                matches.and(child.evaluate());
+            }
+            return matches;
+        };
+    }
+
+    private static CompiledFilter or(List<CompiledFilter> children) {
+        return () -> {
+            var matches = new BitSet();
+            for (var child : children) {
+                matches.or(child.evaluate());
+            }
+            return matches;
+        };
+    }
+
+    private CompiledFilter comparison(ComparisonNode node) {
+        var selector = node.getSelector();
+        var column = snapshot.column(selector);
+        var type = column.type();
+        var arguments = node.getArguments();
+
+        return switch (node.getOperator().getSymbol()) {
+            case "==" -> equality(selector, column, arguments.getFirst(), false);
+            case "!=" -> equality(selector, column, arguments.getFirst(), true);
+            case "=gt=" -> compare(column, convert(arguments.getFirst(), type), result -> result > 0);
+            case "=ge=" -> compare(column, convert(arguments.getFirst(), type), result -> result >= 0);
+            case "=lt=" -> compare(column, convert(arguments.getFirst(), type), result -> result < 0);
+            case "=le=" -> compare(column, convert(arguments.getFirst(), type), result -> result <= 0);
+            case "=in=" -> {
+                var values = convertAll(arguments, type);
+                yield () -> snapshot.lookup(selector, values);
+            }
+            case "=out=" -> {
+                var keys = new HashSet<>();
+                for (var value : convertAll(arguments, type)) {
+                    keys.add(Snapshot.key(value));
+                }
+                yield () -> snapshot.scan(column.values(), value -> !keys.contains(Snapshot.key(value)));
+            }
+            default -> throw new IllegalArgumentException("Unsupported operator: " + node.getOperator().getSymbol());
+        };
+    }
+
+    private CompiledFilter equality(String selector, Snapshot.Column column, String argument, boolean negated) {
+        if (column.type() == String.class && argument.indexOf('*') >= 0) {
+            var pattern = wildcard(argument);
+            return () -> snapshot.scan(column.values(), value -> pattern.matcher((String) value).matches() != negated);
+        }
+        var converted = convert(argument, column.type());
+        if (negated) {
+            var key = Snapshot.key(converted);
+            return () -> snapshot.scan(column.values(), value -> !key.equals(Snapshot.key(value)));
+        }
+        var values = List.of(converted);
+        return () -> snapshot.lookup(selector, values);
+    }
+
+    private CompiledFilter compare(Snapshot.Column column, Object argument, IntPredicate accept) {
+        return () -> snapshot.scan(column.values(), value -> accept.test(Snapshot.compare(value, argument)));
+    }
+
+    private static Pattern wildcard(String argument) {
+        var regex = new StringBuilder();
+        var start = 0;
+        for (var i = 0; i <= argument.length(); i++) {
+            if (i == argument.length() || argument.charAt(i) == '*') {
+                if (i > start) {
+                    regex.append(Pattern.quote(argument.substring(start, i)));
+                }
+                if (i < argument.length()) {
+                    regex.append(".*");
+                }
+                start = i + 1;
+            }
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    private static Object convert(String argument, Class<?> type) {
+        Object value;
+        try {
+            value = QueryArguments.conversionService().convert(argument, type);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cannot convert '" + argument + "' to " + type.getSimpleName(), e);
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("Cannot convert '" + argument + "' to " + type.getSimpleName());
+        }
+        return value;
+    }
+
+    private static List<Object> convertAll(List<String> arguments, Class<?> type) {
+        var values = new ArrayList<>(arguments.size());
+        for (var argument : arguments) {
+            values.add(convert(argument, type));
+        }
+        return values;
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.peluware.springframework.crud.core.snapshot;
+
+import com.peluware.springframework.crud.core.CrudOperation;
+import com.peluware.springframework.crud.core.ReadService;
+import com.peluware.springframework.crud.core.exceptions.NotFoundEntityException;
+import com.peluware.springframework.crud.core.providers.EntityClassProvider;
+import cz.jirutka.rsql.parser.ast.Node;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Persistable;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+
+/**
+ * Read service answering every operation from an in-memory {@link Snapshot}, for small, rarely written entity sets
+ * such as lookup tables (countries, currencies, categories).
+ * <p>
+ * Pages, searches, RSQL queries, counts and lookups by id are evaluated in memory on the
+ * {@link #getSnapshot() current snapshot}, with the semantics described in {@link Snapshot}, and never reach the
+ * database nor open a transaction. The snapshot is rebuilt after writes by {@link SnapshotRefreshHooks} registered
+ * on the write side. Returned entities are shared by every caller and must not be modified.
+ * </p>
+ *
+ * @param <E>  the entity type, must implement {@link Persistable}
+ * @param <ID> the ID type of the entity
+ */
+public interface SnapshotReadService<E extends Persistable<ID>, ID> extends
+        ReadService<E, ID>,
+        EntityClassProvider<E> {
+
+    /**
+     * Returns the snapshot holder of the entity, e.g. {@code EntitySnapshot.of(Country.class, repository, transactionManager)}.
+     *
+     * @return the snapshot holder
+     */
+    EntitySnapshot<E, ID> getSnapshot();
+
+    /**
+     * Returns operations without transaction, since reads never reach the database.
+     *
+     * @param operation the CRUD operation
+     * @return transaction operations executing the callback directly
+     */
+    @Override
+    default TransactionOperations getTransactionOperations(CrudOperation operation) {
+        return TransactionOperations.withoutTransaction();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Page<E> internalPage(Pageable pageable) {
+        return getSnapshot().current().page(null, null, pageable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Page<E> internalSearch(String search, Pageable pageable) {
+        return internalSearch(search, pageable, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Page<E> internalSearch(String search, Pageable pageable, Node query) {
+        return getSnapshot().current().page(search, query, pageable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default E internalFind(ID id) {
+        return getSnapshot().current().find(id).orElseThrow(() -> new NotFoundEntityException(getEntityClass(), id));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default List<E> internalFind(List<ID> ids) {
+        return getSnapshot().current().find(ids);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default long internalCount() {
+        return getSnapshot().current().size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default long internalCount(String search) {
+        return internalCount(search, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default long internalCount(String search, Node query) {
+        return getSnapshot().current().count(search, query);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default boolean internalExists(ID id) {
+        return getSnapshot().current().exists(id);
+    }
+}
@@ -0,0 +1,56 @@
+package com.peluware.springframework.crud.core.snapshot;
+
+import com.peluware.springframework.crud.core.hooks.AfterCommitHooks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Persistable;
+
+import java.util.Objects;
+
+/**
+ * Write hooks rebuilding an {@link EntitySnapshot} after a {@link com.peluware.springframework.crud.core.WriteService}
+ * writes.
+ * <p>
+ * The snapshot is refreshed once per transaction, after it commits, on the committing thread: the write call only
+ * returns once the new snapshot is visible. Without an active transaction it is refreshed immediately. A failed
+ * refresh is logged and the previous snapshot is kept until the next write.
+ * </p>
+ *
+ * @param <E>  the entity type
+ * @param <D>  the DTO type
+ * @param <ID> the identifier type
+ */
+@Slf4j
+public class SnapshotRefreshHooks<E extends Persistable<ID>, D, ID> extends AfterCommitHooks<E, D, ID> {
+
+    private final EntitySnapshot<E, ID> snapshot;
+
+    /**
+     * Creates hooks refreshing the given snapshot.
+     *
+     * @param snapshot the snapshot to refresh
+     */
+    public SnapshotRefreshHooks(EntitySnapshot<E, ID> snapshot) {
+        super(Objects.requireNonNull(snapshot, "Snapshot cannot be null").getEntityClass());
+        this.snapshot = snapshot;
+    }
+
+    @Override
+    public void onAfterCreate(D dto, E entity) {
+        afterCommit(snapshot, snapshot::refresh);
+    }
+
+    @Override
+    public void onAfterUpdate(D dto, E entity) {
+        afterCommit(snapshot, snapshot::refresh);
+    }
+
+    @Override
+    public void onAfterDelete(E entity) {
+        afterCommit(snapshot, snapshot::refresh);
+    }
+
+    @Override
+    protected void onFailure(RuntimeException e) {
+        log.error("Cannot refresh snapshot of {}, keeping the previous one", getEntityClass().getSimpleName(), e);
+    }
+}
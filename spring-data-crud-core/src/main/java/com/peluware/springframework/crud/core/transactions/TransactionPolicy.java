@@ -0,0 +1,63 @@
+package com.peluware.springframework.crud.core.transactions;
+
+import com.peluware.springframework.crud.core.CrudOperation;
+import org.springframework.transaction.TransactionDefinition;
+
+/**
+ * Immutable description of the transaction in which a CRUD operation is executed.
+ * <p>
+ * Policies are resolved per {@link CrudOperation} through
+ * {@link com.peluware.springframework.crud.core.providers.TransactionOperationsProvider#getTransactionPolicy(CrudOperation)}.
+ * By default, write operations run in a {@link #READ_WRITE} transaction and read operations in a
+ * {@link #READ_ONLY} one, which lets JPA providers skip dirty-checking snapshots and JDBC drivers
+ * route or optimize the connection.
+ * </p>
+ *
+ * @param propagation the propagation behavior, one of the {@code PROPAGATION_*} constants of {@link TransactionDefinition}
+ * @param isolation   the isolation level, one of the {@code ISOLATION_*} constants of {@link TransactionDefinition}
+ * @param timeout     the timeout in seconds, or {@link TransactionDefinition#TIMEOUT_DEFAULT}
+ * @param readOnly    whether the transaction is read-only
+ */
+public record TransactionPolicy(int propagation, int isolation, int timeout, boolean readOnly) {
+
+    /**
+     * Default policy for write operations: required propagation, default isolation and timeout.
+     */
+    public static final TransactionPolicy READ_WRITE = new TransactionPolicy(
+            TransactionDefinition.PROPAGATION_REQUIRED,
+            TransactionDefinition.ISOLATION_DEFAULT,
+            TransactionDefinition.TIMEOUT_DEFAULT,
+            false
+    );
+
+    /**
+     * Default policy for read operations: same as {@link #READ_WRITE} but read-only.
+     */
+    public static final TransactionPolicy READ_ONLY = READ_WRITE.withReadOnly(true);
+
+    /**
+     * Returns the default policy for the given operation.
+     *
+     * @param operation the CRUD operation
+     * @return {@link #READ_ONLY} for read-only operations, {@link #READ_WRITE} otherwise
+     */
+    public static TransactionPolicy of(CrudOperation operation) {
+        return operation.isReadOnly() ? READ_ONLY : READ_WRITE;
+    }
+
+    public TransactionPolicy withPropagation(int propagation) {
+        return new TransactionPolicy(propagation, isolation, timeout, readOnly);
+    }
+
+    public TransactionPolicy withIsolation(int isolation) {
+        return new TransactionPolicy(propagation, isolation, timeout, readOnly);
+    }
+
+    public TransactionPolicy withTimeout(int timeout) {
+        return new TransactionPolicy(propagation, isolation, timeout, readOnly);
+    }
+
+    public TransactionPolicy withReadOnly(boolean readOnly) {
+        return new TransactionPolicy(propagation, isolation, timeout, readOnly);
+    }
+}
@@ -0,0 +1,69 @@
+package com.peluware.springframework.crud.core.transactions;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of configured {@link TransactionTemplate} instances.
+ * <p>
+ * A {@link TransactionTemplate} is thread-safe once configured, so a single instance is shared for every
+ * combination of transaction manager and {@link TransactionPolicy} instead of creating one per operation.
+ By default every service class shares the cache returned by {@link #of(Class)} (see
+ * {@link com.peluware.springframework.crud.core.providers.TransactionOperationsProvider#getTransactionTemplateCache()}),
+ * so templates and their transaction managers are released together with the service class.
+ * </p>
+ */
+public class TransactionTemplateCache {
+
+    private static final ClassValue<TransactionTemplateCache> CACHES = new ClassValue<>() {
+        @Override
+        protected TransactionTemplateCache computeValue(Class<?> type) {
+            return new TransactionTemplateCache();
+        }
+    };
+
+    private final Map<Key, TransactionTemplate> templates = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cache of the given service class, creating it on first use.
+     *
+     * @param serviceClass the class of the service using the templates
+     * @return the cache of the service class, never {@code null}
+     */
+    public static TransactionTemplateCache of(Class<?> serviceClass) {
+        return CACHES.get(serviceClass);
+    }
+
+    /**
+     * Returns the cached template for the given transaction manager and policy, creating it on first use.
+     *
+     * @param transactionManager the transaction manager
+     * @param policy             the transaction policy
+     * @return a shared, configured transaction template
+     */
+    public TransactionTemplate get(PlatformTransactionManager transactionManager, TransactionPolicy policy) {
+        return templates.computeIfAbsent(new Key(transactionManager, policy), key -> create(key.transactionManager(), key.policy()));
+    }
+
+    /**
+     * Creates a new template for the given transaction manager and policy.
+     *
+     * @param transactionManager the transaction manager
+     * @param policy             the transaction policy
+     * @return a configured transaction template
+     */
+    public static TransactionTemplate create(PlatformTransactionManager transactionManager, TransactionPolicy policy) {
+        var template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(policy.propagation());
+        template.setIsolationLevel(policy.isolation());
+        template.setTimeout(policy.timeout());
+        template.setReadOnly(policy.readOnly());
+        return template;
+    }
+
+    private record Key(PlatformTransactionManager transactionManager, TransactionPolicy policy) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.peluware.springframework.crud.core.utils;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.data.annotation.Transient;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+@UtilityClass
+public final class FieldUtils {
+
+    private static final String JPA_TRANSIENT = "jakarta.persistence.Transient";
+
+    /**
+     * Checks whether the given field holds persistent state: static fields, Java {@code transient} fields and fields
+     * annotated with Spring Data's or JPA's {@code @Transient} are not persisted. The JPA annotation is matched by
+     * name, so that it is recognized without the JPA API on the classpath.
+     *
+     * @param field the field
+     * @return {@code true} if the field is persisted
+     */
+    public static boolean isPersistent(Field field) {
+        var modifiers = field.getModifiers();
+        if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)) {
+            return false;
+        }
+        var annotations = MergedAnnotations.from(field);
+        return !annotations.isPresent(Transient.class) && !annotations.isPresent(JPA_TRANSIENT);
+    }
+}
@@ -0,0 +1,80 @@
+package com.peluware.springframework.crud.core.async;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncCrudExecutorTest {
+
+    private final ExecutorService delegate = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        delegate.shutdownNow();
+    }
+
+    @Test
+    void completesTheFutureWhenInterruptedWaitingForAPermit() throws Exception {
+        var executor = new AsyncCrudExecutor(delegate, 1);
+        var release = new CountDownLatch(1);
+        executor.run(() -> await(release));
+
+        var waiting = executor.supply(() -> "never");
+        waitFor(() -> executor.getQueueLength() == 1);
+        delegate.shutdownNow();
+
+        var e = assertThrows(Exception.class, () -> waiting.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(InterruptedException.class, e.getCause());
+    }
+
+    @Test
+    void releasesThePermitsOfCancelledTasks() throws Exception {
+        var executor = new AsyncCrudExecutor(delegate, 1);
+        var running = executor.run(() -> await(new CountDownLatch(1)));
+        waitFor(() -> executor.getActiveCount() == 1);
+        var ran = new AtomicBoolean();
+        var queued = executor.run(() -> ran.set(true));
+        waitFor(() -> executor.getQueueLength() == 1);
+
+        // the queued task is cancelled first, so the permit released by the running one cannot be handed to it
+        assertThrows(IllegalStateException.class, () -> CrudFanOut.awaitAll(
+                queued, running, CompletableFuture.failedFuture(new IllegalStateException("failed"))
+        ));
+
+        assertEquals("done", executor.supply(() -> "done").get(5, TimeUnit.SECONDS));
+        waitFor(() -> executor.getActiveCount() == 0);
+        assertTrue(running.isCancelled());
+        assertFalse(ran.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met");
+            }
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.peluware.springframework.crud.core.authorization;
+
+import com.peluware.springframework.crud.core.CrudOperation;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authentication.event.LogoutSuccessEvent;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationDeniedException;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AuthorizationDecisionCacheTest {
+
+    private final AtomicInteger decisions = new AtomicInteger();
+    private volatile boolean granted = true;
+
+    private final AuthorizationManager<CrudOperation> manager = new AuthorizationManager<>() {
+        @Override
+        @SuppressWarnings("deprecation")
+        public AuthorizationDecision check(Supplier<Authentication> authentication, CrudOperation operation) {
+            decisions.incrementAndGet();
+            return new AuthorizationDecision(granted);
+        }
+    };
+
+    private final AuthorizationDecisionCache cache = new AuthorizationDecisionCache(Duration.ofMinutes(1), 100);
+
+    @Test
+    void reusesDecisionsOfTheSameUserAndOperation() {
+        var alice = user("alice", "ROLE_USER");
+
+        cache.verify(manager, alice, CrudOperation.FIND);
+        cache.verify(manager, user("alice", "ROLE_USER"), CrudOperation.FIND);
+        cache.verify(manager, alice, CrudOperation.DELETE);
+
+        assertEquals(2, decisions.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void decidesAgainWhenTheAuthoritiesChange() {
+        cache.verify(manager, user("alice", "ROLE_USER"), CrudOperation.FIND);
+        granted = false;
+
+        assertThrows(AuthorizationDeniedException.class, () -> cache.verify(manager, user("alice", "ROLE_USER", "ROLE_SUSPENDED"), CrudOperation.FIND));
+        assertEquals(2, decisions.get());
+    }
+
+    @Test
+    void evictsTheDecisionsOfAUser() {
+        cache.verify(manager, user("alice", "ROLE_USER"), CrudOperation.FIND);
+        cache.verify(manager, user("bob", "ROLE_USER"), CrudOperation.FIND);
+        granted = false;
+
+        cache.evict("alice");
+
+        assertThrows(AuthorizationDeniedException.class, () -> cache.verify(manager, user("alice", "ROLE_USER"), CrudOperation.FIND));
+        cache.verify(manager, user("bob", "ROLE_USER"), CrudOperation.FIND);
+        assertEquals(3, decisions.get());
+    }
+
+    @Test
+    void evictsEveryDecision() {
+        cache.verify(manager, user("alice", "ROLE_USER"), CrudOperation.FIND);
+        cache.verify(manager, user("bob", "ROLE_USER"), CrudOperation.FIND);
+
+        cache.evictAll();
+
+        assertEquals(0, cache.size());
+        cache.verify(manager, user("alice", "ROLE_USER"), CrudOperation.FIND);
+        assertEquals(3, decisions.get());
+    }
+
+    @Test
+    void evictsTheDecisionsOfAUserOnLogout() {
+        var alice = user("alice", "ROLE_USER");
+        cache.verify(manager, alice, CrudOperation.FIND);
+        cache.verify(manager, user("bob", "ROLE_USER"), CrudOperation.FIND);
+
+        cache.onApplicationEvent(new LogoutSuccessEvent(alice));
+
+        assertEquals(1, cache.size());
+        cache.verify(manager, alice, CrudOperation.FIND);
+        assertEquals(3, decisions.get());
+    }
+
+    @Test
+    void decidesAgainOnceTheEntryExpires() throws Exception {
+        var cache = new AuthorizationDecisionCache(Duration.ofMillis(20), 100);
+        cache.verify(manager, user("alice", "ROLE_USER"), CrudOperation.FIND);
+        Thread.sleep(40);
+        granted = false;
+
+        assertThrows(AuthorizationDeniedException.class, () -> cache.verify(manager, user("alice", "ROLE_USER"), CrudOperation.FIND));
+        assertEquals(2, decisions.get());
+    }
+
+    @Test
+    void neverCachesUnauthenticatedRequests() {
+        var anonymous = new TestingAuthenticationToken("anonymous", null);
+
+        cache.verify(manager, anonymous, CrudOperation.FIND);
+        cache.verify(manager, null, CrudOperation.FIND);
+
+        assertEquals(0, cache.size());
+        assertEquals(2, decisions.get());
+    }
+
+    @Test
+    void staysWithinTheMaximumSize() {
+        var cache = new AuthorizationDecisionCache(Duration.ofMinutes(1), 3);
+
+        for (var i = 0; i < 10; i++) {
+            cache.verify(manager, user("user-" + i, "ROLE_USER"), CrudOperation.FIND);
+        }
+
+        assertEquals(3, cache.size());
+    }
+
+    private static Authentication user(String name, String... authorities) {
+        return new TestingAuthenticationToken(name, null, authorities);
+    }
+}
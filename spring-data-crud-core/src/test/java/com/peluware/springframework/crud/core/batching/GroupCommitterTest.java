@@ -0,0 +1,121 @@
+package com.peluware.springframework.crud.core.batching;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GroupCommitterTest {
+
+    private ItemWriteService service;
+    private ExecutorService callers;
+    private GroupCommitter<ItemWriteService.Item, String, Long> committer;
+
+    @BeforeEach
+    void setUp() {
+        service = new ItemWriteService();
+        callers = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (committer != null) {
+            committer.close();
+        }
+        callers.shutdownNow();
+    }
+
+    @Test
+    void commitsConcurrentCreatesInOneTransaction() throws Exception {
+        committer = new GroupCommitter<>(service, Duration.ofSeconds(5), 4);
+
+        var futures = new ArrayList<Future<ItemWriteService.Item>>();
+        for (var dto : List.of("a", "b", "c", "d")) {
+            futures.add(callers.submit(() -> committer.submit(dto)));
+        }
+
+        var values = new ArrayList<String>();
+        for (var future : futures) {
+            var item = future.get();
+            assertNotNull(item.getId());
+            values.add(item.getValue());
+        }
+        Collections.sort(values);
+        assertEquals(List.of("a", "b", "c", "d"), values);
+        assertEquals(1, service.batches.get());
+        assertEquals(1, service.transactionManager.commits.get());
+    }
+
+    @Test
+    void failsOnlyTheBadRequestOfAFailedBatch() throws Exception {
+        committer = new GroupCommitter<>(service, Duration.ofSeconds(5), 3);
+        service.writeFailure = dto -> dto.equals("bad") ? new IllegalStateException("bad row") : null;
+
+        var good = submitAndWait("good");
+        var bad = submitAndWait("bad");
+        var other = submitAndWait("other");
+
+        assertEquals("good", good.get().getValue());
+        assertEquals("other", other.get().getValue());
+        var e = assertThrows(ExecutionException.class, bad::get);
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        assertEquals(1, service.batches.get());
+        // the batch and the individual retry of the bad request roll back
+        assertEquals(2, service.transactionManager.rollbacks.get());
+        assertEquals(2, service.transactionManager.commits.get());
+    }
+
+    @Test
+    void runsTheHooksOfARetriedRequestTwice() throws Exception {
+        committer = new GroupCommitter<>(service, Duration.ofSeconds(5), 2);
+        service.afterCreateFailure = dto -> dto.equals("bad") ? new IllegalStateException("hook failed") : null;
+
+        var retried = submitAndWait("retried");
+        var bad = submitAndWait("bad");
+
+        assertEquals("retried", retried.get().getValue());
+        assertThrows(ExecutionException.class, bad::get);
+        assertEquals(List.of("retried", "bad", "retried", "bad"), service.beforeCreates);
+        assertEquals(List.of("retried", "retried"), service.afterCreates);
+    }
+
+    @Test
+    void closeCommitsPendingCreatesAndRejectsNewOnes() throws Exception {
+        committer = new GroupCommitter<>(service, Duration.ofMillis(200), 100);
+
+        var pending = submitAndWait("pending");
+        committer.close();
+
+        assertEquals("pending", pending.get().getValue());
+        assertThrows(IllegalStateException.class, () -> committer.submit("late"));
+    }
+
+    /**
+     * Submits a create from a caller thread and waits until it is queued, so that batches keep submission order.
+     */
+    private Future<ItemWriteService.Item> submitAndWait(String dto) throws InterruptedException {
+        var caller = new AtomicReference<Thread>();
+        var future = callers.submit(() -> {
+            caller.set(Thread.currentThread());
+            return committer.submit(dto);
+        });
+        while (!future.isDone() && (caller.get() == null || caller.get().getState() != Thread.State.WAITING)) {
+            Thread.sleep(1);
+        }
+        return future;
+    }
+}
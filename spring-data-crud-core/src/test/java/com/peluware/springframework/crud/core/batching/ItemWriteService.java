@@ -0,0 +1,185 @@
+package com.peluware.springframework.crud.core.batching;
+
+import com.peluware.springframework.crud.core.WriteService;
+import com.peluware.springframework.crud.core.exceptions.NotFoundEntityException;
+import com.peluware.springframework.crud.core.hooks.WriteHooks;
+import org.springframework.data.domain.Persistable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * In-memory write service recording the calls made by the batching components.
+ */
+class ItemWriteService implements WriteService<ItemWriteService.Item, String, Long> {
+
+    final Map<Long, Item> store = new ConcurrentHashMap<>();
+    final AtomicLong sequence = new AtomicLong();
+    final AtomicInteger batches = new AtomicInteger();
+    final AtomicInteger writes = new AtomicInteger();
+    final List<String> beforeCreates = new CopyOnWriteArrayList<>();
+    final List<String> afterCreates = new CopyOnWriteArrayList<>();
+    final CountingTransactionManager transactionManager = new CountingTransactionManager();
+
+    /**
+     * Returns the failure thrown when the given DTO is written, or {@code null} to write it.
+     */
+    volatile Function<String, RuntimeException> writeFailure = dto -> null;
+
+    /**
+     * Returns the failure thrown by {@code onAfterCreate} for the given DTO, or {@code null} to record it.
+     */
+    volatile Function<String, RuntimeException> afterCreateFailure = dto -> null;
+
+    Item put(String value) {
+        var item = new Item(sequence.incrementAndGet(), value);
+        store.put(item.getId(), item);
+        return item;
+    }
+
+    @Override
+    public Class<Item> getEntityClass() {
+        return Item.class;
+    }
+
+    @Override
+    public PlatformTransactionManager getTransactionManager() {
+        return transactionManager;
+    }
+
+    @Override
+    public WriteHooks<Item, String, Long> getHooks() {
+        return new WriteHooks<>() {
+            @Override
+            public void onBeforeCreate(String dto, Item entity) {
+                beforeCreates.add(dto);
+            }
+
+            @Override
+            public void onAfterCreate(String dto, Item entity) {
+                var failure = afterCreateFailure.apply(dto);
+                if (failure != null) {
+                    throw failure;
+                }
+                afterCreates.add(dto);
+            }
+        };
+    }
+
+    @Override
+    public Item internalFind(Long id) throws NotFoundEntityException {
+        var item = store.get(id);
+        if (item == null) {
+            throw new NotFoundEntityException(Item.class, id);
+        }
+        return new Item(item.getId(), item.value);
+    }
+
+    @Override
+    public void mapModel(String dto, Item model) {
+        model.value = dto;
+    }
+
+    @Override
+    public void internalCreate(Item entity) {
+        write(entity);
+        entity.id = sequence.incrementAndGet();
+        store.put(entity.id, entity);
+    }
+
+    @Override
+    public void internalCreateAll(List<Item> entities) {
+        batches.incrementAndGet();
+        WriteService.super.internalCreateAll(entities);
+    }
+
+    @Override
+    public void internalUpdate(Item entity) {
+        write(entity);
+        store.put(entity.id, entity);
+    }
+
+    @Override
+    public void internalUpdateAll(List<Item> entities) {
+        batches.incrementAndGet();
+        WriteService.super.internalUpdateAll(entities);
+    }
+
+    @Override
+    public void internalDelete(Item entity) {
+        store.remove(entity.id);
+    }
+
+    private void write(Item entity) {
+        writes.incrementAndGet();
+        var failure = writeFailure.apply(entity.value);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    public static class Item implements Persistable<Long> {
+
+        private Long id;
+        private String value;
+
+        public Item() {
+        }
+
+        Item(Long id, String value) {
+            this.id = id;
+            this.value = value;
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        String getValue() {
+            return value;
+        }
+
+        @Override
+        public boolean isNew() {
+            return id == null;
+        }
+    }
+
+    /**
+     * Transaction manager without resources, counting commits and rollbacks.
+     */
+    static class CountingTransactionManager extends AbstractPlatformTransactionManager {
+
+        final AtomicInteger commits = new AtomicInteger();
+        final AtomicInteger rollbacks = new AtomicInteger();
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            commits.incrementAndGet();
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            rollbacks.incrementAndGet();
+        }
+    }
+}
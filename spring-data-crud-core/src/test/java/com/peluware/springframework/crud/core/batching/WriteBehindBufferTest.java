@@ -0,0 +1,199 @@
+package com.peluware.springframework.crud.core.batching;
+
+import com.peluware.springframework.crud.core.exceptions.NotFoundEntityException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WriteBehindBufferTest {
+
+    private static final Duration NEVER = Duration.ofHours(1);
+
+    private ItemWriteService service;
+    private WriteBehindBuffer<ItemWriteService.Item, String, Long> buffer;
+    private final List<String> deadLetters = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        service = new ItemWriteService();
+        buffer = new WriteBehindBuffer<>(service, NEVER, 10, 10)
+                .deadLetterHandler((id, dto, e) -> deadLetters.add(id + "=" + dto));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.writeFailure = dto -> null;
+        buffer.close();
+    }
+
+    @Test
+    void coalescesUpdatesOfTheSameId() {
+        var id = service.put("initial").getId();
+
+        var first = buffer.submit(id, "first");
+        var second = buffer.submit(id, "second");
+        var last = buffer.submit(id, "last");
+        buffer.flush();
+
+        assertEquals(1, service.writes.get());
+        assertEquals("last", service.store.get(id).getValue());
+        assertEquals("last", first.join().getValue());
+        assertEquals("last", second.join().getValue());
+        assertEquals("last", last.join().getValue());
+    }
+
+    @Test
+    void mergesPendingUpdatesWithTheMergeFunction() {
+        var id = service.put("").getId();
+        buffer.mergeFunction((previous, next) -> previous + next);
+
+        buffer.submit(id, "a");
+        buffer.submit(id, "b");
+        buffer.submit(id, "c");
+        buffer.flush();
+
+        assertEquals("abc", service.store.get(id).getValue());
+    }
+
+    @Test
+    void failsUpdatesOfMissingIds() {
+        var future = buffer.submit(404L, "value");
+        buffer.flush();
+
+        var e = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(NotFoundEntityException.class, e.getCause());
+        assertTrue(deadLetters.isEmpty());
+    }
+
+    @Test
+    void retriesTransientFailuresOnTheNextFlush() {
+        var id = service.put("initial").getId();
+        var failures = new AtomicInteger(2);
+        service.writeFailure = dto -> failures.getAndDecrement() > 0 ? new PessimisticLockingFailureException("locked") : null;
+
+        var future = buffer.submit(id, "updated");
+        buffer.flush();
+
+        assertFalse(future.isDone());
+        buffer.flush();
+
+        assertEquals("updated", future.join().getValue());
+        assertEquals("updated", service.store.get(id).getValue());
+        assertTrue(deadLetters.isEmpty());
+    }
+
+    @Test
+    void mergesRetriedUpdatesBeforeNewerOnes() {
+        var id = service.put("").getId();
+        buffer.mergeFunction((previous, next) -> previous + next);
+        var failures = new AtomicInteger(2);
+        service.writeFailure = dto -> failures.getAndDecrement() > 0 ? new PessimisticLockingFailureException("locked") : null;
+
+        var retried = buffer.submit(id, "a");
+        buffer.flush();
+        var newer = buffer.submit(id, "b");
+        buffer.flush();
+
+        assertEquals("ab", service.store.get(id).getValue());
+        assertEquals("ab", retried.join().getValue());
+        assertEquals("ab", newer.join().getValue());
+    }
+
+    @Test
+    void deadLettersNonTransientFailuresWithoutRetrying() {
+        var id = service.put("initial").getId();
+        service.writeFailure = dto -> new DataIntegrityViolationException("constraint");
+
+        var future = buffer.submit(id, "invalid");
+        buffer.flush();
+        var writes = service.writes.get();
+        buffer.flush();
+
+        var e = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(DataIntegrityViolationException.class, e.getCause());
+        assertEquals(List.of(id + "=invalid"), deadLetters);
+        assertEquals(writes, service.writes.get());
+    }
+
+    @Test
+    void deadLettersTransientFailuresAfterMaxAttempts() {
+        var id = service.put("initial").getId();
+        service.writeFailure = dto -> new PessimisticLockingFailureException("locked");
+        buffer.maxAttempts(2);
+
+        var future = buffer.submit(id, "updated");
+        buffer.flush();
+        assertTrue(deadLetters.isEmpty());
+        buffer.flush();
+
+        var e = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(PessimisticLockingFailureException.class, e.getCause());
+        assertEquals(List.of(id + "=updated"), deadLetters);
+        assertEquals("initial", service.store.get(id).getValue());
+    }
+
+    @Test
+    void retriesKeepTheCapacityBound() {
+        buffer.close();
+        buffer = new WriteBehindBuffer<>(service, NEVER, 2, 2)
+                .offerTimeout(Duration.ZERO)
+                .maxAttempts(100);
+        var first = service.put("first").getId();
+        var second = service.put("second").getId();
+        var third = service.put("third").getId();
+        service.writeFailure = dto -> new PessimisticLockingFailureException("locked");
+
+        var pendingFirst = buffer.submit(first, "a");
+        var pendingSecond = buffer.submit(second, "b");
+        for (var i = 0; i < 5; i++) {
+            buffer.flush();
+            assertThrows(RejectedExecutionException.class, () -> buffer.submit(third, "c"));
+        }
+
+        service.writeFailure = dto -> null;
+        buffer.flush();
+        assertEquals("a", pendingFirst.join().getValue());
+        assertEquals("b", pendingSecond.join().getValue());
+        var pendingThird = buffer.submit(third, "c");
+        buffer.flush();
+        assertEquals("c", pendingThird.join().getValue());
+    }
+
+    @Test
+    void blocksUntilTheMergedUpdateIsWritten() {
+        buffer.close();
+        buffer = new WriteBehindBuffer<>(service, Duration.ofMillis(20), 10, 10);
+        var id = service.put("initial").getId();
+
+        var updated = buffer.update(id, "updated");
+
+        assertEquals("updated", updated.getValue());
+        assertEquals("updated", service.store.get(id).getValue());
+    }
+
+    @Test
+    void closeWritesPendingUpdatesAndRejectsNewOnes() {
+        var id = service.put("initial").getId();
+        var future = buffer.submit(id, "updated");
+
+        buffer.close();
+
+        assertEquals("updated", future.join().getValue());
+        assertThrows(IllegalStateException.class, () -> buffer.submit(id, "late"));
+    }
+}
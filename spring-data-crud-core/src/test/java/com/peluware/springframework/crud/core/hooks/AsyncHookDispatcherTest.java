@@ -0,0 +1,193 @@
+package com.peluware.springframework.crud.core.hooks;
+
+import com.peluware.springframework.crud.core.hooks.AsyncHookDispatcher.OverflowPolicy;
+import com.peluware.springframework.crud.core.metrics.micrometer.AsyncHookDispatcherMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncHookDispatcherTest {
+
+    private final List<String> executed = new CopyOnWriteArrayList<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private AsyncHookDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (dispatcher != null) {
+            dispatcher.close();
+        }
+    }
+
+    @Test
+    void runsHooksOfTheSameIdInOrder() throws Exception {
+        dispatcher = new AsyncHookDispatcher(4, 100, OverflowPolicy.BLOCK);
+
+        for (var i = 0; i < 50; i++) {
+            var hook = "hook-" + i;
+            dispatcher.dispatch(1L, () -> executed.add(hook));
+        }
+
+        waitFor(() -> executed.size() == 50);
+        for (var i = 0; i < 50; i++) {
+            assertEquals("hook-" + i, executed.get(i));
+        }
+    }
+
+    @Test
+    void discardsHooksWhenTheLaneIsFull() throws Exception {
+        dispatcher = new AsyncHookDispatcher(1, 1, OverflowPolicy.DISCARD);
+        blockLane();
+
+        dispatcher.dispatch(1L, () -> executed.add("queued"));
+        dispatcher.dispatch(1L, () -> executed.add("discarded"));
+        release.countDown();
+
+        waitFor(() -> dispatcher.getStats().completed() == 2);
+        assertEquals(List.of("blocking", "queued"), executed);
+        assertEquals(1, dispatcher.getStats().discarded());
+    }
+
+    @Test
+    void runsHooksOnTheCallerWhenTheLaneIsFull() throws Exception {
+        dispatcher = new AsyncHookDispatcher(1, 1, OverflowPolicy.CALLER_RUNS);
+        blockLane();
+        var threads = new CopyOnWriteArrayList<Thread>();
+
+        dispatcher.dispatch(1L, () -> threads.add(Thread.currentThread()));
+        dispatcher.dispatch(1L, () -> threads.add(Thread.currentThread()));
+
+        assertEquals(List.of(Thread.currentThread()), threads);
+        release.countDown();
+        waitFor(() -> threads.size() == 2);
+        assertNotEquals(Thread.currentThread(), threads.get(1));
+    }
+
+    @Test
+    void blocksUntilTheLaneHasRoom() throws Exception {
+        dispatcher = new AsyncHookDispatcher(1, 1, OverflowPolicy.BLOCK);
+        blockLane();
+        dispatcher.dispatch(1L, () -> executed.add("queued"));
+
+        var caller = Thread.ofPlatform().start(() -> dispatcher.dispatch(1L, () -> executed.add("blocked")));
+        waitFor(() -> caller.getState() == Thread.State.WAITING);
+        assertEquals(List.of("blocking"), executed);
+
+        release.countDown();
+        caller.join(TimeUnit.SECONDS.toMillis(5));
+        waitFor(() -> executed.size() == 3);
+        assertEquals(List.of("blocking", "queued", "blocked"), executed);
+        assertEquals(0, dispatcher.getStats().discarded());
+    }
+
+    @Test
+    void closeDrainsQueuedHooksAndDiscardsLaterOnes() {
+        dispatcher = new AsyncHookDispatcher(2, 100, OverflowPolicy.BLOCK);
+        for (var i = 0; i < 20; i++) {
+            var hook = "hook-" + i;
+            dispatcher.dispatch(i, () -> {
+                sleep(5);
+                executed.add(hook);
+            });
+        }
+
+        dispatcher.close();
+
+        assertEquals(20, executed.size());
+        dispatcher.dispatch(1L, () -> executed.add("late"));
+        assertEquals(20, executed.size());
+        assertEquals(1, dispatcher.getStats().discarded());
+    }
+
+    @Test
+    void dispatchesAfterCommitOnly() throws Exception {
+        dispatcher = new AsyncHookDispatcher(1, 10, OverflowPolicy.BLOCK);
+
+        for (var committed : List.of(true, false)) {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                dispatcher.dispatchAfterCommit(1L, () -> executed.add(committed ? "committed" : "rolled back"));
+                assertTrue(executed.isEmpty());
+                for (var synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                    if (committed) {
+                        synchronization.afterCommit();
+                    }
+                }
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        dispatcher.close();
+        assertEquals(List.of("committed"), executed);
+    }
+
+    @Test
+    void publishesCountersToMicrometer() throws Exception {
+        dispatcher = new AsyncHookDispatcher(1, 1, OverflowPolicy.DISCARD)
+                .errorHandler((id, e) -> executed.add("error"));
+        var registry = new SimpleMeterRegistry();
+        new AsyncHookDispatcherMetrics(dispatcher, "test").bindTo(registry);
+        blockLane();
+
+        dispatcher.dispatch(1L, () -> {
+            throw new IllegalStateException("failed");
+        });
+        dispatcher.dispatch(1L, () -> executed.add("discarded"));
+        assertEquals(1, registry.get(AsyncHookDispatcherMetrics.QUEUE_DEPTH_GAUGE).gauge().value());
+        release.countDown();
+        waitFor(() -> executed.contains("error"));
+
+        assertEquals(1, registry.get(AsyncHookDispatcherMetrics.HOOKS_COUNTER).tag("outcome", "success").functionCounter().count());
+        assertEquals(1, registry.get(AsyncHookDispatcherMetrics.HOOKS_COUNTER).tag("outcome", "error").functionCounter().count());
+        assertEquals(1, registry.get(AsyncHookDispatcherMetrics.HOOKS_COUNTER).tag("outcome", "discarded").functionCounter().count());
+        assertEquals(2, registry.get(AsyncHookDispatcherMetrics.LATENCY_TIMER).functionTimer().count());
+    }
+
+    /**
+     * Occupies the lane of id {@code 1} until {@link #release} is counted down.
+     */
+    private void blockLane() throws InterruptedException {
+        var started = new CountDownLatch(1);
+        dispatcher.dispatch(1L, () -> {
+            executed.add("blocking");
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met");
+            }
+            Thread.sleep(1);
+        }
+    }
+}
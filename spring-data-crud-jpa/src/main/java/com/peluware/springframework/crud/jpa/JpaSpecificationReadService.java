@@ -6,19 +6,47 @@ import com.peluware.springframework.crud.core.OmniSearchOptionsFactory;
 import cz.jirutka.rsql.parser.ast.Node;
 import com.peluware.omnisearch.core.OmniSearchBaseOptions;
 import com.peluware.omnisearch.core.OmniSearchOptions;
+import com.peluware.springframework.crud.core.Crud;
 import com.peluware.springframework.crud.core.CrudOperation;
+import com.peluware.springframework.crud.core.CrudOperationContext;
 import com.peluware.springframework.crud.core.providers.EntityClassProvider;
 import com.peluware.springframework.crud.core.providers.RepositoryProvider;
 import com.peluware.springframework.crud.core.exceptions.NotFoundEntityException;
+import com.peluware.springframework.crud.core.metrics.CrudMetrics;
+import com.peluware.springframework.crud.core.metrics.CrudPhase;
+import com.peluware.springframework.crud.core.search.SearchableFields;
+import com.peluware.springframework.crud.core.slowqueries.SlowQuery;
 import com.peluware.springframework.crud.core.ReadService;
+import com.peluware.springframework.crud.core.utils.StringUtils;
 import com.peluware.springframework.crud.jpa.providers.EntityManagerProvider;
+import com.peluware.springframework.crud.jpa.query.FetchPlan;
+import com.peluware.springframework.crud.jpa.query.InLists;
+import com.peluware.springframework.crud.jpa.query.JpaQueryHints;
+import com.peluware.springframework.crud.jpa.query.JpqlFilter;
+import com.peluware.springframework.crud.jpa.query.JpqlQueries;
+import com.peluware.springframework.crud.jpa.query.JpqlTranslator;
+import com.peluware.springframework.crud.jpa.query.PageMode;
+import com.peluware.springframework.crud.jpa.query.QueryTranslation;
+import com.peluware.springframework.crud.jpa.query.SearchPredicates;
+import com.peluware.springframework.crud.jpa.query.SpecificationQueries;
+import com.peluware.springframework.crud.jpa.query.SqlCapture;
+import com.peluware.springframework.crud.jpa.query.SqlExplainer;
+import com.peluware.springframework.crud.jpa.query.StatelessQueries;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Persistable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.orm.jpa.EntityManagerFactoryInfo;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Generic read service for JPA entities using {@link Specification} and dynamic filtering.
@@ -31,6 +59,18 @@ import java.util.List;
  * verifying that the currently authenticated user is associated with or owns the entity.
  * It supports specification composition through {@link #combineSpecification(Specification, CrudOperation)}, making it
  * easy to add authorization, soft deletes, or tenant-based filters.
+ * <p>
+ * Content queries can be tuned per operation with JPA query hints through {@link #getQueryHints(CrudOperation)},
+ * e.g. {@link JpaQueryHints#readOptimized(int)} to load read-only entities without dirty-checking snapshots, and the
+ * associations they fetch can be declared per operation through {@link #getFetchPlan(CrudOperation)}. Pages fetching
+ * collections can be loaded id first, see {@link #getPageMode()}, and searches can be issued as parameterized JPQL to
+ * reuse the provider's query plan cache, see {@link #getQueryTranslation()}.
+ * <p>
+ * Entities declaring {@link com.peluware.springframework.crud.core.search.Searchable searchable fields} are searched
+ * on those fields only, with the per-field match modes described in {@link SearchPredicates}.
+ * <p>
+ * Slow pages are recorded in the {@link #getSlowQueryLog() slow query log} with the SQL statements captured by
+ * {@link SqlCapture}, and explained with {@link SqlExplainer} when plan capture is enabled.
  *
  * @param <E>  the entity type, must extend {@link Persistable}
  * @param <ID> the ID type of the entity
@@ -49,7 +89,7 @@ public interface JpaSpecificationReadService<E extends Persistable<ID>, ID, R ex
     @Override
     default Page<E> internalPage(Pageable pageable) {
         Specification<E> spec = (root, query, cb) -> null;
-        return getRepository().findAll(combineSpecification(spec, CrudOperation.PAGE), pageable);
+        return findPage(pageQuery(combineSpecification(spec, CrudOperation.PAGE), pageable, CrudOperation.PAGE), pageable, CrudOperation.PAGE, null, null);
     }
 
     /**
@@ -65,9 +105,13 @@ public interface JpaSpecificationReadService<E extends Persistable<ID>, ID, R ex
      */
     @Override
     default Page<E> internalSearch(String search, Pageable pageable, Node query) {
-        var options = toSearchOptions(search, pageable, query);
-        Specification<E> spec = (root, q, cb) -> getOmniSearch().buildPredicate(root, cb, options);
-        return getRepository().findAll(combineSpecification(spec, CrudOperation.PAGE), pageable);
+        var filter = translateJpql(search, query, CrudOperation.PAGE);
+        if (filter != null) {
+            return findPage(pageQuery(filter, pageable, CrudOperation.PAGE), pageable, CrudOperation.PAGE, search, query);
+        }
+        var searchable = SearchableFields.of(getEntityClass());
+        var spec = toSpecification(searchable, search, toSearchOptions(searchable.delegatedSearch(search), pageable, query));
+        return findPage(pageQuery(combineSpecification(spec, CrudOperation.PAGE), pageable, CrudOperation.PAGE), pageable, CrudOperation.PAGE, search, query);
     }
 
     /**
@@ -76,7 +120,7 @@ public interface JpaSpecificationReadService<E extends Persistable<ID>, ID, R ex
     @Override
     default E internalFind(ID id) {
         Specification<E> spec = (root, query, cb) -> cb.equal(root.get(getIdFieldName()), id);
-        return getRepository().findOne(combineSpecification(spec, CrudOperation.FIND)).orElseThrow(() -> new NotFoundEntityException(getEntityClass(), id));
+        return findOne(combineSpecification(spec, CrudOperation.FIND), CrudOperation.FIND).orElseThrow(() -> new NotFoundEntityException(getEntityClass(), id));
     }
 
     /**
@@ -84,8 +128,9 @@ public interface JpaSpecificationReadService<E extends Persistable<ID>, ID, R ex
      */
     @Override
     default List<E> internalFind(List<ID> ids) {
-        Specification<E> spec = (root, query, cb) -> root.get(getIdFieldName()).in(ids);
-        return getRepository().findAll(combineSpecification(spec, CrudOperation.FIND));
+        var entityManager = getEntityManager();
+        Specification<E> spec = (root, query, cb) -> InLists.in(entityManager, cb, root.get(getIdFieldName()), ids);
+        return findList(combineSpecification(spec, CrudOperation.FIND), CrudOperation.FIND);
     }
 
     /**
@@ -110,8 +155,12 @@ public interface JpaSpecificationReadService<E extends Persistable<ID>, ID, R ex
      */
     @Override
     default long internalCount(String search, Node query) {
-        var options = toBaseSearchOptions(search, query);
-        Specification<E> spec = (root, q, cb) -> getOmniSearch().buildPredicate(root, cb, options);
+        var filter = translateJpql(search, query, CrudOperation.COUNT);
+        if (filter != null) {
+            return JpqlQueries.count(getEntityManager(), getEntityClass(), filter);
+        }
+        var searchable = SearchableFields.of(getEntityClass());
+        var spec = toSpecification(searchable, search, toBaseSearchOptions(searchable.delegatedSearch(search), query));
         return getRepository().count(combineSpecification(spec, CrudOperation.COUNT));
     }
 
@@ -124,10 +173,176 @@ public interface JpaSpecificationReadService<E extends Persistable<ID>, ID, R ex
         return getRepository().exists(combineSpecification(spec, CrudOperation.EXISTS));
     }
 
+    /**
+     * Streams all entities matching the given search and query in chunks of {@code chunkSize}, passing each chunk
+     * to {@code consumer}.
+     * <p>
+     * Intended for exports and batch processing: entities of a chunk are detached from the persistence context
+     * once consumed, so memory stays bounded by the chunk size regardless of the number of rows. The operation is
+     * authorized and executed like {@link CrudOperation#PAGE}. A stable {@code sort} is required for consistent chunks.
+     * </p>
+     * <p>
+     * When {@link #isStatelessChunks()} is enabled and Hibernate is the JPA provider, the entities are instead scrolled
+     * in a single query through a {@link StatelessQueries stateless session}, without any persistence context.
+     * </p>
+     *
+     * @param search    optional search text to filter results
+     * @param query     optional parsed RSQL query node
+     * @param sort      the sort applied to the rows
+     * @param chunkSize the number of entities per chunk
+     * @param consumer  receives each chunk of entities
+     */
+    default void forEachChunk(String search, Node query, Sort sort, int chunkSize, Consumer<List<E>> consumer) {
+        CrudMetrics.observe(this, CrudOperation.PAGE, () -> {
+            Crud.preProccess(this, CrudOperation.PAGE);
+
+            var normalized = StringUtils.normalize(search);
+            CrudMetrics.describeQuery(normalized, query);
+            var searchable = SearchableFields.of(getEntityClass());
+            var spec = toSpecification(searchable, normalized, toBaseSearchOptions(searchable.delegatedSearch(normalized), query));
+            var combined = combineSpecification(spec, CrudOperation.PAGE);
+            var transactionOperations = getTransactionOperations(CrudOperation.PAGE);
+
+            CrudOperationContext.run(CrudOperation.PAGE, () -> transactionOperations.executeWithoutResult(status -> {
+                var entityManager = getEntityManager();
+                if (isStatelessChunks() && StatelessQueries.isSupported(entityManager)) {
+                    var offset = new long[1];
+                    StatelessQueries.forEachChunk(entityManager, getEntityClass(), combined, sort, chunkSize, chunk ->
+                            offset[0] += CrudMetrics.exportChunk(offset[0], () -> {
+                                consumer.accept(chunk);
+                                return chunk.size();
+                            }));
+                    return;
+                }
+                var hints = resolveQueryHints(CrudOperation.PAGE);
+                var offset = 0L;
+                int rows;
+                do {
+                    var from = offset;
+                    rows = CrudMetrics.exportChunk(from, () -> {
+                        var chunk = CrudMetrics.phase(CrudPhase.CONTENT_QUERY, () ->
+                                getPageMode() == PageMode.ID_FIRST
+                                ? SpecificationQueries.findAllIdFirst(entityManager, getEntityClass(), getIdFieldName(), combined, sort, from, chunkSize, hints)
+                                : SpecificationQueries.findAll(entityManager, getEntityClass(), combined, sort, from, chunkSize, hints));
+                        consumer.accept(chunk);
+                        chunk.forEach(entityManager::detach);
+                        return chunk.size();
+                    });
+                    offset += rows;
+                } while (rows == chunkSize);
+            }));
+        });
+    }
+
     default String getIdFieldName() {
         return "id";
     }
 
+    /**
+     * Returns the JPA query hints applied to the content queries of the given operation.
+     * <p>
+     * The operation is the one bound in {@link CrudOperationContext} (e.g. {@code UPDATE} when an entity is loaded for
+     * an update), falling back to the read operation of the calling method. Read-only hints must therefore only be
+     * returned for read-only operations. The default implementation returns no hints; without hints nor a
+     * {@link #getFetchPlan(CrudOperation) fetch plan}, find queries are executed through the repository. Pages always
+     * go through {@link SpecificationQueries} or {@link JpqlQueries}, so that their content and count queries are
+     * timed separately.
+     * </p>
+     *
+     * @param operation the CRUD operation whose queries are being built
+     * @return the query hints, never {@code null}
+     */
+    default Map<String, Object> getQueryHints(CrudOperation operation) {
+        return Map.of();
+    }
+
+    /**
+     * Returns the fetch plan applied to the content queries of the given operation, e.g. a slim plan for
+     * {@link CrudOperation#PAGE} and a richer one for {@link CrudOperation#FIND}.
+     * <p>
+     * The plan is resolved like {@link #getQueryHints(CrudOperation)} and applied as the {@value JpaQueryHints#FETCH_GRAPH}
+     * hint, so specifications returned by {@link #combineSpecification(Specification, CrudOperation)} must not fetch
+     * associations themselves. Count and existence queries never use the plan. The default implementation returns
+     * {@code null}, leaving associations to their mapped fetch type.
+     * </p>
+     *
+     * @param operation the CRUD operation whose queries are being built
+     * @return the fetch plan, or {@code null} to use the mapped fetch types
+     */
+    default FetchPlan getFetchPlan(CrudOperation operation) {
+        return null;
+    }
+
+    /**
+     * Returns how the content of pages and export chunks is loaded.
+     * <p>
+     * The default {@link PageMode#DIRECT} loads a page with a single query. Services whose page {@link #getFetchPlan(CrudOperation)
+     * fetch plan} includes collections should return {@link PageMode#ID_FIRST}, so that pagination still happens in SQL
+     * instead of in memory.
+     * </p>
+     *
+     * @return the page mode, never {@code null}
+     */
+    default PageMode getPageMode() {
+        return PageMode.DIRECT;
+    }
+
+    /**
+     * Returns whether {@link #forEachChunk(String, Node, Sort, int, Consumer)} reads through a Hibernate
+     * {@code StatelessSession}.
+     * <p>
+     * Stateless reads scroll the whole result in one forward-only query and never build a persistence context, which
+     * minimizes heap and CPU for exports of basic attributes. Query hints, {@link #getFetchPlan(CrudOperation) fetch
+     * plans} and the {@link #getPageMode() page mode} do not apply, and lazy associations of the exported entities
+     * cannot be initialized. Disabled by default; ignored when Hibernate is not the JPA provider.
+     * </p>
+     *
+     * @return {@code true} to export through a stateless session
+     */
+    default boolean isStatelessChunks() {
+        return false;
+    }
+
+    /**
+     * Returns how searches and RSQL queries of pages and counts are translated.
+     * <p>
+     * The default {@link QueryTranslation#CRITERIA} builds the predicate with {@link #getOmniSearch()}. With
+     * {@link QueryTranslation#JPQL}, searched pages and counts are issued as parameterized JPQL built by
+     * {@link #getJpqlTranslator()} and restricted by {@link #combineJpql(JpqlFilter, CrudOperation)} instead of
+     * {@link #combineSpecification(Specification, CrudOperation)}. Unfiltered pages, finds, existence checks and
+     * queries that cannot be translated still use specifications, so restrictions must be expressed in both methods.
+     * A service overriding {@code combineSpecification} but not {@code combineJpql} keeps every query on the criteria
+     * path, so its restrictions are never dropped.
+     * </p>
+     *
+     * @return the query translation, never {@code null}
+     */
+    default QueryTranslation getQueryTranslation() {
+        return QueryTranslation.CRITERIA;
+    }
+
+    /**
+     * Returns the translator used when {@link #getQueryTranslation()} is {@link QueryTranslation#JPQL}.
+     *
+     * @return the JPQL translator
+     */
+    default JpqlTranslator getJpqlTranslator() {
+        return new JpqlTranslator(getEntityManager());
+    }
+
+    /**
+     * Combines the given {@link JpqlFilter} with additional conditions based on the operation, the JPQL counterpart of
+     * {@link #combineSpecification(Specification, CrudOperation)}. Conditions refer to the entity as
+     * {@value JpqlTranslator#ALIAS} and bind their values as named parameters, e.g.
+     * {@code filter.and("e.owner = :owner", Map.of("owner", currentUser()))}.
+     *
+     * @param filter    the translated filter
+     * @param operation the current CRUD operation context
+     * @return the combined filter
+     */
+    default JpqlFilter combineJpql(JpqlFilter filter, CrudOperation operation) {
+        return filter;
+    }
 
     /**
      * Combines the given {@link Specification} with additional criteria based on the operation.
@@ -151,4 +366,82 @@ public interface JpaSpecificationReadService<E extends Persistable<ID>, ID, R ex
     default OmniSearchBaseOptions toBaseSearchOptions(String search, Node query) {
         return OmniSearchOptionsFactory.create(search, query);
     }
+
+    private Map<String, Object> resolveQueryHints(CrudOperation operation) {
+        var current = CrudOperationContext.current();
+        var resolved = current != null ? current : operation;
+        return JpaQueryHints.withFetchPlan(getQueryHints(resolved), getFetchPlan(resolved), getEntityManager(), getEntityClass());
+    }
+
+    private Specification<E> toSpecification(SearchableFields searchable, String search, OmniSearchBaseOptions options) {
+        if (!searchable.isDeclared()) {
+            return (root, q, cb) -> getOmniSearch().buildPredicate(root, cb, options);
+        }
+        return (root, q, cb) -> SearchPredicates.and(cb,
+                getOmniSearch().buildPredicate(root, cb, options),
+                SearchPredicates.toPredicate(searchable, root, cb, search));
+    }
+
+    private JpqlFilter translateJpql(String search, Node query, CrudOperation operation) {
+        if (getQueryTranslation() != QueryTranslation.JPQL || !JpqlRestrictions.isSupported(this)) {
+            return null;
+        }
+        var filter = getJpqlTranslator().translate(getEntityClass(), search, query);
+        return filter != null ? combineJpql(filter, operation) : null;
+    }
+
+    private Supplier<Page<E>> pageQuery(Specification<E> spec, Pageable pageable, CrudOperation operation) {
+        var hints = resolveQueryHints(operation);
+        var entityManager = getEntityManager();
+        return getPageMode() == PageMode.ID_FIRST
+                ? () -> SpecificationQueries.findAllIdFirst(entityManager, getEntityClass(), getIdFieldName(), spec, pageable, hints)
+                : () -> SpecificationQueries.findAll(entityManager, getEntityClass(), spec, pageable, hints);
+    }
+
+    private Supplier<Page<E>> pageQuery(JpqlFilter filter, Pageable pageable, CrudOperation operation) {
+        var hints = resolveQueryHints(operation);
+        var entityManager = getEntityManager();
+        var orderBy = getJpqlTranslator().orderBy(getEntityClass(), pageable.getSort());
+        return getPageMode() == PageMode.ID_FIRST
+                ? () -> JpqlQueries.findAllIdFirst(entityManager, getEntityClass(), getIdFieldName(), filter, orderBy, pageable, hints)
+                : () -> JpqlQueries.findAll(entityManager, getEntityClass(), filter, orderBy, pageable, hints);
+    }
+
+    private Page<E> findPage(Supplier<Page<E>> pageQuery, Pageable pageable, CrudOperation operation, String search, Node query) {
+        var entityManager = getEntityManager();
+        var slowQueryLog = getSlowQueryLog();
+        if (slowQueryLog == null) {
+            return pageQuery.get();
+        }
+
+        var statements = new ArrayList<String>(3);
+        var start = System.nanoTime();
+        var page = SqlCapture.capture(statements, pageQuery);
+        var nanos = System.nanoTime() - start;
+        if (slowQueryLog.isSlow(nanos)) {
+            var slowQuery = SlowQuery.of(getEntityClass(), "jpa", operation, search, query,
+                    statements.isEmpty() ? null : String.join(";\n", statements), pageable, Duration.ofNanos(nanos));
+            var explainer = !statements.isEmpty() && entityManager.getEntityManagerFactory() instanceof EntityManagerFactoryInfo info && info.getDataSource() != null
+                    ? SqlExplainer.of(info.getDataSource(), statements)
+                    : null;
+            slowQueryLog.record(slowQuery, explainer);
+        }
+        return page;
+    }
+
+    private List<E> findList(Specification<E> spec, CrudOperation operation) {
+        var hints = resolveQueryHints(operation);
+        if (hints.isEmpty()) {
+            return getRepository().findAll(spec);
+        }
+        return SpecificationQueries.findAll(getEntityManager(), getEntityClass(), spec, Sort.unsorted(), hints);
+    }
+
+    private Optional<E> findOne(Specification<E> spec, CrudOperation operation) {
+        var hints = resolveQueryHints(operation);
+        if (hints.isEmpty()) {
+            return getRepository().findOne(spec);
+        }
+        return SpecificationQueries.findOne(getEntityManager(), getEntityClass(), spec, hints);
+    }
 }
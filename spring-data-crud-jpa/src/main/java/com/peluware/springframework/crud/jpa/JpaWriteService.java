@@ -5,6 +5,8 @@ import com.peluware.springframework.crud.core.StandardWriteService;
 import org.springframework.data.domain.Persistable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 /**
  * Generic write service interface for JPA-based entities.
  * <p>
@@ -19,4 +21,27 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * @param <R>  the repository type extending {@link JpaRepository} for the entity
  */
 public interface JpaWriteService<E extends Persistable<ID>, D, ID, R extends JpaRepository<E, ID>> extends StandardWriteService<E, D, ID, R> {
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Flushes the batch so that JDBC batching (when {@code hibernate.jdbc.batch_size} is configured and the
+     * id generator allows it) and constraint violations happen before the after-create hooks run.
+     * </p>
+     */
+    @Override
+    default void internalCreateAll(List<E> entities) {
+        getRepository().saveAllAndFlush(entities);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Flushes the batch so that the updates are sent together and failures surface before the after-update hooks run.
+     * </p>
+     */
+    @Override
+    default void internalUpdateAll(List<E> entities) {
+        getRepository().saveAllAndFlush(entities);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.peluware.springframework.crud.jpa;
+
+import com.peluware.springframework.crud.core.CrudOperation;
+import com.peluware.springframework.crud.jpa.query.JpqlFilter;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Checks that a {@link JpaSpecificationReadService} expresses its restrictions in JPQL before JPQL translation is used.
+ * <p>
+ * A service overriding {@link JpaSpecificationReadService#combineSpecification} without overriding
+ * {@link JpaSpecificationReadService#combineJpql} would lose its restrictions on translated queries, so its searches
+ * stay on the criteria path. The check is computed once per service class.
+ * </p>
+ */
+@Slf4j
+@UtilityClass
+class JpqlRestrictions {
+
+    private static final ClassValue<Boolean> SUPPORTED = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            if (!overrides(type, "combineSpecification", Specification.class, CrudOperation.class)
+                    || overrides(type, "combineJpql", JpqlFilter.class, CrudOperation.class)) {
+                return true;
+            }
+            log.warn("{} overrides combineSpecification but not combineJpql, its queries are not translated to JPQL", type.getName());
+            return false;
+        }
+    };
+
+    /**
+     * Returns whether the restrictions of the given service also apply to JPQL translated queries.
+     *
+     * @param service the read service
+     * @return {@code true} if JPQL translation can be used
+     */
+    static boolean isSupported(JpaSpecificationReadService<?, ?, ?> service) {
+        return SUPPORTED.get(ClassUtils.getUserClass(service));
+    }
+
+    private static boolean overrides(Class<?> type, String name, Class<?>... parameterTypes) {
+        var method = ReflectionUtils.findMethod(type, name, parameterTypes);
+        return method != null && method.getDeclaringClass() != JpaSpecificationReadService.class;
+    }
+}
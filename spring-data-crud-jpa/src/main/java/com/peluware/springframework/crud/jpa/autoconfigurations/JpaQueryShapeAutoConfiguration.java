@@ -0,0 +1,25 @@
+package com.peluware.springframework.crud.jpa.autoconfigurations;
+
+import com.peluware.springframework.crud.jpa.indexes.JpaIndexCatalog;
+import jakarta.persistence.Entity;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Autoconfiguration registering the {@link JpaIndexCatalog} used by the index advisor when query shape statistics
+ * are enabled.
+ */
+@AutoConfiguration
+@ConditionalOnClass(Entity.class)
+@ConditionalOnProperty(prefix = "spring.data.crud.query-shapes", name = "enabled", havingValue = "true")
+public class JpaQueryShapeAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public JpaIndexCatalog jpaIndexCatalog() {
+        return new JpaIndexCatalog();
+    }
+}
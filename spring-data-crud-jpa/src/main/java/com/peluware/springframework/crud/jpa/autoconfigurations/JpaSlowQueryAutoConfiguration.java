@@ -0,0 +1,28 @@
+package com.peluware.springframework.crud.jpa.autoconfigurations;
+
+import com.peluware.springframework.crud.jpa.query.SqlCaptureStatementInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Autoconfiguration registering {@link SqlCaptureStatementInspector} on Hibernate when the slow query log is
+ * enabled, so that slow queries are reported with their SQL statements.
+ * <p>
+ * A statement inspector configured by the application is left untouched.
+ * </p>
+ */
+@AutoConfiguration
+@ConditionalOnClass({StatementInspector.class, HibernatePropertiesCustomizer.class})
+@ConditionalOnProperty(prefix = "spring.data.crud.slow-queries", name = "enabled", havingValue = "true")
+public class JpaSlowQueryAutoConfiguration {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlCaptureHibernatePropertiesCustomizer() {
+        return properties -> properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, new SqlCaptureStatementInspector());
+    }
+}
@@ -0,0 +1,89 @@
+package com.peluware.springframework.crud.jpa.indexes;
+
+import com.peluware.springframework.crud.core.queryshapes.IndexCatalog;
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link IndexCatalog} reading the indexes declared in JPA mapping metadata.
+ * <p>
+ * Reports the identifier, {@code @Column(unique = true)} columns, {@code @Table(indexes = ...)} and
+ * {@code @Table(uniqueConstraints = ...)}. Column names are mapped back to property names through {@code @Column(name)}
+ * when possible. Indexes created outside the mapping (migrations, DDL scripts) are unknown to this catalog.
+ * </p>
+ */
+public class JpaIndexCatalog implements IndexCatalog {
+
+    private final Map<Class<?>, List<List<String>>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supports(Class<?> entityClass) {
+        return AnnotatedElementUtils.hasAnnotation(entityClass, Entity.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<List<String>> getIndexes(Class<?> entityClass) {
+        return cache.computeIfAbsent(entityClass, JpaIndexCatalog::readIndexes);
+    }
+
+    private static List<List<String>> readIndexes(Class<?> entityClass) {
+        var properties = new HashMap<String, String>();
+        var indexes = new ArrayList<List<String>>();
+
+        ReflectionUtils.doWithFields(entityClass, field -> {
+            properties.put(normalize(columnName(field)), field.getName());
+            if (field.isAnnotationPresent(Id.class) || field.isAnnotationPresent(EmbeddedId.class)) {
+                indexes.add(List.of(field.getName()));
+            }
+            var column = field.getAnnotation(Column.class);
+            if (column != null && column.unique()) {
+                indexes.add(List.of(field.getName()));
+            }
+        });
+
+        var table = AnnotatedElementUtils.findMergedAnnotation(entityClass, Table.class);
+        if (table != null) {
+            for (var index : table.indexes()) {
+                indexes.add(Arrays.stream(index.columnList().split(","))
+                        .map(column -> column.trim().split("\\s+")[0])
+                        .map(column -> properties.getOrDefault(normalize(column), column))
+                        .toList());
+            }
+            for (var constraint : table.uniqueConstraints()) {
+                indexes.add(Arrays.stream(constraint.columnNames())
+                        .map(column -> properties.getOrDefault(normalize(column), column))
+                        .toList());
+            }
+        }
+        return List.copyOf(indexes);
+    }
+
+    private static String columnName(Field field) {
+        var column = field.getAnnotation(Column.class);
+        return column != null && !column.name().isEmpty() ? column.name() : field.getName();
+    }
+
+    private static String normalize(String name) {
+        return name.replace("_", "").replace("\"", "").replace("`", "").toLowerCase(Locale.ROOT);
+    }
+}
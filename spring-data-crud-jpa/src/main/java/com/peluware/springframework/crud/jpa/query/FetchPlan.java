@@ -0,0 +1,107 @@
+package com.peluware.springframework.crud.jpa.query;
+
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Subgraph;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Immutable description of the associations fetched by the content queries of a CRUD operation.
+ * <p>
+ * A plan is either a named entity graph declared with {@code @NamedEntityGraph}, or a list of attribute paths such as
+ * {@code "customer"} or {@code "lines.product"}, from which an entity graph is built. The graph is applied as the
+ * {@value JpaQueryHints#FETCH_GRAPH} hint: listed attributes are fetched with the entity, the others are loaded lazily.
+ * </p>
+ * <p>
+ * Plans are resolved per operation through
+ * {@link com.peluware.springframework.crud.jpa.JpaSpecificationReadService#getFetchPlan(com.peluware.springframework.crud.core.CrudOperation)}.
+ * Fetching collections in a page makes the JPA provider paginate in memory, so page plans should be limited to
+ * to-one associations.
+ * </p>
+ *
+ * @param graphName      the name of the entity graph, or {@code null} for an attribute based plan
+ * @param attributePaths the dot-separated attribute paths, empty for a named plan
+ */
+public record FetchPlan(String graphName, List<String> attributePaths) {
+
+    public FetchPlan {
+        attributePaths = List.copyOf(attributePaths);
+        if ((graphName == null) == attributePaths.isEmpty()) {
+            throw new IllegalArgumentException("Fetch plan must have either a graph name or attribute paths");
+        }
+    }
+
+    /**
+     * Creates a plan using a named entity graph.
+     *
+     * @param graphName the name of the entity graph
+     * @return the fetch plan
+     */
+    public static FetchPlan named(String graphName) {
+        Objects.requireNonNull(graphName, "Graph name cannot be null");
+        return new FetchPlan(graphName, List.of());
+    }
+
+    /**
+     * Creates a plan fetching the given attribute paths.
+     *
+     * @param attributePaths the dot-separated attribute paths, e.g. {@code "lines.product"}
+     * @return the fetch plan
+     */
+    public static FetchPlan attributes(String... attributePaths) {
+        return new FetchPlan(null, List.of(attributePaths));
+    }
+
+    /**
+     * Resolves the entity graph of this plan.
+     *
+     * @param entityManager the entity manager
+     * @param entityClass   the root entity class
+     * @param <E>           the entity type
+     * @return the entity graph
+     * @throws IllegalArgumentException if the named graph does not exist
+     */
+    public <E> EntityGraph<?> toEntityGraph(EntityManager entityManager, Class<E> entityClass) {
+        if (graphName != null) {
+            return entityManager.getEntityGraph(graphName);
+        }
+        var graph = entityManager.createEntityGraph(entityClass);
+        apply(tree(), graph::addAttributeNodes, graph::addSubgraph);
+        return graph;
+    }
+
+    private PathNode tree() {
+        var root = new PathNode();
+        for (var path : attributePaths) {
+            var node = root;
+            for (var attribute : path.split("\\.")) {
+                node = node.children().computeIfAbsent(attribute, key -> new PathNode());
+            }
+        }
+        return root;
+    }
+
+    private static void apply(PathNode node, Consumer<String> addAttribute, Function<String, Subgraph<?>> addSubgraph) {
+        node.children().forEach((attribute, child) -> {
+            if (child.children().isEmpty()) {
+                addAttribute.accept(attribute);
+                return;
+            }
+            var subgraph = addSubgraph.apply(attribute);
+            apply(child, subgraph::addAttributeNodes, subgraph::addSubgraph);
+        });
+    }
+
+    private record PathNode(Map<String, PathNode> children) {
+
+        PathNode() {
+            this(new LinkedHashMap<>());
+        }
+    }
+}
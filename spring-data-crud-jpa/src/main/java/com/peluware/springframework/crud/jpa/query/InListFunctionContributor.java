@@ -0,0 +1,38 @@
+package com.peluware.springframework.crud.jpa.query;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.CockroachDialect;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Hibernate {@link FunctionContributor} registering {@value InLists#ARRAY_FUNCTION}{@code (x, array)}, rendered as
+ * {@code x = any(?)} on PostgreSQL and CockroachDB, so that {@code in} lists can be bound as a single array parameter.
+ * <p>
+ * Registered through {@code META-INF/services}; the function is not registered on other databases, where
+ * {@link InLists} pads lists instead.
+ * </p>
+ */
+public class InListFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        if (!supportsArrayParameters(functionContributions.getDialect())) {
+            return;
+        }
+        var booleanType = functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN);
+        functionContributions.getFunctionRegistry().registerPattern(InLists.ARRAY_FUNCTION, "(?1 = any(?2))", booleanType);
+    }
+
+    /**
+     * Checks whether the dialect binds {@code in} lists as an array parameter.
+     *
+     * @param dialect the Hibernate dialect
+     * @return {@code true} on PostgreSQL and CockroachDB
+     */
+    static boolean supportsArrayParameters(Dialect dialect) {
+        return dialect instanceof PostgreSQLDialect || dialect instanceof CockroachDialect;
+    }
+}
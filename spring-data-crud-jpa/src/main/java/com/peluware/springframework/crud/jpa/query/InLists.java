@@ -0,0 +1,118 @@
+package com.peluware.springframework.crud.jpa.query;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import lombok.experimental.UtilityClass;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Binds {@code in} lists so that their length does not change the shape of the SQL statement.
+ * <p>
+ * A list bound as {@code in (?, ?, ...)} produces a different statement for every length, which fills the database
+ * and JPA provider statement caches with near duplicates. On PostgreSQL (and CockroachDB) with Hibernate, lists are
+ * bound as a single array parameter through {@value #ARRAY_FUNCTION}, rendered as {@code x = any(?)}. Elsewhere lists
+ * are padded to the next power of two by repeating their last value, so at most one statement per bucket is cached.
+ * </p>
+ */
+@UtilityClass
+public class InLists {
+
+    /**
+     * Name of the function registered by {@link InListFunctionContributor}.
+     */
+    public static final String ARRAY_FUNCTION = "crud_in_array";
+
+    private static final boolean HIBERNATE_PRESENT = ClassUtils.isPresent(
+            "org.hibernate.engine.spi.SessionFactoryImplementor", InLists.class.getClassLoader());
+
+    private static final Map<EntityManagerFactory, Boolean> ARRAY_SUPPORT = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Checks whether {@code in} lists can be bound as a single array parameter.
+     *
+     * @param entityManager the entity manager
+     * @return {@code true} if {@value #ARRAY_FUNCTION} is available
+     */
+    public static boolean supportsArrayParameters(EntityManager entityManager) {
+        if (!HIBERNATE_PRESENT) {
+            return false;
+        }
+        return ARRAY_SUPPORT.computeIfAbsent(entityManager.getEntityManagerFactory(), HibernateDialects::supportsArrayParameters);
+    }
+
+    /**
+     * Pads the values to the next power of two by repeating the last one.
+     *
+     * @param values the values
+     * @param <T>    the value type
+     * @return the padded values, or {@code values} itself if its size is already a power of two
+     */
+    public static <T> List<T> pad(Collection<T> values) {
+        var size = values.size();
+        if (size == 0 || Integer.bitCount(size) == 1) {
+            return values instanceof List<T> list ? list : new ArrayList<>(values);
+        }
+        var padded = new ArrayList<T>(Integer.highestOneBit(size) << 1);
+        padded.addAll(values);
+        var last = padded.getLast();
+        while (Integer.bitCount(padded.size()) != 1) {
+            padded.add(last);
+        }
+        return padded;
+    }
+
+    /**
+     * Converts the values to an array of the given component type, for binding with {@value #ARRAY_FUNCTION}.
+     *
+     * @param values        the values
+     * @param componentType the element type, primitives are boxed
+     * @return the array
+     */
+    public static Object[] toArray(Collection<?> values, Class<?> componentType) {
+        var array = (Object[]) Array.newInstance(ClassUtils.resolvePrimitiveIfNecessary(componentType), values.size());
+        return values.toArray(array);
+    }
+
+    /**
+     * Builds the criteria predicate {@code path in values}, binding the values as an array when supported and as a
+     * padded list otherwise.
+     *
+     * @param entityManager the entity manager
+     * @param cb            the criteria builder
+     * @param path          the expression to test
+     * @param values        the values
+     * @return the predicate
+     */
+    public static Predicate in(EntityManager entityManager, CriteriaBuilder cb, Expression<?> path, Collection<?> values) {
+        if (!values.isEmpty() && supportsArrayParameters(entityManager)) {
+            var type = path.getJavaType() != null && path.getJavaType() != Object.class ? path.getJavaType() : values.iterator().next().getClass();
+            var array = toArray(values, type);
+            return cb.isTrue(cb.function(ARRAY_FUNCTION, Boolean.class, path, cb.literal(array)));
+        }
+        return path.in(pad(values));
+    }
+
+    private static final class HibernateDialects {
+
+        private static boolean supportsArrayParameters(EntityManagerFactory entityManagerFactory) {
+            try {
+                var dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+                return InListFunctionContributor.supportsArrayParameters(dialect);
+            } catch (RuntimeException e) {
+                return false;
+            }
+        }
+    }
+}
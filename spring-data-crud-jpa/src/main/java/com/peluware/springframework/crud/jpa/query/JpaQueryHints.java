@@ -0,0 +1,63 @@
+package com.peluware.springframework.crud.jpa.query;
+
+import jakarta.persistence.EntityManager;
+import lombok.experimental.UtilityClass;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Query hint names and presets for the queries issued by
+ * {@link com.peluware.springframework.crud.jpa.JpaSpecificationReadService}.
+ * <p>
+ * Hints are plain JPA hint names, so no compile dependency on the JPA provider is required;
+ * providers ignore hints they do not understand.
+ * </p>
+ */
+@UtilityClass
+public class JpaQueryHints {
+
+    /**
+     * Loads entities as read-only: Hibernate keeps no dirty-checking snapshot for them.
+     */
+    public static final String READ_ONLY = "org.hibernate.readOnly";
+
+    /**
+     * JDBC fetch size used when reading the result set.
+     */
+    public static final String FETCH_SIZE = "org.hibernate.fetchSize";
+
+    /**
+     * Entity graph fetched by the query, see {@link FetchPlan}.
+     */
+    public static final String FETCH_GRAPH = "jakarta.persistence.fetchgraph";
+
+    /**
+     * Returns hints for read-optimized loading: read-only entities and the given JDBC fetch size.
+     *
+     * @param fetchSize the JDBC fetch size, typically the page size
+     * @return the query hints
+     */
+    public static Map<String, Object> readOptimized(int fetchSize) {
+        return Map.of(READ_ONLY, true, FETCH_SIZE, fetchSize);
+    }
+
+    /**
+     * Returns the given hints with the entity graph of a fetch plan, as applied by
+     * {@link com.peluware.springframework.crud.jpa.JpaSpecificationReadService} to its content queries.
+     *
+     * @param hints         the query hints
+     * @param fetchPlan     the fetch plan, may be {@code null}
+     * @param entityManager the entity manager resolving the entity graph
+     * @param entityClass   the root entity class
+     * @return the hints, with {@value #FETCH_GRAPH} set if a fetch plan is given
+     */
+    public static Map<String, Object> withFetchPlan(Map<String, Object> hints, FetchPlan fetchPlan, EntityManager entityManager, Class<?> entityClass) {
+        if (fetchPlan == null) {
+            return hints;
+        }
+        var merged = new HashMap<>(hints);
+        merged.put(FETCH_GRAPH, fetchPlan.toEntityGraph(entityManager, entityClass));
+        return merged;
+    }
+}
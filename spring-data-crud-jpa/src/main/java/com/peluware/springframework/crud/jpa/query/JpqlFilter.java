@@ -0,0 +1,70 @@
+package com.peluware.springframework.crud.jpa.query;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Parameterized JPQL condition on the root entity of a query, aliased {@value JpqlTranslator#ALIAS}.
+ * <p>
+ * Values are never inlined: the condition refers to them through named parameters, so that the same query shape always
+ * produces the same JPQL string and reuses the JPA provider's query plan cache. Parameters generated by
+ * {@link JpqlTranslator} are named {@code p1}, {@code p2}, ... and {@code search}; conditions added through
+ * {@link #and(String, Map)} should use other names.
+ * </p>
+ *
+ * @param condition  the condition, or {@code null} to match every entity
+ * @param parameters the values of the named parameters, which cannot be {@code null} (use {@code is null} conditions)
+ */
+public record JpqlFilter(String condition, Map<String, Object> parameters) {
+
+    private static final JpqlFilter NONE = new JpqlFilter(null, Map.of());
+
+    public JpqlFilter {
+        Objects.requireNonNull(parameters, "Parameters cannot be null");
+        parameters.forEach((name, value) -> {
+            if (value == null) {
+                throw new IllegalArgumentException("JPQL parameter " + name + " cannot be null");
+            }
+        });
+        parameters = Map.copyOf(parameters);
+    }
+
+    /**
+     * Returns a filter matching every entity.
+     *
+     * @return the empty filter
+     */
+    public static JpqlFilter none() {
+        return NONE;
+    }
+
+    /**
+     * Returns this filter restricted by another condition, e.g. {@code "e.tenant = :tenant"}.
+     *
+     * @param condition  the condition to add
+     * @param parameters the values of its named parameters
+     * @return the combined filter
+     * @throws IllegalArgumentException if a parameter name is already used by this filter
+     */
+    public JpqlFilter and(String condition, Map<String, Object> parameters) {
+        Objects.requireNonNull(condition, "Condition cannot be null");
+        var merged = new LinkedHashMap<>(this.parameters);
+        parameters.forEach((name, value) -> {
+            if (merged.putIfAbsent(name, value) != null) {
+                throw new IllegalArgumentException("Duplicate JPQL parameter: " + name);
+            }
+        });
+        var combined = this.condition == null ? condition : "(" + this.condition + ") and (" + condition + ")";
+        return new JpqlFilter(combined, merged);
+    }
+
+    /**
+     * Returns the {@code where} clause of this filter, or an empty string if it matches every entity.
+     *
+     * @return the where clause, with a leading space
+     */
+    public String toWhereClause() {
+        return condition == null ? "" : " where " + condition;
+    }
+}
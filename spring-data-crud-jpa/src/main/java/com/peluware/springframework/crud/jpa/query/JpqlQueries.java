@@ -0,0 +1,114 @@
+package com.peluware.springframework.crud.jpa.query;
+
+import com.peluware.springframework.crud.core.metrics.CrudMetrics;
+import com.peluware.springframework.crud.core.metrics.CrudPhase;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.experimental.UtilityClass;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Executes {@link JpqlFilter} based queries on an {@link EntityManager}.
+ * <p>
+ * The JPQL counterpart of {@link SpecificationQueries}: queries are built as strings, so repeated query shapes hit the
+ * JPA provider's query plan cache. Hints are applied to the content queries only, and the content and count queries
+ * of a page are timed separately through {@link CrudMetrics}.
+ * </p>
+ */
+@UtilityClass
+public class JpqlQueries {
+
+    /**
+     * Returns a page of the entities matching the filter.
+     *
+     * @param entityManager the entity manager
+     * @param domainClass   the entity class
+     * @param filter        the filter
+     * @param orderBy       the order by clause, see {@link JpqlTranslator#orderBy(Class, org.springframework.data.domain.Sort)}
+     * @param pageable      the pagination information
+     * @param hints         the query hints to apply to the content query
+     * @param <E>           the entity type
+     * @return the page of matching entities
+     */
+    public static <E> Page<E> findAll(EntityManager entityManager, Class<E> domainClass, JpqlFilter filter, String orderBy, Pageable pageable, Map<String, Object> hints) {
+        var content = CrudMetrics.phase(CrudPhase.CONTENT_QUERY, () -> {
+            var query = createQuery(entityManager, "select " + JpqlTranslator.ALIAS + " from " + entityName(entityManager, domainClass) + " " + JpqlTranslator.ALIAS + filter.toWhereClause() + orderBy, domainClass, filter.parameters());
+            hints.forEach(query::setHint);
+            if (pageable.isPaged()) {
+                query.setFirstResult(Math.toIntExact(pageable.getOffset()));
+                query.setMaxResults(pageable.getPageSize());
+            }
+            return query.getResultList();
+        });
+        if (pageable.isUnpaged()) {
+            return PageableExecutionUtils.getPage(content, pageable, content::size);
+        }
+        return PageableExecutionUtils.getPage(content, pageable, () -> CrudMetrics.phase(CrudPhase.COUNT_QUERY, () -> count(entityManager, domainClass, filter)));
+    }
+
+    /**
+     * Returns a page of the entities matching the filter, loaded id first like
+     * {@link SpecificationQueries#findAllIdFirst(EntityManager, Class, String, org.springframework.data.jpa.domain.Specification, Pageable, Map)}.
+     *
+     * @param entityManager the entity manager
+     * @param domainClass   the entity class
+     * @param idAttribute   the name of the id attribute
+     * @param filter        the filter
+     * @param orderBy       the order by clause, see {@link JpqlTranslator#orderBy(Class, org.springframework.data.domain.Sort)}
+     * @param pageable      the pagination information
+     * @param hints         the query hints to apply to the content query
+     * @param <E>           the entity type
+     * @return the page of matching entities
+     */
+    public static <E> Page<E> findAllIdFirst(EntityManager entityManager, Class<E> domainClass, String idAttribute, JpqlFilter filter, String orderBy, Pageable pageable, Map<String, Object> hints) {
+        if (pageable.isUnpaged()) {
+            return findAll(entityManager, domainClass, filter, orderBy, pageable, hints);
+        }
+        var alias = JpqlTranslator.ALIAS;
+        var entityName = entityName(entityManager, domainClass);
+        var content = CrudMetrics.phase(CrudPhase.CONTENT_QUERY, () -> {
+            var idQuery = createQuery(entityManager, "select " + alias + "." + idAttribute + " from " + entityName + " " + alias + filter.toWhereClause() + orderBy, Object.class, filter.parameters());
+            var ids = idQuery
+                    .setFirstResult(Math.toIntExact(pageable.getOffset()))
+                    .setMaxResults(pageable.getPageSize())
+                    .getResultList();
+            if (ids.isEmpty()) {
+                return List.<E>of();
+            }
+            var query = createQuery(entityManager, "select " + alias + " from " + entityName + " " + alias + " where " + alias + "." + idAttribute + " in :ids", domainClass, Map.of("ids", InLists.pad(ids)));
+            hints.forEach(query::setHint);
+            return SpecificationQueries.orderByIds(entityManager, query.getResultList(), ids);
+        });
+        return PageableExecutionUtils.getPage(content, pageable, () -> CrudMetrics.phase(CrudPhase.COUNT_QUERY, () -> count(entityManager, domainClass, filter)));
+    }
+
+    /**
+     * Counts the entities matching the filter.
+     *
+     * @param entityManager the entity manager
+     * @param domainClass   the entity class
+     * @param filter        the filter
+     * @param <E>           the entity type
+     * @return the number of matching entities
+     */
+    public static <E> long count(EntityManager entityManager, Class<E> domainClass, JpqlFilter filter) {
+        var alias = JpqlTranslator.ALIAS;
+        return createQuery(entityManager, "select count(" + alias + ") from " + entityName(entityManager, domainClass) + " " + alias + filter.toWhereClause(), Long.class, filter.parameters())
+                .getSingleResult();
+    }
+
+    private static <T> TypedQuery<T> createQuery(EntityManager entityManager, String jpql, Class<T> resultClass, Map<String, Object> parameters) {
+        var query = entityManager.createQuery(jpql, resultClass);
+        parameters.forEach(query::setParameter);
+        return query;
+    }
+
+    private static String entityName(EntityManager entityManager, Class<?> domainClass) {
+        return entityManager.getMetamodel().entity(domainClass).getName();
+    }
+}
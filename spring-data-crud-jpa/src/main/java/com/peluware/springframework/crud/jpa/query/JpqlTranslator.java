@@ -0,0 +1,321 @@
+package com.peluware.springframework.crud.jpa.query;
+
+import com.peluware.springframework.crud.core.search.MatchMode;
+import com.peluware.springframework.crud.core.search.QueryArguments;
+import com.peluware.springframework.crud.core.search.SearchableFields;
+import cz.jirutka.rsql.parser.ast.ComparisonNode;
+import cz.jirutka.rsql.parser.ast.LogicalNode;
+import cz.jirutka.rsql.parser.ast.LogicalOperator;
+import cz.jirutka.rsql.parser.ast.Node;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Translates a search text and an RSQL query into a normalized, parameterized {@link JpqlFilter}.
+ * <p>
+ * Every value is bound as a parameter and parameters are numbered in traversal order, so two requests with the same
+ * query shape (same selectors, operators and structure) produce the same JPQL string, whose translation to SQL is
+ * then served from the JPA provider's query plan cache instead of being recomputed from a fresh criteria tree.
+ * </p>
+ * <p>
+ * Supported operators are {@code ==}, {@code !=} (with {@code *} wildcards on string attributes), {@code =gt=},
+ * {@code =ge=}, {@code =lt=}, {@code =le=}, {@code =in=} and {@code =out=}, whose lists are bound through
+ * {@link InLists} so that their length does not change the statement. Selectors are validated against the JPA
+ * metamodel and may navigate singular associations. The search text matches, case-insensitively, any basic string
+ * attribute of the entity containing it, unless the entity declares {@link SearchableFields searchable fields}, which
+ * are then matched as described in {@link SearchPredicates}. Queries that cannot be expressed (selectors through
+ * collections, custom operators) are not translated and {@link #translate(Class, String, Node)} returns
+ * {@code null}.
+ * </p>
+ */
+public class JpqlTranslator {
+
+    /**
+     * Alias of the root entity in translated conditions.
+     */
+    public static final String ALIAS = "e";
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_$][A-Za-z0-9_$]*");
+    private static final char ESCAPE = SearchPredicates.ESCAPE;
+
+    private final Metamodel metamodel;
+    private final ConversionService conversionService;
+    private final boolean arrayParameters;
+
+    /**
+     * Creates a translator converting argument values with ISO date-time formats and the default Spring converters.
+     *
+     * @param metamodel the JPA metamodel
+     */
+    public JpqlTranslator(Metamodel metamodel) {
+        this(metamodel, QueryArguments.conversionService(), false);
+    }
+
+    /**
+     * Creates a translator for the given entity manager, binding {@code =in=} and {@code =out=} lists as a single
+     * array parameter when {@link InLists#supportsArrayParameters(EntityManager) supported}.
+     *
+     * @param entityManager the entity manager
+     */
+    public JpqlTranslator(EntityManager entityManager) {
+        this(entityManager.getMetamodel(), QueryArguments.conversionService(), InLists.supportsArrayParameters(entityManager));
+    }
+
+    /**
+     * Creates a translator converting argument values with the given conversion service.
+     *
+     * @param metamodel         the JPA metamodel
+     * @param conversionService converts RSQL arguments to attribute types
+     * @param arrayParameters   whether {@code =in=} and {@code =out=} lists are bound as a single array parameter
+     *                          through {@value InLists#ARRAY_FUNCTION} instead of a padded list
+     */
+    public JpqlTranslator(Metamodel metamodel, ConversionService conversionService, boolean arrayParameters) {
+        this.metamodel = Objects.requireNonNull(metamodel, "Metamodel cannot be null");
+        this.conversionService = Objects.requireNonNull(conversionService, "Conversion service cannot be null");
+        this.arrayParameters = arrayParameters;
+    }
+
+    /**
+     * Translates the search text and query into a filter.
+     *
+     * @param entityClass the root entity class
+     * @param search      optional search text
+     * @param query       optional parsed RSQL query
+     * @return the filter, or {@code null} if the query cannot be translated
+     * @throws IllegalArgumentException if a selector is invalid or an argument cannot be converted
+     */
+    public JpqlFilter translate(Class<?> entityClass, String search, Node query) {
+        var context = new Context();
+        var conditions = new ArrayList<String>(2);
+        try {
+            if (search != null && !search.isBlank()) {
+                var searchCondition = search(entityClass, search, context);
+                if (searchCondition != null) {
+                    conditions.add(searchCondition);
+                }
+            }
+            if (query != null) {
+                conditions.add(node(entityClass, query, context));
+            }
+        } catch (UntranslatableQueryException e) {
+            return null;
+        }
+        if (conditions.isEmpty()) {
+            return JpqlFilter.none();
+        }
+        return new JpqlFilter(String.join(" and ", conditions), context.parameters);
+    }
+
+    /**
+     * Renders the {@code order by} clause of the given sort, validating every property against the metamodel.
+     *
+     * @param entityClass the root entity class
+     * @param sort        the sort
+     * @return the order by clause with a leading space, or an empty string if unsorted
+     * @throws IllegalArgumentException if a property is invalid
+     */
+    public String orderBy(Class<?> entityClass, Sort sort) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+        try {
+            return sort.stream()
+                    .map(order -> {
+                        var path = path(entityClass, order.getProperty());
+                        var expression = order.isIgnoreCase() ? "lower(" + path + ")" : path;
+                        var direction = order.isAscending() ? " asc" : " desc";
+                        return expression + direction + switch (order.getNullHandling()) {
+                            case NULLS_FIRST -> " nulls first";
+                            case NULLS_LAST -> " nulls last";
+                            case NATIVE -> "";
+                        };
+                    })
+                    .collect(Collectors.joining(", ", " order by ", ""));
+        } catch (UntranslatableQueryException e) {
+            throw new IllegalArgumentException("Cannot sort by collection attribute in " + sort, e);
+        }
+    }
+
+    private String node(Class<?> entityClass, Node node, Context context) {
+        if (node instanceof LogicalNode logical) {
+            var separator = logical.getOperator() == LogicalOperator.AND ? " and " : " or ";
+            return logical.getChildren().stream()
+                    .map(child -> node(entityClass, child, context))
+                    .collect(Collectors.joining(separator, "(", ")"));
+        }
+        if (node instanceof ComparisonNode comparison) {
+            return comparison(entityClass, comparison, context);
+        }
+        throw new UntranslatableQueryException();
+    }
+
+    private String comparison(Class<?> entityClass, ComparisonNode node, Context context) {
+        var attribute = resolve(entityClass, node.getSelector());
+        var path = ALIAS + "." + node.getSelector();
+        var type = attribute.getJavaType();
+        var arguments = node.getArguments();
+
+        return switch (node.getOperator().getSymbol()) {
+            case "==" -> equality(path, type, arguments.getFirst(), false, context);
+            case "!=" -> equality(path, type, arguments.getFirst(), true, context);
+            case "=gt=" -> path + " > :" + context.bind(convert(arguments.getFirst(), type));
+            case "=ge=" -> path + " >= :" + context.bind(convert(arguments.getFirst(), type));
+            case "=lt=" -> path + " < :" + context.bind(convert(arguments.getFirst(), type));
+            case "=le=" -> path + " <= :" + context.bind(convert(arguments.getFirst(), type));
+            case "=in=" -> in(path, type, arguments, false, context);
+            case "=out=" -> in(path, type, arguments, true, context);
+            default -> throw new UntranslatableQueryException();
+        };
+    }
+
+    private String equality(String path, Class<?> type, String argument, boolean negated, Context context) {
+        if (type == String.class && argument.indexOf('*') >= 0) {
+            var pattern = escapeLike(argument).replace('*', '%');
+            return path + (negated ? " not like :" : " like :") + context.bind(pattern) + " escape '" + ESCAPE + "'";
+        }
+        return path + (negated ? " <> :" : " = :") + context.bind(convert(argument, type));
+    }
+
+    private String in(String path, Class<?> type, List<String> arguments, boolean negated, Context context) {
+        var values = convertAll(arguments, type);
+        if (arrayParameters) {
+            var condition = InLists.ARRAY_FUNCTION + "(" + path + ", :" + context.bind(InLists.toArray(values, type)) + ")";
+            return negated ? "not " + condition : condition;
+        }
+        return path + (negated ? " not in :" : " in :") + context.bind(InLists.pad(values));
+    }
+
+    private String search(Class<?> entityClass, String search, Context context) {
+        var searchable = SearchableFields.of(entityClass);
+        if (searchable.isDeclared()) {
+            return search(searchable, search, context);
+        }
+        var attributes = metamodel.managedType(entityClass).getAttributes().stream()
+                .filter(attribute -> attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC)
+                .filter(attribute -> attribute.getJavaType() == String.class)
+                .map(Attribute::getName)
+                .sorted()
+                .toList();
+        if (attributes.isEmpty()) {
+            return null;
+        }
+        context.parameters.put("search", "%" + escapeLike(search.trim().toLowerCase(Locale.ROOT)) + "%");
+        return attributes.stream()
+                .map(name -> "lower(" + ALIAS + "." + name + ") like :search escape '" + ESCAPE + "'")
+                .collect(Collectors.joining(" or ", "(", ")"));
+    }
+
+    private String search(SearchableFields searchable, String search, Context context) {
+        var term = search.trim();
+        var id = searchable.toId(term);
+        if (id != null) {
+            context.parameters.put("search", id);
+            return ALIAS + "." + searchable.id().name() + " = :search";
+        }
+        var conditions = new ArrayList<String>(searchable.fields().size());
+        for (var field : searchable.fields()) {
+            var value = field.value(term);
+            if (value == null) {
+                continue;
+            }
+            var parameter = "search" + (conditions.size() + 1);
+            var path = ALIAS + "." + field.name();
+            conditions.add(switch (field.match()) {
+                case EXACT -> path + " = :" + parameter;
+                case PREFIX, CASE_FOLDED -> path + " like :" + parameter + " escape '" + ESCAPE + "'";
+                case CONTAINS -> "lower(" + path + ") like :" + parameter + " escape '" + ESCAPE + "'";
+            });
+            context.parameters.put(parameter, field.match() != MatchMode.EXACT ? SearchPredicates.likePattern(field.match(), (String) value) : value);
+        }
+        if (conditions.isEmpty()) {
+            return "1 = 0";
+        }
+        return "(" + String.join(" or ", conditions) + ")";
+    }
+
+    private String path(Class<?> entityClass, String property) {
+        resolve(entityClass, property);
+        return ALIAS + "." + property;
+    }
+
+    private Attribute<?, ?> resolve(Class<?> entityClass, String selector) {
+        ManagedType<?> type = metamodel.managedType(entityClass);
+        var segments = selector.split("\\.", -1);
+        Attribute<?, ?> attribute = null;
+        for (var i = 0; i < segments.length; i++) {
+            var segment = segments[i];
+            if (!IDENTIFIER.matcher(segment).matches()) {
+                throw new IllegalArgumentException("Invalid selector: " + selector);
+            }
+            if (type == null) {
+                throw new IllegalArgumentException("Cannot navigate into basic attribute: " + selector);
+            }
+            attribute = type.getAttribute(segment);
+            if (attribute.isCollection()) {
+                throw new UntranslatableQueryException();
+            }
+            type = i < segments.length - 1 && attribute instanceof SingularAttribute<?, ?> singular && singular.getType() instanceof ManagedType<?> managed
+                    ? managed
+                    : null;
+        }
+        return attribute;
+    }
+
+    private Object convert(String argument, Class<?> type) {
+        Object value;
+        try {
+            value = conversionService.convert(argument, type);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cannot convert '" + argument + "' to " + type.getSimpleName(), e);
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("Cannot convert '" + argument + "' to " + type.getSimpleName());
+        }
+        return value;
+    }
+
+    private List<Object> convertAll(List<String> arguments, Class<?> type) {
+        var values = new ArrayList<>(arguments.size());
+        for (var argument : arguments) {
+            values.add(convert(argument, type));
+        }
+        return values;
+    }
+
+    private static String escapeLike(String value) {
+        return SearchPredicates.escapeLike(value);
+    }
+
+    private static final class Context {
+
+        private final Map<String, Object> parameters = new LinkedHashMap<>();
+        private int count;
+
+        private String bind(Object value) {
+            var name = "p" + ++count;
+            parameters.put(name, value);
+            return name;
+        }
+    }
+
+    private static final class UntranslatableQueryException extends RuntimeException {
+
+        private UntranslatableQueryException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.peluware.springframework.crud.jpa.query;
+
+/**
+ * How {@link com.peluware.springframework.crud.jpa.JpaSpecificationReadService} loads the content of a page.
+ */
+public enum PageMode {
+
+    /**
+     * Loads the entities of the page with a single limited query. Efficient as long as the content query does not
+     * fetch collections; otherwise the JPA provider paginates in memory (Hibernate warns with HHH90003004).
+     */
+    DIRECT,
+
+    /**
+     * Loads the page in two phases: a first query selects only the ids of the page with the full predicate, sort and
+     * limit, and a second one loads those ids with the query hints and fetch plan, restoring the order of the first.
+     * Pagination always happens in SQL, at the cost of one extra lightweight query.
+     */
+    ID_FIRST
+}
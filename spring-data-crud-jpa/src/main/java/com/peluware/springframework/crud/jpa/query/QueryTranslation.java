@@ -0,0 +1,20 @@
+package com.peluware.springframework.crud.jpa.query;
+
+/**
+ * How {@link com.peluware.springframework.crud.jpa.JpaSpecificationReadService} turns a search and an RSQL query into
+ * a JPA query.
+ */
+public enum QueryTranslation {
+
+    /**
+     * Builds a criteria predicate with {@code JpaOmniSearch}. Every request creates a fresh criteria tree that the JPA
+     * provider translates to SQL again.
+     */
+    CRITERIA,
+
+    /**
+     * Translates the search and query into parameterized JPQL with {@link JpqlTranslator}, so repeated query shapes
+     * reuse the provider's cached SQL translation. Queries that cannot be translated fall back to {@link #CRITERIA}.
+     */
+    JPQL
+}
@@ -0,0 +1,112 @@
+package com.peluware.springframework.crud.jpa.query;
+
+import com.peluware.springframework.crud.core.search.MatchMode;
+import com.peluware.springframework.crud.core.search.SearchableField;
+import com.peluware.springframework.crud.core.search.SearchableFields;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+
+/**
+ * Builds the criteria predicate of a free-text search from the {@link SearchableFields} of an entity.
+ * <p>
+ * Each field is matched with its {@link MatchMode}: {@code =} for {@link MatchMode#EXACT}, {@code like 'term%'} for
+ * {@link MatchMode#PREFIX} and {@link MatchMode#CASE_FOLDED}, which both leave the column untouched so that an index
+ * on it can be used, and {@code lower(column) like '%term%'} for {@link MatchMode#CONTAINS}. When the search text
+ * looks like an id, the predicate is a primary-key lookup.
+ * </p>
+ */
+@UtilityClass
+public class SearchPredicates {
+
+    /**
+     * Escape character of the {@code like} patterns built by this class.
+     */
+    public static final char ESCAPE = '\\';
+
+    /**
+     * Builds the search predicate.
+     *
+     * @param fields the search metadata of the entity
+     * @param root   the query root
+     * @param cb     the criteria builder
+     * @param search the search text
+     * @return the predicate, or {@code null} if the entity is undeclared or the search text is blank
+     */
+    public static Predicate toPredicate(SearchableFields fields, Root<?> root, CriteriaBuilder cb, String search) {
+        var term = fields.term(search);
+        if (term == null) {
+            return null;
+        }
+        var id = fields.toId(term);
+        if (id != null) {
+            return cb.equal(root.get(fields.id().name()), id);
+        }
+        var predicates = new ArrayList<Predicate>(fields.fields().size());
+        for (var field : fields.fields()) {
+            var value = field.value(term);
+            if (value != null) {
+                predicates.add(predicate(field, root, cb, value));
+            }
+        }
+        return predicates.isEmpty() ? cb.disjunction() : cb.or(predicates.toArray(Predicate[]::new));
+    }
+
+    /**
+     * Combines two predicates, any of which may be {@code null}, with {@code and}.
+     *
+     * @param cb    the criteria builder
+     * @param left  the first predicate
+     * @param right the second predicate
+     * @return the combined predicate, or {@code null} if both are {@code null}
+     */
+    public static Predicate and(CriteriaBuilder cb, Predicate left, Predicate right) {
+        if (left == null) {
+            return right;
+        }
+        return right == null ? left : cb.and(left, right);
+    }
+
+    /**
+     * Returns the {@code like} pattern of a string field, escaped with {@link #ESCAPE}.
+     *
+     * @param match the match mode, {@link MatchMode#PREFIX}, {@link MatchMode#CASE_FOLDED} or {@link MatchMode#CONTAINS}
+     * @param term  the term prepared by the match mode
+     * @return the pattern
+     */
+    public static String likePattern(MatchMode match, String term) {
+        var escaped = escapeLike(term);
+        return match == MatchMode.CONTAINS ? "%" + escaped + "%" : escaped + "%";
+    }
+
+    /**
+     * Escapes the {@code like} wildcards of the given value with {@link #ESCAPE}.
+     *
+     * @param value the value
+     * @return the escaped value
+     */
+    public static String escapeLike(String value) {
+        var builder = new StringBuilder(value.length() + 4);
+        for (var i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            if (c == '%' || c == '_' || c == ESCAPE) {
+                builder.append(ESCAPE);
+            }
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    private static Predicate predicate(SearchableField field, Root<?> root, CriteriaBuilder cb, Object value) {
+        if (field.match() == MatchMode.EXACT) {
+            return cb.equal(root.get(field.name()), value);
+        }
+        Expression<String> path = root.get(field.name());
+        var expression = field.match() == MatchMode.CONTAINS ? cb.lower(path) : path;
+        return cb.like(expression, likePattern(field.match(), (String) value), ESCAPE);
+    }
+}
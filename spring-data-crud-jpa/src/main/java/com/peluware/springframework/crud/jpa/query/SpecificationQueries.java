@@ -0,0 +1,310 @@
+package com.peluware.springframework.crud.jpa.query;
+
+import jakarta.persistence.EntityManager;
+import com.peluware.springframework.crud.core.metrics.CrudMetrics;
+import com.peluware.springframework.crud.core.metrics.CrudPhase;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import lombok.experimental.UtilityClass;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Executes {@link Specification} based queries directly on an {@link EntityManager}.
+ * <p>
+ * Mirrors the behavior of {@code SimpleJpaRepository} for {@code findAll}, {@code findOne}, {@code count} and
+ * {@code exists}, but allows query hints to be applied per call, which Spring Data repositories only support
+ * statically through {@code @QueryHints}. Hints are applied to the content queries only, never to count or
+ * existence queries.
+ * </p>
+ * <p>
+ * The content and count queries of a page are timed separately through {@link CrudMetrics}.
+ * </p>
+ * <p>
+ * Pages and slices can also be loaded {@link PageMode#ID_FIRST id first}, so that content queries fetching collections
+ * are still paginated in SQL.
+ * </p>
+ */
+@UtilityClass
+public class SpecificationQueries {
+
+    /**
+     * Returns all entities matching the specification, sorted.
+     *
+     * @param entityManager the entity manager
+     * @param domainClass   the entity class
+     * @param spec          the specification
+     * @param sort          the sort to apply
+     * @param hints         the query hints to apply
+     * @param <E>           the entity type
+     * @return the matching entities
+     */
+    public static <E> List<E> findAll(EntityManager entityManager, Class<E> domainClass, Specification<E> spec, Sort sort, Map<String, Object> hints) {
+        return createQuery(entityManager, domainClass, spec, sort, hints).getResultList();
+    }
+
+    /**
+     * Returns a slice of the entities matching the specification, starting at {@code offset}.
+     *
+     * @param entityManager the entity manager
+     * @param domainClass   the entity class
+     * @param spec          the specification
+     * @param sort          the sort to apply
+     * @param offset        the index of the first result
+     * @param limit         the maximum number of results
+     * @param hints         the query hints to apply
+     * @param <E>           the entity type
+     * @return the matching entities
+     */
+    public static <E> List<E> findAll(EntityManager entityManager, Class<E> domainClass, Specification<E> spec, Sort sort, long offset, int limit, Map<String, Object> hints) {
+        var query = createQuery(entityManager, domainClass, spec, sort, hints);
+        query.setFirstResult(Math.toIntExact(offset));
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    /**
+     * Returns a page of the entities matching the specification.
+     *
+     * @param entityManager the entity manager
+     * @param domainClass   the entity class
+     * @param spec          the specification
+     * @param pageable      the pagination information
+     * @param hints         the query hints to apply to the content query
+     * @param <E>           the entity type
+     * @return the page of matching entities
+     */
+    public static <E> Page<E> findAll(EntityManager entityManager, Class<E> domainClass, Specification<E> spec, Pageable pageable, Map<String, Object> hints) {
+        if (pageable.isUnpaged()) {
+            var content = CrudMetrics.phase(CrudPhase.CONTENT_QUERY, () -> findAll(entityManager, domainClass, spec, pageable.getSort(), hints));
+            return PageableExecutionUtils.getPage(content, pageable, content::size);
+        }
+        var content = CrudMetrics.phase(CrudPhase.CONTENT_QUERY, () ->
+                findAll(entityManager, domainClass, spec, pageable.getSort(), pageable.getOffset(), pageable.getPageSize(), hints));
+        return PageableExecutionUtils.getPage(content, pageable, () -> CrudMetrics.phase(CrudPhase.COUNT_QUERY, () -> count(entityManager, domainClass, spec)));
+    }
+
+    /**
+     * Returns a slice of the entities matching the specification, starting at {@code offset}, loaded id first:
+     * the ids of the slice are selected with the specification, sort and limit, then the entities are loaded by id
+     * with the query hints and returned in the order of the ids.
+     * <p>
+     * The ids are grouped by id and sort expressions, so that joins made by the specification do not repeat them
+     * within a slice. Sorting by an attribute of a collection still repeats the ids of entities holding several
+     * values, which then fill several rows of the slice.
+     * </p>
+     *
+     * @param entityManager the entity manager
+     * @param domainClass   the entity class
+     * @param idAttribute   the name of the id attribute
+     * @param spec          the specification
+     * @param sort          the sort to apply
+     * @param offset        the index of the first result
+     * @param limit         the maximum number of results
+     * @param hints         the query hints to apply to the second query
+     * @param <E>           the entity type
+     * @return the matching entities
+     */
+    public static <E> List<E> findAllIdFirst(EntityManager entityManager, Class<E> domainClass, String idAttribute, Specification<E> spec, Sort sort, long offset, int limit, Map<String, Object> hints) {
+        var cb = entityManager.getCriteriaBuilder();
+        var idQuery = cb.createQuery(Object.class);
+        var idRoot = idQuery.from(domainClass);
+
+        var predicate = spec.toPredicate(idRoot, idQuery, cb);
+        if (predicate != null) {
+            idQuery.where(predicate);
+        }
+        var id = idRoot.get(idAttribute);
+        var groupBy = new ArrayList<Expression<?>>();
+        groupBy.add(id);
+        if (sort.isSorted()) {
+            var orders = QueryUtils.toOrders(sort, idRoot, cb);
+            orders.forEach(order -> groupBy.add(order.getExpression()));
+            idQuery.orderBy(orders);
+        }
+        // grouping instead of distinct: joins of the specification must not repeat ids, and select distinct
+        // rejects order by expressions that are not selected on some databases (e.g. PostgreSQL)
+        idQuery.select(id).distinct(false).groupBy(groupBy);
+
+        var ids = entityManager.createQuery(idQuery)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Specification<E> byIds = (root, query, builder) -> InLists.in(entityManager, builder, root.get(idAttribute), ids);
+        var entities = createQuery(entityManager, domainClass, byIds, Sort.unsorted(), hints).getResultList();
+        return orderByIds(entityManager, entities, ids);
+    }
+
+    /**
+     * Returns a page of the entities matching the specification, loaded id first as described in
+     * {@link #findAllIdFirst(EntityManager, Class, String, Specification, Sort, long, int, Map)}.
+     *
+     * @param entityManager the entity manager
+     * @param domainClass   the entity class
+     * @param idAttribute   the name of the id attribute
+     * @param spec          the specification
+     * @param pageable      the pagination information
+     * @param hints         the query hints to apply to the content query
+     * @param <E>           the entity type
+     * @return the page of matching entities
+     */
+    public static <E> Page<E> findAllIdFirst(EntityManager entityManager, Class<E> domainClass, String idAttribute, Specification<E> spec, Pageable pageable, Map<String, Object> hints) {
+        if (pageable.isUnpaged()) {
+            return findAll(entityManager, domainClass, spec, pageable, hints);
+        }
+        var content = CrudMetrics.phase(CrudPhase.CONTENT_QUERY, () ->
+                findAllIdFirst(entityManager, domainClass, idAttribute, spec, pageable.getSort(), pageable.getOffset(), pageable.getPageSize(), hints));
+        return PageableExecutionUtils.getPage(content, pageable, () -> CrudMetrics.phase(CrudPhase.COUNT_QUERY, () -> count(entityManager, domainClass, spec)));
+    }
+
+    /**
+     * Returns the ids of all entities matching the specification, unsorted.
+     *
+     * @param entityManager the entity manager
+     * @param domainClass   the entity class
+     * @param idAttribute   the name of the id attribute
+     * @param spec          the specification
+     * @param <E>           the entity type
+     * @return the matching ids
+     */
+    public static <E> List<Object> findIds(EntityManager entityManager, Class<E> domainClass, String idAttribute, Specification<E> spec) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createQuery(Object.class);
+        var root = query.from(domainClass);
+
+        var predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root.get(idAttribute));
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    /**
+     * Returns the single entity matching the specification.
+     *
+     * @param entityManager the entity manager
+     * @param domainClass   the entity class
+     * @param spec          the specification
+     * @param hints         the query hints to apply
+     * @param <E>           the entity type
+     * @return the matching entity, if any
+     * @throws IncorrectResultSizeDataAccessException if more than one entity matches
+     */
+    public static <E> Optional<E> findOne(EntityManager entityManager, Class<E> domainClass, Specification<E> spec, Map<String, Object> hints) {
+        var query = createQuery(entityManager, domainClass, spec, Sort.unsorted(), hints);
+        query.setMaxResults(2);
+        var result = query.getResultList();
+        if (result.size() > 1) {
+            throw new IncorrectResultSizeDataAccessException(1, result.size());
+        }
+        return result.stream().findFirst();
+    }
+
+    /**
+     * Counts the entities matching the specification.
+     *
+     * @param entityManager the entity manager
+     * @param domainClass   the entity class
+     * @param spec          the specification
+     * @param <E>           the entity type
+     * @return the number of matching entities
+     */
+    public static <E> long count(EntityManager entityManager, Class<E> domainClass, Specification<E> spec) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createQuery(Long.class);
+        var root = query.from(domainClass);
+
+        var predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(query.isDistinct() ? cb.countDistinct(root) : cb.count(root));
+        query.orderBy(List.of());
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Checks whether any entity matches the specification.
+     *
+     * @param entityManager the entity manager
+     * @param domainClass   the entity class
+     * @param spec          the specification
+     * @param <E>           the entity type
+     * @return {@code true} if at least one entity matches
+     */
+    public static <E> boolean exists(EntityManager entityManager, Class<E> domainClass, Specification<E> spec) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createQuery(Integer.class);
+        var root = query.from(domainClass);
+
+        var predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(cb.literal(1));
+
+        return !entityManager.createQuery(query).setMaxResults(1).getResultList().isEmpty();
+    }
+
+    /**
+     * Sorts entities loaded by id in the order of the given ids.
+     *
+     * @param entityManager the entity manager
+     * @param entities      the entities
+     * @param ids           the ids, in the expected order
+     * @param <E>           the entity type
+     * @return the sorted entities
+     */
+    public static <E> List<E> orderByIds(EntityManager entityManager, List<E> entities, List<?> ids) {
+        var positions = new HashMap<Object, Integer>(ids.size() * 2);
+        for (var i = 0; i < ids.size(); i++) {
+            positions.putIfAbsent(ids.get(i), i);
+        }
+        var util = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        var ordered = new ArrayList<>(entities);
+        ordered.sort(Comparator.comparingInt(entity -> positions.getOrDefault(util.getIdentifier(entity), Integer.MAX_VALUE)));
+        return ordered;
+    }
+
+    private static <E> TypedQuery<E> createQuery(EntityManager entityManager, Class<E> domainClass, Specification<E> spec, Sort sort, Map<String, Object> hints) {
+        var typedQuery = entityManager.createQuery(criteria(entityManager, domainClass, spec, sort));
+        hints.forEach(typedQuery::setHint);
+        return typedQuery;
+    }
+
+    static <E> CriteriaQuery<E> criteria(EntityManager entityManager, Class<E> domainClass, Specification<E> spec, Sort sort) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createQuery(domainClass);
+        var root = query.from(domainClass);
+
+        var predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root);
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return query;
+    }
+}
@@ -0,0 +1,55 @@
+package com.peluware.springframework.crud.jpa.query;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Captures the SQL statements executed by the current thread while an action runs.
+ * <p>
+ * Statements are reported by the JPA provider, e.g. by {@link SqlCaptureStatementInspector} on Hibernate, which is
+ * registered automatically when the slow query log is enabled. Without it no statement is captured.
+ * </p>
+ */
+@UtilityClass
+public class SqlCapture {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+    /**
+     * Runs the action, collecting the SQL statements it executes into {@code statements}.
+     *
+     * @param statements receives the executed statements
+     * @param action     the action
+     * @param <T>        the result type
+     * @return the result of the action
+     */
+    public static <T> T capture(List<String> statements, Supplier<T> action) {
+        var previous = STATEMENTS.get();
+        STATEMENTS.set(statements);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                STATEMENTS.remove();
+            } else {
+                previous.addAll(statements);
+                STATEMENTS.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Reports a statement about to be executed by the current thread.
+     *
+     * @param sql the SQL statement
+     */
+    public static void record(String sql) {
+        var statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+    }
+
+}
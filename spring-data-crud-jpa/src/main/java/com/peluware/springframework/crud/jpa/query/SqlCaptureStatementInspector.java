@@ -0,0 +1,19 @@
+package com.peluware.springframework.crud.jpa.query;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate {@link StatementInspector} reporting every prepared statement to {@link SqlCapture}.
+ * <p>
+ * Can also be registered manually through
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}.
+ * </p>
+ */
+public class SqlCaptureStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlCapture.record(sql);
+        return sql;
+    }
+}
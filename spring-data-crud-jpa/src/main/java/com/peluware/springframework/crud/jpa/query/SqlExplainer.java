@@ -0,0 +1,112 @@
+package com.peluware.springframework.crud.jpa.query;
+
+import com.peluware.springframework.crud.core.slowqueries.QueryExplainer;
+import lombok.experimental.UtilityClass;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Creates {@link QueryExplainer}s running {@code EXPLAIN} on captured SQL statements.
+ * <p>
+ * Bound parameter values are not known once the query completed, so the plan is generic:
+ * </p>
+ * <ul>
+ *     <li>PostgreSQL: {@code EXPLAIN (GENERIC_PLAN)}, which requires PostgreSQL 16 or later</li>
+ *     <li>H2: {@code EXPLAIN} with every parameter bound to {@code NULL}</li>
+ * </ul>
+ * <p>
+ * Other databases report the plan as not available.
+ * </p>
+ */
+@UtilityClass
+public class SqlExplainer {
+
+    /**
+     * Returns an explainer for the given statements, executed on a new connection of the data source.
+     *
+     * @param dataSource the data source
+     * @param statements the SQL statements to explain
+     * @return the explainer
+     */
+    public static QueryExplainer of(DataSource dataSource, List<String> statements) {
+        var copy = List.copyOf(statements);
+        return () -> {
+            try (var connection = dataSource.getConnection()) {
+                var product = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+                var plan = new StringBuilder();
+                for (var sql : copy) {
+                    if (!plan.isEmpty()) {
+                        plan.append("\n\n");
+                    }
+                    plan.append(explain(connection, product, sql));
+                }
+                return plan.toString();
+            }
+        };
+    }
+
+    private static String explain(Connection connection, String product, String sql) throws SQLException {
+        if (product.contains("postgresql")) {
+            return execute(connection, "EXPLAIN (GENERIC_PLAN) " + toNumberedParameters(sql), 0);
+        }
+        if (product.contains("h2")) {
+            return execute(connection, "EXPLAIN " + sql, countParameters(sql));
+        }
+        throw new UnsupportedOperationException("EXPLAIN is not supported for " + product);
+    }
+
+    private static String execute(Connection connection, String sql, int nullParameters) throws SQLException {
+        try (var statement = connection.prepareStatement(sql)) {
+            for (var i = 1; i <= nullParameters; i++) {
+                statement.setNull(i, Types.NULL);
+            }
+            try (var resultSet = statement.executeQuery()) {
+                var plan = new StringBuilder();
+                while (resultSet.next()) {
+                    if (!plan.isEmpty()) {
+                        plan.append('\n');
+                    }
+                    plan.append(resultSet.getString(1));
+                }
+                return plan.toString();
+            }
+        }
+    }
+
+    private static String toNumberedParameters(String sql) {
+        var result = new StringBuilder(sql.length() + 8);
+        var quoted = false;
+        var index = 0;
+        for (var i = 0; i < sql.length(); i++) {
+            var c = sql.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            }
+            if (c == '?' && !quoted) {
+                result.append('$').append(++index);
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    private static int countParameters(String sql) {
+        var quoted = false;
+        var count = 0;
+        for (var i = 0; i < sql.length(); i++) {
+            var c = sql.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (c == '?' && !quoted) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,96 @@
+package com.peluware.springframework.crud.jpa.query;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaQuery;
+import lombok.experimental.UtilityClass;
+import org.hibernate.ScrollMode;
+import org.hibernate.Session;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reads {@link Specification} based queries through a Hibernate {@code StatelessSession}.
+ * <p>
+ * A stateless session has no persistence context: entities are not tracked, snapshotted for dirty checking nor kept
+ * referenced after they are returned, so a result of any size can be scrolled in a single forward-only query with
+ * bounded memory. The session is opened on the JDBC connection of the current {@link EntityManager}, so it runs in
+ * the surrounding transaction and on the same (possibly routed) data source. Lazy associations of the returned
+ * entities cannot be initialized.
+ * </p>
+ * <p>
+ * Only available when Hibernate is the JPA provider, see {@link #isSupported(EntityManager)}.
+ * </p>
+ */
+@UtilityClass
+public class StatelessQueries {
+
+    private static final boolean HIBERNATE_PRESENT = ClassUtils.isPresent(
+            "org.hibernate.StatelessSession", StatelessQueries.class.getClassLoader());
+
+    /**
+     * Checks whether the given entity manager is backed by Hibernate.
+     *
+     * @param entityManager the entity manager
+     * @return {@code true} if stateless sessions can be opened
+     */
+    public static boolean isSupported(EntityManager entityManager) {
+        return HIBERNATE_PRESENT && HibernateSessions.isHibernate(entityManager);
+    }
+
+    /**
+     * Scrolls the entities matching the specification in a single query, passing them to {@code consumer} in chunks
+     * of {@code chunkSize}. The fetch size of the query is the chunk size.
+     *
+     * @param entityManager the entity manager whose connection is used
+     * @param domainClass   the entity class
+     * @param spec          the specification
+     * @param sort          the sort to apply
+     * @param chunkSize     the number of entities per chunk
+     * @param consumer      receives each chunk of entities
+     * @param <E>           the entity type
+     * @throws IllegalStateException if Hibernate is not the JPA provider
+     */
+    public static <E> void forEachChunk(EntityManager entityManager, Class<E> domainClass, Specification<E> spec, Sort sort, int chunkSize, Consumer<List<E>> consumer) {
+        if (!isSupported(entityManager)) {
+            throw new IllegalStateException("Stateless sessions require Hibernate as JPA provider");
+        }
+        HibernateSessions.forEachChunk(entityManager, SpecificationQueries.criteria(entityManager, domainClass, spec, sort), chunkSize, consumer);
+    }
+
+    private static final class HibernateSessions {
+
+        private static boolean isHibernate(EntityManager entityManager) {
+            try {
+                entityManager.unwrap(Session.class);
+                return true;
+            } catch (RuntimeException e) {
+                return false;
+            }
+        }
+
+        private static <E> void forEachChunk(EntityManager entityManager, CriteriaQuery<E> criteria, int chunkSize, Consumer<List<E>> consumer) {
+            var session = entityManager.unwrap(Session.class);
+            session.doWork(connection -> {
+                try (var statelessSession = session.getSessionFactory().openStatelessSession(connection);
+                     var results = statelessSession.createQuery(criteria).setFetchSize(chunkSize).scroll(ScrollMode.FORWARD_ONLY)) {
+                    var chunk = new ArrayList<E>(chunkSize);
+                    while (results.next()) {
+                        chunk.add(results.get());
+                        if (chunk.size() == chunkSize) {
+                            consumer.accept(chunk);
+                            chunk = new ArrayList<>(chunkSize);
+                        }
+                    }
+                    if (!chunk.isEmpty()) {
+                        consumer.accept(chunk);
+                    }
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.peluware.springframework.crud.jpa.routing;
+
+import com.peluware.springframework.crud.core.CrudOperationContext;
+import com.peluware.springframework.crud.core.routing.ReadYourWritesTracker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routing {@link DataSource} that sends read-only CRUD operations to replicas.
+ * <p>
+ * The target is chosen from the {@link com.peluware.springframework.crud.core.CrudOperation} bound by
+ * {@link CrudOperationContext}: read-only operations ({@code PAGE}, {@code FIND}, {@code COUNT}, {@code EXISTS})
+ * are balanced round-robin across the replicas, while write operations and any work outside a CRUD operation
+ * use the primary. Reads of a caller that wrote within the read-your-writes window of the
+ * {@link ReadYourWritesTracker} also stick to the primary; the window starts when the writing transaction
+ * commits.
+ * </p>
+ * <p>
+ * Transaction managers fetch the connection before transaction synchronization is active, in which case the write
+ * is recorded when the connection is fetched. Wrap this data source in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so that the connection, and thus the
+ * target, is fetched on the first statement of the transaction and the write is recorded after commit.
+ * </p>
+ * <p>
+ * When a {@link ReplicationLagProbe} is configured, each replica's lag is checked at most once per check
+ * interval and replicas lagging more than the threshold (or failing the probe) are skipped. If no replica is
+ * available, reads fall back to the primary.
+ * </p>
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private ReplicationLagProbe lagProbe;
+    private long maxLagNanos = Long.MAX_VALUE;
+    private long lagCheckIntervalNanos = Duration.ofSeconds(5).toNanos();
+
+    /**
+     * Creates a routing data source without read-your-writes stickiness.
+     *
+     * @param primary  the primary data source
+     * @param replicas the replica data sources
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        this(primary, replicas, new ReadYourWritesTracker(Duration.ZERO));
+    }
+
+    /**
+     * Creates a routing data source.
+     *
+     * @param primary               the primary data source
+     * @param replicas              the replica data sources
+     * @param readYourWritesTracker tracker deciding whether reads must stick to the primary after a write
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, ReadYourWritesTracker readYourWritesTracker) {
+        Objects.requireNonNull(primary, "Primary data source cannot be null");
+        Objects.requireNonNull(replicas, "Replicas cannot be null");
+        Objects.requireNonNull(readYourWritesTracker, "Read-your-writes tracker cannot be null");
+
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.replicas = new ArrayList<>(replicas.size());
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (var i = 0; i < replicas.size(); i++) {
+            var replica = new Replica("replica-" + i, replicas.get(i));
+            this.replicas.add(replica);
+            targets.put(replica.key, replica.dataSource);
+        }
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Enables lag-based replica exclusion.
+     *
+     * @param lagProbe the probe used to measure replica lag
+     * @param maxLag   replicas lagging more than this are skipped
+     */
+    public void setLagProbe(ReplicationLagProbe lagProbe, Duration maxLag) {
+        this.lagProbe = Objects.requireNonNull(lagProbe, "Lag probe cannot be null");
+        this.maxLagNanos = Objects.requireNonNull(maxLag, "Max lag cannot be null").toNanos();
+    }
+
+    /**
+     * Sets how often the lag of each replica is re-evaluated. Defaults to 5 seconds.
+     *
+     * @param lagCheckInterval the check interval
+     */
+    public void setLagCheckInterval(Duration lagCheckInterval) {
+        this.lagCheckIntervalNanos = Objects.requireNonNull(lagCheckInterval, "Lag check interval cannot be null").toNanos();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        var operation = CrudOperationContext.current();
+        if (operation == null || !operation.isReadOnly()) {
+            if (operation != null && operation.isWrite()) {
+                readYourWritesTracker.recordWriteAfterCommit();
+            }
+            return PRIMARY;
+        }
+        if (readYourWritesTracker.isWithinWindow()) {
+            return PRIMARY;
+        }
+
+        var size = replicas.size();
+        var start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (var i = 0; i < size; i++) {
+            var replica = replicas.get((start + i) % size);
+            if (isAvailable(replica)) {
+                return replica.key;
+            }
+        }
+        return PRIMARY;
+    }
+
+    private boolean isAvailable(Replica replica) {
+        if (lagProbe == null) {
+            return true;
+        }
+        var now = System.nanoTime();
+        if (now - replica.checkedAt >= lagCheckIntervalNanos && replica.checking.compareAndSet(false, true)) {
+            try {
+                var lag = lagProbe.lag(replica.dataSource);
+                replica.available = lag.toNanos() <= maxLagNanos;
+                if (!replica.available) {
+                    log.debug("Skipping {} lagging {}", replica.key, lag);
+                }
+            } catch (Exception e) {
+                log.warn("Unable to determine replication lag of {}, skipping it", replica.key, e);
+                replica.available = false;
+            } finally {
+                replica.checkedAt = System.nanoTime();
+                replica.checking.set(false);
+            }
+        }
+        return replica.available;
+    }
+
+    private static final class Replica {
+
+        private final String key;
+        private final DataSource dataSource;
+        private final AtomicBoolean checking = new AtomicBoolean();
+        private volatile boolean available = true;
+        private volatile long checkedAt = System.nanoTime() - Long.MAX_VALUE / 2;
+
+        private Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+    }
+}
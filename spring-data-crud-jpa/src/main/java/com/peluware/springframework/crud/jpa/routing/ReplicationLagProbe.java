@@ -0,0 +1,47 @@
+package com.peluware.springframework.crud.jpa.routing;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Measures how far a replica is behind the primary.
+ *
+ * @see ReplicaRoutingDataSource
+ */
+@FunctionalInterface
+public interface ReplicationLagProbe {
+
+    /**
+     * Returns the current replication lag of the given replica.
+     *
+     * @param replica the replica data source
+     * @return the replication lag
+     * @throws SQLException if the lag cannot be determined; the replica is then considered unavailable
+     */
+    Duration lag(DataSource replica) throws SQLException;
+
+    /**
+     * Creates a probe that executes the given SQL on the replica and reads the lag, in seconds,
+     * from the first column of the first row. For example, on PostgreSQL:
+     * <pre>{@code
+     * select coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0)
+     * }</pre>
+     *
+     * @param sql the query returning the lag in seconds
+     * @return the probe
+     */
+    static ReplicationLagProbe query(String sql) {
+        return replica -> {
+            try (var connection = replica.getConnection();
+                 var statement = connection.createStatement();
+                 var resultSet = statement.executeQuery(sql)) {
+                if (!resultSet.next()) {
+                    throw new SQLException("Replication lag query returned no rows: " + sql);
+                }
+                var seconds = resultSet.getDouble(1);
+                return Duration.ofNanos((long) (seconds * 1_000_000_000L));
+            }
+        };
+    }
+}
@@ -0,0 +1,263 @@
+package com.peluware.springframework.crud.jpa;
+
+import com.peluware.springframework.crud.core.snapshot.EntitySnapshot;
+import com.peluware.springframework.crud.core.snapshot.SnapshotReadService;
+import com.peluware.springframework.crud.jpa.query.QueryTranslation;
+import cz.jirutka.rsql.parser.RSQLParser;
+import cz.jirutka.rsql.parser.ast.Node;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Transient;
+import lombok.Data;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Runs the same inputs through a {@link SnapshotReadService} and a {@link JpaSpecificationCrudService} backed by H2,
+ * and expects the same results. RSQL queries and searches are translated to JPQL on the database side, and H2 sorts
+ * {@code null} values last in ascending order, like the snapshot.
+ */
+class SnapshotReadServiceTest {
+
+    private static final String HIDDEN = "hidden";
+
+    private static final List<String> SEARCHES = Arrays.asList(
+            null, "  ", "alpha", "ENTRY", "test.org", "100%", "under_score", HIDDEN
+    );
+
+    private static final List<String> QUERIES = Arrays.asList(
+            null,
+            "name==Alpha",
+            "name!=Alpha",
+            "name==*a",
+            "name==A*",
+            "description==*ENTRY*",
+            "description!=last",
+            "date=gt=2024-02-20",
+            "date=ge=2024-02-20;date=lt=2025-01-01",
+            "email=in=(alpha@example.com,eps@test.org)",
+            "email=out=(alpha@example.com)",
+            "id=le=3,name==delta"
+    );
+
+    private static final List<Sort> SORTS = List.of(
+            Sort.unsorted(),
+            Sort.by("name", "id"),
+            Sort.by(Sort.Direction.DESC, "name", "id"),
+            Sort.by(Sort.Order.desc("date"), Sort.Order.asc("id")),
+            Sort.by(Sort.Order.asc("name").ignoreCase(), Sort.Order.asc("id")),
+            Sort.by(Sort.Order.asc("description"), Sort.Order.asc("id")),
+            Sort.by(Sort.Order.desc("email"), Sort.Order.asc("id"))
+    );
+
+    private static ConfigurableApplicationContext context;
+    private static EntryDatabaseService database;
+    private static EntrySnapshotService snapshot;
+    private static List<Long> ids;
+
+    @BeforeAll
+    static void setUp() {
+        context = new SpringApplicationBuilder(TestApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "spring.datasource.url=jdbc:h2:mem:snapshot;DEFAULT_NULL_ORDERING=HIGH"
+                )
+                .run();
+        var repository = context.getBean(EntryRepository.class);
+        ids = repository.saveAll(List.of(
+                entry("Alpha", "first entry", "alpha@example.com", "2024-01-10"),
+                entry("beta", null, "beta@example.com", "2024-02-20"),
+                entry("Gamma", "Third ENTRY", null, "2024-02-20"),
+                entry("delta", "contains 100% and under_score", "delta@test.org", "2023-12-31"),
+                entry("Alpha", null, null, "2025-06-01"),
+                entry("epsilon", "last", "eps@test.org", "2024-07-15")
+        )).stream().map(Entry::getId).toList();
+
+        database = new EntryDatabaseService(repository, context.getBean(EntityManager.class));
+        snapshot = new EntrySnapshotService(new EntitySnapshot<>(Entry.class, () -> {
+            var entities = repository.findAll();
+            entities.forEach(entity -> entity.setLabel(HIDDEN));
+            return entities;
+        }));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    void pagesMatchTheDatabase() {
+        for (var search : SEARCHES) {
+            for (var rsql : QUERIES) {
+                for (var sort : SORTS) {
+                    for (var pageable : List.of(PageRequest.of(0, 3, sort), PageRequest.of(1, 2, sort), Pageable.unpaged(sort))) {
+                        var query = parse(rsql);
+                        var expected = database.page(search, pageable, query);
+                        var actual = snapshot.page(search, pageable, query);
+                        var input = "search=" + search + ", query=" + rsql + ", pageable=" + pageable;
+                        assertEquals(ids(expected.getContent()), ids(actual.getContent()), input);
+                        assertEquals(expected.getTotalElements(), actual.getTotalElements(), input);
+                        assertEquals(expected.getTotalPages(), actual.getTotalPages(), input);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void countsMatchTheDatabase() {
+        for (var search : SEARCHES) {
+            for (var rsql : QUERIES) {
+                var query = parse(rsql);
+                assertEquals(database.count(search, query), snapshot.count(search, query), "search=" + search + ", query=" + rsql);
+            }
+        }
+    }
+
+    @Test
+    void findsMatchTheDatabase() {
+        var missing = ids.getLast() + 100;
+        for (var id : ids) {
+            assertEquals(database.find(id).getId(), snapshot.find(id).getId());
+            assertEquals(database.exists(id), snapshot.exists(id));
+        }
+        assertEquals(database.exists(missing), snapshot.exists(missing));
+
+        var lookup = new ArrayList<>(ids.reversed());
+        lookup.add(missing);
+        assertEquals(ids(database.find(lookup)).stream().sorted().toList(), ids(snapshot.find(lookup)).stream().sorted().toList());
+    }
+
+    @Test
+    void skipsTransientFields() {
+        assertEquals(0, database.count(HIDDEN, null));
+        assertEquals(0, snapshot.count(HIDDEN, null));
+
+        var query = parse("label==" + HIDDEN);
+        assertThrows(IllegalArgumentException.class, () -> database.count(null, query));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.count(null, query));
+    }
+
+    private static Node parse(String rsql) {
+        return rsql != null ? new RSQLParser().parse(rsql) : null;
+    }
+
+    private static List<Long> ids(List<Entry> entities) {
+        return entities.stream().map(Entry::getId).toList();
+    }
+
+    private static Entry entry(String name, String description, String email, String date) {
+        var entry = new Entry();
+        entry.setName(name);
+        entry.setDescription(description);
+        entry.setEmail(email);
+        entry.setDate(LocalDate.parse(date));
+        return entry;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    static class EntryDatabaseService implements JpaSpecificationCrudService<Entry, String, Long, EntryRepository> {
+
+        private final EntryRepository repository;
+        private final EntityManager entityManager;
+
+        @Override
+        public QueryTranslation getQueryTranslation() {
+            return QueryTranslation.JPQL;
+        }
+
+        @Override
+        public void mapModel(String dto, Entry model) {
+            model.setName(dto);
+        }
+
+        @Override
+        public Class<Entry> getEntityClass() {
+            return Entry.class;
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    static class EntrySnapshotService implements SnapshotReadService<Entry, Long> {
+
+        private final EntitySnapshot<Entry, Long> snapshot;
+
+        @Override
+        public Class<Entry> getEntityClass() {
+            return Entry.class;
+        }
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EnableJpaRepositories(
+            considerNestedRepositories = true,
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = EntryRepository.class)
+    )
+    static class TestApplication {
+    }
+
+    @Data
+    @Entity
+    static class Entry implements Persistable<Long> {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @Column(nullable = false)
+        private String name;
+
+        private String description;
+
+        private String email;
+
+        @Column(nullable = false)
+        private LocalDate date;
+
+        @Transient
+        private String label;
+
+        @Override
+        public boolean isNew() {
+            return id == null;
+        }
+    }
+
+    interface EntryRepository extends JpaRepository<Entry, Long>, JpaSpecificationExecutor<Entry> {
+    }
+}
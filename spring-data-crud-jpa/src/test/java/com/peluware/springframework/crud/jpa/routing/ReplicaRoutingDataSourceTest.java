@@ -0,0 +1,138 @@
+package com.peluware.springframework.crud.jpa.routing;
+
+import com.peluware.springframework.crud.core.CrudOperation;
+import com.peluware.springframework.crud.core.CrudOperationContext;
+import com.peluware.springframework.crud.core.routing.ReadYourWritesTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+    }
+
+    @Test
+    void routesReadOnlyOperationsToReplica() {
+        var routing = new ReplicaRoutingDataSource(primary, List.of(replica));
+
+        assertEquals("replica", target(routing, CrudOperation.PAGE));
+        assertEquals("replica", target(routing, CrudOperation.FIND));
+        assertEquals("replica", target(routing, CrudOperation.COUNT));
+        assertEquals("replica", target(routing, CrudOperation.EXISTS));
+    }
+
+    @Test
+    void routesWritesAndUnboundWorkToPrimary() {
+        var routing = new ReplicaRoutingDataSource(primary, List.of(replica));
+
+        assertEquals("primary", target(routing, CrudOperation.CREATE));
+        assertEquals("primary", target(routing, CrudOperation.UPDATE));
+        assertEquals("primary", target(routing, CrudOperation.DELETE));
+        assertEquals("primary", new JdbcTemplate(routing).queryForObject("select name from node", String.class));
+    }
+
+    @Test
+    void pinsReadsOfTheWritingCallerToPrimary() throws Exception {
+        var routing = new ReplicaRoutingDataSource(primary, List.of(replica), new ReadYourWritesTracker(Duration.ofMinutes(1)));
+
+        target(routing, CrudOperation.UPDATE);
+        assertEquals("primary", target(routing, CrudOperation.FIND));
+
+        try (var executor = Executors.newSingleThreadExecutor()) {
+            assertEquals("replica", executor.submit(() -> target(routing, CrudOperation.FIND)).get());
+        }
+    }
+
+    @Test
+    void pinsReadsOnlyOnceTheWriteCommits() {
+        var routing = new ReplicaRoutingDataSource(primary, List.of(replica), new ReadYourWritesTracker(Duration.ofMinutes(1)));
+        var dataSource = new LazyConnectionDataSourceProxy(routing);
+        var transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assertEquals("primary", target(dataSource, CrudOperation.UPDATE));
+            assertEquals("replica", target(routing, CrudOperation.FIND));
+        });
+        assertEquals("primary", target(routing, CrudOperation.FIND));
+    }
+
+    @Test
+    void doesNotPinReadsAfterARollback() {
+        var routing = new ReplicaRoutingDataSource(primary, List.of(replica), new ReadYourWritesTracker(Duration.ofMinutes(1)));
+        var dataSource = new LazyConnectionDataSourceProxy(routing);
+        var transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            target(dataSource, CrudOperation.UPDATE);
+            throw new IllegalStateException("rollback");
+        }));
+        assertEquals("replica", target(routing, CrudOperation.FIND));
+    }
+
+    @Test
+    void releasesReadsAfterTheWindow() throws Exception {
+        var routing = new ReplicaRoutingDataSource(primary, List.of(replica), new ReadYourWritesTracker(Duration.ofMillis(50)));
+
+        target(routing, CrudOperation.UPDATE);
+        Thread.sleep(100);
+
+        assertEquals("replica", target(routing, CrudOperation.FIND));
+    }
+
+    @Test
+    void skipsLaggingReplicas() {
+        var routing = new ReplicaRoutingDataSource(primary, List.of(replica));
+        routing.setLagProbe(dataSource -> Duration.ofMinutes(5), Duration.ofSeconds(10));
+
+        assertEquals("primary", target(routing, CrudOperation.PAGE));
+    }
+
+    @Test
+    void skipsReplicasFailingTheLagProbe() {
+        var routing = new ReplicaRoutingDataSource(primary, List.of(replica));
+        routing.setLagProbe(ReplicationLagProbe.query("select lag from missing_table"), Duration.ofSeconds(10));
+
+        assertEquals("primary", target(routing, CrudOperation.PAGE));
+    }
+
+    @Test
+    void keepsReplicasWithinTheLagThreshold() {
+        var routing = new ReplicaRoutingDataSource(primary, List.of(replica));
+        routing.setLagProbe(ReplicationLagProbe.query("select 1"), Duration.ofSeconds(10));
+
+        assertEquals("replica", target(routing, CrudOperation.PAGE));
+    }
+
+    private static String target(DataSource routing, CrudOperation operation) {
+        var jdbcTemplate = new JdbcTemplate(routing);
+        return CrudOperationContext.execute(operation, () -> jdbcTemplate.queryForObject("select name from node", String.class));
+    }
+
+    private static DataSource database(String name) {
+        var dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1");
+        var jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists node (name varchar(20))");
+        jdbcTemplate.update("delete from node");
+        jdbcTemplate.update("insert into node (name) values (?)", name);
+        return dataSource;
+    }
+}
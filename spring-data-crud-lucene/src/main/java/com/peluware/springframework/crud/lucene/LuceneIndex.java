@@ -0,0 +1,421 @@
+package com.peluware.springframework.crud.lucene;
+
+import com.peluware.springframework.crud.core.search.MatchMode;
+import com.peluware.springframework.crud.core.search.SearchableField;
+import com.peluware.springframework.crud.core.search.SearchableFields;
+import com.peluware.springframework.crud.core.utils.FieldUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.Persistable;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Local Lucene index of the searchable fields of one entity type.
+ * <p>
+ * Indexed fields are the {@link com.peluware.springframework.crud.core.search.Searchable searchable fields} of the
+ * entity, or every string field when none is declared. {@link MatchMode#EXACT} fields are indexed as a single
+ * token and matched as a whole; the other fields are analyzed and every word of the search text must match a word,
+ * or the beginning of a word, of any of them. Hits are ranked by relevance.
+ * </p>
+ * <p>
+ * Writes are visible to searches near-real-time: a background thread reopens the searcher at most
+ * {@code maxStale} after a change, and at least {@code minStale} apart. They are only made durable by
+ * {@link #commit()}, {@link #reindex(Consumer)} and {@link #close()}; changes lost in a crash are restored by the next
+ * reindex. Since the index may lag behind the database, callers should treat its ids as candidates to be checked
+ * against the database, as {@link LuceneJpaReadService} does.
+ * </p>
+ * <p>
+ * An index is {@link #isBuilt() built} once a reindex completed, now or in a previous run for persistent directories.
+ * Until then it only holds the entities written since it was opened, and searches should not rely on it.
+ * </p>
+ *
+ * @param <E>  the entity type
+ * @param <ID> the identifier type
+ */
+@Slf4j
+public class LuceneIndex<E extends Persistable<ID>, ID> implements AutoCloseable {
+
+    static final String ID_FIELD = "_id";
+    static final String GENERATION_FIELD = "_generation";
+
+    private static final String GENERATION_COMMIT_KEY = "generation";
+    private static final float TERM_BOOST = 2f;
+    private static final float EXACT_BOOST = 4f;
+
+    private final Class<E> entityClass;
+    private final Class<ID> idType;
+    private final List<SearchableField> fields;
+    private final Directory directory;
+    private final Analyzer analyzer;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+    private final AtomicLong generation;
+    private final ReentrantLock reindexLock = new ReentrantLock();
+    private final ReentrantReadWriteLock generationLock = new ReentrantReadWriteLock();
+    private final Set<ID> deletedDuringReindex = ConcurrentHashMap.newKeySet();
+    private volatile boolean reindexing;
+    private volatile boolean built;
+
+    /**
+     * Opens the index stored in the given directory, creating it if needed. The index owns the directory and the
+     * analyzer and closes them on {@link #close()}.
+     *
+     * @param entityClass the entity class
+     * @param idType      the identifier type, ids are stored as strings and converted back to it
+     * @param directory   the directory holding the index
+     * @param analyzer    the analyzer of the text fields and of the search text
+     * @param maxStale    maximum time before a change is visible to searches
+     * @param minStale    minimum time between two searcher reopens
+     */
+    public LuceneIndex(Class<E> entityClass, Class<ID> idType, Directory directory, Analyzer analyzer, Duration maxStale, Duration minStale) {
+        this.entityClass = Objects.requireNonNull(entityClass, "Entity class cannot be null");
+        this.idType = Objects.requireNonNull(idType, "Id type cannot be null");
+        this.directory = Objects.requireNonNull(directory, "Directory cannot be null");
+        this.analyzer = Objects.requireNonNull(analyzer, "Analyzer cannot be null");
+        Objects.requireNonNull(maxStale, "Max stale cannot be null");
+        Objects.requireNonNull(minStale, "Min stale cannot be null");
+        if (minStale.compareTo(maxStale) > 0) {
+            throw new IllegalArgumentException("Min stale cannot be greater than max stale");
+        }
+        this.fields = indexedFields(entityClass);
+        try {
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer).setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            this.generation = new AtomicLong(readGeneration(writer));
+            this.built = generation.get() > 0;
+            this.searcherManager = new SearcherManager(writer, new SearcherFactory());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open Lucene index of " + entityClass.getSimpleName(), e);
+        }
+        this.reopenThread = new ControlledRealTimeReopenThread<>(writer, searcherManager, seconds(maxStale), seconds(minStale));
+        this.reopenThread.setName("lucene-refresh-" + entityClass.getSimpleName());
+        this.reopenThread.setDaemon(true);
+        this.reopenThread.start();
+    }
+
+    /**
+     * Returns the indexed entity class.
+     *
+     * @return the entity class
+     */
+    public Class<E> getEntityClass() {
+        return entityClass;
+    }
+
+    /**
+     * Returns whether the index holds every entity, i.e. a reindex completed since it was created.
+     *
+     * @return {@code true} if the index has been built
+     */
+    public boolean isBuilt() {
+        return built;
+    }
+
+    /**
+     * Searches the index.
+     *
+     * @param search  the search text
+     * @param maxHits the maximum number of ids to return
+     * @return the ids of the best {@code maxHits} hits, most relevant first
+     */
+    public List<ID> search(String search, int maxHits) {
+        if (maxHits < 1) {
+            throw new IllegalArgumentException("Max hits must be greater than zero");
+        }
+        var query = toQuery(search);
+        if (query == null) {
+            return List.of();
+        }
+        try {
+            var searcher = searcherManager.acquire();
+            try {
+                var topDocs = searcher.search(query, maxHits);
+                var storedFields = searcher.storedFields();
+                var ids = new ArrayList<ID>(topDocs.scoreDocs.length);
+                for (var scoreDoc : topDocs.scoreDocs) {
+                    ids.add(toId(storedFields.document(scoreDoc.doc, Set.of(ID_FIELD)).get(ID_FIELD)));
+                }
+                return ids;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot search Lucene index of " + entityClass.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Adds or replaces the document of the given entity.
+     *
+     * @param entity the entity
+     */
+    public void update(E entity) {
+        var lock = generationLock.readLock();
+        lock.lock();
+        try {
+            // the generation is read and the document written under the lock, so a reindex starting meanwhile waits
+            // for it and never removes it as a leftover of the previous generation
+            deletedDuringReindex.remove(entity.getId());
+            writer.updateDocument(idTerm(entity.getId()), toDocument(entity, generation.get()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot index " + entityClass.getSimpleName() + " " + entity.getId(), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces the documents of the given entities.
+     *
+     * @param entities the entities
+     */
+    public void updateAll(Collection<E> entities) {
+        entities.forEach(this::update);
+    }
+
+    /**
+     * Removes the document of the given id.
+     *
+     * @param id the entity id
+     */
+    public void delete(ID id) {
+        var lock = generationLock.readLock();
+        lock.lock();
+        try {
+            // a running reindex may have read the entity before it was deleted, the id is kept so that the reindex
+            // does not write it back
+            if (reindexing) {
+                deletedDuringReindex.add(id);
+            }
+            writer.deleteDocuments(idTerm(id));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot remove " + entityClass.getSimpleName() + " " + id + " from the index", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the index from the given source, which must pass every entity to the consumer it receives, in chunks.
+     * <p>
+     * Documents are replaced in place and the ones not written by this run are removed at the end, so searches keep
+     * being served from the previous contents during the reindex. Writes made concurrently are tagged with the new
+     * generation and kept, and entities deleted concurrently are not written back.
+     * </p>
+     *
+     * @param source receives the consumer of the chunks of entities to index
+     */
+    public void reindex(Consumer<Consumer<List<E>>> source) {
+        reindexLock.lock();
+        try {
+            long current;
+            var lock = generationLock.writeLock();
+            lock.lock();
+            try {
+                current = generation.incrementAndGet();
+                deletedDuringReindex.clear();
+                reindexing = true;
+            } finally {
+                lock.unlock();
+            }
+            var count = new long[1];
+            source.accept(chunk -> {
+                for (var entity : chunk) {
+                    if (deletedDuringReindex.contains(entity.getId())) {
+                        continue;
+                    }
+                    try {
+                        writer.updateDocument(idTerm(entity.getId()), toDocument(entity, current));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Cannot index " + entityClass.getSimpleName() + " " + entity.getId(), e);
+                    }
+                }
+                count[0] += chunk.size();
+            });
+            writer.deleteDocuments(LongPoint.newRangeQuery(GENERATION_FIELD, Long.MIN_VALUE, current - 1));
+            commit();
+            searcherManager.maybeRefreshBlocking();
+            built = true;
+            log.debug("Reindexed {} {} entities", count[0], entityClass.getSimpleName());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot reindex " + entityClass.getSimpleName(), e);
+        } finally {
+            reindexing = false;
+            deletedDuringReindex.clear();
+            reindexLock.unlock();
+        }
+    }
+
+    /**
+     * Makes the searcher reflect every change made so far, without waiting for the background refresh.
+     */
+    public void refresh() {
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot refresh Lucene index of " + entityClass.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Makes the changes made so far durable.
+     */
+    public void commit() {
+        try {
+            writer.setLiveCommitData(Map.of(GENERATION_COMMIT_KEY, Long.toString(generation.get())).entrySet());
+            writer.commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot commit Lucene index of " + entityClass.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Stops the background refresh, commits pending changes and closes the index.
+     */
+    @Override
+    public void close() {
+        reopenThread.close();
+        try (directory; analyzer; writer; searcherManager) {
+            commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close Lucene index of " + entityClass.getSimpleName(), e);
+        }
+    }
+
+    private Query toQuery(String search) {
+        if (search == null || search.isBlank()) {
+            return null;
+        }
+        var term = search.trim();
+        var builder = new BooleanQuery.Builder();
+        var textFields = fields.stream().filter(field -> field.match() != MatchMode.EXACT).toList();
+        var tokens = textFields.isEmpty() ? List.<String>of() : analyze(term);
+        if (!tokens.isEmpty()) {
+            var allTokens = new BooleanQuery.Builder();
+            for (var token : tokens) {
+                var anyField = new BooleanQuery.Builder();
+                for (var field : textFields) {
+                    anyField.add(new BoostQuery(new TermQuery(new Term(field.name(), token)), TERM_BOOST), BooleanClause.Occur.SHOULD);
+                    anyField.add(new PrefixQuery(new Term(field.name(), token)), BooleanClause.Occur.SHOULD);
+                }
+                allTokens.add(anyField.build(), BooleanClause.Occur.MUST);
+            }
+            builder.add(allTokens.build(), BooleanClause.Occur.SHOULD);
+        }
+        for (var field : fields) {
+            if (field.match() == MatchMode.EXACT) {
+                var value = field.value(term);
+                if (value != null) {
+                    builder.add(new BoostQuery(new TermQuery(new Term(field.name(), value.toString())), EXACT_BOOST), BooleanClause.Occur.SHOULD);
+                }
+            }
+        }
+        var query = builder.build();
+        return query.clauses().isEmpty() ? null : query;
+    }
+
+    private List<String> analyze(String text) {
+        var tokens = new ArrayList<String>();
+        try (var stream = analyzer.tokenStream(null, text)) {
+            var attribute = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(attribute.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot analyze search text", e);
+        }
+        return tokens;
+    }
+
+    private Document toDocument(E entity, long documentGeneration) {
+        var document = new Document();
+        document.add(new StringField(ID_FIELD, String.valueOf(entity.getId()), Field.Store.YES));
+        document.add(new LongPoint(GENERATION_FIELD, documentGeneration));
+        var accessor = PropertyAccessorFactory.forDirectFieldAccess(entity);
+        for (var field : fields) {
+            var value = accessor.getPropertyValue(field.name());
+            if (value == null) {
+                continue;
+            }
+            document.add(field.match() == MatchMode.EXACT
+                    ? new StringField(field.name(), value.toString(), Field.Store.NO)
+                    : new TextField(field.name(), value.toString(), Field.Store.NO));
+        }
+        return document;
+    }
+
+    private Term idTerm(ID id) {
+        return new Term(ID_FIELD, String.valueOf(id));
+    }
+
+    private ID toId(String value) {
+        return DefaultConversionService.getSharedInstance().convert(value, idType);
+    }
+
+    private static long readGeneration(IndexWriter writer) {
+        var commitData = writer.getLiveCommitData();
+        if (commitData != null) {
+            for (var entry : commitData) {
+                if (GENERATION_COMMIT_KEY.equals(entry.getKey())) {
+                    return Long.parseLong(entry.getValue());
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static List<SearchableField> indexedFields(Class<?> entityClass) {
+        var searchable = SearchableFields.of(entityClass);
+        if (searchable.isDeclared()) {
+            return searchable.fields();
+        }
+        var fields = new ArrayList<SearchableField>();
+        ReflectionUtils.doWithFields(entityClass,
+                field -> fields.add(new SearchableField(field.getName(), String.class, MatchMode.CONTAINS)),
+                field -> field.getType() == String.class && FieldUtils.isPersistent(field));
+        return fields;
+    }
+
+    private static double seconds(Duration duration) {
+        return duration.toNanos() / 1_000_000_000d;
+    }
+}
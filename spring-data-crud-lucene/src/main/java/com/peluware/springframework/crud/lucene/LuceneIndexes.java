@@ -0,0 +1,118 @@
+package com.peluware.springframework.crud.lucene;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.data.domain.Persistable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registry of the {@link LuceneIndex Lucene indexes} of an application, one per entity type.
+ * <p>
+ * Indexes are opened on first use, in a sub-directory of {@code directory} named after the entity class, or in memory
+ * when no directory is configured (in which case they are empty after every start until rebuilt, see
+ * {@link LuceneReindexer}). Pending changes of every index are committed every {@code commitInterval}, and on
+ * {@link #close()}.
+ * </p>
+ */
+@Slf4j
+public class LuceneIndexes implements AutoCloseable {
+
+    private final Path directory;
+    private final Duration maxStale;
+    private final Duration minStale;
+    private final Map<Class<?>, LuceneIndex<?, ?>> indexes = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService committer;
+
+    /**
+     * Creates a registry.
+     *
+     * @param directory      the base directory of the indexes, or {@code null} to keep them in memory
+     * @param maxStale       maximum time before a change is visible to searches
+     * @param minStale       minimum time between two searcher reopens
+     * @param commitInterval interval between periodic commits, or {@code null} to only commit on close and reindex
+     */
+    public LuceneIndexes(Path directory, Duration maxStale, Duration minStale, Duration commitInterval) {
+        this.directory = directory;
+        this.maxStale = Objects.requireNonNull(maxStale, "Max stale cannot be null");
+        this.minStale = Objects.requireNonNull(minStale, "Min stale cannot be null");
+        if (commitInterval == null || commitInterval.isZero() || commitInterval.isNegative()) {
+            this.committer = null;
+            return;
+        }
+        this.committer = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("lucene-commit").daemon(true).factory());
+        var interval = commitInterval.toNanos();
+        this.committer.scheduleWithFixedDelay(this::commitQuietly, interval, interval, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the index of the given entity type, opening it if needed.
+     *
+     * @param entityClass the entity class
+     * @param idType      the identifier type
+     * @param <E>         the entity type
+     * @param <ID>        the identifier type
+     * @return the index
+     */
+    @SuppressWarnings("unchecked")
+    public <E extends Persistable<ID>, ID> LuceneIndex<E, ID> get(Class<E> entityClass, Class<ID> idType) {
+        return (LuceneIndex<E, ID>) indexes.computeIfAbsent(entityClass, type ->
+                new LuceneIndex<>(entityClass, idType, openDirectory(entityClass), new StandardAnalyzer(), maxStale, minStale));
+    }
+
+    /**
+     * Commits pending changes of every open index.
+     */
+    public void commit() {
+        indexes.values().forEach(LuceneIndex::commit);
+    }
+
+    /**
+     * Stops periodic commits and closes every open index.
+     */
+    @Override
+    public void close() {
+        if (committer != null) {
+            committer.shutdownNow();
+        }
+        for (var index : indexes.values()) {
+            try {
+                index.close();
+            } catch (RuntimeException e) {
+                log.error("Cannot close Lucene index of {}", index.getEntityClass().getSimpleName(), e);
+            }
+        }
+        indexes.clear();
+    }
+
+    private Directory openDirectory(Class<?> entityClass) {
+        if (directory == null) {
+            return new ByteBuffersDirectory();
+        }
+        try {
+            return FSDirectory.open(directory.resolve(entityClass.getName()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open Lucene directory of " + entityClass.getSimpleName(), e);
+        }
+    }
+
+    private void commitQuietly() {
+        try {
+            commit();
+        } catch (RuntimeException e) {
+            log.error("Periodic commit of Lucene indexes failed", e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.peluware.springframework.crud.lucene;
+
+import com.peluware.springframework.crud.core.hooks.AfterCommitHooks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Persistable;
+
+import java.util.Objects;
+
+/**
+ * Write hooks keeping a {@link LuceneIndex} in sync with the entities written by a
+ * {@link com.peluware.springframework.crud.core.WriteService}.
+ * <p>
+ * Created, updated and deleted entities are indexed once the surrounding transaction commits, so rolled-back writes
+ * never reach the index; without an active transaction they are indexed immediately. Indexing failures are logged
+ * and do not affect the write, the next {@link LuceneIndex#reindex(java.util.function.Consumer) reindex} repairs the
+ * index.
+ * </p>
+ *
+ * @param <E>  the entity type
+ * @param <D>  the DTO type
+ * @param <ID> the identifier type
+ */
+@Slf4j
+public class LuceneIndexingHooks<E extends Persistable<ID>, D, ID> extends AfterCommitHooks<E, D, ID> {
+
+    private final LuceneIndex<E, ID> index;
+
+    /**
+     * Creates hooks updating the given index.
+     *
+     * @param index the index to update
+     */
+    public LuceneIndexingHooks(LuceneIndex<E, ID> index) {
+        super(Objects.requireNonNull(index, "Index cannot be null").getEntityClass());
+        this.index = index;
+    }
+
+    @Override
+    public void onAfterCreate(D dto, E entity) {
+        afterCommit(() -> index.update(entity));
+    }
+
+    @Override
+    public void onAfterUpdate(D dto, E entity) {
+        afterCommit(() -> index.update(entity));
+    }
+
+    @Override
+    public void onAfterDelete(E entity) {
+        var id = entity.getId();
+        afterCommit(() -> index.delete(id));
+    }
+
+    @Override
+    protected void onFailure(RuntimeException e) {
+        log.warn("Cannot update Lucene index of {}, it will be repaired by the next reindex", getEntityClass().getSimpleName(), e);
+    }
+}
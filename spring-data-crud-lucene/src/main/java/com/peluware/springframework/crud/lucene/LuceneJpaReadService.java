@@ -0,0 +1,212 @@
+package com.peluware.springframework.crud.lucene;
+
+import com.peluware.springframework.crud.core.CrudOperation;
+import com.peluware.springframework.crud.core.CrudOperationContext;
+import com.peluware.springframework.crud.core.metrics.CrudMetrics;
+import com.peluware.springframework.crud.core.metrics.CrudPhase;
+import com.peluware.springframework.crud.core.search.SearchableFields;
+import com.peluware.springframework.crud.core.utils.StringUtils;
+import com.peluware.springframework.crud.jpa.JpaSpecificationReadService;
+import com.peluware.springframework.crud.jpa.query.InLists;
+import com.peluware.springframework.crud.jpa.query.JpaQueryHints;
+import com.peluware.springframework.crud.jpa.query.PageMode;
+import com.peluware.springframework.crud.jpa.query.SpecificationQueries;
+import cz.jirutka.rsql.parser.ast.Node;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JPA read service answering free-text searches from a local {@link LuceneIndex}.
+ * <p>
+ * When a search text is present, the index returns the ids of the best {@link #getMaxSearchHits()} hits. The RSQL
+ * query and {@link #combineSpecification(Specification, CrudOperation)} are then applied in the database, restricted
+ * to those ids, which also drops hits of entities deleted since they were indexed. With the default order, or when
+ * sorted by {@link #RELEVANCE}, the matching ids are paginated in relevance order and only the entities of the
+ * requested page are loaded, in a single query by id. Any other sort is applied by the database. Searches are capped
+ * to the best hits, so the total of a search page is at most {@link #getMaxSearchHits()}.
+ * </p>
+ * <p>
+ * Pages without search text, search texts looking like an id of an entity with a
+ * {@link com.peluware.springframework.crud.core.search.SearchableId searchable id}, and every search issued before the
+ * index is {@link LuceneIndex#isBuilt() built} are served by the database as in {@link JpaSpecificationReadService}.
+ * Entities are loaded with the {@link #getQueryHints(CrudOperation) query hints},
+ * {@link #getFetchPlan(CrudOperation) fetch plan} and {@link #getPageMode() page mode} of the service.
+ * </p>
+ * <p>
+ * The index is kept up to date by {@link LuceneIndexingHooks} on the write side, and rebuilt with {@link #reindex()}:
+ * {@link LuceneReindexer} builds the indexes of every service once the application is ready, and optionally
+ * rebuilds them periodically.
+ * </p>
+ *
+ * @param <E>  the entity type, must extend {@link Persistable}
+ * @param <ID> the ID type of the entity
+ * @param <R>  the Spring Data JPA repository, must implement {@link JpaSpecificationExecutor}
+ */
+public interface LuceneJpaReadService<E extends Persistable<ID>, ID, R extends JpaSpecificationExecutor<E>> extends
+        JpaSpecificationReadService<E, ID, R> {
+
+    /**
+     * Sort property ordering search results by relevance, most relevant first whatever the direction.
+     */
+    String RELEVANCE = "_relevance";
+
+    /**
+     * Returns the index of the entity, e.g. {@code luceneIndexes.get(Customer.class, Long.class)}.
+     *
+     * @return the Lucene index
+     */
+    LuceneIndex<E, ID> getLuceneIndex();
+
+    /**
+     * Returns the maximum number of hits taken from the index for a search.
+     *
+     * @return the maximum number of hits
+     */
+    default int getMaxSearchHits() {
+        return 1000;
+    }
+
+    /**
+     * Returns the number of entities loaded per query by {@link #reindex()}.
+     *
+     * @return the chunk size
+     */
+    default int getReindexChunkSize() {
+        return 500;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Page<E> internalPage(Pageable pageable) {
+        return JpaSpecificationReadService.super.internalPage(withoutRelevance(pageable));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Page<E> internalSearch(String search, Pageable pageable, Node query) {
+        var term = StringUtils.normalize(search);
+        if (!usesIndex(term)) {
+            return JpaSpecificationReadService.super.internalSearch(search, withoutRelevance(pageable), query);
+        }
+
+        var ids = CrudMetrics.phase(CrudPhase.CONTENT_QUERY, () -> getLuceneIndex().search(term, getMaxSearchHits()));
+        if (ids.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        var entityManager = getEntityManager();
+        var entityClass = getEntityClass();
+        var spec = combineSpecification(candidates(ids, query), CrudOperation.PAGE);
+        var operation = currentOperation(CrudOperation.PAGE);
+        var hints = JpaQueryHints.withFetchPlan(getQueryHints(operation), getFetchPlan(operation), entityManager, entityClass);
+        if (!isSortedByRelevance(pageable.getSort())) {
+            var sorted = withoutRelevance(pageable);
+            return getPageMode() == PageMode.ID_FIRST
+                    ? SpecificationQueries.findAllIdFirst(entityManager, entityClass, getIdFieldName(), spec, sorted, hints)
+                    : SpecificationQueries.findAll(entityManager, entityClass, spec, sorted, hints);
+        }
+
+        var matching = new HashSet<>(CrudMetrics.phase(CrudPhase.COUNT_QUERY, () ->
+                SpecificationQueries.findIds(entityManager, entityClass, getIdFieldName(), spec)));
+        var ranked = ids.stream().filter(matching::contains).toList();
+        var from = pageable.isUnpaged() ? 0 : (int) Math.min(pageable.getOffset(), ranked.size());
+        var to = pageable.isUnpaged() ? ranked.size() : Math.min(from + pageable.getPageSize(), ranked.size());
+        var pageIds = ranked.subList(from, to);
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ranked.size());
+        }
+
+        Specification<E> byIds = (root, q, cb) -> InLists.in(entityManager, cb, root.get(getIdFieldName()), pageIds);
+        var content = CrudMetrics.phase(CrudPhase.CONTENT_QUERY, () -> SpecificationQueries.orderByIds(entityManager,
+                SpecificationQueries.findAll(entityManager, entityClass, byIds, Sort.unsorted(), hints), pageIds));
+        return new PageImpl<>(content, pageable, ranked.size());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default long internalCount(String search, Node query) {
+        var term = StringUtils.normalize(search);
+        if (!usesIndex(term)) {
+            return JpaSpecificationReadService.super.internalCount(search, query);
+        }
+        var ids = getLuceneIndex().search(term, getMaxSearchHits());
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return SpecificationQueries.count(getEntityManager(), getEntityClass(), combineSpecification(candidates(ids, query), CrudOperation.COUNT));
+    }
+
+    /**
+     * Rebuilds the index from every entity in the database, in chunks of {@link #getReindexChunkSize()} loaded in a
+     * read-only transaction. {@link #combineSpecification(Specification, CrudOperation)} is not applied: the index
+     * holds every entity and restrictions are applied when searching.
+     */
+    default void reindex() {
+        var entityClass = getEntityClass();
+        var chunkSize = getReindexChunkSize();
+        var transactionOperations = getTransactionOperations(CrudOperation.PAGE);
+        Specification<E> all = (root, query, cb) -> null;
+        getLuceneIndex().reindex(consumer -> CrudOperationContext.run(CrudOperation.PAGE, () -> transactionOperations.executeWithoutResult(status -> {
+            var entityManager = getEntityManager();
+            var sort = Sort.by(getIdFieldName());
+            var hints = JpaQueryHints.readOptimized(chunkSize);
+            var offset = 0L;
+            int rows;
+            do {
+                var chunk = SpecificationQueries.findAll(entityManager, entityClass, all, sort, offset, chunkSize, hints);
+                consumer.accept(chunk);
+                chunk.forEach(entityManager::detach);
+                rows = chunk.size();
+                offset += rows;
+            } while (rows == chunkSize);
+        })));
+    }
+
+    private boolean usesIndex(String term) {
+        return term != null && SearchableFields.of(getEntityClass()).toId(term) == null && getLuceneIndex().isBuilt();
+    }
+
+    private Specification<E> candidates(List<ID> ids, Node query) {
+        var entityManager = getEntityManager();
+        Specification<E> byIds = (root, q, cb) -> InLists.in(entityManager, cb, root.get(getIdFieldName()), ids);
+        if (query == null) {
+            return byIds;
+        }
+        var options = toBaseSearchOptions(null, query);
+        return byIds.and((root, q, cb) -> getOmniSearch().buildPredicate(root, cb, options));
+    }
+
+    private static boolean isSortedByRelevance(Sort sort) {
+        return sort.isUnsorted() || RELEVANCE.equals(sort.iterator().next().getProperty());
+    }
+
+    private static Pageable withoutRelevance(Pageable pageable) {
+        var sort = pageable.getSort();
+        if (sort.getOrderFor(RELEVANCE) == null) {
+            return pageable;
+        }
+        var remaining = Sort.by(sort.stream().filter(order -> !RELEVANCE.equals(order.getProperty())).toList());
+        return pageable.isUnpaged() ? Pageable.unpaged(remaining) : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), remaining);
+    }
+
+    private static CrudOperation currentOperation(CrudOperation fallback) {
+        var current = CrudOperationContext.current();
+        return current != null ? current : fallback;
+    }
+}
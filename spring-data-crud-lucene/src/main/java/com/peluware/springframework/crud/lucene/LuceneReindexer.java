@@ -0,0 +1,86 @@
+package com.peluware.springframework.crud.lucene;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rebuilds the indexes of the {@link LuceneJpaReadService} beans of an application.
+ * <p>
+ * Once the application is ready, every index that is not {@link LuceneIndex#isBuilt() built} yet (in-memory indexes
+ * after every start, persistent ones on their first start) is rebuilt in the background; searches are served by the
+ * database meanwhile. When a {@code reindexInterval} is given, every index is also rebuilt periodically, repairing
+ * the changes lost by failed indexing hooks or by a crash.
+ * </p>
+ */
+@Slf4j
+public class LuceneReindexer implements ApplicationListener<ApplicationReadyEvent>, AutoCloseable {
+
+    private final ObjectProvider<LuceneJpaReadService<?, ?, ?>> services;
+    private final boolean onStartup;
+    private final Duration reindexInterval;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("lucene-reindex").daemon(true).factory());
+
+    /**
+     * Creates a reindexer.
+     *
+     * @param services        provider of the services whose indexes are rebuilt
+     * @param onStartup       whether indexes that are not built are rebuilt once the application is ready
+     * @param reindexInterval interval between periodic rebuilds of every index, or {@code null} to disable them
+     */
+    public LuceneReindexer(ObjectProvider<LuceneJpaReadService<?, ?, ?>> services, boolean onStartup, Duration reindexInterval) {
+        this.services = services;
+        this.onStartup = onStartup;
+        this.reindexInterval = reindexInterval;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (onStartup) {
+            executor.execute(() -> reindex(false));
+        }
+        if (reindexInterval != null && !reindexInterval.isZero() && !reindexInterval.isNegative()) {
+            var interval = reindexInterval.toNanos();
+            executor.scheduleWithFixedDelay(() -> reindex(true), interval, interval, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Rebuilds the index of every service, on the calling thread.
+     */
+    public void reindexAll() {
+        reindex(true);
+    }
+
+    /**
+     * Stops the pending and periodic rebuilds.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void reindex(boolean all) {
+        var reindexed = Collections.newSetFromMap(new IdentityHashMap<LuceneIndex<?, ?>, Boolean>());
+        services.orderedStream().forEach(service -> {
+            var index = service.getLuceneIndex();
+            if ((!all && index.isBuilt()) || !reindexed.add(index)) {
+                return;
+            }
+            try {
+                service.reindex();
+            } catch (RuntimeException e) {
+                log.error("Cannot reindex {}, searches keep using the previous index", index.getEntityClass().getSimpleName(), e);
+            }
+        });
+    }
+}
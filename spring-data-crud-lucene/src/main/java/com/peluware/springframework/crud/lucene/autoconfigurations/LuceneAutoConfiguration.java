@@ -0,0 +1,37 @@
+package com.peluware.springframework.crud.lucene.autoconfigurations;
+
+import com.peluware.springframework.crud.lucene.LuceneIndexes;
+import com.peluware.springframework.crud.lucene.LuceneJpaReadService;
+import com.peluware.springframework.crud.lucene.LuceneReindexer;
+import org.apache.lucene.index.IndexWriter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Autoconfiguration registering the {@link LuceneIndexes} registry and the {@link LuceneReindexer} of the
+ * {@link LuceneJpaReadService} beans, configured by {@link LuceneProperties}.
+ * <p>
+ * The registry is closed with the application context, committing every open index.
+ * </p>
+ */
+@AutoConfiguration
+@ConditionalOnClass(IndexWriter.class)
+@EnableConfigurationProperties(LuceneProperties.class)
+public class LuceneAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public LuceneIndexes luceneIndexes(LuceneProperties properties) {
+        return new LuceneIndexes(properties.getDirectory(), properties.getMaxStale(), properties.getMinStale(), properties.getCommitInterval());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public LuceneReindexer luceneReindexer(ObjectProvider<LuceneJpaReadService<?, ?, ?>> services, LuceneProperties properties) {
+        return new LuceneReindexer(services, properties.isReindexOnStartup(), properties.getReindexInterval());
+    }
+}
@@ -0,0 +1,45 @@
+package com.peluware.springframework.crud.lucene.autoconfigurations;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration properties of the Lucene indexes, bound under the {@code spring.data.crud.lucene} prefix.
+ */
+@Data
+@ConfigurationProperties(prefix = "spring.data.crud.lucene")
+public class LuceneProperties {
+
+    /**
+     * Base directory of the indexes. Indexes are kept in memory, and rebuilt after every start, when not set.
+     */
+    private Path directory;
+
+    /**
+     * Maximum time before an indexed change is visible to searches.
+     */
+    private Duration maxStale = Duration.ofSeconds(1);
+
+    /**
+     * Minimum time between two searcher reopens.
+     */
+    private Duration minStale = Duration.ofMillis(25);
+
+    /**
+     * Interval between periodic commits of the indexes.
+     */
+    private Duration commitInterval = Duration.ofMinutes(1);
+
+    /**
+     * Whether the indexes that are not built yet are rebuilt in the background once the application is ready.
+     */
+    private boolean reindexOnStartup = true;
+
+    /**
+     * Interval between periodic rebuilds of every index. Indexes are only rebuilt on startup when not set.
+     */
+    private Duration reindexInterval;
+}
@@ -0,0 +1,37 @@
+package com.peluware.springframework.crud.mongo.reactive;
+
+import com.peluware.springframework.crud.core.CrudOperation;
+import org.springframework.security.authorization.ReactiveAuthorizationManager;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import reactor.core.publisher.Mono;
+
+
+/**
+ * Reactive counterpart of {@link com.peluware.springframework.crud.core.AuthorizedCrud}: a CRUD service whose
+ * operations are authorized by a {@link ReactiveAuthorizationManager} before they are executed.
+ */
+public interface ReactiveAuthorizedCrud {
+
+    /**
+     * Returns the authorization manager deciding whether the current principal may run an operation.
+     *
+     * @return the authorization manager
+     */
+    ReactiveAuthorizationManager<CrudOperation> getAuthorizationManager();
+
+    /**
+     * Verifies that the principal of the {@link ReactiveSecurityContextHolder reactive security context} may run the
+     * given operation.
+     *
+     * @param authorizedCrud the service whose authorization manager decides
+     * @param operation      the operation about to be executed
+     * @return a {@link Mono} completing empty when access is granted, or failing with an
+     * {@link org.springframework.security.access.AccessDeniedException} otherwise
+     */
+    static Mono<Void> verifyAccess(ReactiveAuthorizedCrud authorizedCrud, final CrudOperation operation) {
+        var authorizationManager = authorizedCrud.getAuthorizationManager();
+        var authentication = ReactiveSecurityContextHolder.getContext().map(SecurityContext::getAuthentication);
+        return authorizationManager.verify(authentication, operation);
+    }
+}
@@ -0,0 +1,39 @@
+package com.peluware.springframework.crud.mongo.reactive;
+
+import com.peluware.springframework.crud.core.CrudOperation;
+import reactor.core.publisher.Mono;
+
+/**
+ * Marker sealed interface that defines the base contract for all reactive CRUD-related services.
+ * <p>
+ * This interface is the non-blocking counterpart of {@link com.peluware.springframework.crud.core.Crud} and is
+ * extended by {@link ReactiveWriteService}, {@link ReactiveReadService}, and {@link ReactiveCrudService}.
+ * </p>
+ *
+ * @see ReactiveWriteService
+ * @see ReactiveReadService
+ * @see ReactiveCrudService
+ */
+public sealed interface ReactiveCrud permits ReactiveWriteService, ReactiveReadService, ReactiveCrudService {
+
+    /**
+     * Executes common pre-processing logic for a given reactive CRUD service before performing
+     * the actual CRUD operation.
+     * <p>
+     * If the given service implements {@link ReactiveAuthorizedCrud}, the returned {@link Mono} verifies
+     * whether the current operation is permitted and errors with an
+     * {@link org.springframework.security.access.AccessDeniedException} otherwise.
+     * </p>
+     *
+     * @param crud      the reactive CRUD service instance
+     * @param operation the type of CRUD operation to be performed
+     * @return a {@link Mono} that completes empty when the operation may proceed
+     */
+    static Mono<Void> preProccess(ReactiveCrud crud, CrudOperation operation) {
+        if (crud instanceof ReactiveAuthorizedCrud authorizedCrud) {
+            return ReactiveAuthorizedCrud.verifyAccess(authorizedCrud, operation);
+        }
+        // Additional operations to be invoked right before the CRUD operation will be added here.
+        return Mono.empty();
+    }
+}
@@ -0,0 +1,40 @@
+package com.peluware.springframework.crud.mongo.reactive;
+
+import com.peluware.springframework.crud.core.CrudOperation;
+import lombok.experimental.UtilityClass;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Reactor {@link Context} counterpart of {@link com.peluware.springframework.crud.core.CrudOperationContext}.
+ * <p>
+ * Reactive pipelines hop between threads, so the current {@link CrudOperation} is carried in the subscriber
+ * context instead of a thread-local. Reactive services write it with {@link #of(CrudOperation)} and internal
+ * methods read it with {@link #current(ContextView)}, e.g. to resolve a read preference.
+ * </p>
+ */
+@UtilityClass
+public class ReactiveCrudOperationContext {
+
+    private static final Class<CrudOperation> KEY = CrudOperation.class;
+
+    /**
+     * Creates a context holding the given operation, to be used with {@code contextWrite}.
+     *
+     * @param operation the CRUD operation
+     * @return a context holding the operation
+     */
+    public static Context of(CrudOperation operation) {
+        return Context.of(KEY, operation);
+    }
+
+    /**
+     * Returns the operation held by the given context.
+     *
+     * @param context the subscriber context
+     * @return the current operation, or {@code null} outside a CRUD operation
+     */
+    public static CrudOperation current(ContextView context) {
+        return context.getOrDefault(KEY, null);
+    }
+}
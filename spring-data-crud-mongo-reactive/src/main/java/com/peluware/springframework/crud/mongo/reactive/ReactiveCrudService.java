@@ -0,0 +1,32 @@
+package com.peluware.springframework.crud.mongo.reactive;
+
+import com.peluware.springframework.crud.mongo.reactive.hooks.ReactiveCrudHooks;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Represents a full reactive CRUD service that combines reading and writing capabilities
+ * for a specific entity.
+ *
+ * <p>This interface extends {@link ReactiveCrud}, {@link ReactiveReadService}, and {@link ReactiveWriteService}
+ * to provide a unified non-blocking API for performing create, read, update, and delete operations.</p>
+ *
+ * @param <E>  the entity type, which must implement {@link Persistable}
+ * @param <D>  the DTO or data type used for input/output transformations
+ * @param <ID> the type of the entity's identifier
+ */
+public non-sealed interface ReactiveCrudService<E extends Persistable<ID>, D, ID> extends
+        ReactiveCrud,
+        ReactiveReadService<E, ID>,
+        ReactiveWriteService<E, D, ID> {
+
+    /**
+     * Returns the CRUD hooks used for pre- and post-processing during
+     * CRUD operations. By default, this returns the standard no-op hooks.
+     *
+     * @return the default {@link ReactiveCrudHooks} instance
+     */
+    @Override
+    default ReactiveCrudHooks<E, D, ID> getHooks() {
+        return ReactiveCrudHooks.getDefault();
+    }
+}
@@ -0,0 +1,32 @@
+package com.peluware.springframework.crud.mongo.reactive;
+
+import org.springframework.data.domain.Persistable;
+import reactor.core.publisher.Mono;
+
+/**
+ * Generic reactive CRUD service interface for Mongo-based entities.
+ * <p>
+ * Combines reactive read and write operations for entities managed through a
+ * {@link org.springframework.data.mongodb.core.ReactiveMongoTemplate}.
+ *
+ * @param <E>  the entity type, which must implement {@link Persistable}
+ * @param <D>  the DTO (Data Transfer Object) type
+ * @param <ID> the identifier type of the entity
+ */
+public interface ReactiveMongoCrudService<E extends Persistable<ID>, D, ID> extends
+        ReactiveMongoReadService<E, ID>,
+        ReactiveMongoWriteService<E, D, ID>,
+        ReactiveCrudService<E, D, ID> {
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Explicitly delegates to {@link ReactiveMongoReadService#internalFind(Object)} to
+     * resolve ambiguity from multiple inheritance.
+     * </p>
+     */
+    @Override
+    default Mono<E> internalFind(ID id) {
+        return ReactiveMongoReadService.super.internalFind(id);
+    }
+}
@@ -0,0 +1,112 @@
+package com.peluware.springframework.crud.mongo.reactive;
+
+import com.mongodb.ReadPreference;
+import com.peluware.springframework.crud.core.CrudOperation;
+import com.peluware.springframework.crud.core.OmniSearchOptionsFactory;
+import com.peluware.springframework.crud.mongo.MongoFilterCombiner;
+import com.peluware.springframework.crud.mongo.reactive.providers.ReactiveMongoTemplateProvider;
+import cz.jirutka.rsql.parser.ast.Node;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Persistable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+
+/**
+ * Generic reactive read service interface for Mongo-based entities.
+ * <p>
+ *     Implements every read operation of {@link ReactiveReadService} with a
+ *     {@link org.springframework.data.mongodb.core.ReactiveMongoTemplate}; search text and RSQL queries are
+ *     translated by {@link ReactiveMongoTemplateOmniSearch}, and every filter can be extended with
+ *     {@link #combineFilter(org.bson.conversions.Bson, CrudOperation)}.
+ * </p>
+ * <p>
+ *     Reads can be routed to secondaries by returning a {@link ReadPreference} from
+ *     {@link #getReadPreference(CrudOperation)}.
+ * </p>
+ *
+ * @param <E>  the entity type, must implement {@link Persistable} with identifier of type {@code ID}
+ * @param <ID> the type of the entity identifier
+ */
+public interface ReactiveMongoReadService<E extends Persistable<ID>, ID> extends
+        ReactiveReadService<E, ID>,
+        ReactiveMongoTemplateProvider,
+        MongoFilterCombiner {
+
+    /**
+     * Returns the OmniSearch adapter for the given operation, configured with its read preference and
+     * with {@link #combineFilter(org.bson.conversions.Bson, CrudOperation)}.
+     *
+     * @param operation the current CRUD operation, may be {@code null} outside a CRUD operation
+     * @return the reactive OmniSearch adapter
+     */
+    default ReactiveMongoTemplateOmniSearch getOmniSearch(CrudOperation operation) {
+        return new ReactiveMongoTemplateOmniSearch(getReactiveMongoTemplate())
+                .readPreference(getReadPreference(operation))
+                .filterCustomizer(filter -> combineFilter(filter, operation));
+    }
+
+    /**
+     * Returns the read preference for the given operation, e.g. {@code secondaryPreferred} for read-only
+     * operations (see {@link com.peluware.springframework.crud.mongo.routing.MongoReplicaReadPreference}).
+     *
+     * @param operation the current CRUD operation, may be {@code null} outside a CRUD operation
+     * @return the read preference, or {@code null} to use the template default
+     */
+    default ReadPreference getReadPreference(CrudOperation operation) {
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Flux<E> internalSearch(String search, Pageable pageable, Node query) {
+        return Flux.deferContextual(context -> getOmniSearch(ReactiveCrudOperationContext.current(context))
+                .findAll(getEntityClass(), OmniSearchOptionsFactory.create(search, pageable, query)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Mono<Long> internalCount(String search, Node query) {
+        return Mono.deferContextual(context -> getOmniSearch(ReactiveCrudOperationContext.current(context))
+                .countAll(getEntityClass(), OmniSearchOptionsFactory.create(search, query)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Mono<E> internalFind(ID id) {
+        return Mono.deferContextual(context -> getReactiveMongoTemplate().findOne(
+                getOmniSearch(ReactiveCrudOperationContext.current(context)).idQuery(getEntityClass(), id),
+                getEntityClass()
+        ));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Flux<E> internalFind(List<ID> ids) {
+        return Flux.deferContextual(context -> getReactiveMongoTemplate().find(
+                getOmniSearch(ReactiveCrudOperationContext.current(context)).idsQuery(getEntityClass(), ids),
+                getEntityClass()
+        ));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Mono<Boolean> internalExists(ID id) {
+        return Mono.deferContextual(context -> getReactiveMongoTemplate().exists(
+                getOmniSearch(ReactiveCrudOperationContext.current(context)).idQuery(getEntityClass(), id),
+                getEntityClass()
+        ));
+    }
+}
@@ -0,0 +1,93 @@
+package com.peluware.springframework.crud.mongo.reactive;
+
+import com.mongodb.ReadPreference;
+import com.peluware.omnisearch.core.OmniSearchBaseOptions;
+import com.peluware.omnisearch.core.OmniSearchOptions;
+import com.peluware.omnisearch.mongodb.MongoOmniSearch;
+import com.peluware.omnisearch.mongodb.rsql.RsqlMongoBuilderOptions;
+import com.peluware.springframework.crud.mongo.MongoQueryBuilder;
+import org.bson.conversions.Bson;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * OmniSearch adapter executed through a {@link ReactiveMongoTemplate}.
+ * <p>
+ * Builds the same queries as {@link com.peluware.springframework.crud.mongo.MongoTemplateOmniSearch}, through the
+ * shared {@link MongoQueryBuilder}, and executes them with the non-blocking {@link #findAll(Class, OmniSearchOptions)}
+ * and {@link #countAll(Class, OmniSearchBaseOptions)}. It does not implement the blocking OmniSearch contract.
+ * </p>
+ */
+public class ReactiveMongoTemplateOmniSearch extends MongoQueryBuilder {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public ReactiveMongoTemplateOmniSearch(ReactiveMongoTemplate mongoTemplate, RsqlMongoBuilderOptions rsqlBuilderOptions) {
+        super(mongoTemplate.getConverter(), rsqlBuilderOptions);
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    public ReactiveMongoTemplateOmniSearch(ReactiveMongoTemplate mongoTemplate) {
+        super(mongoTemplate.getConverter());
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    public ReactiveMongoTemplateOmniSearch(ReactiveMongoTemplate mongoTemplate, MongoOmniSearch filterBuilder) {
+        super(mongoTemplate.getConverter(), filterBuilder);
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ReactiveMongoTemplateOmniSearch readPreference(ReadPreference readPreference) {
+        super.readPreference(readPreference);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ReactiveMongoTemplateOmniSearch filterCustomizer(UnaryOperator<Bson> filterCustomizer) {
+        super.filterCustomizer(filterCustomizer);
+        return this;
+    }
+
+    /**
+     * Finds the entities matching the given options.
+     *
+     * @param entityClass the entity class
+     * @param options     the search, query, sort and pagination options
+     * @param <E>         the entity type
+     * @return a {@link Flux} emitting the matching entities on demand
+     */
+    public <E> Flux<E> findAll(Class<E> entityClass, OmniSearchOptions options) {
+        Objects.requireNonNull(entityClass, "Entity class cannot be null");
+        Objects.requireNonNull(options, "Options cannot be null");
+
+        var query = buildQuery(entityClass, options);
+        return mongoTemplate.find(query, entityClass);
+    }
+
+    /**
+     * Counts the entities matching the given options.
+     *
+     * @param entityClass the entity class
+     * @param options     the search and query options
+     * @param <E>         the entity type
+     * @return a {@link Mono} emitting the count
+     */
+    public <E> Mono<Long> countAll(Class<E> entityClass, OmniSearchBaseOptions options) {
+        Objects.requireNonNull(entityClass, "Entity class cannot be null");
+        Objects.requireNonNull(options, "Options cannot be null");
+
+        var query = buildBaseQuery(entityClass, options);
+        return mongoTemplate.count(query, entityClass);
+    }
+}
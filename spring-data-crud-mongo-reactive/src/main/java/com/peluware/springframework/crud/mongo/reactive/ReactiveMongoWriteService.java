@@ -0,0 +1,63 @@
+package com.peluware.springframework.crud.mongo.reactive;
+
+import com.peluware.springframework.crud.mongo.MongoFilterCombiner;
+import com.peluware.springframework.crud.mongo.reactive.providers.ReactiveMongoTemplateProvider;
+import org.springframework.data.domain.Persistable;
+import reactor.core.publisher.Mono;
+
+/**
+ * Generic reactive write service interface for Mongo-based entities.
+ * <p>
+ * Implements the persistence operations of {@link ReactiveWriteService} with a
+ * {@link org.springframework.data.mongodb.core.ReactiveMongoTemplate}. Entities are loaded for update and delete
+ * with {@link #combineFilter(org.bson.conversions.Bson, com.peluware.springframework.crud.core.CrudOperation)}
+ * applied, so entities outside the caller's constraints are reported as not found.
+ * </p>
+ *
+ * @param <E>  the entity type, must implement {@link Persistable} with ID
+ * @param <D>  the DTO type used for data transfer
+ * @param <ID> the identifier type of the entity
+ */
+public interface ReactiveMongoWriteService<E extends Persistable<ID>, D, ID> extends
+        ReactiveWriteService<E, D, ID>,
+        ReactiveMongoTemplateProvider,
+        MongoFilterCombiner {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Mono<E> internalFind(ID id) {
+        return Mono.deferContextual(context -> {
+            var operation = ReactiveCrudOperationContext.current(context);
+            var query = new ReactiveMongoTemplateOmniSearch(getReactiveMongoTemplate())
+                    .filterCustomizer(filter -> combineFilter(filter, operation))
+                    .idQuery(getEntityClass(), id);
+            return getReactiveMongoTemplate().findOne(query, getEntityClass());
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Mono<E> internalCreate(E entity) {
+        return getReactiveMongoTemplate().insert(entity);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Mono<E> internalUpdate(E entity) {
+        return getReactiveMongoTemplate().save(entity);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Mono<Void> internalDelete(E entity) {
+        return getReactiveMongoTemplate().remove(entity).then();
+    }
+}
@@ -0,0 +1,242 @@
+package com.peluware.springframework.crud.mongo.reactive;
+
+import com.peluware.springframework.crud.core.CrudOperation;
+import com.peluware.springframework.crud.core.exceptions.NotFoundEntityException;
+import com.peluware.springframework.crud.core.providers.EntityClassProvider;
+import com.peluware.springframework.crud.core.utils.StringUtils;
+import com.peluware.springframework.crud.mongo.reactive.hooks.ReactiveReadHooks;
+import com.peluware.springframework.crud.mongo.reactive.providers.ReactiveTransactionOperationsProvider;
+import cz.jirutka.rsql.parser.ast.Node;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.domain.Sort;
+import org.springframework.validation.annotation.Validated;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Defines a generic non-blocking read service for CRUD operations.
+ * <p>
+ * Reactive counterpart of {@link com.peluware.springframework.crud.core.ReadService}: every operation returns
+ * a {@link Mono} or {@link Flux} and nothing is executed until subscription. Authorization, hooks and
+ * transactions ({@link ReactiveTransactionOperationsProvider}) are applied the same way as in the blocking
+ * service, and the current {@link CrudOperation} is available to internal methods through
+ * {@link ReactiveCrudOperationContext}.
+ * </p>
+ * <p>
+ * {@link #stream(String, Node, Sort)} emits matching entities as they are read from the data store and
+ * honours downstream demand, so arbitrarily large result sets can be consumed without buffering them.
+ * </p>
+ *
+ * @param <E>  the entity type, must implement {@link Persistable}
+ * @param <ID> the ID type of the entity
+ */
+@Validated
+public non-sealed interface ReactiveReadService<E extends Persistable<ID>, ID> extends
+        ReactiveCrud,
+        EntityClassProvider<E>,
+        ReactiveTransactionOperationsProvider {
+
+    /**
+     * Returns the hooks associated with this read service. Can be overridden to customize hook behavior.
+     *
+     * @return the reactive read hooks for this service
+     */
+    default ReactiveReadHooks<E, ID> getHooks() {
+        return ReactiveReadHooks.getDefault();
+    }
+
+    /**
+     * Retrieves a page of entities based on the given search text, query node, and pagination information.
+     * <p>
+     * The total count is only queried when it cannot be derived from the page content.
+     * </p>
+     *
+     * @param search   optional search text to filter results
+     * @param pageable pagination configuration
+     * @param query    optional parsed RSQL query node
+     * @return a {@link Mono} emitting the page of entities matching the criteria
+     */
+    default Mono<Page<E>> page(String search, Pageable pageable, Node query) {
+        var normalized = StringUtils.normalize(search);
+        var hooks = getHooks();
+
+        var page = internalSearch(normalized, pageable, query)
+                .collectList()
+                .flatMap(content -> toPage(content, pageable, () -> internalCount(normalized, query)))
+                .flatMap(result -> hooks.onPage(result).thenReturn(result));
+
+        return ReactiveCrud.preProccess(this, CrudOperation.PAGE)
+                .then(transactional(CrudOperation.PAGE, page))
+                .contextWrite(ReactiveCrudOperationContext.of(CrudOperation.PAGE));
+    }
+
+    /**
+     * Streams every entity matching the given search text and query node, in the given order.
+     * <p>
+     * Entities are read lazily according to downstream demand (backpressure).
+     * </p>
+     *
+     * @param search optional search text to filter results
+     * @param query  optional parsed RSQL query node
+     * @param sort   sort order of the emitted entities
+     * @return a {@link Flux} emitting the matching entities
+     */
+    default Flux<E> stream(String search, Node query, Sort sort) {
+        var normalized = StringUtils.normalize(search);
+        var hooks = getHooks();
+
+        var entities = internalSearch(normalized, Pageable.unpaged(sort), query)
+                .concatMap(entity -> hooks.onStream(entity).thenReturn(entity));
+
+        return ReactiveCrud.preProccess(this, CrudOperation.PAGE)
+                .thenMany(transactional(CrudOperation.PAGE, entities))
+                .contextWrite(ReactiveCrudOperationContext.of(CrudOperation.PAGE));
+    }
+
+    /**
+     * Retrieves a single entity by its ID.
+     *
+     * @param id the ID of the entity to retrieve
+     * @return a {@link Mono} emitting the entity, or erroring with {@link NotFoundEntityException} if it does not exist
+     */
+    default Mono<E> find(ID id) {
+        var hooks = getHooks();
+
+        var entity = internalFind(id)
+                .switchIfEmpty(Mono.error(() -> new NotFoundEntityException(getEntityClass(), id)))
+                .flatMap(model -> hooks.onFind(model).thenReturn(model));
+
+        return ReactiveCrud.preProccess(this, CrudOperation.FIND)
+                .then(transactional(CrudOperation.FIND, entity))
+                .contextWrite(ReactiveCrudOperationContext.of(CrudOperation.FIND));
+    }
+
+    /**
+     * Retrieves a list of entities by their IDs.
+     *
+     * @param ids the list of IDs to look up
+     * @return a {@link Mono} emitting the entities found
+     */
+    default Mono<List<E>> find(List<ID> ids) {
+        var hooks = getHooks();
+
+        var entities = internalFind(ids)
+                .collectList()
+                .flatMap(list -> hooks.onFind(list, ids).thenReturn(list));
+
+        return ReactiveCrud.preProccess(this, CrudOperation.FIND)
+                .then(transactional(CrudOperation.FIND, entities))
+                .contextWrite(ReactiveCrudOperationContext.of(CrudOperation.FIND));
+    }
+
+    /**
+     * Counts the number of entities that match the given search and query criteria.
+     *
+     * @param search optional search string
+     * @param query  optional RSQL query node
+     * @return a {@link Mono} emitting the total count of matching entities
+     */
+    default Mono<Long> count(String search, Node query) {
+        var normalized = StringUtils.normalize(search);
+        var hooks = getHooks();
+
+        var count = internalCount(normalized, query)
+                .flatMap(result -> hooks.onCount(result).thenReturn(result));
+
+        return ReactiveCrud.preProccess(this, CrudOperation.COUNT)
+                .then(transactional(CrudOperation.COUNT, count))
+                .contextWrite(ReactiveCrudOperationContext.of(CrudOperation.COUNT));
+    }
+
+    /**
+     * Checks whether an entity with the given ID exists.
+     *
+     * @param id the ID to check for existence
+     * @return a {@link Mono} emitting {@code true} if the entity exists, {@code false} otherwise
+     */
+    default Mono<Boolean> exists(ID id) {
+        var hooks = getHooks();
+
+        var exists = internalExists(id)
+                .flatMap(result -> hooks.onExists(result, id).thenReturn(result));
+
+        return ReactiveCrud.preProccess(this, CrudOperation.EXISTS)
+                .then(transactional(CrudOperation.EXISTS, exists))
+                .contextWrite(ReactiveCrudOperationContext.of(CrudOperation.EXISTS));
+    }
+
+    // ----- Abstract/internal methods (must be implemented by concrete service) -----
+
+    /**
+     * Retrieves the entities matching the given search text and query, limited and sorted by the pageable.
+     *
+     * @param search   the normalized search string, may be {@code null}
+     * @param pageable pagination and sort configuration, may be unpaged
+     * @param query    the parsed RSQL query, may be {@code null}
+     * @return a {@link Flux} of matching entities
+     */
+    Flux<E> internalSearch(String search, Pageable pageable, Node query);
+
+    /**
+     * Returns the number of entities matching the search term and query.
+     *
+     * @param search the normalized search string, may be {@code null}
+     * @param query  the RSQL query node, may be {@code null}
+     * @return a {@link Mono} emitting the count of matching entities
+     */
+    Mono<Long> internalCount(String search, Node query);
+
+    /**
+     * Retrieves an entity by its ID.
+     *
+     * @param id the ID of the entity
+     * @return a {@link Mono} emitting the entity, or completing empty if not found
+     */
+    Mono<E> internalFind(ID id);
+
+    /**
+     * Retrieves the entities matching the given list of IDs.
+     *
+     * @param ids the list of IDs
+     * @return a {@link Flux} of the corresponding entities
+     */
+    Flux<E> internalFind(List<ID> ids);
+
+    /**
+     * Checks whether an entity with the given ID exists.
+     *
+     * @param id the ID to check
+     * @return a {@link Mono} emitting {@code true} if exists, {@code false} otherwise
+     */
+    Mono<Boolean> internalExists(ID id);
+
+    // ----- Internal resolution methods (used in default logic) -----
+
+    /**
+     * Builds a page from its content, querying the total only when it cannot be derived from the content
+     * (same rules as {@link org.springframework.data.support.PageableExecutionUtils}).
+     *
+     * @param content  the page content
+     * @param pageable pagination configuration
+     * @param total    supplier of the count query
+     * @return a {@link Mono} emitting the page
+     */
+    private Mono<Page<E>> toPage(List<E> content, Pageable pageable, Supplier<Mono<Long>> total) {
+        if (pageable.isUnpaged() || pageable.getOffset() == 0) {
+            if (pageable.isUnpaged() || pageable.getPageSize() > content.size()) {
+                return Mono.just(new PageImpl<>(content, pageable, content.size()));
+            }
+            return total.get().map(count -> new PageImpl<>(content, pageable, count));
+        }
+        if (!content.isEmpty() && pageable.getPageSize() > content.size()) {
+            return Mono.just(new PageImpl<>(content, pageable, pageable.getOffset() + content.size()));
+        }
+        return total.get().map(count -> new PageImpl<>(content, pageable, count));
+    }
+}
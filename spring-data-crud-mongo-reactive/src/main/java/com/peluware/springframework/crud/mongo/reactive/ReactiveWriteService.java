@@ -0,0 +1,162 @@
+package com.peluware.springframework.crud.mongo.reactive;
+
+import com.peluware.springframework.crud.core.CrudOperation;
+import com.peluware.springframework.crud.core.exceptions.NotFoundEntityException;
+import com.peluware.springframework.crud.core.providers.EntityClassProvider;
+import com.peluware.springframework.crud.mongo.reactive.hooks.ReactiveWriteHooks;
+import com.peluware.springframework.crud.mongo.reactive.providers.ReactiveTransactionOperationsProvider;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.SneakyThrows;
+import org.springframework.data.domain.Persistable;
+import org.springframework.validation.annotation.Validated;
+import reactor.core.publisher.Mono;
+
+/**
+ * Defines a generic non-blocking interface for write operations in a CRUD service.
+ * <p>
+ * Reactive counterpart of {@link com.peluware.springframework.crud.core.WriteService}: supports creation, update,
+ * and deletion of entities, using {@link ReactiveWriteHooks} for interception and transaction handling via
+ * {@link ReactiveTransactionOperationsProvider}. Nothing is executed until the returned {@link Mono} is subscribed.
+ * </p>
+ *
+ * @param <E>  the entity type, must implement {@link Persistable}
+ * @param <D>  the DTO type used to map data to the entity
+ * @param <ID> the identifier type of the entity
+ */
+@Validated
+public non-sealed interface ReactiveWriteService<E extends Persistable<ID>, D, ID> extends
+        ReactiveCrud,
+        EntityClassProvider<E>,
+        ReactiveTransactionOperationsProvider {
+
+    /**
+     * Gets the hooks associated with this write service.
+     * Used for lifecycle interception (before/after create, update, delete).
+     *
+     * @return the reactive write hooks
+     */
+    default ReactiveWriteHooks<E, D, ID> getHooks() {
+        return ReactiveWriteHooks.getDefault();
+    }
+
+    /**
+     * Creates a new entity instance from the provided DTO.
+     * Executes before/after hooks and wraps the operation in a transaction.
+     *
+     * @param dto the data transfer object used to populate the new entity
+     * @return a {@link Mono} emitting the persisted entity
+     */
+    default Mono<E> create(@Valid @NotNull D dto) {
+        var hooks = getHooks();
+
+        var created = Mono.fromSupplier(this::newEntity)
+                .doOnNext(entity -> mapModel(dto, entity))
+                .flatMap(entity -> hooks.onBeforeCreate(dto, entity).then(internalCreate(entity)))
+                .flatMap(entity -> hooks.onAfterCreate(dto, entity).thenReturn(entity));
+
+        return ReactiveCrud.preProccess(this, CrudOperation.CREATE)
+                .then(transactional(CrudOperation.CREATE, created))
+                .contextWrite(ReactiveCrudOperationContext.of(CrudOperation.CREATE));
+    }
+
+    /**
+     * Updates an existing entity by ID using the given DTO.
+     * Executes before/after hooks and wraps the operation in a transaction.
+     *
+     * @param id  the ID of the entity to update
+     * @param dto the DTO containing updated data
+     * @return a {@link Mono} emitting the updated entity, or erroring with {@link NotFoundEntityException}
+     */
+    default Mono<E> update(@NotNull ID id, @Valid @NotNull D dto) {
+        var hooks = getHooks();
+
+        var updated = findOrError(id)
+                .doOnNext(entity -> mapModel(dto, entity))
+                .flatMap(entity -> hooks.onBeforeUpdate(dto, entity).then(internalUpdate(entity)))
+                .flatMap(entity -> hooks.onAfterUpdate(dto, entity).thenReturn(entity));
+
+        return ReactiveCrud.preProccess(this, CrudOperation.UPDATE)
+                .then(transactional(CrudOperation.UPDATE, updated))
+                .contextWrite(ReactiveCrudOperationContext.of(CrudOperation.UPDATE));
+    }
+
+    /**
+     * Deletes an entity by ID.
+     * Executes before/after hooks and wraps the operation in a transaction.
+     *
+     * @param id the ID of the entity to delete
+     * @return a {@link Mono} completing when the entity is deleted, or erroring with {@link NotFoundEntityException}
+     */
+    default Mono<Void> delete(@NotNull ID id) {
+        var hooks = getHooks();
+
+        var deleted = findOrError(id)
+                .flatMap(entity -> hooks.onBeforeDelete(entity)
+                        .then(internalDelete(entity))
+                        .then(hooks.onAfterDelete(entity)));
+
+        return ReactiveCrud.preProccess(this, CrudOperation.DELETE)
+                .then(transactional(CrudOperation.DELETE, deleted))
+                .contextWrite(ReactiveCrudOperationContext.of(CrudOperation.DELETE));
+    }
+
+    /**
+     * Instantiates a new entity using the default no-arg constructor.
+     *
+     * @return a new entity instance
+     * @throws RuntimeException if instantiation fails
+     */
+    @SneakyThrows
+    default E newEntity() {
+        return getEntityClass().getConstructor().newInstance();
+    }
+
+    // --------- Abstract methods to be implemented ---------
+
+    /**
+     * Finds an entity by ID.
+     *
+     * @param id the entity ID
+     * @return a {@link Mono} emitting the entity, or completing empty if not found
+     */
+    Mono<E> internalFind(ID id);
+
+    /**
+     * Maps a DTO to an entity.
+     * Typically used to update entity fields with DTO values before persisting.
+     *
+     * @param dto   the DTO with new data
+     * @param model the entity to update
+     */
+    void mapModel(D dto, E model);
+
+    /**
+     * Persists a new entity in the data store.
+     *
+     * @param entity the entity to create
+     * @return a {@link Mono} emitting the persisted entity
+     */
+    Mono<E> internalCreate(E entity);
+
+    /**
+     * Updates an existing entity in the data store.
+     *
+     * @param entity the entity to update
+     * @return a {@link Mono} emitting the persisted entity
+     */
+    Mono<E> internalUpdate(E entity);
+
+    /**
+     * Deletes an existing entity from the data store.
+     *
+     * @param entity the entity to delete
+     * @return a {@link Mono} completing when the entity is deleted
+     */
+    Mono<Void> internalDelete(E entity);
+
+    private Mono<E> findOrError(ID id) {
+        return internalFind(id)
+                .switchIfEmpty(Mono.error(() -> new NotFoundEntityException(getEntityClass(), id)));
+    }
+}
@@ -0,0 +1,33 @@
+package com.peluware.springframework.crud.mongo.reactive.autoconfigurations;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.data.web.ReactiveSortHandlerMethodArgumentResolver;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+
+/**
+ * Registers the {@link org.springframework.data.domain.Pageable} and {@link org.springframework.data.domain.Sort}
+ * argument resolvers required by the reactive controllers, which Spring Boot does not configure for WebFlux.
+ */
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnClass(WebFluxConfigurer.class)
+public class ReactiveSpringDataCrudAutoConfiguration {
+
+    @Bean
+    public WebFluxConfigurer reactiveSpringDataCrudWebFluxConfigurer() {
+        return new WebFluxConfigurer() {
+            @Override
+            public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+                configurer.addCustomResolver(
+                        new ReactivePageableHandlerMethodArgumentResolver(),
+                        new ReactiveSortHandlerMethodArgumentResolver()
+                );
+            }
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package com.peluware.springframework.crud.mongo.reactive.hooks;
+
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Interface for reactive CRUD operation hooks.
+ * <p>
+ * This interface extends both {@link ReactiveReadHooks} and {@link ReactiveWriteHooks}, providing hooks for both
+ * read and write operations of a {@link com.peluware.springframework.crud.mongo.reactive.ReactiveCrudService}.
+ * </p>
+ *
+ * @param <E>  Entity model that extends {@link Persistable} with the specified {@code ID}.
+ * @param <D>  The DTO type used for create and update operations.
+ * @param <ID> The type of the entity's identifier.
+ */
+public interface ReactiveCrudHooks<E extends Persistable<ID>, D, ID> extends ReactiveReadHooks<E, ID>, ReactiveWriteHooks<E, D, ID> {
+
+    /**
+     * Default implementation of the {@link ReactiveCrudHooks} interface.
+     * <p>
+     * Provides default (empty) behavior for all the hook methods related to both read and write operations.
+     * </p>
+     */
+    ReactiveCrudHooks<?, ?, ?> DEFAULT = new ReactiveCrudHooks<>() {
+    };
+
+    /**
+     * Returns the default (no-op) {@link ReactiveCrudHooks} instance.
+     *
+     * @param <E>  Entity model that extends {@link Persistable} with the specified {@code ID}.
+     * @param <D>  The DTO type used for create and update operations.
+     * @param <ID> The type of the entity's identifier.
+     * @return The default {@link ReactiveCrudHooks} instance.
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends Persistable<ID>, D, ID> ReactiveCrudHooks<E, D, ID> getDefault() {
+        return (ReactiveCrudHooks<E, D, ID>) DEFAULT;
+    }
+}
@@ -0,0 +1,104 @@
+package com.peluware.springframework.crud.mongo.reactive.hooks;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Persistable;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Interface for reactive read operation hooks.
+ * <p>
+ * Non-blocking counterpart of {@link com.peluware.springframework.crud.core.hooks.ReadHooks}: every hook returns
+ * a {@link Mono} that the operation waits for before emitting its result, so hooks can perform I/O without
+ * blocking the event loop. An error signalled by a hook fails the operation.
+ * </p>
+ *
+ * @param <E>  Entity model that extends {@link Persistable} with the specified {@code ID}.
+ * @param <ID> The type of the entity's identifier.
+ */
+public interface ReactiveReadHooks<E extends Persistable<ID>, ID> {
+
+    /**
+     * Default implementation of the {@link ReactiveReadHooks} interface.
+     * <p>
+     * Provides default (empty) behavior for all the hook methods.
+     * </p>
+     */
+    ReactiveReadHooks<?, ?> DEFAULT = new ReactiveReadHooks<>() {
+    };
+
+    /**
+     * Returns the default (no-op) {@link ReactiveReadHooks} instance.
+     *
+     * @param <E>  Entity model that extends {@link Persistable} with the specified {@code ID}.
+     * @param <ID> The type of the entity's identifier.
+     * @return The default {@link ReactiveReadHooks} instance.
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends Persistable<ID>, ID> ReactiveReadHooks<E, ID> getDefault() {
+        return (ReactiveReadHooks<E, ID>) DEFAULT;
+    }
+
+    /**
+     * Hook to be executed after finding a single entity.
+     *
+     * @param entity The entity that was found.
+     * @return a {@link Mono} completing when the hook is done
+     */
+    default Mono<Void> onFind(E entity) {
+        return Mono.empty();
+    }
+
+    /**
+     * Hook to be executed after finding a collection of entities by their IDs.
+     *
+     * @param entities The entities that were found.
+     * @param ids      The IDs that were requested.
+     * @return a {@link Mono} completing when the hook is done
+     */
+    default Mono<Void> onFind(List<E> entities, List<ID> ids) {
+        return Mono.empty();
+    }
+
+    /**
+     * Hook to be executed for each entity emitted by a streaming read, before it is sent downstream.
+     *
+     * @param entity The streamed entity.
+     * @return a {@link Mono} completing when the hook is done
+     */
+    default Mono<Void> onStream(E entity) {
+        return Mono.empty();
+    }
+
+    /**
+     * Hook to be executed after counting the number of entities.
+     *
+     * @param count The count of entities.
+     * @return a {@link Mono} completing when the hook is done
+     */
+    default Mono<Void> onCount(long count) {
+        return Mono.empty();
+    }
+
+    /**
+     * Hook to be executed after checking the existence of an entity.
+     *
+     * @param exists {@code true} if the entity exists, {@code false} otherwise.
+     * @param id     The ID of the entity.
+     * @return a {@link Mono} completing when the hook is done
+     */
+    default Mono<Void> onExists(boolean exists, ID id) {
+        return Mono.empty();
+    }
+
+    /**
+     * Hook to be executed after paginating a collection of entities.
+     *
+     * @param page The page of entities.
+     * @return a {@link Mono} completing when the hook is done
+     */
+    default Mono<Void> onPage(Page<E> page) {
+        return Mono.empty();
+    }
+}
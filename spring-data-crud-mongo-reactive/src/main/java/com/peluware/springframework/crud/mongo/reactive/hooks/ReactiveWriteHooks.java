@@ -0,0 +1,105 @@
+package com.peluware.springframework.crud.mongo.reactive.hooks;
+
+import org.springframework.data.domain.Persistable;
+import reactor.core.publisher.Mono;
+
+/**
+ * Interface for reactive write operation hooks.
+ * <p>
+ * Non-blocking counterpart of {@link com.peluware.springframework.crud.core.hooks.WriteHooks}: every hook returns
+ * a {@link Mono} that the operation waits for, and runs inside the operation's transaction when one is
+ * configured. An error signalled by a hook fails (and rolls back) the operation.
+ * </p>
+ *
+ * @param <E>  Entity model that extends {@link Persistable} with the specified {@code ID}.
+ * @param <D>  The DTO type used for create and update operations.
+ * @param <ID> The type of the entity's identifier.
+ */
+public interface ReactiveWriteHooks<E extends Persistable<ID>, D, ID> {
+
+    /**
+     * Default implementation of the {@link ReactiveWriteHooks} interface.
+     * <p>
+     * Provides default (empty) behavior for all the hook methods.
+     * </p>
+     */
+    ReactiveWriteHooks<?, ?, ?> DEFAULT = new ReactiveWriteHooks<>() {
+    };
+
+    /**
+     * Returns the default (no-op) {@link ReactiveWriteHooks} instance.
+     *
+     * @param <E>  Entity model that extends {@link Persistable} with the specified {@code ID}.
+     * @param <D>  The DTO type used for create and update operations.
+     * @param <ID> The type of the entity's identifier.
+     * @return The default {@link ReactiveWriteHooks} instance.
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends Persistable<ID>, D, ID> ReactiveWriteHooks<E, D, ID> getDefault() {
+        return (ReactiveWriteHooks<E, D, ID>) DEFAULT;
+    }
+
+    /**
+     * Hook to be executed before creating an entity, once the DTO has been mapped.
+     *
+     * @param dto    The DTO used to create the entity.
+     * @param entity The entity about to be created.
+     * @return a {@link Mono} completing when the hook is done
+     */
+    default Mono<Void> onBeforeCreate(D dto, E entity) {
+        return Mono.empty();
+    }
+
+    /**
+     * Hook to be executed before updating an entity, once the DTO has been mapped.
+     *
+     * @param dto    The DTO used to update the entity.
+     * @param entity The entity about to be updated.
+     * @return a {@link Mono} completing when the hook is done
+     */
+    default Mono<Void> onBeforeUpdate(D dto, E entity) {
+        return Mono.empty();
+    }
+
+    /**
+     * Hook to be executed before deleting an entity.
+     *
+     * @param entity The entity about to be deleted.
+     * @return a {@link Mono} completing when the hook is done
+     */
+    default Mono<Void> onBeforeDelete(E entity) {
+        return Mono.empty();
+    }
+
+    /**
+     * Hook to be executed after creating an entity.
+     *
+     * @param dto    The DTO used to create the entity.
+     * @param entity The created entity.
+     * @return a {@link Mono} completing when the hook is done
+     */
+    default Mono<Void> onAfterCreate(D dto, E entity) {
+        return Mono.empty();
+    }
+
+    /**
+     * Hook to be executed after updating an entity.
+     *
+     * @param dto    The DTO used to update the entity.
+     * @param entity The updated entity.
+     * @return a {@link Mono} completing when the hook is done
+     */
+    default Mono<Void> onAfterUpdate(D dto, E entity) {
+        return Mono.empty();
+    }
+
+    /**
+     * Hook to be executed after deleting an entity.
+     *
+     * @param entity The deleted entity.
+     * @return a {@link Mono} completing when the hook is done
+     */
+    default Mono<Void> onAfterDelete(E entity) {
+        return Mono.empty();
+    }
+}
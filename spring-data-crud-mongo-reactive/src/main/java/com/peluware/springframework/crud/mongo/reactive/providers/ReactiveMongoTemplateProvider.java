@@ -0,0 +1,8 @@
+package com.peluware.springframework.crud.mongo.reactive.providers;
+
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+public interface ReactiveMongoTemplateProvider {
+
+    ReactiveMongoTemplate getReactiveMongoTemplate();
+}
@@ -0,0 +1,101 @@
+package com.peluware.springframework.crud.mongo.reactive.providers;
+
+import com.peluware.springframework.crud.core.CrudOperation;
+import com.peluware.springframework.crud.core.transactions.TransactionPolicy;
+import com.peluware.springframework.crud.mongo.reactive.transactions.TransactionalOperatorCache;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link com.peluware.springframework.crud.core.providers.TransactionOperationsProvider}.
+ * <p>
+ * Implementations can override {@link #getReactiveTransactionManager()} to run each operation in a reactive
+ * transaction configured by {@link #getTransactionPolicy(CrudOperation)}. If no transaction manager is provided,
+ * operations run without transactions. Operators are cached in the {@link TransactionalOperatorCache} of the service
+ * and shared per manager and policy.
+ * </p>
+ */
+public interface ReactiveTransactionOperationsProvider {
+
+    /**
+     * Returns the {@link ReactiveTransactionManager} to be used for managing transactions.
+     * <p>
+     * The default implementation returns {@code null}, indicating no transaction
+     * manager is available.
+     * </p>
+     *
+     * @return the reactive transaction manager, or {@code null} if none is available
+     */
+    default ReactiveTransactionManager getReactiveTransactionManager() {
+        return null;
+    }
+
+    /**
+     * Returns the cache of the transactional operators of this service.
+     * <p>
+     * The default implementation returns the cache shared by every instance of the service class, see
+     * {@link TransactionalOperatorCache#of(Class)}. Override to return {@code null} to create an operator for
+     * every operation.
+     * </p>
+     *
+     * @return the transactional operator cache, or {@code null} if operators are not cached
+     */
+    default TransactionalOperatorCache getTransactionalOperatorCache() {
+        return TransactionalOperatorCache.of(getClass());
+    }
+
+    /**
+     * Returns the transaction policy for the given operation.
+     *
+     * @param operation the CRUD operation about to be executed
+     * @return the transaction policy, never {@code null}
+     */
+    default TransactionPolicy getTransactionPolicy(CrudOperation operation) {
+        return TransactionPolicy.of(operation);
+    }
+
+    /**
+     * Returns the {@link TransactionalOperator} for the given operation, taken from
+     * {@link #getTransactionalOperatorCache()} if any.
+     *
+     * @param operation the CRUD operation about to be executed
+     * @return the transactional operator, or {@code null} if no transaction manager is available
+     */
+    default TransactionalOperator getTransactionalOperator(CrudOperation operation) {
+        var transactionManager = getReactiveTransactionManager();
+        if (transactionManager == null) {
+            return null;
+        }
+        var policy = getTransactionPolicy(operation);
+        var cache = getTransactionalOperatorCache();
+        return cache != null ? cache.get(transactionManager, policy) : TransactionalOperatorCache.create(transactionManager, policy);
+    }
+
+    /**
+     * Runs the given {@link Mono} in the transaction of the given operation, if any.
+     *
+     * @param operation the CRUD operation
+     * @param mono      the publisher to run
+     * @param <T>       the element type
+     * @return the transactional publisher
+     */
+    default <T> Mono<T> transactional(CrudOperation operation, Mono<T> mono) {
+        var operator = getTransactionalOperator(operation);
+        return operator == null ? mono : operator.transactional(mono);
+    }
+
+    /**
+     * Runs the given {@link Flux} in the transaction of the given operation, if any.
+     *
+     * @param operation the CRUD operation
+     * @param flux      the publisher to run
+     * @param <T>       the element type
+     * @return the transactional publisher
+     */
+    default <T> Flux<T> transactional(CrudOperation operation, Flux<T> flux) {
+        var operator = getTransactionalOperator(operation);
+        return operator == null ? flux : operator.transactional(flux);
+    }
+}
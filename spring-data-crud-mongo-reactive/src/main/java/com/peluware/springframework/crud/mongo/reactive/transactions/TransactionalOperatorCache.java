@@ -0,0 +1,70 @@
+package com.peluware.springframework.crud.mongo.reactive.transactions;
+
+import com.peluware.springframework.crud.core.transactions.TransactionPolicy;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of configured {@link TransactionalOperator} instances.
+ * <p>
+ * Reactive counterpart of {@link com.peluware.springframework.crud.core.transactions.TransactionTemplateCache}:
+ * a single operator is shared for every combination of reactive transaction manager and {@link TransactionPolicy}.
+ By default every service class shares the cache returned by {@link #of(Class)}, see
+ * {@link com.peluware.springframework.crud.mongo.reactive.providers.ReactiveTransactionOperationsProvider#getTransactionalOperatorCache()}.
+ * </p>
+ */
+public class TransactionalOperatorCache {
+
+    private static final ClassValue<TransactionalOperatorCache> CACHES = new ClassValue<>() {
+        @Override
+        protected TransactionalOperatorCache computeValue(Class<?> type) {
+            return new TransactionalOperatorCache();
+        }
+    };
+
+    private final Map<Key, TransactionalOperator> operators = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cache of the given service class, creating it on first use.
+     *
+     * @param serviceClass the class of the service using the operators
+     * @return the cache of the service class, never {@code null}
+     */
+    public static TransactionalOperatorCache of(Class<?> serviceClass) {
+        return CACHES.get(serviceClass);
+    }
+
+    /**
+     * Returns the cached operator for the given transaction manager and policy, creating it on first use.
+     *
+     * @param transactionManager the reactive transaction manager
+     * @param policy             the transaction policy
+     * @return a shared, configured transactional operator
+     */
+    public TransactionalOperator get(ReactiveTransactionManager transactionManager, TransactionPolicy policy) {
+        return operators.computeIfAbsent(new Key(transactionManager, policy), key -> create(key.transactionManager(), key.policy()));
+    }
+
+    /**
+     * Creates a new operator for the given transaction manager and policy.
+     *
+     * @param transactionManager the reactive transaction manager
+     * @param policy             the transaction policy
+     * @return a configured transactional operator
+     */
+    public static TransactionalOperator create(ReactiveTransactionManager transactionManager, TransactionPolicy policy) {
+        var definition = new DefaultTransactionDefinition();
+        definition.setPropagationBehavior(policy.propagation());
+        definition.setIsolationLevel(policy.isolation());
+        definition.setTimeout(policy.timeout());
+        definition.setReadOnly(policy.readOnly());
+        return TransactionalOperator.create(transactionManager, definition);
+    }
+
+    private record Key(ReactiveTransactionManager transactionManager, TransactionPolicy policy) {
+    }
+}
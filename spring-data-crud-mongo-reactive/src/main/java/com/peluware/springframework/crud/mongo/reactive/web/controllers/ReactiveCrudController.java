@@ -0,0 +1,23 @@
+package com.peluware.springframework.crud.mongo.reactive.web.controllers;
+
+import com.peluware.springframework.crud.mongo.reactive.ReactiveCrudService;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Reactive CRUD Controller for performing both read and write operations.
+ * <p>
+ * This controller combines {@link ReactiveReadController} and {@link ReactiveWriteController}, delegating to a
+ * {@link ReactiveCrudService}.
+ * </p>
+ *
+ * @param <M>  Entity model, which extends {@link Persistable} with an ID type of {@code ID}
+ * @param <D>  DTO (Data Transfer Object) used to transfer data for create and update operations
+ * @param <ID> Type of the entity's identifier (e.g., {@link Long}, {@link String})
+ */
+public interface ReactiveCrudController<M extends Persistable<ID>, D, ID> extends
+        ReactiveWriteController<M, D, ID>,
+        ReactiveReadController<M, ID> {
+
+    @Override
+    ReactiveCrudService<M, D, ID> getService();
+}
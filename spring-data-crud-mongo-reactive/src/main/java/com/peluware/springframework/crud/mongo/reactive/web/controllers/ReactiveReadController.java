@@ -0,0 +1,117 @@
+package com.peluware.springframework.crud.mongo.reactive.web.controllers;
+
+
+import com.peluware.springframework.crud.mongo.reactive.ReactiveReadService;
+import cz.jirutka.rsql.parser.ast.Node;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Reactive CRUD Controller for performing read operations.
+ * <p>
+ * WebFlux counterpart of {@link com.peluware.springframework.crud.core.web.controllers.ReadController}. It
+ * delegates to a {@link ReactiveReadService} and additionally exposes a {@code /stream} endpoint that emits
+ * matching entities as newline-delimited JSON or server-sent events, following client demand (backpressure).
+ * </p>
+ *
+ * @param <M>  Entity model, which extends {@link Persistable} with an ID type of {@code ID}
+ * @param <ID> Type of the entity's identifier (e.g., {@link Long}, {@link String})
+ */
+public interface ReactiveReadController<M extends Persistable<ID>, ID> {
+
+    ReactiveReadService<M, ID> getService();
+
+    /**
+     * Endpoint to retrieve a paginated list of entities, with optional search and filter parameters.
+     *
+     * @param search   Optional search string to filter entities based on a search term
+     * @param query    Optional query in format RSQL
+     * @param pageable Pageable object to define pagination details (e.g., page number, page size)
+     * @return A paginated list of entities matching the search and filter criteria
+     */
+    @GetMapping
+    default Mono<Page<M>> page(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) Node query,
+            Pageable pageable
+    ) {
+        return getService().page(search, pageable, query);
+    }
+
+    /**
+     * Endpoint to stream every entity matching the optional search and filter parameters.
+     * <p>
+     * Entities are written as they are read from the data store; slow clients slow down the database
+     * cursor instead of buffering the result in memory.
+     * </p>
+     *
+     * @param search Optional search string to filter entities based on a search term
+     * @param query  Optional query in format RSQL
+     * @param sort   Sort order of the emitted entities
+     * @return A stream of entities matching the search and filter criteria
+     */
+    @GetMapping(value = "/stream", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    default Flux<M> stream(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) Node query,
+            Sort sort
+    ) {
+        return getService().stream(search, query, sort);
+    }
+
+    /**
+     * Endpoint to retrieve an entity by its unique identifier.
+     *
+     * @param id The unique identifier of the entity to retrieve
+     * @return The entity corresponding to the provided ID
+     */
+    @GetMapping("/{id}")
+    default Mono<M> find(@PathVariable ID id) {
+        return getService().find(id);
+    }
+
+    /**
+     * Endpoint to retrieve a list of entities by their unique identifiers.
+     *
+     * @param ids The list of IDs for the entities to retrieve
+     * @return A list of entities corresponding to the provided IDs
+     */
+    @GetMapping("/ids")
+    default Mono<List<M>> find(@RequestParam List<ID> ids) {
+        return getService().find(ids);
+    }
+
+    /**
+     * Endpoint to retrieve the total count of entities.
+     *
+     * @return The total number of entities matching the search and filter criteria
+     */
+    @GetMapping("/count")
+    default Mono<Long> count(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) Node query
+    ) {
+        return getService().count(search, query);
+    }
+
+    /**
+     * Endpoint to check if an entity exists by its unique identifier.
+     *
+     * @param id The unique identifier of the entity to check
+     * @return {@code true} if the entity exists, {@code false} otherwise
+     */
+    @GetMapping("/exists")
+    default Mono<Boolean> exists(@RequestParam ID id) {
+        return getService().exists(id);
+    }
+}
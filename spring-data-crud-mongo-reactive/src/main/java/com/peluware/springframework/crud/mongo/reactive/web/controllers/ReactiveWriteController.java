@@ -0,0 +1,66 @@
+package com.peluware.springframework.crud.mongo.reactive.web.controllers;
+
+import com.peluware.springframework.crud.mongo.reactive.ReactiveWriteService;
+import org.springframework.data.domain.Persistable;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive CRUD Controller for performing write operations.
+ * <p>
+ * WebFlux counterpart of {@link com.peluware.springframework.crud.core.web.controllers.WriteController}. It
+ * provides endpoints for creating, updating, and deleting entities, delegating to a {@link ReactiveWriteService}.
+ * </p>
+ *
+ * @param <M>  Entity model, which extends {@link Persistable} with an ID type of {@code ID}
+ * @param <D>  DTO (Data Transfer Object) used to transfer data for create and update operations
+ * @param <ID> Type of the entity's identifier (e.g., {@link Long}, {@link String})
+ */
+public interface ReactiveWriteController<M extends Persistable<ID>, D, ID> {
+
+    ReactiveWriteService<M, D, ID> getService();
+
+    /**
+     * Endpoint to create a new entity from a DTO.
+     *
+     * @param dto The DTO containing the data to create a new entity
+     * @return The newly created entity
+     */
+    @PostMapping
+    default Mono<M> create(@RequestBody D dto) {
+        return getService().create(dto);
+    }
+
+    /**
+     * Endpoint to update an existing entity by its unique identifier.
+     *
+     * @param id  The unique identifier of the entity to update
+     * @param dto The DTO containing the updated data for the entity
+     * @return The updated entity
+     */
+    @PutMapping("/{id}")
+    default Mono<M> update(@PathVariable ID id, @RequestBody D dto) {
+        return getService().update(id, dto);
+    }
+
+    /**
+     * Endpoint to delete an entity by its unique identifier.
+     *
+     * @param id The unique identifier of the entity to delete
+     * @return A confirmation message indicating the entity was deleted
+     */
+    @DeleteMapping("/{id}")
+    default Mono<String> delete(@PathVariable ID id) {
+        return getService().delete(id).thenReturn(deletedMessage(id));
+    }
+
+    /**
+     * Generates a message indicating the deletion of an entity.
+     *
+     * @param id The unique identifier of the entity that was deleted
+     * @return A string message confirming the deletion of the entity
+     */
+    default String deletedMessage(ID id) {
+        return "Deleted " + id;
+    }
+}
@@ -0,0 +1,170 @@
+package com.peluware.springframework.crud.mongo.reactive;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.client.model.Filters;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import com.peluware.omnisearch.core.OmniSearchBaseOptions;
+import com.peluware.omnisearch.core.OmniSearchOptions;
+import com.peluware.omnisearch.mongodb.MongoOmniSearch;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ReactiveMongoTemplateOmniSearchTest {
+
+    private MongoClient client;
+    private RecordingTemplate template;
+
+    @BeforeEach
+    void setUp() {
+        // the client connects lazily: no server is contacted as long as the template does not execute queries
+        client = MongoClients.create("mongodb://localhost:1");
+        template = new RecordingTemplate(client);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+    }
+
+    @Test
+    void findAllExecutesBuiltQueryWithoutBlocking() {
+        var omniSearch = new ReactiveMongoTemplateOmniSearch(template, new FixedFilter(Filters.eq("name", "foo")));
+
+        var found = omniSearch.findAll(Item.class, new OmniSearchOptions()).collectList().block();
+
+        assertEquals(List.of(new Item("found")), found);
+        assertEquals(1, template.queries.size());
+        assertEquals(BsonDocument.parse("{\"name\": \"foo\"}"), filter(template.queries.getFirst()));
+    }
+
+    @Test
+    void countAllExecutesBuiltQueryWithoutBlocking() {
+        var omniSearch = new ReactiveMongoTemplateOmniSearch(template, new FixedFilter(Filters.gt("age", 18)));
+
+        var count = omniSearch.countAll(Item.class, new OmniSearchBaseOptions()).block();
+
+        assertEquals(42L, count);
+        assertEquals(BsonDocument.parse("{\"age\": {\"$gt\": 18}}"), filter(template.queries.getFirst()));
+    }
+
+    @Test
+    void appliesFilterCustomizerAndReadPreference() {
+        var omniSearch = new ReactiveMongoTemplateOmniSearch(template, new FixedFilter(Filters.eq("name", "foo")))
+                .filterCustomizer(filter -> Filters.and(filter, Filters.eq("tenant", "t1")))
+                .readPreference(ReadPreference.secondaryPreferred());
+
+        omniSearch.countAll(Item.class, new OmniSearchBaseOptions()).block();
+
+        var query = template.queries.getFirst();
+        assertEquals(BsonDocument.parse("{\"$and\": [{\"name\": \"foo\"}, {\"tenant\": \"t1\"}]}"), filter(query));
+        assertSame(ReadPreference.secondaryPreferred(), query.getReadPreference());
+    }
+
+    @Test
+    void leavesReadPreferenceToTemplateByDefault() {
+        var omniSearch = new ReactiveMongoTemplateOmniSearch(template, new FixedFilter(Filters.eq("name", "foo")));
+
+        assertNull(omniSearch.toQuery(Filters.eq("name", "foo")).getReadPreference());
+    }
+
+    @Test
+    void convertsIdsLikeRepositoriesAndKeepsCustomizer() {
+        var omniSearch = new ReactiveMongoTemplateOmniSearch(template)
+                .filterCustomizer(filter -> Filters.and(filter, Filters.eq("tenant", "t1")));
+        var id = new ObjectId();
+
+        var query = omniSearch.idQuery(Ticket.class, id.toHexString());
+
+        var expected = new BsonDocument("$and", new BsonArray(List.of(
+                new BsonDocument("_id", new BsonObjectId(id)),
+                new BsonDocument("tenant", new BsonString("t1")))));
+        assertEquals(expected, filter(query));
+    }
+
+    @Test
+    void convertsEveryIdOfAnIdsLookup() {
+        var omniSearch = new ReactiveMongoTemplateOmniSearch(template);
+        var first = new ObjectId();
+        var second = new ObjectId();
+
+        var query = omniSearch.idsQuery(Ticket.class, List.of(first.toHexString(), second.toHexString()));
+
+        var expected = new BsonDocument("_id", new BsonDocument("$in", new BsonArray(List.of(
+                new BsonObjectId(first), new BsonObjectId(second)))));
+        assertEquals(expected, filter(query));
+    }
+
+    private static BsonDocument filter(Query query) {
+        return query.getQueryObject().toBsonDocument();
+    }
+
+    record Item(String name) {
+    }
+
+    static class Ticket {
+
+        @Id
+        String id;
+    }
+
+    private static final class FixedFilter extends MongoOmniSearch {
+
+        private final Bson filter;
+
+        private FixedFilter(Bson filter) {
+            super(null);
+            this.filter = filter;
+        }
+
+        @Override
+        public Bson buildFilter(Class<?> entityClass, OmniSearchBaseOptions options) {
+            return filter;
+        }
+    }
+
+    /**
+     * In-process stand-in for a Mongo server: records the queries handed to the template and answers them with
+     * canned results.
+     */
+    private static final class RecordingTemplate extends ReactiveMongoTemplate {
+
+        private final List<Query> queries = new ArrayList<>();
+
+        private RecordingTemplate(MongoClient client) {
+            super(client, "test");
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> Flux<T> find(Query query, Class<T> entityClass) {
+            queries.add(query);
+            return Flux.just((T) new Item("found"));
+        }
+
+        @Override
+        public Mono<Long> count(Query query, Class<?> entityClass) {
+            queries.add(query);
+            return Mono.just(42L);
+        }
+    }
+}
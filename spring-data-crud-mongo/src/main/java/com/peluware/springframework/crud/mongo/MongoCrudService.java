@@ -19,4 +19,16 @@ public interface MongoCrudService<E extends Persistable<ID>, D, ID, R extends Mo
         MongoReadService<E, ID, R>,
         MongoWriteService<E, D, ID, R>,
         StandardCrudService<E, D, ID, R> {
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Explicitly delegates to {@link MongoReadService#internalFind(Object)} to
+     * resolve ambiguity from multiple inheritance.
+     * </p>
+     */
+    @Override
+    default E internalFind(ID id) {
+        return MongoReadService.super.internalFind(id);
+    }
 }
\ No newline at end of file
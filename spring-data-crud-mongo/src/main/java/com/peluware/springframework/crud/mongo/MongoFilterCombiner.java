@@ -0,0 +1,28 @@
+package com.peluware.springframework.crud.mongo;
+
+import com.peluware.springframework.crud.core.CrudOperation;
+import org.bson.conversions.Bson;
+
+/**
+ * Extension point to push additional constraints down into every Mongo query of a service.
+ * <p>
+ * Mongo counterpart of {@code JpaSpecificationReadService#combineSpecification}: the returned filter replaces the
+ * filter built by the service (search, RSQL query or id lookup) before it is sent to the server, so tenant and
+ * ownership constraints are evaluated together with it and can use compound indexes, instead of post-filtering
+ * results in hooks.
+ * </p>
+ */
+public interface MongoFilterCombiner {
+
+    /**
+     * Combines the given filter with additional criteria based on the operation, e.g.
+     * {@code Filters.and(filter, Filters.eq("tenantId", currentTenant()))}.
+     *
+     * @param filter    the filter built by the service
+     * @param operation the current CRUD operation, may be {@code null} when called outside a CRUD operation
+     * @return the combined filter
+     */
+    default Bson combineFilter(Bson filter, CrudOperation operation) {
+        return filter;
+    }
+}
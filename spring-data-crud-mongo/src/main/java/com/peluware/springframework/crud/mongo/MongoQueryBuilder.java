@@ -0,0 +1,204 @@
+package com.peluware.springframework.crud.mongo;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.client.model.Filters;
+import com.peluware.omnisearch.core.OmniSearchBaseOptions;
+import com.peluware.omnisearch.core.OmniSearchOptions;
+import com.peluware.omnisearch.mongodb.MongoOmniSearch;
+import com.peluware.omnisearch.mongodb.rsql.RsqlMongoBuilderOptions;
+import com.peluware.springframework.crud.core.search.SearchableFields;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * Builds the Spring Data {@link Query queries} executed by the OmniSearch adapters of the Mongo modules.
+ * <p>
+ * Translates search text and RSQL queries into a BSON filter using a {@link MongoOmniSearch}, and wraps it,
+ * together with sorting and pagination, into a Spring Data {@link Query}. The builder never executes queries:
+ * {@link MongoTemplateOmniSearch} runs them through a blocking {@code MongoTemplate}, and the reactive module
+ * through a {@code ReactiveMongoTemplate}.
+ * </p>
+ * <p>
+ * A filter customizer can be set to merge additional constraints (tenant, ownership) into every filter before
+ * execution, so that they are evaluated by the server together with the search filter.
+ * </p>
+ * <p>
+ * Id lookups ({@link #idQuery(Class, Object)}, {@link #idsQuery(Class, Collection)}) are mapped with the
+ * {@link QueryMapper} of the converter, so ids get the same conversion (e.g. hex strings to {@code ObjectId}) as in
+ * Spring Data repositories.
+ * </p>
+ * <p>
+ * The search text of entities declaring {@link com.peluware.springframework.crud.core.search.Searchable searchable
+ * fields} is not handed over to {@link MongoOmniSearch}; it is matched on those fields only, see
+ * {@link MongoSearchFilters}.
+ * </p>
+ */
+public class MongoQueryBuilder {
+
+    private final MongoConverter converter;
+    private final QueryMapper queryMapper;
+    private final MongoOmniSearch filterBuilder;
+    private ReadPreference readPreference;
+    private UnaryOperator<Bson> filterCustomizer = UnaryOperator.identity();
+
+    /**
+     * Creates a builder translating filters with the given OmniSearch.
+     *
+     * @param converter     the converter mapping ids and providing the codecs used to encode filters
+     * @param filterBuilder the OmniSearch translating search options into BSON filters
+     */
+    public MongoQueryBuilder(MongoConverter converter, MongoOmniSearch filterBuilder) {
+        this.converter = Objects.requireNonNull(converter, "Converter cannot be null");
+        this.queryMapper = new QueryMapper(converter);
+        this.filterBuilder = Objects.requireNonNull(filterBuilder, "Filter builder cannot be null");
+    }
+
+    /**
+     * Creates a builder translating filters with a standalone {@link MongoOmniSearch}.
+     *
+     * @param converter          the converter mapping ids and providing the codecs used to encode filters
+     * @param rsqlBuilderOptions the RSQL translation options
+     */
+    public MongoQueryBuilder(MongoConverter converter, RsqlMongoBuilderOptions rsqlBuilderOptions) {
+        this(converter, new MongoOmniSearch(null, rsqlBuilderOptions));
+    }
+
+    /**
+     * Creates a builder translating filters with a standalone {@link MongoOmniSearch} and the default RSQL options.
+     *
+     * @param converter the converter mapping ids and providing the codecs used to encode filters
+     */
+    public MongoQueryBuilder(MongoConverter converter) {
+        this(converter, new MongoOmniSearch(null));
+    }
+
+    /**
+     * Sets the read preference applied to the queries executed by this instance.
+     *
+     * @param readPreference the read preference, or {@code null} to use the template default
+     * @return this instance
+     */
+    public MongoQueryBuilder readPreference(ReadPreference readPreference) {
+        this.readPreference = readPreference;
+        return this;
+    }
+
+    /**
+     * Sets the function applied to every filter before it is executed, e.g. to add tenant constraints.
+     *
+     * @param filterCustomizer function receiving the built filter and returning the filter to execute
+     * @return this instance
+     */
+    public MongoQueryBuilder filterCustomizer(UnaryOperator<Bson> filterCustomizer) {
+        this.filterCustomizer = Objects.requireNonNull(filterCustomizer, "Filter customizer cannot be null");
+        return this;
+    }
+
+    public <E> Query buildQuery(Class<E> entityClass, OmniSearchOptions options) {
+        final var query = buildBaseQuery(entityClass, options);
+
+        var sort = options.getSort();
+        if (sort.isSorted()) {
+            query.with(buildSort(sort));
+        }
+
+        var pagination = options.getPagination();
+        if (pagination.isPaginated()) {
+            query
+                    .limit(pagination.size())
+                    .skip(pagination.offset());
+        }
+
+        return query;
+    }
+
+    public @NotNull Query buildBaseQuery(Class<?> entityClass, OmniSearchBaseOptions options) {
+        var searchable = SearchableFields.of(entityClass);
+        if (!searchable.isDeclared()) {
+            return toQuery(filterBuilder.buildFilter(entityClass, options));
+        }
+        var filter = filterBuilder.buildFilter(entityClass, new OmniSearchBaseOptions().query(options.getQuery()));
+        var searchFilter = MongoSearchFilters.toFilter(searchable, options.getSearch(), id -> idFilter(entityClass, id));
+        return toQuery(searchFilter != null ? Filters.and(filter, searchFilter) : filter);
+    }
+
+    /**
+     * Builds the query looking up the entity with the given id.
+     *
+     * @param entityClass the entity class, used to convert the id
+     * @param id          the id
+     * @return the query, with the filter customizer applied
+     */
+    public @NotNull Query idQuery(Class<?> entityClass, Object id) {
+        return toQuery(idFilter(entityClass, id));
+    }
+
+    /**
+     * Builds the query looking up the entities with the given ids.
+     *
+     * @param entityClass the entity class, used to convert the ids
+     * @param ids         the ids
+     * @return the query, with the filter customizer applied
+     */
+    public @NotNull Query idsQuery(Class<?> entityClass, Collection<?> ids) {
+        return toQuery(map(entityClass, Criteria.where("_id").in(ids)));
+    }
+
+    /**
+     * Builds the {@code _id} equality filter of the given entity, converting the id like Spring Data repositories.
+     *
+     * @param entityClass the entity class
+     * @param id          the id
+     * @return the mapped filter
+     */
+    public @NotNull Bson idFilter(Class<?> entityClass, Object id) {
+        return map(entityClass, Criteria.where("_id").is(id));
+    }
+
+    private Document map(Class<?> entityClass, Criteria criteria) {
+        var entity = converter.getMappingContext().getPersistentEntity(entityClass);
+        return queryMapper.getMappedObject(criteria.getCriteriaObject(), entity);
+    }
+
+    /**
+     * Wraps the given filter, after applying the filter customizer, into a query with the configured read preference.
+     *
+     * @param filter the filter to execute
+     * @return the query
+     */
+    public @NotNull Query toQuery(Bson filter) {
+        var customized = filterCustomizer.apply(filter);
+        var query = new Query() {
+            @Override
+            public @NotNull Document getQueryObject() {
+                var bsonDoc = customized.toBsonDocument(
+                        BsonDocument.class,
+                        converter.getCodecRegistry()
+                );
+                return new Document(bsonDoc);
+            }
+        };
+        if (readPreference != null) {
+            query.withReadPreference(readPreference);
+        }
+        return query;
+    }
+
+    private static Sort buildSort(com.peluware.domain.Sort sort) {
+        return Sort.by(sort.orders().stream().map(o -> o.ascending() ?
+                Sort.Order.asc(o.property()) :
+                Sort.Order.desc(o.property())
+        ).toList());
+    }
+}
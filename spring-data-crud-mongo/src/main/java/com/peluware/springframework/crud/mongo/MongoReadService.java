@@ -1,10 +1,28 @@
 package com.peluware.springframework.crud.mongo;
 
 
+import com.mongodb.ReadPreference;
+import com.mongodb.client.model.Filters;
+import com.peluware.springframework.crud.core.CrudOperation;
+import com.peluware.springframework.crud.core.CrudOperationContext;
 import com.peluware.springframework.crud.core.StandardReadService;
+import com.peluware.springframework.crud.core.exceptions.NotFoundEntityException;
+import com.peluware.springframework.crud.core.metrics.CrudMetrics;
+import com.peluware.springframework.crud.core.metrics.CrudPhase;
+import com.peluware.springframework.crud.core.slowqueries.SlowQuery;
 import com.peluware.springframework.crud.mongo.providers.MongoTemplateProvider;
+import cz.jirutka.rsql.parser.ast.Node;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Persistable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.Duration;
+import java.util.List;
 
 
 /**
@@ -12,18 +30,157 @@ import org.springframework.data.mongodb.repository.MongoRepository;
  * <p>
  *     This interface provides a contract for handling read operations
  *     (such as find and list) on entities managed by a Spring Data {@link MongoRepository}.
+ *     Queries are executed through the {@link org.springframework.data.mongodb.core.MongoTemplate}, so that
+ *     every filter can be extended with {@link #combineFilter(org.bson.conversions.Bson, CrudOperation)}.
  *  </p>
+ * <p>
+ *     Reads can be routed to secondaries by returning a {@link ReadPreference} from
+ *     {@link #getReadPreference(CrudOperation)}.
+ * </p>
+ * <p>
+ *     Slow pages are recorded in the {@link #getSlowQueryLog() slow query log} with their BSON filter, and
+ *     explained with {@code explain()} when plan capture is enabled. The explained query is mapped like the executed
+ *     one (field names, id conversion) and sent with the same read preference.
+ * </p>
  * @param <E> the entity type, must implement {@link Persistable} with identifier of type {@code ID}
  * @param <ID> the type of the entity identifier
  * @param <R> the repository type that extends {@link MongoRepository}
  */
 public interface MongoReadService<E extends Persistable<ID>, ID, R extends MongoRepository<E, ID>> extends
         StandardReadService<E, ID, R>,
-        MongoTemplateProvider {
+        MongoTemplateProvider,
+        MongoFilterCombiner {
 
 
     @Override
     default MongoTemplateOmniSearch getOmniSearch() {
-        return new MongoTemplateOmniSearch(getMongoTemplate());
+        return getOmniSearch(CrudOperationContext.current());
+    }
+
+    /**
+     * Returns the OmniSearch adapter for the given operation, configured with its read preference and
+     * with {@link #combineFilter(org.bson.conversions.Bson, CrudOperation)}.
+     *
+     * @param operation the CRUD operation, may be {@code null} outside a CRUD operation
+     * @return the OmniSearch adapter
+     */
+    default MongoTemplateOmniSearch getOmniSearch(CrudOperation operation) {
+        return new MongoTemplateOmniSearch(getMongoTemplate())
+                .readPreference(getReadPreference(operation))
+                .filterCustomizer(filter -> combineFilter(filter, operation));
+    }
+
+    /**
+     * Returns the read preference for the given operation, e.g. {@code secondaryPreferred} for read-only
+     * operations (see {@link com.peluware.springframework.crud.mongo.routing.MongoReplicaReadPreference}).
+     *
+     * @param operation the current CRUD operation, may be {@code null} outside a CRUD operation
+     * @return the read preference, or {@code null} to use the template default
+     */
+    default ReadPreference getReadPreference(CrudOperation operation) {
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Page<E> internalPage(Pageable pageable) {
+        var omniSearch = getOmniSearch(currentOperation(CrudOperation.PAGE));
+        return findPage(omniSearch.toQuery(Filters.empty()).with(pageable), omniSearch.toQuery(Filters.empty()), pageable, null, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Page<E> internalSearch(String search, Pageable pageable, Node query) {
+        var omniSearch = getOmniSearch(currentOperation(CrudOperation.PAGE));
+        var entityClass = getEntityClass();
+        var contentQuery = omniSearch.buildQuery(entityClass, toSearchOptions(search, pageable, query));
+        var countQuery = omniSearch.buildBaseQuery(entityClass, toBaseSearchOptions(search, query));
+        return findPage(contentQuery, countQuery, pageable, search, query);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default E internalFind(ID id) {
+        var query = getOmniSearch(currentOperation(CrudOperation.FIND)).idQuery(getEntityClass(), id);
+        var entity = getMongoTemplate().findOne(query, getEntityClass());
+        if (entity == null) {
+            throw new NotFoundEntityException(getEntityClass(), id);
+        }
+        return entity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default List<E> internalFind(List<ID> ids) {
+        var query = getOmniSearch(currentOperation(CrudOperation.FIND)).idsQuery(getEntityClass(), ids);
+        return getMongoTemplate().find(query, getEntityClass());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default long internalCount() {
+        var query = getOmniSearch(currentOperation(CrudOperation.COUNT)).toQuery(Filters.empty());
+        return getMongoTemplate().count(query, getEntityClass());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default boolean internalExists(ID id) {
+        var query = getOmniSearch(currentOperation(CrudOperation.EXISTS)).idQuery(getEntityClass(), id);
+        return getMongoTemplate().exists(query, getEntityClass());
+    }
+
+    private Page<E> findPage(Query contentQuery, Query countQuery, Pageable pageable, String search, Node query) {
+        var mongoTemplate = getMongoTemplate();
+        var entityClass = getEntityClass();
+        var slowQueryLog = getSlowQueryLog();
+        var start = System.nanoTime();
+        var page = PageableExecutionUtils.getPage(
+                CrudMetrics.phase(CrudPhase.CONTENT_QUERY, () -> mongoTemplate.find(contentQuery, entityClass)),
+                pageable,
+                () -> CrudMetrics.phase(CrudPhase.COUNT_QUERY, () -> mongoTemplate.count(countQuery, entityClass))
+        );
+        var nanos = System.nanoTime() - start;
+        if (slowQueryLog != null && slowQueryLog.isSlow(nanos)) {
+            var slowQuery = SlowQuery.of(entityClass, "mongo", currentOperation(CrudOperation.PAGE), search, query,
+                    contentQuery.getQueryObject().toJson(), pageable, Duration.ofNanos(nanos));
+            slowQueryLog.record(slowQuery, () -> explain(mongoTemplate, entityClass, contentQuery));
+        }
+        return page;
+    }
+
+    private static String explain(MongoTemplate mongoTemplate, Class<?> entityClass, Query query) {
+        var converter = mongoTemplate.getConverter();
+        var queryMapper = new QueryMapper(converter);
+        var entity = converter.getMappingContext().getPersistentEntity(entityClass);
+        var collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(entityClass));
+        if (query.getReadPreference() != null) {
+            collection = collection.withReadPreference(query.getReadPreference());
+        }
+        var find = collection
+                .find(queryMapper.getMappedObject(query.getQueryObject(), entity))
+                .sort(queryMapper.getMappedSort(query.getSortObject(), entity))
+                .skip((int) query.getSkip());
+        if (query.getLimit() > 0) {
+            find.limit(query.getLimit());
+        }
+        return find.explain().toJson();
+    }
+
+    private static CrudOperation currentOperation(CrudOperation fallback) {
+        var current = CrudOperationContext.current();
+        return current != null ? current : fallback;
     }
 }
@@ -0,0 +1,77 @@
+package com.peluware.springframework.crud.mongo;
+
+import com.mongodb.client.model.Filters;
+import com.peluware.springframework.crud.core.search.MatchMode;
+import com.peluware.springframework.crud.core.search.SearchableField;
+import com.peluware.springframework.crud.core.search.SearchableFields;
+import lombok.experimental.UtilityClass;
+import org.bson.conversions.Bson;
+
+import java.util.ArrayList;
+import java.util.function.Function;
+
+/**
+ * Builds the BSON filter of a free-text search from the {@link SearchableFields} of an entity.
+ * <p>
+ * Each field is matched with its {@link MatchMode}: equality for {@link MatchMode#EXACT}, an anchored,
+ * case-sensitive regular expression ({@code ^term}) for {@link MatchMode#PREFIX} and {@link MatchMode#CASE_FOLDED},
+ * which the server answers with an index range scan, and an unanchored case-insensitive regular expression for
+ * {@link MatchMode#CONTAINS}. When the search text looks like an id, the filter is the {@code _id} lookup built by the
+ * caller, so that the id is converted like in Spring Data repositories (see {@link MongoQueryBuilder#idFilter}).
+ * </p>
+ * <p>
+ * Field names are entity property names; they are mapped to document field names by the template.
+ * </p>
+ */
+@UtilityClass
+public class MongoSearchFilters {
+
+    private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+
+    /**
+     * Builds the search filter.
+     *
+     * @param fields   the search metadata of the entity
+     * @param search   the search text
+     * @param idFilter builds the {@code _id} lookup when the search text looks like an id
+     * @return the filter, or {@code null} if the entity is undeclared or the search text is blank
+     */
+    public static Bson toFilter(SearchableFields fields, String search, Function<Object, Bson> idFilter) {
+        var term = fields.term(search);
+        if (term == null) {
+            return null;
+        }
+        var id = fields.toId(term);
+        if (id != null) {
+            return idFilter.apply(id);
+        }
+        var filters = new ArrayList<Bson>(fields.fields().size());
+        for (var field : fields.fields()) {
+            var value = field.value(term);
+            if (value != null) {
+                filters.add(filter(field, value));
+            }
+        }
+        return filters.isEmpty() ? Filters.expr(false) : Filters.or(filters);
+    }
+
+    private static Bson filter(SearchableField field, Object value) {
+        return switch (field.match()) {
+            case EXACT -> Filters.eq(field.name(), value);
+            case PREFIX, CASE_FOLDED -> Filters.regex(field.name(), "^" + escapeRegex((String) value));
+            case CONTAINS -> Filters.regex(field.name(), escapeRegex((String) value), "i");
+        };
+    }
+
+    private static String escapeRegex(String value) {
+        var builder = new StringBuilder(value.length() + 4);
+        for (var i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            if (REGEX_METACHARACTERS.indexOf(c) >= 0) {
+                builder.append('\\');
+            }
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+}
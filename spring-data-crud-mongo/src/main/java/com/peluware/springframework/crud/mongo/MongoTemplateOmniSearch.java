@@ -1,31 +1,51 @@
 package com.peluware.springframework.crud.mongo;
 
+import com.mongodb.ReadPreference;
 import com.peluware.omnisearch.core.OmniSearchBaseOptions;
 import com.peluware.omnisearch.core.OmniSearchOptions;
 import com.peluware.omnisearch.mongodb.MongoOmniSearch;
 import com.peluware.omnisearch.mongodb.rsql.RsqlMongoBuilderOptions;
-import org.bson.BsonDocument;
-import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.jetbrains.annotations.NotNull;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.UnaryOperator;
 
 public class MongoTemplateOmniSearch extends MongoOmniSearch {
 
     private final MongoTemplate mongoTemplate;
+    private final MongoQueryBuilder queryBuilder;
 
     public MongoTemplateOmniSearch(MongoTemplate mongoTemplate, RsqlMongoBuilderOptions rsqlBuilderOptions) {
         super(null, rsqlBuilderOptions);
         this.mongoTemplate = mongoTemplate;
+        this.queryBuilder = new MongoQueryBuilder(mongoTemplate.getConverter(), this);
     }
 
     public MongoTemplateOmniSearch(MongoTemplate mongoTemplate) {
         super(null);
         this.mongoTemplate = mongoTemplate;
+        this.queryBuilder = new MongoQueryBuilder(mongoTemplate.getConverter(), this);
+    }
+
+    /**
+     * @see MongoQueryBuilder#readPreference(ReadPreference)
+     */
+    public MongoTemplateOmniSearch readPreference(ReadPreference readPreference) {
+        queryBuilder.readPreference(readPreference);
+        return this;
+    }
+
+    /**
+     * @see MongoQueryBuilder#filterCustomizer(UnaryOperator)
+     */
+    public MongoTemplateOmniSearch filterCustomizer(UnaryOperator<Bson> filterCustomizer) {
+        queryBuilder.filterCustomizer(filterCustomizer);
+        return this;
     }
 
     @Override
@@ -47,41 +67,22 @@ public class MongoTemplateOmniSearch extends MongoOmniSearch {
     }
 
     public <E> Query buildQuery(Class<E> entityClass, OmniSearchOptions options) {
-        final var query = buildBaseQuery(entityClass, options);
-
-        var sort = options.getSort();
-        if (sort.isSorted()) {
-            query.with(buildSort(sort));
-        }
+        return queryBuilder.buildQuery(entityClass, options);
+    }
 
-        var pagination = options.getPagination();
-        if (pagination.isPaginated()) {
-            query
-                    .limit(pagination.size())
-                    .skip(pagination.offset());
-        }
+    public @NotNull Query buildBaseQuery(Class<?> entityClass, OmniSearchBaseOptions options) {
+        return queryBuilder.buildBaseQuery(entityClass, options);
+    }
 
-        return query;
+    public @NotNull Query idQuery(Class<?> entityClass, Object id) {
+        return queryBuilder.idQuery(entityClass, id);
     }
 
-    private @NotNull Query buildBaseQuery(Class<?> entityClass, OmniSearchBaseOptions options) {
-        var filter = buildFilter(entityClass, options);
-        return new Query() {
-            @Override
-            public @NotNull Document getQueryObject() {
-                var bsonDoc = filter.toBsonDocument(
-                        BsonDocument.class,
-                        mongoTemplate.getConverter().getCodecRegistry()
-                );
-                return new Document(bsonDoc);
-            }
-        };
+    public @NotNull Query idsQuery(Class<?> entityClass, Collection<?> ids) {
+        return queryBuilder.idsQuery(entityClass, ids);
     }
 
-    private static Sort buildSort(com.peluware.domain.Sort sort) {
-        return Sort.by(sort.orders().stream().map(o -> o.ascending() ?
-                Sort.Order.asc(o.property()) :
-                Sort.Order.desc(o.property())
-        ).toList());
+    public @NotNull Query toQuery(Bson filter) {
+        return queryBuilder.toQuery(filter);
     }
 }
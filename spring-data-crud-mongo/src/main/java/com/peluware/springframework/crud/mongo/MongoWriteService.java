@@ -1,7 +1,11 @@
 package com.peluware.springframework.crud.mongo;
 
 
+import com.peluware.springframework.crud.core.CrudOperation;
+import com.peluware.springframework.crud.core.CrudOperationContext;
 import com.peluware.springframework.crud.core.StandardWriteService;
+import com.peluware.springframework.crud.core.exceptions.NotFoundEntityException;
+import com.peluware.springframework.crud.mongo.providers.MongoTemplateProvider;
 import org.springframework.data.domain.Persistable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
@@ -12,11 +16,33 @@ import org.springframework.data.mongodb.repository.MongoRepository;
  * (such as create, update, and delete) on entities managed by a Spring Data {@link MongoRepository}.
  * It is meant to be extended or implemented in generic CRUD service layers that operate
  * over Data Transfer Objects (DTOs).
+ * <p>
+ * Entities are loaded for update and delete with {@link #combineFilter(org.bson.conversions.Bson, CrudOperation)}
+ * applied, so entities outside the caller's constraints are reported as not found.
  *
  * @param <E>  the entity type, must implement {@link Persistable} with ID
  * @param <D>  the DTO type used for data transfer
  * @param <ID> the identifier type of the entity
  * @param <R>  the repository type extending {@link MongoRepository} for the entity
  */
-public interface MongoWriteService<E extends Persistable<ID>, D, ID, R extends MongoRepository<E, ID>> extends StandardWriteService<E, D, ID, R> {
-}
\ No newline at end of file
+public interface MongoWriteService<E extends Persistable<ID>, D, ID, R extends MongoRepository<E, ID>> extends
+        StandardWriteService<E, D, ID, R>,
+        MongoTemplateProvider,
+        MongoFilterCombiner {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default E internalFind(ID id) {
+        var operation = CrudOperationContext.current();
+        var query = new MongoTemplateOmniSearch(getMongoTemplate())
+                .filterCustomizer(filter -> combineFilter(filter, operation))
+                .idQuery(getEntityClass(), id);
+        var entity = getMongoTemplate().findOne(query, getEntityClass());
+        if (entity == null) {
+            throw new NotFoundEntityException(getEntityClass(), id);
+        }
+        return entity;
+    }
+}
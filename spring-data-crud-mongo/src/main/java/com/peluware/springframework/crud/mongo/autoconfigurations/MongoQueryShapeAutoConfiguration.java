@@ -0,0 +1,27 @@
+package com.peluware.springframework.crud.mongo.autoconfigurations;
+
+import com.peluware.springframework.crud.mongo.indexes.MongoIndexCatalog;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * Autoconfiguration registering the {@link MongoIndexCatalog} used by the index advisor when query shape
+ * statistics are enabled.
+ */
+@AutoConfiguration(afterName = "org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration")
+@ConditionalOnClass(MongoTemplate.class)
+@ConditionalOnBean(MongoTemplate.class)
+@ConditionalOnProperty(prefix = "spring.data.crud.query-shapes", name = "enabled", havingValue = "true")
+public class MongoQueryShapeAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public MongoIndexCatalog mongoIndexCatalog(MongoTemplate mongoTemplate) {
+        return new MongoIndexCatalog(mongoTemplate);
+    }
+}
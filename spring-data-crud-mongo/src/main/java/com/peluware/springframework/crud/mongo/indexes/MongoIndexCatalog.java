@@ -0,0 +1,57 @@
+package com.peluware.springframework.crud.mongo.indexes;
+
+import com.peluware.springframework.crud.core.queryshapes.IndexCatalog;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link IndexCatalog} listing the indexes that exist on the collection of a Mongo entity, through
+ * {@link org.springframework.data.mongodb.core.index.IndexOperations}.
+ * <p>
+ * Indexes are read from the server on every call, and their keys are mapped back to property names through the
+ * mapping context ({@code _id} and {@code @Field} names).
+ * </p>
+ */
+public class MongoIndexCatalog implements IndexCatalog {
+
+    private final MongoTemplate mongoTemplate;
+
+    public MongoIndexCatalog(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = Objects.requireNonNull(mongoTemplate, "Mongo template cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supports(Class<?> entityClass) {
+        return AnnotatedElementUtils.hasAnnotation(entityClass, Document.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<List<String>> getIndexes(Class<?> entityClass) {
+        var properties = new HashMap<String, String>();
+        var persistentEntity = mongoTemplate.getConverter().getMappingContext().getPersistentEntity(entityClass);
+        if (persistentEntity != null) {
+            for (var property : persistentEntity) {
+                properties.put(property.getFieldName(), property.getName());
+            }
+        }
+
+        return mongoTemplate.indexOps(entityClass).getIndexInfo().stream()
+                .map(info -> info.getIndexFields().stream()
+                        .map(IndexField::getKey)
+                        .map(key -> properties.getOrDefault(key, key))
+                        .toList())
+                .toList();
+    }
+}
@@ -0,0 +1,69 @@
+package com.peluware.springframework.crud.mongo.routing;
+
+import com.mongodb.ReadPreference;
+import com.peluware.springframework.crud.core.CrudOperation;
+import com.peluware.springframework.crud.core.routing.ReadYourWritesTracker;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves the {@link ReadPreference} of Mongo CRUD operations so that read-only operations are served by
+ * secondaries.
+ * <p>
+ * Read-only operations use {@code secondaryPreferred}, bounded by {@code maxStaleness} so that lagging
+ * secondaries are skipped by the driver (MongoDB requires at least 90 seconds). Write operations, and reads
+ * of a caller that wrote within the read-your-writes window, use the primary.
+ * </p>
+ * <p>
+ * Writes are recorded from Spring Data MongoDB mapping events, so this class must be registered as a bean.
+ * Return {@link #resolve(CrudOperation)} from
+ * {@link com.peluware.springframework.crud.mongo.MongoReadService#getReadPreference(CrudOperation)}.
+ * </p>
+ */
+public class MongoReplicaReadPreference extends AbstractMongoEventListener<Object> {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final ReadPreference replicaReadPreference;
+
+    /**
+     * Creates a read preference resolver.
+     *
+     * @param readYourWritesTracker tracker deciding whether reads must stick to the primary after a write
+     * @param maxStaleness          maximum replication lag of the secondaries used, or {@code null} for no limit
+     */
+    public MongoReplicaReadPreference(ReadYourWritesTracker readYourWritesTracker, Duration maxStaleness) {
+        this.readYourWritesTracker = Objects.requireNonNull(readYourWritesTracker, "Read-your-writes tracker cannot be null");
+        this.replicaReadPreference = maxStaleness == null
+                ? ReadPreference.secondaryPreferred()
+                : ReadPreference.secondaryPreferred(maxStaleness.toSeconds(), TimeUnit.SECONDS);
+    }
+
+    /**
+     * Resolves the read preference for the given operation.
+     *
+     * @param operation the CRUD operation, may be {@code null} outside a CRUD operation
+     * @return the read preference to use
+     */
+    public ReadPreference resolve(CrudOperation operation) {
+        if (operation == null || !operation.isReadOnly() || readYourWritesTracker.isWithinWindow()) {
+            return ReadPreference.primary();
+        }
+        return replicaReadPreference;
+    }
+
+    @Override
+    public void onAfterSave(@NotNull AfterSaveEvent<Object> event) {
+        readYourWritesTracker.recordWriteAfterCommit();
+    }
+
+    @Override
+    public void onAfterDelete(@NotNull AfterDeleteEvent<Object> event) {
+        readYourWritesTracker.recordWriteAfterCommit();
+    }
+}
@@ -0,0 +1,256 @@
+package com.peluware.springframework.crud.test;
+
+import com.peluware.springframework.crud.jpa.query.SqlCapture;
+import com.peluware.springframework.crud.test.mongo.MongoCommandCapture;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.function.ThrowingSupplier;
+import org.springframework.util.unit.DataSize;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Asserts the allocation and round-trip budget of a CRUD operation in tests.
+ * <p>
+ * A budget measures the bytes allocated by the calling thread with {@link com.sun.management.ThreadMXBean}, the SQL
+ * statements executed (captured by {@link SqlCapture}) and the MongoDB commands sent (captured by
+ * {@link MongoCommandCapture}), and fails with an {@link AssertionError} listing them when a limit is exceeded.
+ * The statement inspector and command listener are registered automatically when this module is on the classpath.
+ * </p>
+ * <pre>{@code
+ * var page = OperationBudget.budget()
+ *         .statements(2)
+ *         .maxAllocated(DataSize.ofKilobytes(200))
+ *         .verify(() -> service.page(null, PageRequest.of(0, 20), null));
+ *
+ * // no lazy loads while serializing the page
+ * OperationBudget.budget().statements(0).verify(() -> objectMapper.writeValueAsString(page));
+ * }</pre>
+ * <p>
+ * The operation runs on the calling thread, so the work it hands off to other threads (async hooks, group commit)
+ * is not measured. Use {@link #warmup(int)} so that one-time costs (class loading, query plan caches) do not count.
+ * </p>
+ * <p>
+ * SQL statements are counted when Hibernate prepares them, not when they are executed: every query, load and
+ * unbatched write is prepared once per execution and counts once, but a JDBC batch ({@code hibernate.jdbc.batch_size})
+ * prepares its statement once for all its rows, so a batched {@code saveAll} of 100 entities counts as one statement
+ * per batch. Statement budgets therefore measure round trips to the database, which is what they are meant to bound.
+ * </p>
+ */
+public class OperationBudget {
+
+    private static final boolean SQL_CAPTURE_PRESENT = ClassUtils.isPresent(
+            "com.peluware.springframework.crud.jpa.query.SqlCapture", OperationBudget.class.getClassLoader());
+
+    private Integer statements;
+    private Integer maxStatements;
+    private Integer maxRepeatedStatements;
+    private Integer commands;
+    private Integer maxCommands;
+    private Long maxAllocatedBytes;
+    private int warmup;
+
+    private OperationBudget() {
+    }
+
+    /**
+     * Creates an empty budget, which verifies nothing until limits are added.
+     *
+     * @return a new budget
+     */
+    public static OperationBudget budget() {
+        return new OperationBudget();
+    }
+
+    /**
+     * Measures the operation without verifying any budget.
+     *
+     * @param operation the operation
+     * @param <T>       the result type
+     * @return the measurement
+     */
+    public static <T> OperationMeasurement<T> measure(ThrowingSupplier<T> operation) {
+        Objects.requireNonNull(operation, "Operation cannot be null");
+        var statements = new ArrayList<String>();
+        var commands = new ArrayList<String>();
+        var allocations = AllocationCounter.start();
+        var result = captureStatements(statements, () -> captureCommands(commands, operation));
+        return new OperationMeasurement<>(result, allocations.stop(), statements, commands);
+    }
+
+    /**
+     * Requires exactly {@code count} SQL statements, counted when prepared (a JDBC batch counts once).
+     *
+     * @param count the expected number of statements
+     * @return this budget
+     */
+    public OperationBudget statements(int count) {
+        this.statements = count;
+        return this;
+    }
+
+    /**
+     * Requires at most {@code count} SQL statements, counted when prepared (a JDBC batch counts once).
+     *
+     * @param count the maximum number of statements
+     * @return this budget
+     */
+    public OperationBudget maxStatements(int count) {
+        this.maxStatements = count;
+        return this;
+    }
+
+    /**
+     * Requires that no SQL statement is executed more than once, which detects N+1 loads.
+     *
+     * @return this budget
+     */
+    public OperationBudget noRepeatedStatements() {
+        this.maxRepeatedStatements = 1;
+        return this;
+    }
+
+    /**
+     * Requires exactly {@code count} MongoDB commands.
+     *
+     * @param count the expected number of commands
+     * @return this budget
+     */
+    public OperationBudget commands(int count) {
+        this.commands = count;
+        return this;
+    }
+
+    /**
+     * Requires at most {@code count} MongoDB commands.
+     *
+     * @param count the maximum number of commands
+     * @return this budget
+     */
+    public OperationBudget maxCommands(int count) {
+        this.maxCommands = count;
+        return this;
+    }
+
+    /**
+     * Requires that the calling thread allocates at most {@code size}.
+     *
+     * @param size the maximum allocated size
+     * @return this budget
+     */
+    public OperationBudget maxAllocated(DataSize size) {
+        this.maxAllocatedBytes = Objects.requireNonNull(size, "Size cannot be null").toBytes();
+        return this;
+    }
+
+    /**
+     * Runs the operation {@code iterations} times before measuring it.
+     *
+     * @param iterations the number of unmeasured runs
+     * @return this budget
+     */
+    public OperationBudget warmup(int iterations) {
+        if (iterations < 0) {
+            throw new IllegalArgumentException("Warmup iterations cannot be negative");
+        }
+        this.warmup = iterations;
+        return this;
+    }
+
+    /**
+     * Runs the operation and verifies the budget. Checked exceptions thrown by the operation are rethrown wrapped
+     * in a {@link RuntimeException}.
+     *
+     * @param operation the operation
+     * @param <T>       the result type
+     * @return the result of the measured run
+     * @throws AssertionError if the operation exceeds the budget
+     */
+    public <T> T verify(ThrowingSupplier<T> operation) {
+        for (var i = 0; i < warmup; i++) {
+            operation.get();
+        }
+        var measurement = measure(operation);
+        check(measurement);
+        return measurement.result();
+    }
+
+    /**
+     * Runs the operation and verifies the budget.
+     *
+     * @param operation the operation
+     * @throws AssertionError if the operation exceeds the budget
+     */
+    public void verify(Runnable operation) {
+        Objects.requireNonNull(operation, "Operation cannot be null");
+        verify(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    private void check(OperationMeasurement<?> measurement) {
+        var violations = new ArrayList<String>();
+        var statementCount = measurement.statements().size();
+        var commandCount = measurement.commands().size();
+
+        if (statements != null && statementCount != statements) {
+            violations.add("expected " + statements + " statement(s) but was " + statementCount);
+        }
+        if (maxStatements != null && statementCount > maxStatements) {
+            violations.add("expected at most " + maxStatements + " statement(s) but was " + statementCount);
+        }
+        if (maxRepeatedStatements != null) {
+            measurement.getRepeatedStatements().forEach((sql, count) -> {
+                if (count > maxRepeatedStatements) {
+                    violations.add("statement executed " + count + " times (N+1?): " + sql);
+                }
+            });
+        }
+        if (commands != null && commandCount != commands) {
+            violations.add("expected " + commands + " command(s) but was " + commandCount);
+        }
+        if (maxCommands != null && commandCount > maxCommands) {
+            violations.add("expected at most " + maxCommands + " command(s) but was " + commandCount);
+        }
+        if (maxAllocatedBytes != null) {
+            if (measurement.allocatedBytes() < 0) {
+                throw new IllegalStateException("Thread allocation measurement is not supported by this JVM");
+            }
+            if (measurement.allocatedBytes() > maxAllocatedBytes) {
+                violations.add("expected at most " + maxAllocatedBytes + " allocated bytes but was " + measurement.allocatedBytes());
+            }
+        }
+
+        if (!violations.isEmpty()) {
+            throw new AssertionError("Operation budget exceeded: " + String.join("; ", violations) + "\n" + measurement);
+        }
+    }
+
+    private static <T> T captureStatements(List<String> statements, Supplier<T> action) {
+        return SQL_CAPTURE_PRESENT ? SqlCapture.capture(statements, action) : action.get();
+    }
+
+    private static <T> T captureCommands(List<String> commands, Supplier<T> action) {
+        return MongoCommandCapture.capture(commands, action);
+    }
+
+    private record AllocationCounter(com.sun.management.ThreadMXBean threads, long initialBytes) {
+
+        static AllocationCounter start() {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                    && threads.isThreadAllocatedMemorySupported()) {
+                threads.setThreadAllocatedMemoryEnabled(true);
+                return new AllocationCounter(threads, threads.getCurrentThreadAllocatedBytes());
+            }
+            return new AllocationCounter(null, -1);
+        }
+
+        long stop() {
+            return threads == null ? -1 : threads.getCurrentThreadAllocatedBytes() - initialBytes;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.peluware.springframework.crud.test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * What a single measured operation cost: the bytes allocated by the calling thread, and the SQL statements and
+ * MongoDB commands it sent.
+ *
+ * @param result         the result of the operation
+ * @param allocatedBytes bytes allocated by the calling thread, or {@code -1} if the JVM cannot measure it
+ * @param statements     the SQL statements executed, in order
+ * @param commands       the names of the MongoDB commands sent, in order
+ * @param <T>            the result type
+ */
+public record OperationMeasurement<T>(T result, long allocatedBytes, List<String> statements, List<String> commands) {
+
+    public OperationMeasurement {
+        statements = List.copyOf(statements);
+        commands = List.copyOf(commands);
+    }
+
+    /**
+     * Returns the statements executed more than once, with their number of executions.
+     * <p>
+     * Hibernate renders parameters as placeholders, so the same lazy association loaded for every row of a page
+     * (an N+1 load) shows up here as one statement repeated once per row.
+     * </p>
+     *
+     * @return the repeated statements and their number of executions, in order of first execution
+     */
+    public Map<String, Long> getRepeatedStatements() {
+        return statements.stream()
+                .collect(Collectors.groupingBy(Function.identity(), LinkedHashMap::new, Collectors.counting()))
+                .entrySet()
+                .stream()
+                .filter(entry -> entry.getValue() > 1)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    @Override
+    public String toString() {
+        return "allocated " + (allocatedBytes < 0 ? "n/a" : allocatedBytes + " bytes")
+                + ", " + statements.size() + " statement(s)" + format(statements)
+                + ", " + commands.size() + " command(s)" + format(commands);
+    }
+
+    private static String format(List<String> values) {
+        return values.isEmpty() ? "" : values.stream().collect(Collectors.joining("\n  ", " [\n  ", "\n]"));
+    }
+}
@@ -0,0 +1,46 @@
+package com.peluware.springframework.crud.test.autoconfigurations;
+
+import com.mongodb.event.CommandListener;
+import com.peluware.springframework.crud.jpa.query.SqlCaptureStatementInspector;
+import com.peluware.springframework.crud.test.OperationBudget;
+import com.peluware.springframework.crud.test.mongo.MongoCommandCaptureListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Autoconfiguration registering the statement inspector and command listener used by {@link OperationBudget}.
+ * <p>
+ * {@link SqlCaptureStatementInspector} is registered on Hibernate unless the application configures its own statement
+ * inspector, in which case statements are not captured. {@link MongoCommandCaptureListener} is added to the
+ * Spring Boot managed {@code MongoClient}.
+ * </p>
+ */
+@AutoConfiguration
+public class OperationBudgetAutoConfiguration {
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({StatementInspector.class, HibernatePropertiesCustomizer.class, SqlCaptureStatementInspector.class})
+    static class HibernateConfiguration {
+
+        @Bean
+        public HibernatePropertiesCustomizer operationBudgetHibernatePropertiesCustomizer() {
+            return properties -> properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, new SqlCaptureStatementInspector());
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({CommandListener.class, MongoClientSettingsBuilderCustomizer.class})
+    static class MongoConfiguration {
+
+        @Bean
+        public MongoClientSettingsBuilderCustomizer operationBudgetMongoClientSettingsBuilderCustomizer() {
+            return builder -> builder.addCommandListener(new MongoCommandCaptureListener());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.peluware.springframework.crud.test.mongo;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Captures the names of the MongoDB commands sent by the current thread while an action runs.
+ * <p>
+ * Commands are reported by {@link MongoCommandCaptureListener}, which is registered automatically on the
+ * Spring Boot managed {@code MongoClient}. Without it no command is captured.
+ * </p>
+ */
+@UtilityClass
+public class MongoCommandCapture {
+
+    private static final ThreadLocal<List<String>> COMMANDS = new ThreadLocal<>();
+
+    /**
+     * Runs the action, collecting the names of the commands it sends into {@code commands}.
+     *
+     * @param commands receives the command names, e.g. {@code find} or {@code count}
+     * @param action   the action
+     * @param <T>      the result type
+     * @return the result of the action
+     */
+    public static <T> T capture(List<String> commands, Supplier<T> action) {
+        var previous = COMMANDS.get();
+        COMMANDS.set(commands);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                COMMANDS.remove();
+            } else {
+                previous.addAll(commands);
+                COMMANDS.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Reports a command about to be sent by the current thread.
+     *
+     * @param commandName the command name
+     */
+    public static void record(String commandName) {
+        var commands = COMMANDS.get();
+        if (commands != null) {
+            commands.add(commandName);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.peluware.springframework.crud.test.mongo;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+
+/**
+ * MongoDB {@link CommandListener} reporting every started command to {@link MongoCommandCapture}.
+ * <p>
+ * The synchronous driver notifies listeners on the thread sending the command, so commands are attributed to the
+ * right operation. The reactive driver does not, and its commands are not captured.
+ * </p>
+ */
+public class MongoCommandCaptureListener implements CommandListener {
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        MongoCommandCapture.record(event.getCommandName());
+    }
+}
@@ -0,0 +1,60 @@
+package com.peluware.springframework.crud.test;
+
+import com.peluware.springframework.crud.jpa.query.SqlCapture;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OperationBudgetTest {
+
+    @Test
+    void passesWithinTheBudget() {
+        var result = OperationBudget.budget()
+                .statements(2)
+                .noRepeatedStatements()
+                .verify(() -> {
+                    SqlCapture.record("select * from item where id = ?");
+                    SqlCapture.record("select count(*) from item");
+                    return "done";
+                });
+
+        assertEquals("done", result);
+    }
+
+    @Test
+    void detectsExtraStatements() {
+        var error = assertThrows(AssertionError.class, () -> OperationBudget.budget()
+                .maxStatements(1)
+                .verify(() -> {
+                    SqlCapture.record("select * from item");
+                    SqlCapture.record("select * from tag");
+                }));
+
+        assertTrue(error.getMessage().contains("expected at most 1 statement(s) but was 2"), error.getMessage());
+    }
+
+    @Test
+    void detectsRepeatedStatements() {
+        var error = assertThrows(AssertionError.class, () -> OperationBudget.budget()
+                .noRepeatedStatements()
+                .verify(() -> {
+                    for (var i = 0; i < 3; i++) {
+                        SqlCapture.record("select * from tag where item_id = ?");
+                    }
+                }));
+
+        assertTrue(error.getMessage().contains("statement executed 3 times (N+1?)"), error.getMessage());
+    }
+
+    @Test
+    void detectsExcessAllocation() {
+        var error = assertThrows(AssertionError.class, () -> OperationBudget.budget()
+                .maxAllocated(DataSize.ofKilobytes(64))
+                .verify(() -> new byte[1024 * 1024]));
+
+        assertTrue(error.getMessage().contains("allocated bytes"), error.getMessage());
+    }
+}